@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.benchmarks
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.platform.app.InstrumentationRegistry
+import io.realm.Realm
+import io.realm.RealmChangeListener
+import io.realm.RealmConfiguration
+import io.realm.RealmResults
+import io.realm.Sort
+import io.realm.benchmarks.entities.AllTypes
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.util.*
+
+/**
+ * Measures the turnaround of `findAllAsync()`: the time from calling it on a Looper thread until
+ * the first change listener call delivers the loaded results.
+ */
+@RunWith(AndroidJUnit4::class)
+class AsyncQueryBenchmarks {
+
+    private lateinit var realmConfig: RealmConfiguration
+    private lateinit var looperThread: LooperThread
+    private lateinit var looperRealm: Realm
+    // Keeps the pending query reachable until its listener has been called
+    private var pendingResults: RealmResults<AllTypes>? = null
+
+    @Before
+    fun setUp() {
+        Realm.init(InstrumentationRegistry.getInstrumentation().context)
+        realmConfig = RealmConfiguration.Builder().name("asyncquery${Random().nextLong()}.realm").build()
+        looperThread = LooperThread("AsyncQueryBenchmarks")
+        looperRealm = looperThread.run { Realm.getInstance(realmConfig) }
+    }
+
+    @After
+    fun tearDown() {
+        looperThread.run {
+            pendingResults = null
+            looperRealm.close()
+        }
+        looperThread.quit()
+        Realm.deleteRealm(realmConfig)
+    }
+
+    @Test
+    fun findAllAsync_1000() {
+        measureFindAllAsync("findAllAsync_1000", 1_000, false)
+    }
+
+    @Test
+    fun findAllAsync_1000_sorted() {
+        measureFindAllAsync("findAllAsync_1000_sorted", 1_000, true)
+    }
+
+    @Test
+    fun findAllAsync_100000() {
+        measureFindAllAsync("findAllAsync_100000", 100_000, false)
+    }
+
+    @Test
+    fun findAllAsync_100000_sorted() {
+        measureFindAllAsync("findAllAsync_100000_sorted", 100_000, true)
+    }
+
+    private fun measureFindAllAsync(name: String, size: Int, sorted: Boolean) {
+        populate(size)
+        val recorder = LatencyRecorder(name)
+        val probe = NotificationProbe(recorder)
+        repeat(recorder.iterations) {
+            looperThread.post {
+                probe.arm()
+                val query = looperRealm.where(AllTypes::class.java).greaterThan(AllTypes.FIELD_LONG, size / 2L)
+                val results = if (sorted) {
+                    query.sort(AllTypes.FIELD_STRING, Sort.DESCENDING).findAllAsync()
+                } else {
+                    query.findAllAsync()
+                }
+                results.addChangeListener(RealmChangeListener<RealmResults<AllTypes>> { loaded ->
+                    loaded.removeAllChangeListeners()
+                    probe.onNotified()
+                })
+                pendingResults = results
+            }
+            probe.await()
+        }
+        recorder.report()
+    }
+
+    private fun populate(size: Int) {
+        Realm.getInstance(realmConfig).use { realm ->
+            realm.executeTransaction {
+                for (i in 0 until size) {
+                    val obj = it.createObject(AllTypes::class.java)
+                    obj.columnLong = i.toLong()
+                    obj.columnString = "obj$i"
+                }
+            }
+        }
+        // Make sure the Looper Realm sees the data before the first query is started
+        looperThread.run { looperRealm.refresh() }
+    }
+}
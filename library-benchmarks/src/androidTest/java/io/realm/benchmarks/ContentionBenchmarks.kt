@@ -0,0 +1,278 @@
+/*
+ * Copyright 2019 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.benchmarks
+
+import androidx.test.platform.app.InstrumentationRegistry
+import io.realm.Realm
+import io.realm.RealmConfiguration
+import io.realm.benchmarks.entities.AllTypes
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.Parameterized
+import java.util.*
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicReference
+import kotlin.concurrent.thread
+
+/**
+ * Benchmarks running reader and writer threads against the same Realm file at the same time, so
+ * contention on the `RealmCache` lock, the native reference pool, the write lock and the async
+ * transaction executor shows up in the numbers. Every benchmark runs for each combination of
+ * reader and writer thread counts.
+ */
+@RunWith(Parameterized::class)
+class ContentionBenchmarks(private val readers: Int, private val writers: Int) {
+
+    companion object {
+        private const val COLLECTION_SIZE = 1_000
+        private const val WARMUP_MS = 500L
+        private const val MEASURE_MS = 3_000L
+        private const val ASYNC_TRANSACTIONS = 1_000
+        private const val ASYNC_IN_FLIGHT = 4
+
+        @JvmStatic
+        @Parameterized.Parameters(name = "readers={0}, writers={1}")
+        fun parameters(): List<Array<Any>> {
+            return listOf(
+                    arrayOf<Any>(1, 1),
+                    arrayOf<Any>(4, 1),
+                    arrayOf<Any>(8, 1),
+                    arrayOf<Any>(4, 4)
+            )
+        }
+    }
+
+    private lateinit var realmConfig: RealmConfiguration
+    // Keeps the file open, so the benchmarks do not measure opening and closing it
+    private lateinit var realm: Realm
+    private lateinit var workers: Workers
+
+    @Before
+    fun setUp() {
+        Realm.init(InstrumentationRegistry.getInstrumentation().context)
+        realmConfig = RealmConfiguration.Builder().name("contention${Random().nextLong()}.realm").build()
+        realm = Realm.getInstance(realmConfig)
+        realm.executeTransaction { realm ->
+            for (i in 0 until COLLECTION_SIZE) {
+                val obj = realm.createObject(AllTypes::class.java)
+                obj.columnLong = i.toLong()
+                obj.columnString = "obj$i"
+            }
+        }
+        workers = Workers()
+    }
+
+    @After
+    fun tearDown() {
+        workers.stop()
+        realm.close()
+        Realm.deleteRealm(realmConfig)
+    }
+
+    // Reported as objects read per second across all reader threads.
+    @Test
+    fun readThroughput() {
+        val readCounters = workers.start("reader", readers) { realm, _ -> readAll(realm) }
+        workers.start("writer", writers) { realm, iteration -> updateObject(realm, iteration) }
+        measureThroughput("readThroughput_${suffix()}", readCounters)
+    }
+
+    // Time from beginTransaction() until commitTransaction() returns, so waiting for the write
+    // lock held by other writers is included.
+    @Test
+    fun writeLatencyUnderReadLoad() {
+        workers.start("reader", readers) { realm, _ -> readAll(realm) }
+        val recorder = LatencyRecorder("writeLatencyUnderReadLoad_${suffix()}")
+        workers.start("writer", writers) { realm, iteration ->
+            val start = System.nanoTime()
+            updateObject(realm, iteration)
+            recorder.record(System.nanoTime() - start)
+            1
+        }
+        while (!recorder.isFull) {
+            workers.checkFailure()
+            Thread.sleep(10)
+        }
+        workers.stop()
+        recorder.report()
+    }
+
+    // The reader threads open and close their own instance while the writer threads commit, which
+    // mostly exercises RealmCache as the file is kept open by the benchmark thread.
+    @Test
+    fun getInstanceCloseChurn() {
+        val churnCounters = workers.startWithoutRealm("churn", readers) {
+            Realm.getInstance(realmConfig).close()
+            1
+        }
+        workers.start("writer", writers) { realm, iteration -> updateObject(realm, iteration) }
+        measureThroughput("getInstanceCloseChurn_${suffix()}", churnCounters)
+    }
+
+    // Every writer is a Looper thread keeping a few async transactions in flight, while the reader
+    // threads read. Reported as completed transactions per second.
+    @Test
+    fun executeTransactionAsyncThroughput() {
+        workers.start("reader", readers) { realm, _ -> readAll(realm) }
+        val remaining = AtomicInteger(ASYNC_TRANSACTIONS)
+        val done = CountDownLatch(ASYNC_TRANSACTIONS)
+        val failure = AtomicReference<Throwable>()
+        val loopers = List(writers) { LooperThread("async-writer-$it") }
+        val looperRealms = Collections.synchronizedList(ArrayList<Realm>())
+
+        val start = System.nanoTime()
+        for (looper in loopers) {
+            looper.run {
+                val realm = Realm.getInstance(realmConfig)
+                looperRealms.add(realm)
+                fun submit() {
+                    val iteration = remaining.getAndDecrement()
+                    if (iteration <= 0) {
+                        return
+                    }
+                    realm.executeTransactionAsync(
+                            Realm.Transaction { bgRealm -> updateObjectInTransaction(bgRealm, iteration.toLong()) },
+                            Realm.Transaction.OnSuccess {
+                                done.countDown()
+                                submit()
+                            },
+                            Realm.Transaction.OnError { error ->
+                                failure.compareAndSet(null, error)
+                                while (done.count > 0) {
+                                    done.countDown()
+                                }
+                            })
+                }
+                repeat(ASYNC_IN_FLIGHT) { submit() }
+            }
+        }
+        check(done.await(60, TimeUnit.SECONDS)) { "Async transactions did not finish in time" }
+        val elapsed = System.nanoTime() - start
+        failure.get()?.let { throw it }
+
+        for ((index, looper) in loopers.withIndex()) {
+            looper.run { looperRealms[index].close() }
+            looper.quit()
+        }
+        workers.stop()
+        reportThroughput("executeTransactionAsyncThroughput_${suffix()}", ASYNC_TRANSACTIONS.toLong(), elapsed)
+    }
+
+    private fun suffix(): String = "r${readers}_w$writers"
+
+    private fun measureThroughput(name: String, counters: List<AtomicLong>) {
+        Thread.sleep(WARMUP_MS)
+        workers.checkFailure()
+        val before = counters.sumByLong()
+        val start = System.nanoTime()
+        Thread.sleep(MEASURE_MS)
+        val after = counters.sumByLong()
+        val elapsed = System.nanoTime() - start
+        workers.stop()
+        reportThroughput(name, after - before, elapsed)
+    }
+
+    private fun List<AtomicLong>.sumByLong(): Long {
+        var sum = 0L
+        forEach { sum += it.get() }
+        return sum
+    }
+
+    // Reads every object, creating a Java object with a native reference for each of them.
+    private fun readAll(realm: Realm): Int {
+        realm.refresh()
+        val results = realm.where(AllTypes::class.java).findAll()
+        for (obj in results) {
+            obj.columnLong
+            obj.columnString
+        }
+        return results.size
+    }
+
+    private fun updateObject(realm: Realm, iteration: Long): Int {
+        realm.executeTransaction { updateObjectInTransaction(it, iteration) }
+        return 1
+    }
+
+    private fun updateObjectInTransaction(realm: Realm, iteration: Long) {
+        val index = (iteration * 31 % COLLECTION_SIZE).toInt()
+        realm.where(AllTypes::class.java).findAll()[index]!!.columnString = "updated$iteration"
+    }
+
+    /**
+     * Threads repeating an operation until stopped, each with its own operation counter.
+     */
+    private inner class Workers {
+        @Volatile
+        private var running = true
+        private val threads = ArrayList<Thread>()
+        private val failure = AtomicReference<Throwable>()
+
+        /**
+         * Starts [count] threads, each with its own Realm instance, calling [operation] with the
+         * instance and the iteration number. [operation] returns the number of operations it
+         * performed.
+         */
+        fun start(name: String, count: Int, operation: (Realm, Long) -> Int): List<AtomicLong> {
+            return spawn(name, count) { counter ->
+                Realm.getInstance(realmConfig).use { realm ->
+                    while (running) {
+                        counter.addAndGet(operation(realm, counter.get()).toLong())
+                    }
+                }
+            }
+        }
+
+        fun startWithoutRealm(name: String, count: Int, operation: () -> Int): List<AtomicLong> {
+            return spawn(name, count) { counter ->
+                while (running) {
+                    counter.addAndGet(operation().toLong())
+                }
+            }
+        }
+
+        private fun spawn(name: String, count: Int, body: (AtomicLong) -> Unit): List<AtomicLong> {
+            val counters = List(count) { AtomicLong() }
+            for (i in 0 until count) {
+                threads.add(thread(name = "$name-$i") {
+                    try {
+                        body(counters[i])
+                    } catch (e: Throwable) {
+                        failure.compareAndSet(null, e)
+                    }
+                })
+            }
+            return counters
+        }
+
+        fun checkFailure() {
+            failure.get()?.let { throw it }
+        }
+
+        fun stop() {
+            running = false
+            threads.forEach { it.join() }
+            threads.clear()
+            checkFailure()
+        }
+    }
+}
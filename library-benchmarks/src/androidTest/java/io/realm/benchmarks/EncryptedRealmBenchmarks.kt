@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.benchmarks
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.platform.app.InstrumentationRegistry
+import io.realm.Realm
+import io.realm.RealmConfiguration
+import io.realm.benchmarks.entities.AllTypes
+import org.junit.After
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.util.Random
+
+/**
+ * Encrypted variants of the read and query benchmarks in [RealmObjectReadBenchmarks] and [RealmQueryBenchmarks], so
+ * the cost of decrypting pages can be compared against the unencrypted numbers.
+ */
+@RunWith(AndroidJUnit4::class)
+class EncryptedRealmBenchmarks {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    private val DATA_SIZE = 1000
+    private val PAGE_CACHE_SIZE = 16L * 1024 * 1024
+    private lateinit var realm: Realm
+    private lateinit var readObject: AllTypes
+
+    @Before
+    fun before() {
+        Realm.init(InstrumentationRegistry.getInstrumentation().targetContext)
+        val key = ByteArray(Realm.ENCRYPTION_KEY_LENGTH)
+        Random(42).nextBytes(key)
+        val config = RealmConfiguration.Builder()
+                .name("encrypted.realm")
+                .encryptionKey(key)
+                .encryptedPageCacheSize(PAGE_CACHE_SIZE)
+                .build()
+        Realm.deleteRealm(config)
+        realm = Realm.getInstance(config)
+        realm.beginTransaction()
+        for (i in 0 until DATA_SIZE) {
+            val obj = realm.createObject(AllTypes::class.java)
+            obj.columnLong = i.toLong()
+            obj.isColumnBoolean = i % 2 == 0
+            obj.columnString = "Foo $i"
+            obj.columnDouble = i + 1.234
+        }
+        realm.commitTransaction()
+        readObject = realm.where(AllTypes::class.java).findFirst()!!
+    }
+
+    @After
+    fun after() {
+        realm.close()
+    }
+
+    @Test
+    fun readString() {
+        benchmarkRule.measureRepeated {
+            val value = readObject.columnString
+        }
+    }
+
+    @Test
+    fun readLong() {
+        benchmarkRule.measureRepeated {
+            val value = readObject.columnLong
+        }
+    }
+
+    @Test
+    fun readDouble() {
+        benchmarkRule.measureRepeated {
+            val value = readObject.columnDouble
+        }
+    }
+
+    @Test
+    fun findAll() {
+        benchmarkRule.measureRepeated {
+            val results = realm.where(AllTypes::class.java).findAll()
+        }
+    }
+
+    @Test
+    fun equalTo() {
+        benchmarkRule.measureRepeated {
+            val results = realm.where(AllTypes::class.java).equalTo(AllTypes.FIELD_STRING, "Foo 500").findAll()
+        }
+    }
+
+    @Test
+    fun count() {
+        benchmarkRule.measureRepeated {
+            val size = realm.where(AllTypes::class.java).count()
+        }
+    }
+
+    @Test
+    fun sum() {
+        benchmarkRule.measureRepeated {
+            val sum = realm.where(AllTypes::class.java).sum(AllTypes.FIELD_DOUBLE)
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.benchmarks
+
+import android.os.Bundle
+import android.os.Handler
+import android.os.HandlerThread
+import android.util.Log
+import androidx.test.platform.app.InstrumentationRegistry
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Semaphore
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+private const val TAG = "RealmLatency"
+private const val TIMEOUT_SECONDS = 30L
+
+/**
+ * Collects latency samples for operations that complete asynchronously, e.g. a change listener
+ * firing on another thread, which `BenchmarkRule.measureRepeated` cannot measure.
+ *
+ * The first [warmupSamples] samples are discarded. The remaining ones are reported as
+ * percentiles, since the tail is what users notice when notifications are delivered late.
+ */
+class LatencyRecorder(
+        private val name: String,
+        private val warmupSamples: Int = 20,
+        private val measuredSamples: Int = 200
+) {
+    private val samples = LongArray(measuredSamples)
+    private var seen = 0
+    private var count = 0
+
+    /**
+     * Total number of iterations a benchmark should run, including warmup.
+     */
+    val iterations: Int
+        get() = warmupSamples + measuredSamples
+
+    /**
+     * Whether all samples have been recorded. Useful when several threads feed the same recorder.
+     */
+    val isFull: Boolean
+        @Synchronized get() = count == measuredSamples
+
+    @Synchronized
+    fun record(nanos: Long) {
+        if (seen++ >= warmupSamples && count < measuredSamples) {
+            samples[count++] = nanos
+        }
+    }
+
+    /**
+     * Logs p50/p90/p99/max and the mean, and publishes them as instrumentation status so they show
+     * up in the output of `am instrument -r` next to the results of the `BenchmarkRule` benchmarks.
+     */
+    @Synchronized
+    fun report() {
+        check(count > 0) { "No samples recorded for $name" }
+        val sorted = samples.copyOf(count).apply { sort() }
+        val stats = linkedMapOf(
+                "p50" to percentile(sorted, 50.0),
+                "p90" to percentile(sorted, 90.0),
+                "p99" to percentile(sorted, 99.0),
+                "max" to sorted.last(),
+                "mean" to sorted.average().toLong()
+        )
+        Log.i(TAG, "$name: " + stats.entries.joinToString(", ") { "${it.key}=${it.value}ns" } + " ($count samples)")
+
+        val bundle = Bundle()
+        stats.forEach { (key, value) -> bundle.putLong("${name}_${key}_ns", value) }
+        bundle.putInt("${name}_samples", count)
+        InstrumentationRegistry.getInstrumentation().sendStatus(2, bundle)
+    }
+
+    private fun percentile(sorted: LongArray, percentile: Double): Long {
+        val index = Math.ceil(percentile / 100.0 * sorted.size).toInt() - 1
+        return sorted[index.coerceIn(0, sorted.size - 1)]
+    }
+}
+
+/**
+ * Logs and publishes the throughput of [operations] performed in [durationNanos] the same way
+ * [LatencyRecorder.report] publishes latencies.
+ */
+fun reportThroughput(name: String, operations: Long, durationNanos: Long) {
+    val perSecond = operations * 1_000_000_000L / durationNanos
+    Log.i(TAG, "$name: $perSecond ops/s ($operations operations in ${durationNanos / 1_000_000}ms)")
+
+    val bundle = Bundle()
+    bundle.putLong("${name}_ops_per_second", perSecond)
+    InstrumentationRegistry.getInstrumentation().sendStatus(2, bundle)
+}
+
+/**
+ * Measures the time from [arm] until [onNotified] has been called [expected] times. [arm] is called
+ * from the benchmark thread right before triggering the change, [onNotified] from the listeners.
+ * Notifications received while the probe is not armed (e.g. the initial Rx/Flow emission) are ignored.
+ */
+class NotificationProbe(private val recorder: LatencyRecorder, private val expected: Int = 1) {
+    private val pending = AtomicInteger(0)
+    private val start = AtomicLong(0)
+    private val done = Semaphore(0)
+
+    fun arm() {
+        pending.set(expected)
+        start.set(System.nanoTime())
+    }
+
+    fun onNotified() {
+        if (pending.decrementAndGet() == 0) {
+            recorder.record(System.nanoTime() - start.get())
+            done.release()
+        }
+    }
+
+    fun await() {
+        check(done.tryAcquire(TIMEOUT_SECONDS, TimeUnit.SECONDS)) { "Notification not received in time" }
+    }
+}
+
+/**
+ * A [HandlerThread] on which Realm instances with change listeners can live.
+ */
+class LooperThread(name: String) {
+    private val thread = HandlerThread(name).apply { start() }
+    val handler = Handler(thread.looper)
+
+    /**
+     * Posts [block] to the looper and waits for it to finish.
+     */
+    fun <T> run(block: () -> T): T {
+        val latch = CountDownLatch(1)
+        var result: T? = null
+        var error: Throwable? = null
+        handler.post {
+            try {
+                result = block()
+            } catch (e: Throwable) {
+                error = e
+            } finally {
+                latch.countDown()
+            }
+        }
+        check(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) { "Looper task did not finish in time" }
+        error?.let { throw it }
+        @Suppress("UNCHECKED_CAST")
+        return result as T
+    }
+
+    /**
+     * Posts [block] to the looper without waiting.
+     */
+    fun post(block: () -> Unit) {
+        handler.post(block)
+    }
+
+    fun quit() {
+        thread.quit()
+        thread.join()
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2019 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.benchmarks
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.platform.app.InstrumentationRegistry
+import io.realm.OrderedRealmCollectionChangeListener
+import io.realm.Realm
+import io.realm.RealmChangeListener
+import io.realm.RealmConfiguration
+import io.realm.RealmResults
+import io.realm.benchmarks.entities.AllTypes
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.util.*
+
+/**
+ * Measures the latency from committing a write transaction on a background thread until the
+ * change listeners registered on a Looper thread have been called. The clock starts right before
+ * `commitTransaction()`, so the numbers include the commit, the background notifier running the
+ * queries and computing the change sets, and the Looper delivering the result.
+ */
+@RunWith(AndroidJUnit4::class)
+class NotificationBenchmarks {
+
+    private enum class ChangePattern {
+        INSERT,
+        MODIFY,
+        DELETE_AND_INSERT
+    }
+
+    private lateinit var realmConfig: RealmConfiguration
+    private lateinit var realm: Realm
+    private lateinit var looperThread: LooperThread
+    private var looperRealm: Realm? = null
+    // Results are kept strongly reachable, otherwise their listeners could be collected
+    private val observedResults = mutableListOf<RealmResults<AllTypes>>()
+    private val random = Random(42)
+
+    @Before
+    fun setUp() {
+        Realm.init(InstrumentationRegistry.getInstrumentation().context)
+        realmConfig = RealmConfiguration.Builder().name("notifications${Random().nextLong()}.realm").build()
+        realm = Realm.getInstance(realmConfig)
+        looperThread = LooperThread("NotificationBenchmarks")
+    }
+
+    @After
+    fun tearDown() {
+        looperThread.run {
+            observedResults.forEach { it.removeAllChangeListeners() }
+            observedResults.clear()
+            looperRealm?.close()
+        }
+        looperThread.quit()
+        realm.close()
+        Realm.deleteRealm(realmConfig)
+    }
+
+    @Test
+    fun commitToListener_1Listener() {
+        measureCommitToListener("commitToListener_1Listener", 1)
+    }
+
+    @Test
+    fun commitToListener_10Listeners() {
+        measureCommitToListener("commitToListener_10Listeners", 10)
+    }
+
+    @Test
+    fun commitToListener_100Listeners() {
+        measureCommitToListener("commitToListener_100Listeners", 100)
+    }
+
+    @Test
+    fun changeSet_1000_insert() {
+        measureChangeSet("changeSet_1000_insert", 1_000, ChangePattern.INSERT)
+    }
+
+    @Test
+    fun changeSet_1000_modify() {
+        measureChangeSet("changeSet_1000_modify", 1_000, ChangePattern.MODIFY)
+    }
+
+    @Test
+    fun changeSet_1000_deleteAndInsert() {
+        measureChangeSet("changeSet_1000_deleteAndInsert", 1_000, ChangePattern.DELETE_AND_INSERT)
+    }
+
+    @Test
+    fun changeSet_100000_insert() {
+        measureChangeSet("changeSet_100000_insert", 100_000, ChangePattern.INSERT)
+    }
+
+    @Test
+    fun changeSet_100000_modify() {
+        measureChangeSet("changeSet_100000_modify", 100_000, ChangePattern.MODIFY)
+    }
+
+    @Test
+    fun changeSet_100000_deleteAndInsert() {
+        measureChangeSet("changeSet_100000_deleteAndInsert", 100_000, ChangePattern.DELETE_AND_INSERT)
+    }
+
+    // Every listener observes its own RealmResults, so each one adds a query the notifier has to run.
+    private fun measureCommitToListener(name: String, listeners: Int) {
+        populate(1_000)
+        val recorder = LatencyRecorder(name)
+        val probe = NotificationProbe(recorder, listeners)
+        looperThread.run {
+            val realm = openLooperRealm()
+            repeat(listeners) {
+                val results = realm.where(AllTypes::class.java).findAll()
+                results.addChangeListener(RealmChangeListener<RealmResults<AllTypes>> { probe.onNotified() })
+                observedResults.add(results)
+            }
+        }
+
+        val writerResults = realm.where(AllTypes::class.java).findAll()
+        repeat(recorder.iterations) { i ->
+            realm.beginTransaction()
+            writerResults[i % writerResults.size]!!.columnString = "updated$i"
+            probe.arm()
+            realm.commitTransaction()
+            probe.await()
+        }
+        recorder.report()
+    }
+
+    // The listener reads all ranges of the change set, like an adapter dispatching fine-grained
+    // updates would, so the cost of transferring the change set to Java is included.
+    private fun measureChangeSet(name: String, size: Int, pattern: ChangePattern) {
+        populate(size)
+        val recorder = LatencyRecorder(name)
+        val probe = NotificationProbe(recorder)
+        looperThread.run {
+            val results = openLooperRealm().where(AllTypes::class.java).sort(AllTypes.FIELD_LONG).findAll()
+            results.addChangeListener(OrderedRealmCollectionChangeListener<RealmResults<AllTypes>> { _, changeSet ->
+                changeSet.deletionRanges
+                changeSet.insertionRanges
+                changeSet.changeRanges
+                probe.onNotified()
+            })
+            observedResults.add(results)
+        }
+
+        val writerResults = realm.where(AllTypes::class.java).findAll()
+        repeat(recorder.iterations) { i ->
+            realm.beginTransaction()
+            val snapshot = writerResults.createSnapshot()
+            when (pattern) {
+                ChangePattern.INSERT -> insertObjects(size)
+                ChangePattern.MODIFY -> randomIndices(snapshot.size).forEach { index ->
+                    snapshot[index]!!.columnString = "modified$i"
+                }
+                ChangePattern.DELETE_AND_INSERT -> {
+                    randomIndices(snapshot.size).forEach { index -> snapshot[index]!!.deleteFromRealm() }
+                    insertObjects(size)
+                }
+            }
+            probe.arm()
+            realm.commitTransaction()
+            probe.await()
+        }
+        recorder.report()
+    }
+
+    private fun openLooperRealm(): Realm {
+        return Realm.getInstance(realmConfig).also { looperRealm = it }
+    }
+
+    private fun populate(size: Int) {
+        realm.executeTransaction { realm ->
+            for (i in 0 until size) {
+                val obj = realm.createObject(AllTypes::class.java)
+                obj.columnLong = i.toLong()
+                obj.columnString = "obj$i"
+            }
+        }
+    }
+
+    // New objects get a random sort key, so insertions are spread over the sorted results.
+    private fun insertObjects(size: Int) {
+        repeat(CHANGES_PER_COMMIT) {
+            val obj = realm.createObject(AllTypes::class.java)
+            obj.columnLong = random.nextInt(size).toLong()
+            obj.columnString = "inserted"
+        }
+    }
+
+    private fun randomIndices(size: Int): Set<Int> {
+        val indices = HashSet<Int>()
+        while (indices.size < CHANGES_PER_COMMIT) {
+            indices.add(random.nextInt(size))
+        }
+        return indices
+    }
+
+    companion object {
+        private const val CHANGES_PER_COMMIT = 10
+    }
+}
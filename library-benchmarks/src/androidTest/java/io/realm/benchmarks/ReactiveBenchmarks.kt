@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.benchmarks
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.platform.app.InstrumentationRegistry
+import io.reactivex.disposables.Disposable
+import io.realm.Realm
+import io.realm.RealmChangeListener
+import io.realm.RealmConfiguration
+import io.realm.RealmResults
+import io.realm.benchmarks.entities.AllTypes
+import io.realm.kotlin.toChangesetFlow
+import io.realm.kotlin.toFlow
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.android.asCoroutineDispatcher
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.launch
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.util.*
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures the overhead of observing RealmResults through RxJava and Kotlin Flow compared to a
+ * plain change listener. The clock starts right before `commitTransaction()` on a background
+ * thread and stops when the emission reaches the subscriber on the Looper thread. Rx and Flow emit
+ * frozen results by default, so the cost of freezing is part of what is measured.
+ */
+@RunWith(AndroidJUnit4::class)
+class ReactiveBenchmarks {
+
+    private lateinit var realmConfig: RealmConfiguration
+    private lateinit var realm: Realm
+    private lateinit var looperThread: LooperThread
+    private lateinit var looperRealm: Realm
+    private lateinit var results: RealmResults<AllTypes>
+    private var disposable: Disposable? = null
+    private var job: Job? = null
+
+    @Before
+    fun setUp() {
+        Realm.init(InstrumentationRegistry.getInstrumentation().context)
+        realmConfig = RealmConfiguration.Builder().name("reactive${Random().nextLong()}.realm").build()
+        realm = Realm.getInstance(realmConfig)
+        realm.executeTransaction { realm ->
+            for (i in 0 until COLLECTION_SIZE) {
+                val obj = realm.createObject(AllTypes::class.java)
+                obj.columnLong = i.toLong()
+                obj.columnString = "obj$i"
+            }
+        }
+        looperThread = LooperThread("ReactiveBenchmarks")
+        looperThread.run {
+            looperRealm = Realm.getInstance(realmConfig)
+            results = looperRealm.where(AllTypes::class.java).findAll()
+        }
+    }
+
+    @After
+    fun tearDown() {
+        looperThread.run {
+            disposable?.dispose()
+            job?.cancel()
+            results.removeAllChangeListeners()
+        }
+        // Let the Rx and Flow cleanup posted to the Looper run before closing the Realm
+        looperThread.run { looperRealm.close() }
+        looperThread.quit()
+        realm.close()
+        Realm.deleteRealm(realmConfig)
+    }
+
+    @Test
+    fun changeListener() {
+        measureEmissions("changeListener") { emitted ->
+            results.addChangeListener(RealmChangeListener<RealmResults<AllTypes>> { emitted() })
+            // Change listeners are not called on registration, so emulate the initial emission
+            emitted()
+        }
+    }
+
+    @Test
+    fun rxFlowable() {
+        measureEmissions("rxFlowable") { emitted ->
+            disposable = results.asFlowable().subscribe { emitted() }
+        }
+    }
+
+    @Test
+    fun rxChangesetObservable() {
+        measureEmissions("rxChangesetObservable") { emitted ->
+            disposable = results.asChangesetObservable().subscribe { emitted() }
+        }
+    }
+
+    @Test
+    fun flow() {
+        measureEmissions("flow") { emitted ->
+            job = CoroutineScope(looperThread.handler.asCoroutineDispatcher()).launch {
+                results.toFlow().collect { emitted() }
+            }
+        }
+    }
+
+    @Test
+    fun changesetFlow() {
+        measureEmissions("changesetFlow") { emitted ->
+            job = CoroutineScope(looperThread.handler.asCoroutineDispatcher()).launch {
+                results.toChangesetFlow().collect { emitted() }
+            }
+        }
+    }
+
+    // The first emission only signals that the subscription is active, all later ones are measured.
+    private fun measureEmissions(name: String, subscribe: (emitted: () -> Unit) -> Unit) {
+        val recorder = LatencyRecorder(name)
+        val probe = NotificationProbe(recorder)
+        val subscribed = CountDownLatch(1)
+        looperThread.run {
+            subscribe {
+                if (subscribed.count > 0) {
+                    subscribed.countDown()
+                } else {
+                    probe.onNotified()
+                }
+            }
+        }
+        check(subscribed.await(30, TimeUnit.SECONDS)) { "Subscription did not emit in time" }
+
+        val writerResults = realm.where(AllTypes::class.java).findAll()
+        repeat(recorder.iterations) { i ->
+            realm.beginTransaction()
+            writerResults[i % COLLECTION_SIZE]!!.columnString = "updated$i"
+            probe.arm()
+            realm.commitTransaction()
+            probe.await()
+        }
+        recorder.report()
+    }
+
+    companion object {
+        private const val COLLECTION_SIZE = 1_000
+    }
+}
@@ -23,6 +23,7 @@ import io.realm.Realm
 import io.realm.RealmConfiguration
 import io.realm.Sort
 import io.realm.benchmarks.entities.AllTypes
+import io.realm.benchmarks.entities.AllTypesPrimaryKey
 import org.junit.After
 import org.junit.Before
 import org.junit.Rule
@@ -37,7 +38,9 @@ class RealmQueryBenchmarks {
     val benchmarkRule = BenchmarkRule()
 
     private val DATA_SIZE = 1000
+    private val LARGE_DATA_SIZE = 1_000_000
     private lateinit var realm: Realm
+    private var largeRealm: Realm? = null
 
     @Before
     fun before() {
@@ -58,6 +61,37 @@ class RealmQueryBenchmarks {
     @After
     fun after() {
         realm.close()
+        largeRealm?.close()
+    }
+
+    private fun openLargeRealm(): Realm {
+        val config = RealmConfiguration.Builder().name("large-query.realm").build()
+        Realm.deleteRealm(config)
+        val largeRealm = Realm.getInstance(config)
+        largeRealm.beginTransaction()
+        for (i in 0 until LARGE_DATA_SIZE) {
+            val obj = largeRealm.createObject(AllTypes::class.java)
+            obj.columnLong = i.toLong()
+            obj.columnString = "Foo $i"
+            obj.columnDouble = i + 1.234
+        }
+        largeRealm.commitTransaction()
+        this.largeRealm = largeRealm
+        return largeRealm
+    }
+
+    private fun openLargeIndexedRealm(): Realm {
+        val config = RealmConfiguration.Builder().name("large-indexed-query.realm").build()
+        Realm.deleteRealm(config)
+        val largeRealm = Realm.getInstance(config)
+        largeRealm.beginTransaction()
+        for (i in 0 until LARGE_DATA_SIZE) {
+            val obj = largeRealm.createObject(AllTypesPrimaryKey::class.java, i.toLong())
+            obj.columnDouble = i + 1.234
+        }
+        largeRealm.commitTransaction()
+        this.largeRealm = largeRealm
+        return largeRealm
     }
 
     @Test
@@ -88,4 +122,86 @@ class RealmQueryBenchmarks {
         }
     }
 
+    @Test
+    fun countUnindexedLargeTable() {
+        val largeRealm = openLargeRealm()
+        benchmarkRule.measureRepeated {
+            val size = largeRealm.where(AllTypes::class.java).contains(AllTypes.FIELD_STRING, "99").count()
+        }
+    }
+
+    @Test
+    fun countUnindexedLargeTableParallel() {
+        val largeRealm = openLargeRealm()
+        benchmarkRule.measureRepeated {
+            val size = largeRealm.where(AllTypes::class.java).contains(AllTypes.FIELD_STRING, "99").parallel().count()
+        }
+    }
+
+    @Test
+    fun sumUnindexedLargeTable() {
+        val largeRealm = openLargeRealm()
+        benchmarkRule.measureRepeated {
+            val sum = largeRealm.where(AllTypes::class.java).contains(AllTypes.FIELD_STRING, "99").sum(AllTypes.FIELD_DOUBLE)
+        }
+    }
+
+    @Test
+    fun sumUnindexedLargeTableParallel() {
+        val largeRealm = openLargeRealm()
+        benchmarkRule.measureRepeated {
+            val sum = largeRealm.where(AllTypes::class.java).contains(AllTypes.FIELD_STRING, "99").parallel().sum(AllTypes.FIELD_DOUBLE)
+        }
+    }
+
+    @Test
+    fun sumLargeTable() {
+        val largeRealm = openLargeRealm()
+        benchmarkRule.measureRepeated {
+            val sum = largeRealm.where(AllTypes::class.java).sum(AllTypes.FIELD_LONG)
+        }
+    }
+
+    @Test
+    fun sumLargeTableParallel() {
+        val largeRealm = openLargeRealm()
+        benchmarkRule.measureRepeated {
+            val sum = largeRealm.where(AllTypes::class.java).parallel().sum(AllTypes.FIELD_LONG)
+        }
+    }
+
+    @Test
+    fun countIndexedLargeTable() {
+        val largeRealm = openLargeIndexedRealm()
+        val keys = Array<Long?>(100) { it * 10_000L }
+        benchmarkRule.measureRepeated {
+            val size = largeRealm.where(AllTypesPrimaryKey::class.java).`in`("columnLong", keys).count()
+        }
+    }
+
+    @Test
+    fun countIndexedLargeTableParallel() {
+        val largeRealm = openLargeIndexedRealm()
+        val keys = Array<Long?>(100) { it * 10_000L }
+        benchmarkRule.measureRepeated {
+            val size = largeRealm.where(AllTypesPrimaryKey::class.java).`in`("columnLong", keys).parallel().count()
+        }
+    }
+
+    @Test
+    fun maxIndexedLargeTable() {
+        val largeRealm = openLargeIndexedRealm()
+        benchmarkRule.measureRepeated {
+            val max = largeRealm.where(AllTypesPrimaryKey::class.java).equalTo("columnLong", 500_000L).max("columnDouble")
+        }
+    }
+
+    @Test
+    fun maxIndexedLargeTableParallel() {
+        val largeRealm = openLargeIndexedRealm()
+        benchmarkRule.measureRepeated {
+            val max = largeRealm.where(AllTypesPrimaryKey::class.java).equalTo("columnLong", 500_000L).parallel().max("columnDouble")
+        }
+    }
+
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation declares that multiple fields of a model class are commonly queried together, e.g:
+ * <pre>
+ * {@code
+ *     \@CompoundIndexHint(fields = {"ownerId", "updatedAt"})
+ *     public class Note extends RealmObject {
+ *         \@Index
+ *         public long ownerId;
+ *         public Date updatedAt;
+ *     }
+ * }
+ * </pre>
+ * The hint describes queries that test the leading fields for equality and the last field with a range condition,
+ * like {@code equalTo("ownerId", id).greaterThan("updatedAt", date)}. The leading field must be annotated with
+ * {@link Index} or {@link PrimaryKey}, as its search index is what lets such queries skip the objects not matching the
+ * equality condition.
+ * <p>
+ * NOTICE: The hint is metadata only. Realm does not create or maintain a compound index and the hint is not stored in
+ * the Realm file; it can be read back through {@code RealmObjectSchema.getCompoundIndexHints()}.
+ * <p>
+ * All fields except the last must be of a type supported by {@link Index}. The last field can also be a
+ * {@code float}, {@code double} or {@code Decimal128} field. The annotation can be repeated to declare multiple hints
+ * on the same class.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Repeatable(CompoundIndexHints.class)
+public @interface CompoundIndexHint {
+
+    /**
+     * The names of the fields covered by the hint, as they are named in the model class. At least two fields must
+     * be given.
+     */
+    String[] fields();
+}
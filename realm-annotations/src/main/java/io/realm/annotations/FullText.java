@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation will add a full-text index to the field. A full-text index tokenizes the words in the field
+ * and makes it possible to search for them using {@code RealmQuery.textSearch(String, String)} or the {@code TEXT}
+ * operator in {@code RealmQuery.rawPredicate(String, Object...)}.
+ * <p>
+ * Like {@link Index} a full-text index makes the Realm file larger and inserts slower, but text searches no longer
+ * need to scan every object in the class.
+ * <p>
+ * NOTICE: Only String fields can have a full-text index, and the field cannot also be annotated with {@link Index}
+ * or {@link PrimaryKey}.
+ * <p>
+ * Full-text indexes need a Realm Core release with full-text index support. With older releases opening a Realm
+ * whose schema contains a {@code @FullText} field throws an {@link IllegalArgumentException}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface FullText {
+
+}
@@ -35,6 +35,8 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
     val simpleJavaClassName = SimpleClassName(classType.simpleName) // Model class simple name as defined in Java.
     val fields = ArrayList<RealmFieldElement>() // List of all fields in the class except those @Ignored.
     private val indexedFields = ArrayList<RealmFieldElement>() // list of all fields marked @Index.
+    private val fullTextIndexedFields = ArrayList<RealmFieldElement>() // list of all fields marked @FullText.
+    val compoundIndexHints = ArrayList<List<String>>() // Internal field names of all @CompoundIndexHint declarations.
     private val _objectReferenceFields = ArrayList<RealmFieldElement>() // List of all fields that reference a Realm Object either directly or in a List
     private val basicTypeFields = ArrayList<RealmFieldElement>() // List of all fields that reference basic types, i.e. no references to other Realm Objects
     private val backlinks = LinkedHashSet<Backlink>()
@@ -153,6 +155,10 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
     var embedded: Boolean = false
         private set
 
+    // Fingerprint of the schema of this class, or 0 if its schema can't be restored from the Realm file. Set when its
+    // proxy class is generated.
+    var schemaFingerprint: Long = 0
+
     val classElement: Element
         get() = classType
 
@@ -271,6 +277,16 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
         return indexedFields.contains(variableElement)
     }
 
+    /**
+     * Checks if a VariableElement has a full-text index.
+     *
+     * @param variableElement the element/field
+     * @return `true` if a VariableElement has a full-text index, `false` otherwise.
+     */
+    fun isFullTextIndexed(variableElement: VariableElement): Boolean {
+        return fullTextIndexedFields.contains(variableElement)
+    }
+
     /**
      * Checks if a VariableElement is a primary key.
      *
@@ -377,6 +393,9 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
         if (!checkForVolatileFields()) {
             return false
         }
+        if (!categorizeCompoundIndexHints()) {
+            return false
+        }
 
         // Meta data was successfully generated
         return true
@@ -652,6 +671,12 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
             }
         }
 
+        if (field.getAnnotation(FullText::class.java) != null) {
+            if (!categorizeFullTextField(element, field)) {
+                return false
+            }
+        }
+
         // @Required annotation of RealmList and RealmDictionary field only affects its value type, not field itself.
         if (Utils.isRealmList(field)) {
             val hasRequiredAnnotation = hasRequiredAnnotation(field)
@@ -822,26 +847,26 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
         return false
     }
 
-    // The field has the @Index annotation. It's only valid for column types:
+    // Search indexes are only valid for column types:
     // STRING, DATE, INTEGER, BOOLEAN, RealmMutableInteger, OBJECT_ID, UUID and MIXED
-    private fun categorizeIndexField(element: Element, fieldElement: RealmFieldElement): Boolean {
-        var indexable = false
-
+    private fun isIndexable(fieldElement: VariableElement): Boolean {
         if (Utils.isMutableRealmInteger(fieldElement) || Utils.isRealmAny(fieldElement)) {
-            indexable = true
-        } else {
-            when (Constants.JAVA_TO_REALM_TYPES[fieldElement.asType().toString()]) {
-                Constants.RealmFieldType.STRING,
-                Constants.RealmFieldType.DATE,
-                Constants.RealmFieldType.INTEGER,
-                Constants.RealmFieldType.BOOLEAN,
-                Constants.RealmFieldType.OBJECT_ID,
-                Constants.RealmFieldType.UUID -> { indexable = true }
-                else -> { /* Ignore */ }
-            }
+            return true
+        }
+        return when (Constants.JAVA_TO_REALM_TYPES[fieldElement.asType().toString()]) {
+            Constants.RealmFieldType.STRING,
+            Constants.RealmFieldType.DATE,
+            Constants.RealmFieldType.INTEGER,
+            Constants.RealmFieldType.BOOLEAN,
+            Constants.RealmFieldType.OBJECT_ID,
+            Constants.RealmFieldType.UUID -> true
+            else -> false
         }
+    }
 
-        if (indexable) {
+    // The field has the @Index annotation.
+    private fun categorizeIndexField(element: Element, fieldElement: RealmFieldElement): Boolean {
+        if (isIndexable(fieldElement)) {
             indexedFields.add(fieldElement)
             return true
         }
@@ -850,6 +875,77 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
         return false
     }
 
+    // The class has one or more @CompoundIndexHint annotations. They are metadata only, as Realm Core only maintains
+    // single column search indexes, so the leading field must have one through @Index or @PrimaryKey. The query
+    // engine uses it to narrow down the candidates for the equality condition before evaluating the conditions on the
+    // remaining fields. The field names are recorded by their internal names, as they are used in the schema.
+    private fun categorizeCompoundIndexHints(): Boolean {
+        for (compoundIndexHint in classType.getAnnotationsByType(CompoundIndexHint::class.java)) {
+            val fieldNames = compoundIndexHint.fields.toList()
+            if (fieldNames.size < 2) {
+                Utils.error(String.format(Locale.US, "@CompoundIndexHint on class \"%s\" must contain at least 2 fields.", simpleJavaClassName), classType)
+                return false
+            }
+            if (fieldNames.toSet().size != fieldNames.size) {
+                Utils.error(String.format(Locale.US, "@CompoundIndexHint on class \"%s\" contains duplicate fields: %s", simpleJavaClassName, fieldNames), classType)
+                return false
+            }
+            for ((i, fieldName) in fieldNames.withIndex()) {
+                val field = fields.firstOrNull { it.simpleName.toString() == fieldName }
+                if (field == null) {
+                    Utils.error(String.format(Locale.US, "@CompoundIndexHint on class \"%s\" refers to unknown field \"%s\".", simpleJavaClassName, fieldName), classType)
+                    return false
+                }
+                val isLast = (i == fieldNames.size - 1)
+                val rangeType = when (Constants.JAVA_TO_REALM_TYPES[field.asType().toString()]) {
+                    Constants.RealmFieldType.FLOAT,
+                    Constants.RealmFieldType.DOUBLE,
+                    Constants.RealmFieldType.DECIMAL128 -> true
+                    else -> false
+                }
+                if (!isIndexable(field) && !(isLast && rangeType)) {
+                    Utils.error(String.format(Locale.US, "Field \"%s\" of type \"%s\" cannot be part of a @CompoundIndexHint.", field, field.asType()), field)
+                    return false
+                }
+                if (fullTextIndexedFields.contains(field)) {
+                    Utils.error(String.format(Locale.US, "Field \"%s\" cannot be both @FullText and part of a @CompoundIndexHint.", field), field)
+                    return false
+                }
+            }
+
+            val leadingField = fields.first { it.simpleName.toString() == fieldNames[0] }
+            if (!indexedFields.contains(leadingField) && !isPrimaryKey(leadingField)) {
+                Utils.error(String.format(Locale.US, "The leading field \"%s\" of a @CompoundIndexHint must be annotated with @Index or @PrimaryKey.", leadingField), leadingField)
+                return false
+            }
+
+            val internalFieldNames = fieldNames.map { getInternalFieldName(it) }
+            if (compoundIndexHints.contains(internalFieldNames)) {
+                Utils.error(String.format(Locale.US, "@CompoundIndexHint %s is declared more than once on class \"%s\".", fieldNames, simpleJavaClassName), classType)
+                return false
+            }
+            compoundIndexHints.add(internalFieldNames)
+        }
+        return true
+    }
+
+    // The field has the @FullText annotation. It's only valid for STRING columns and cannot be combined
+    // with @Index or @PrimaryKey as a column can only have one kind of search index.
+    private fun categorizeFullTextField(element: Element, fieldElement: RealmFieldElement): Boolean {
+        if (Constants.JAVA_TO_REALM_TYPES[fieldElement.asType().toString()] != Constants.RealmFieldType.STRING) {
+            Utils.error(String.format(Locale.US, "Field \"%s\" of type \"%s\" cannot be @FullText. Only String fields are supported.", element, element.asType()))
+            return false
+        }
+
+        if (fieldElement.getAnnotation(Index::class.java) != null || fieldElement.getAnnotation(PrimaryKey::class.java) != null) {
+            Utils.error(String.format(Locale.US, "Field \"%s\" cannot be both @FullText and @Index or @PrimaryKey.", element))
+            return false
+        }
+
+        fullTextIndexedFields.add(fieldElement)
+        return true
+    }
+
     // The field has the @Required annotation
     // Returns `true` if the field could be correctly validated, `false` if an error was reported.
     private fun checkBasicRequiredAnnotationUsage(field: VariableElement): Boolean {
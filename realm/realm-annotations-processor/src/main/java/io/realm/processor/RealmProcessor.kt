@@ -135,6 +135,9 @@ inline class SimpleClassName(val name: String) {
         "io.realm.annotations.RealmField",
         "io.realm.annotations.Ignore",
         "io.realm.annotations.Index",
+        "io.realm.annotations.FullText",
+        "io.realm.annotations.CompoundIndexHint",
+        "io.realm.annotations.CompoundIndexHints",
         "io.realm.annotations.PrimaryKey",
         "io.realm.annotations.RealmModule",
         "io.realm.annotations.Required")
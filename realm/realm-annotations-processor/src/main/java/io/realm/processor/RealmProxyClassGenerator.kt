@@ -1015,6 +1015,14 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
 
     @Throws(IOException::class)
     private fun emitCreateExpectedObjectSchemaInfo(writer: JavaWriter) {
+        // The statements building the schema are also what the schema fingerprint of the class is computed from.
+        val schemaStatements = ArrayList<String>()
+        fun emitSchemaStatement(pattern: String, vararg args: Any?) {
+            val statement = String.format(pattern, *args)
+            schemaStatements.add(statement)
+            writer.emitStatement("%s", statement)
+        }
+
         writer.apply {
             beginMethod("OsObjectSchemaInfo", "createExpectedObjectSchemaInfo", EnumSet.of(Modifier.PRIVATE, Modifier.STATIC))
                 // Guess capacity for Arrays used by OsObjectSchemaInfo.
@@ -1023,7 +1031,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                 val computedFields = metadata.backlinkFields.size
                 val embeddedClass = if (metadata.embedded) "true" else "false"
                 val publicClassName = if (simpleJavaClassName.name != internalClassName) "\"${simpleJavaClassName.name}\"" else "NO_ALIAS"
-                emitStatement("OsObjectSchemaInfo.Builder builder = new OsObjectSchemaInfo.Builder($publicClassName, \"$internalClassName\", $embeddedClass, $persistedFields, $computedFields)")
+                emitSchemaStatement("OsObjectSchemaInfo.Builder builder = new OsObjectSchemaInfo.Builder($publicClassName, \"$internalClassName\", $embeddedClass, $persistedFields, $computedFields)")
 
                 // For each field generate corresponding table index constant
                 for (field in metadata.fields) {
@@ -1037,12 +1045,12 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                         Constants.RealmFieldType.OBJECT -> {
                             val fieldTypeQualifiedName = Utils.getFieldTypeQualifiedName(field)
                             val internalClassName = Utils.getReferencedTypeInternalClassNameStatement(fieldTypeQualifiedName, classCollection)
-                            emitStatement("builder.addPersistedLinkProperty(%s, \"%s\", RealmFieldType.OBJECT, %s)", publicFieldName, internalFieldName, internalClassName)
+                            emitSchemaStatement("builder.addPersistedLinkProperty(%s, \"%s\", RealmFieldType.OBJECT, %s)", publicFieldName, internalFieldName, internalClassName)
                         }
                         Constants.RealmFieldType.LIST -> {
                             val genericTypeQualifiedName = Utils.getGenericTypeQualifiedName(field)
                             val internalClassName = Utils.getReferencedTypeInternalClassNameStatement(genericTypeQualifiedName, classCollection)
-                            emitStatement("builder.addPersistedLinkProperty(%s, \"%s\", RealmFieldType.LIST, %s)", publicFieldName, internalFieldName, internalClassName)
+                            emitSchemaStatement("builder.addPersistedLinkProperty(%s, \"%s\", RealmFieldType.LIST, %s)", publicFieldName, internalFieldName, internalClassName)
                         }
                         Constants.RealmFieldType.INTEGER_LIST,
                         Constants.RealmFieldType.BOOLEAN_LIST,
@@ -1056,7 +1064,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                         Constants.RealmFieldType.MIXED_LIST,
                         Constants.RealmFieldType.DOUBLE_LIST -> {
                             val requiredFlag = if (metadata.isElementNullable(field)) "!Property.REQUIRED" else "Property.REQUIRED"
-                            emitStatement("builder.addPersistedValueListProperty(%s, \"%s\", %s, %s)", publicFieldName, internalFieldName, fieldType.realmType, requiredFlag)
+                            emitSchemaStatement("builder.addPersistedValueListProperty(%s, \"%s\", %s, %s)", publicFieldName, internalFieldName, fieldType.realmType, requiredFlag)
                         }
                         Constants.RealmFieldType.BACKLINK -> {
                             throw IllegalArgumentException("LinkingObject field should not be added to metadata")
@@ -1076,7 +1084,11 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                             val nullableFlag = (if (metadata.isNullable(field)) "!" else "") + "Property.REQUIRED"
                             val indexedFlag = (if (metadata.isIndexed(field)) "" else "!") + "Property.INDEXED"
                             val primaryKeyFlag = (if (metadata.isPrimaryKey(field)) "" else "!") + "Property.PRIMARY_KEY"
-                            emitStatement("builder.addPersistedProperty(%s, \"%s\", %s, %s, %s, %s)", publicFieldName, internalFieldName, fieldType.realmType, primaryKeyFlag, indexedFlag, nullableFlag)
+                            if (metadata.isFullTextIndexed(field)) {
+                                emitSchemaStatement("builder.addPersistedProperty(%s, \"%s\", %s, %s, %s, Property.FULL_TEXT_INDEXED, %s)", publicFieldName, internalFieldName, fieldType.realmType, primaryKeyFlag, indexedFlag, nullableFlag)
+                            } else {
+                                emitSchemaStatement("builder.addPersistedProperty(%s, \"%s\", %s, %s, %s, %s)", publicFieldName, internalFieldName, fieldType.realmType, primaryKeyFlag, indexedFlag, nullableFlag)
+                            }
                         }
                         Constants.RealmFieldType.STRING_TO_BOOLEAN_MAP,
                         Constants.RealmFieldType.STRING_TO_STRING_MAP,
@@ -1091,12 +1103,12 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                         Constants.RealmFieldType.STRING_TO_MIXED_MAP -> {
                             val valueNullable = metadata.isDictionaryValueNullable(field)
                             val requiredFlag = if (valueNullable) "!Property.REQUIRED" else "Property.REQUIRED"
-                            emitStatement("builder.addPersistedMapProperty(%s, \"%s\", %s, %s)", publicFieldName, internalFieldName, fieldType.realmType, requiredFlag)
+                            emitSchemaStatement("builder.addPersistedMapProperty(%s, \"%s\", %s, %s)", publicFieldName, internalFieldName, fieldType.realmType, requiredFlag)
                         }
                         Constants.RealmFieldType.STRING_TO_LINK_MAP -> {
                             val genericTypeQualifiedName = Utils.getGenericTypeQualifiedName(field)
                             val internalClassName = Utils.getReferencedTypeInternalClassNameStatement(genericTypeQualifiedName, classCollection)
-                            emitStatement("builder.addPersistedLinkProperty(%s, \"%s\", RealmFieldType.STRING_TO_LINK_MAP, %s)", publicFieldName, internalFieldName, internalClassName)
+                            emitSchemaStatement("builder.addPersistedLinkProperty(%s, \"%s\", RealmFieldType.STRING_TO_LINK_MAP, %s)", publicFieldName, internalFieldName, internalClassName)
                         }
                         Constants.RealmFieldType.BOOLEAN_SET,
                         Constants.RealmFieldType.STRING_SET,
@@ -1111,12 +1123,12 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                         Constants.RealmFieldType.MIXED_SET -> {
                             val valueNullable = metadata.isSetValueNullable(field)
                             val requiredFlag = if (valueNullable) "!Property.REQUIRED" else "Property.REQUIRED"
-                            emitStatement("builder.addPersistedSetProperty(%s, \"%s\", %s, %s)", publicFieldName, internalFieldName, fieldType.realmType, requiredFlag)
+                            emitSchemaStatement("builder.addPersistedSetProperty(%s, \"%s\", %s, %s)", publicFieldName, internalFieldName, fieldType.realmType, requiredFlag)
                         }
                         Constants.RealmFieldType.LINK_SET -> {
                             val genericTypeQualifiedName = Utils.getGenericTypeQualifiedName(field)
                             val internalClassName = Utils.getReferencedTypeInternalClassNameStatement(genericTypeQualifiedName, classCollection)
-                            emitStatement("builder.addPersistedLinkProperty(${publicFieldName}, \"${internalFieldName}\", RealmFieldType.LINK_SET, ${internalClassName})")
+                            emitSchemaStatement("builder.addPersistedLinkProperty(${publicFieldName}, \"${internalFieldName}\", RealmFieldType.LINK_SET, ${internalClassName})")
                         }
                     }
                 }
@@ -1126,12 +1138,21 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                     val sourceClass = classCollection.getClassFromQualifiedName(backlink.sourceClass!!)
                     val targetField = backlink.targetField // Only in the model, so no internal name exists
                     val internalSourceField = sourceClass.getInternalFieldName(backlink.sourceField!!)
-                    emitStatement("""builder.addComputedLinkProperty("%s", "%s", "%s")""", targetField, sourceClass.internalClassName, internalSourceField)
+                    emitSchemaStatement("""builder.addComputedLinkProperty("%s", "%s", "%s")""", targetField, sourceClass.internalClassName, internalSourceField)
+                }
+                for (compoundIndexHint in metadata.compoundIndexHints) {
+                    emitSchemaStatement("builder.addCompoundIndexHint(%s)", compoundIndexHint.joinToString(", ") { "\"$it\"" })
                 }
                 emitStatement("return builder.build()")
             endMethod()
             emitEmptyLine()
         }
+        // Public names and computed properties are not stored in the Realm file, so a file opened without the
+        // expected schema would lose them. Such classes get no fingerprint.
+        val hasSchemaOnlyInfo = simpleJavaClassName.name != internalClassName
+                || metadata.fields.any { it.javaName != it.internalFieldName }
+                || metadata.backlinkFields.isNotEmpty()
+        metadata.schemaFingerprint = if (hasSchemaOnlyInfo) 0 else SchemaFingerprint.ofStatements(schemaStatements)
     }
 
     @Throws(IOException::class)
@@ -35,8 +35,10 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
     private val internalClassNames = ArrayList<String>()
     private val embeddedClass = ArrayList<Boolean>()
     private val primaryKeyClasses = mutableListOf<QualifiedClassName>()
+    private val schemaFingerprint: Long
 
     init {
+        val classFingerprints = ArrayList<Long>()
         // Sort classes to ensure deterministic output. This is relevant when e.g. using Gradle
         // Remote Cache since the order is not guaranteed between OS and Java versions.
         for (metadata in classesToValidate.toSortedSet(compareByDescending { it.qualifiedClassName.name })) {
@@ -49,7 +51,9 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
             if(metadata.primaryKey != null) {
                 primaryKeyClasses.add(metadata.qualifiedClassName)
             }
+            classFingerprints.add(metadata.schemaFingerprint)
         }
+        schemaFingerprint = SchemaFingerprint.ofClasses(classFingerprints)
     }
 
     @Throws(IOException::class)
@@ -91,6 +95,8 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
             emitEmptyLine()
             emitFields(this)
             emitGetExpectedObjectSchemaInfoMap(this)
+            emitGetExpectedObjectSchemaInfoMethod(this)
+            emitGetSchemaFingerprintMethod(this)
             emitCreateColumnInfoMethod(this)
             emitGetSimpleClassNameMethod(this)
             emitGetClazzClassNameMethod(this)
@@ -142,6 +148,35 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
         }
     }
 
+    @Throws(IOException::class)
+    private fun emitGetExpectedObjectSchemaInfoMethod(writer: JavaWriter) {
+        writer.apply {
+            emitAnnotation("Override")
+            beginMethod(
+                    "OsObjectSchemaInfo",
+                    "getExpectedObjectSchemaInfo",
+                    EnumSet.of(Modifier.PUBLIC),
+                    "Class<? extends RealmModel>", "clazz"
+            )
+            emitMediatorShortCircuitSwitch(writer, emitStatement = { i: Int ->
+                emitStatement("return %s.getExpectedObjectSchemaInfo()", qualifiedProxyClasses[i])
+            })
+            endMethod()
+            emitEmptyLine()
+        }
+    }
+
+    @Throws(IOException::class)
+    private fun emitGetSchemaFingerprintMethod(writer: JavaWriter) {
+        writer.apply {
+            emitAnnotation("Override")
+            beginMethod("long", "getSchemaFingerprint", EnumSet.of(Modifier.PUBLIC))
+                emitStatement("return %dL", schemaFingerprint)
+            endMethod()
+            emitEmptyLine()
+        }
+    }
+
     @Throws(IOException::class)
     private fun emitCreateColumnInfoMethod(writer: JavaWriter) {
         writer.apply {
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.processor
+
+/**
+ * Computes the schema fingerprints emitted into proxy mediators.
+ *
+ * A fingerprint is a 64-bit FNV-1a hash over the statements used to build the expected `OsObjectSchemaInfo` of each
+ * class, so any change that affects the schema a model class produces also changes the fingerprint. It is stored in
+ * the Realm file at runtime and lets the schema comparison be skipped when a file is opened with the same schema it
+ * was last opened with.
+ */
+object SchemaFingerprint {
+
+    private const val FNV_OFFSET_BASIS = -0x340d631b7bdddcdbL // 0xcbf29ce484222325
+    private const val FNV_PRIME = 0x100000001b3L
+
+    /**
+     * Returns the fingerprint of a single class, given the statements building its schema.
+     */
+    fun ofStatements(statements: List<String>): Long {
+        var hash = FNV_OFFSET_BASIS
+        for (statement in statements) {
+            for (byte in statement.toByteArray(Charsets.UTF_8)) {
+                hash = (hash xor (byte.toLong() and 0xff)) * FNV_PRIME
+            }
+            hash = (hash xor 0x0aL) * FNV_PRIME // Statement separator
+        }
+        return hash
+    }
+
+    /**
+     * Returns the fingerprint of a module, given the fingerprints of its classes in the order they are generated.
+     * The result is `0`, which is reserved for mediators without a fingerprint, only if a class has no fingerprint.
+     */
+    fun ofClasses(fingerprints: List<Long>): Long {
+        if (fingerprints.contains(0L)) {
+            return 0
+        }
+        var hash = FNV_OFFSET_BASIS
+        for (fingerprint in fingerprints) {
+            for (shift in 56 downTo 0 step 8) {
+                hash = (hash xor ((fingerprint ushr shift) and 0xff)) * FNV_PRIME
+            }
+        }
+        return if (hash == 0L) 1L else hash
+    }
+}
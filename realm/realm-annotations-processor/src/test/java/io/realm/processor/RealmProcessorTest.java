@@ -68,6 +68,11 @@ public class RealmProcessorTest {
     private final JavaFileObject realmSetModelWrongType = JavaFileObjects.forResource("some/test/RealmSetModelWrongType.java");
     private final JavaFileObject realmSetMissingGenericsModel = JavaFileObjects.forResource("some/test/RealmSetMissingGenerics.java");
     private final JavaFileObject embeddedObject = JavaFileObjects.forResource("some/test/EmbeddedObject.java");
+    private final JavaFileObject compoundIndexHintModel = JavaFileObjects.forResource("some/test/CompoundIndexHintModel.java");
+    private final JavaFileObject invalidCompoundIndexHintModel = JavaFileObjects.forResource("some/test/InvalidCompoundIndexHintModel.java");
+    private final JavaFileObject unknownFieldCompoundIndexHintModel = JavaFileObjects.forResource("some/test/UnknownFieldCompoundIndexHintModel.java");
+    private final JavaFileObject notIndexedCompoundIndexHintModel = JavaFileObjects.forResource("some/test/NotIndexedCompoundIndexHintModel.java");
+    private final JavaFileObject realmFieldCompoundIndexHintModel = JavaFileObjects.forResource("some/test/RealmFieldCompoundIndexHintModel.java");
 
     @Test
     public void compileSimpleFile() {
@@ -314,6 +319,89 @@ public class RealmProcessorTest {
         }
     }
 
+    // Supported "FullText" annotation types
+    @Test
+    public void compileFullTextTypes() throws IOException {
+        RealmSyntheticTestClass javaFileObject =
+                new RealmSyntheticTestClass.Builder().name("ValidFullTextType").field("testField", "String", "FullText").build();
+        assertAbout(javaSource())
+                .that(javaFileObject)
+                .processedWith(new RealmProcessor())
+                .compilesWithoutError();
+    }
+
+    // Unsupported "FullText" annotation types
+    @Test
+    public void compileInvalidFullTextTypes() throws IOException {
+        final String[] invalidFullTextFieldTypes = {"int", "long", "boolean", "java.util.Date", "byte[]", "RealmList<String>", "RealmAny"};
+
+        for (String fieldType : invalidFullTextFieldTypes) {
+            RealmSyntheticTestClass javaFileObject =
+                    new RealmSyntheticTestClass.Builder().name("InvalidFullTextType").field("testField", fieldType, "FullText").build();
+            assertAbout(javaSource())
+                    .that(javaFileObject)
+                    .processedWith(new RealmProcessor())
+                    .failsToCompile();
+        }
+    }
+
+    @Test
+    public void compileFullTextWithIndexFails() throws IOException {
+        RealmSyntheticTestClass javaFileObject = new RealmSyntheticTestClass.Builder()
+                .name("InvalidFullTextType")
+                .field()
+                    .name("testField")
+                    .type("String")
+                    .annotation("FullText")
+                    .annotation("Index")
+                .builder()
+                .build();
+        assertAbout(javaSource())
+                .that(javaFileObject)
+                .processedWith(new RealmProcessor())
+                .failsToCompile();
+    }
+
+    @Test
+    public void compileCompoundIndexHint() {
+        assertAbout(javaSource())
+                .that(compoundIndexHintModel)
+                .processedWith(new RealmProcessor())
+                .compilesWithoutError();
+    }
+
+    @Test
+    public void compileCompoundIndexHintWithInvalidLeadingFieldFails() {
+        assertAbout(javaSource())
+                .that(invalidCompoundIndexHintModel)
+                .processedWith(new RealmProcessor())
+                .failsToCompile();
+    }
+
+    @Test
+    public void compileCompoundIndexHintWithUnknownFieldFails() {
+        assertAbout(javaSource())
+                .that(unknownFieldCompoundIndexHintModel)
+                .processedWith(new RealmProcessor())
+                .failsToCompile();
+    }
+
+    @Test
+    public void compileCompoundIndexHintWithoutIndexedLeadingFieldFails() {
+        assertAbout(javaSource())
+                .that(notIndexedCompoundIndexHintModel)
+                .processedWith(new RealmProcessor())
+                .failsToCompile();
+    }
+
+    @Test
+    public void compileCompoundIndexHintWithRealmFieldNames() {
+        assertAbout(javaSource())
+                .that(realmFieldCompoundIndexHintModel)
+                .processedWith(new RealmProcessor())
+                .compilesWithoutError();
+    }
+
     // Supported "PrimaryKey" annotation types
     @Test
     public void compilePrimaryKeyTypes() throws IOException {
@@ -40,6 +40,24 @@ class DefaultRealmModuleMediator extends RealmProxyMediator {
         return infoMap;
     }
 
+    @Override
+    public OsObjectSchemaInfo getExpectedObjectSchemaInfo(Class<? extends RealmModel> clazz) {
+        checkClass(clazz);
+
+        if (clazz.equals(some.test.Simple.class)) {
+            return io.realm.some_test_SimpleRealmProxy.getExpectedObjectSchemaInfo();
+        }
+        if (clazz.equals(some.test.AllTypes.class)) {
+            return io.realm.some_test_AllTypesRealmProxy.getExpectedObjectSchemaInfo();
+        }
+        throw getMissingProxyClassException(clazz);
+    }
+
+    @Override
+    public long getSchemaFingerprint() {
+        return 0L;
+    }
+
     @Override
     public ColumnInfo createColumnInfo(Class<? extends RealmModel> clazz, OsSchemaInfo schemaInfo) {
         checkClass(clazz);
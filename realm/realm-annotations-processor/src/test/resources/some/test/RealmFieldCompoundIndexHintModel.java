@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package some.test;
+
+import java.util.Date;
+
+import io.realm.RealmObject;
+import io.realm.annotations.CompoundIndexHint;
+import io.realm.annotations.Index;
+import io.realm.annotations.PrimaryKey;
+import io.realm.annotations.RealmField;
+
+@CompoundIndexHint(fields = {"ownerId", "updatedAt"})
+@CompoundIndexHint(fields = {"id", "updatedAt"})
+public class RealmFieldCompoundIndexHintModel extends RealmObject {
+    @PrimaryKey
+    @RealmField("_id")
+    public long id;
+    @Index
+    @RealmField("owner_id")
+    public long ownerId;
+    @RealmField("updated_at")
+    public Date updatedAt;
+}
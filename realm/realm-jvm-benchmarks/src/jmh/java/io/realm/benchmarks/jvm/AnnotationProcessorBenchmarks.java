@@ -0,0 +1,181 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks.jvm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.processing.Processor;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import io.realm.processor.RealmProcessor;
+
+/**
+ * Runs the annotation processor, and with it the proxy, mediator and module generators, over large generated schemas.
+ * {@link #parseOnly()} runs the same compilation without the processor, so the cost of the processor is the difference
+ * between the two.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AnnotationProcessorBenchmarks {
+
+    private static final String PACKAGE = "io.realm.benchmarks.jvm.schema";
+    private static final String[] FIELD_TYPES = {"String", "long", "int", "double", "boolean", "java.util.Date",
+            "byte[]", "Long", "RealmList<String>"};
+
+    @Param({"10", "100"})
+    public int classes;
+
+    @Param({"20"})
+    public int fieldsPerClass;
+
+    private JavaCompiler compiler;
+    private List<JavaFileObject> sources;
+    private File outputDir;
+
+    @Setup
+    public void setUp() throws IOException {
+        compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("The annotation processor benchmarks must be run with a JDK.");
+        }
+        sources = new ArrayList<>(classes);
+        for (int i = 0; i < classes; i++) {
+            sources.add(new StringSource(PACKAGE + ".Model" + i, createModelClass(i)));
+        }
+        outputDir = File.createTempFile("realm-processor-benchmarks", "");
+        if (!outputDir.delete() || !outputDir.mkdir()) {
+            throw new IOException("Could not create " + outputDir);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        delete(outputDir);
+    }
+
+    @Benchmark
+    public boolean process() {
+        return compile(Collections.<Processor>singletonList(new RealmProcessor()));
+    }
+
+    @Benchmark
+    public boolean parseOnly() {
+        return compile(Collections.<Processor>emptyList());
+    }
+
+    private boolean compile(List<Processor> processors) {
+        List<String> options = Arrays.asList(
+                "-proc:only",
+                "-nowarn",
+                "-classpath", System.getProperty("java.class.path"),
+                "-s", outputDir.getPath(),
+                "-d", outputDir.getPath());
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler.CompilationTask task = compiler.getTask(NullWriter.INSTANCE, null, diagnostics, options, null, sources);
+        task.setProcessors(processors);
+        if (!task.call()) {
+            throw new IllegalStateException("Compilation failed: " + diagnostics.getDiagnostics());
+        }
+        return true;
+    }
+
+    // Every class links to the next one, so the processor also has to resolve links and lists of links.
+    private String createModelClass(int index) {
+        String next = "Model" + ((index + 1) % classes);
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(PACKAGE).append(";\n")
+                .append("import io.realm.RealmList;\n")
+                .append("import io.realm.RealmModel;\n")
+                .append("import io.realm.annotations.Index;\n")
+                .append("import io.realm.annotations.PrimaryKey;\n")
+                .append("import io.realm.annotations.RealmClass;\n")
+                .append("import io.realm.annotations.Required;\n")
+                .append("@RealmClass\n")
+                .append("public class Model").append(index).append(" implements RealmModel {\n")
+                .append("    @PrimaryKey private long id;\n")
+                .append("    @Index @Required private String name;\n")
+                .append("    private ").append(next).append(" link;\n")
+                .append("    private RealmList<").append(next).append("> links;\n");
+        for (int i = 0; i < fieldsPerClass; i++) {
+            source.append("    private ").append(FIELD_TYPES[i % FIELD_TYPES.length]).append(" field").append(i).append(";\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        //noinspection ResultOfMethodCallIgnored
+        file.delete();
+    }
+
+    private static class StringSource extends SimpleJavaFileObject {
+        private final String source;
+
+        StringSource(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+    private static class NullWriter extends Writer {
+        static final NullWriter INSTANCE = new NullWriter();
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks.jvm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.realm.transformer.BytecodeModifier;
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtField;
+import javassist.CtNewMethod;
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.ConstPool;
+import javassist.bytecode.annotation.Annotation;
+
+/**
+ * Runs the bytecode modifications of the Realm transformer over a large class pool of model classes and classes
+ * accessing their fields, as done in full and incremental builds. Every invocation starts from a fresh class pool, as
+ * the modifications change the classes in place.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BytecodeModifierBenchmarks {
+
+    private static final String PACKAGE = "io.realm.benchmarks.jvm.transformed";
+    private static final int FIELDS_PER_CLASS = 20;
+
+    @Param({"100", "1000"})
+    public int classes;
+
+    private ClassPool classPool;
+    private List<CtClass> modelClasses;
+    private List<CtClass> userClasses;
+    private List<CtField> managedFields;
+
+    @Setup(Level.Invocation)
+    public void setUp() throws CannotCompileException {
+        classPool = new ClassPool(true);
+        modelClasses = new ArrayList<>(classes);
+        userClasses = new ArrayList<>(classes);
+        managedFields = new ArrayList<>(classes * FIELDS_PER_CLASS);
+
+        for (int i = 0; i < classes; i++) {
+            CtClass model = createModelClass(i);
+            modelClasses.add(model);
+            for (CtField field : model.getDeclaredFields()) {
+                if (BytecodeModifier.Companion.isModelField(field)) {
+                    managedFields.add(field);
+                }
+            }
+            userClasses.add(createUserClass(model));
+        }
+    }
+
+    @Benchmark
+    public List<CtClass> addRealmAccessors() {
+        for (CtClass model : modelClasses) {
+            BytecodeModifier.addRealmAccessors(model);
+        }
+        return modelClasses;
+    }
+
+    // Mirrors FullBuild: accessors are added to all models up front and field accesses are matched against the list
+    // of all managed fields.
+    @Benchmark
+    public List<CtClass> fullBuild() {
+        for (CtClass model : modelClasses) {
+            BytecodeModifier.addRealmAccessors(model);
+        }
+        for (CtClass model : modelClasses) {
+            BytecodeModifier.useRealmAccessors(classPool, model, managedFields);
+        }
+        for (CtClass user : userClasses) {
+            BytecodeModifier.useRealmAccessors(classPool, user, managedFields);
+        }
+        return userClasses;
+    }
+
+    // Mirrors IncrementalBuild: field accesses are resolved through the class pool and accessors are added on demand.
+    @Benchmark
+    public List<CtClass> incrementalBuild() {
+        for (CtClass user : userClasses) {
+            BytecodeModifier.useRealmAccessors(classPool, user, null);
+        }
+        return userClasses;
+    }
+
+    private CtClass createModelClass(int index) throws CannotCompileException {
+        CtClass model = classPool.makeClass(PACKAGE + ".Model" + index);
+        ConstPool constPool = model.getClassFile().getConstPool();
+        AnnotationsAttribute annotations = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
+        annotations.addAnnotation(new Annotation("io.realm.annotations.RealmClass", constPool));
+        model.getClassFile().addAttribute(annotations);
+
+        StringBuilder sum = new StringBuilder("public long sum() { long sum = 0L;");
+        StringBuilder clear = new StringBuilder("public void clear() {");
+        for (int i = 0; i < FIELDS_PER_CLASS; i++) {
+            if (i % 2 == 0) {
+                model.addField(CtField.make("long field" + i + ";", model));
+                sum.append(" sum += field").append(i).append(';');
+                clear.append(" field").append(i).append(" = 0L;");
+            } else {
+                model.addField(CtField.make("java.lang.String field" + i + ";", model));
+                clear.append(" field").append(i).append(" = null;");
+            }
+        }
+        model.addMethod(CtNewMethod.make(sum.append(" return sum; }").toString(), model));
+        model.addMethod(CtNewMethod.make(clear.append(" }").toString(), model));
+        return model;
+    }
+
+    private CtClass createUserClass(CtClass model) throws CannotCompileException {
+        CtClass user = classPool.makeClass(model.getName() + "User");
+        StringBuilder read = new StringBuilder("public long read(" + model.getName() + " model) { long sum = 0L;");
+        StringBuilder write = new StringBuilder("public void write(" + model.getName() + " model, java.lang.String value) {");
+        for (int i = 0; i < FIELDS_PER_CLASS; i++) {
+            if (i % 2 == 0) {
+                read.append(" sum += model.field").append(i).append(';');
+                write.append(" model.field").append(i).append(" = 42L;");
+            } else {
+                read.append(" sum += model.field").append(i).append(".length();");
+                write.append(" model.field").append(i).append(" = value;");
+            }
+        }
+        user.addMethod(CtNewMethod.make(read.append(" return sum; }").toString(), user));
+        user.addMethod(CtNewMethod.make(write.append(" }").toString(), user));
+        return user;
+    }
+}
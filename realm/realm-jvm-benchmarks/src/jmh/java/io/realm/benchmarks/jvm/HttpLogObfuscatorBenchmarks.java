@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks.jvm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.realm.internal.log.obfuscator.ApiKeyObfuscator;
+import io.realm.internal.log.obfuscator.CustomFunctionObfuscator;
+import io.realm.internal.log.obfuscator.EmailPasswordObfuscator;
+import io.realm.internal.log.obfuscator.RegexPatternObfuscator;
+import io.realm.internal.log.obfuscator.TokenObfuscator;
+import io.realm.mongodb.log.obfuscator.HttpLogObfuscator;
+
+/**
+ * Obfuscation of HTTP log entries, which runs for every logged request while HTTP logging is enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HttpLogObfuscatorBenchmarks {
+
+    // Same feature and providers as the default obfuscator of AppConfiguration.
+    private static final String LOGIN_FEATURE = "providers";
+
+    @Param({"0", "10000"})
+    public int paddingSize;
+
+    private HttpLogObfuscator obfuscator;
+    private List<String> loginSegments;
+    private List<String> tokenLoginSegments;
+    private List<String> otherSegments;
+    private String emailPasswordBody;
+    private String tokenBody;
+
+    @Setup
+    public void setUp() {
+        Map<String, RegexPatternObfuscator> obfuscators = new HashMap<>();
+        obfuscators.put("api-key", ApiKeyObfuscator.obfuscator());
+        obfuscators.put("oauth2-apple", TokenObfuscator.obfuscator());
+        obfuscators.put("custom-function", CustomFunctionObfuscator.obfuscator());
+        obfuscators.put("local-userpass", EmailPasswordObfuscator.obfuscator());
+        obfuscators.put("oauth2-facebook", TokenObfuscator.obfuscator());
+        obfuscators.put("oauth2-google", TokenObfuscator.obfuscator());
+        obfuscators.put("jwt", TokenObfuscator.obfuscator());
+        obfuscator = new HttpLogObfuscator(LOGIN_FEATURE, obfuscators);
+
+        loginSegments = Arrays.asList("api", "client", "v2.0", "app", "app-id", "auth", LOGIN_FEATURE, "local-userpass", "login");
+        tokenLoginSegments = Arrays.asList("api", "client", "v2.0", "app", "app-id", "auth", LOGIN_FEATURE, "oauth2-google", "login");
+        otherSegments = Arrays.asList("api", "client", "v2.0", "app", "app-id", "functions", "call");
+
+        StringBuilder padding = new StringBuilder(paddingSize);
+        for (int i = 0; i < paddingSize; i++) {
+            padding.append((char) ('a' + (i % 26)));
+        }
+        emailPasswordBody = "{\"username\":\"user@example.com\",\"password\":\"secret\",\"options\":\"" + padding + "\"}";
+        tokenBody = "{\"id_token\":\"eyJhbGciOiJIUzI1NiJ9.e30.token\",\"options\":\"" + padding + "\"}";
+    }
+
+    @Benchmark
+    public String obfuscateEmailPasswordLogin() {
+        return obfuscator.obfuscate(loginSegments, emailPasswordBody);
+    }
+
+    @Benchmark
+    public String obfuscateTokenLogin() {
+        return obfuscator.obfuscate(tokenLoginSegments, tokenBody);
+    }
+
+    @Benchmark
+    public String obfuscateUnrelatedRequest() {
+        return obfuscator.obfuscate(otherSegments, emailPasswordBody);
+    }
+}
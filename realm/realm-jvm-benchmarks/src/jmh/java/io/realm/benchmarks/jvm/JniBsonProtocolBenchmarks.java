@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks.jvm;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.codecs.BsonValueCodecProvider;
+import org.bson.codecs.DocumentCodecProvider;
+import org.bson.codecs.IterableCodecProvider;
+import org.bson.codecs.MapCodecProvider;
+import org.bson.codecs.ValueCodecProvider;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.realm.internal.jni.JniBsonProtocol;
+
+/**
+ * Encoding and decoding of the values passed between Java and the native layer for functions, MongoDB requests and
+ * sync partition values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JniBsonProtocolBenchmarks {
+
+    // Same providers as AppConfiguration.DEFAULT_BSON_CODEC_REGISTRY, which can't be initialized outside Android.
+    private static final CodecRegistry REGISTRY = CodecRegistries.fromProviders(
+            new ValueCodecProvider(),
+            new BsonValueCodecProvider(),
+            new DocumentCodecProvider(),
+            new IterableCodecProvider(),
+            new MapCodecProvider()
+    );
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    private BsonDocument document;
+    private List<Long> list;
+    private String encodedDocument;
+    private String encodedList;
+    private ByteBuffer binaryDocument;
+    private ByteBuffer binaryList;
+
+    @Setup
+    public void setUp() {
+        document = new BsonDocument();
+        list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BsonArray tags = new BsonArray();
+            tags.add(new BsonString("tag" + (i % 7)));
+            BsonDocument nested = new BsonDocument("id", new BsonInt64(i))
+                    .append("name", new BsonString("name " + i))
+                    .append("tags", tags);
+            document.append("field" + i, nested);
+            list.add((long) i);
+        }
+        encodedDocument = JniBsonProtocol.encode(document, REGISTRY);
+        encodedList = JniBsonProtocol.encode(list, REGISTRY);
+        binaryDocument = JniBsonProtocol.encodeBinary(document, REGISTRY.get(BsonDocument.class));
+        binaryList = JniBsonProtocol.encodeBinary(list, REGISTRY.get(List.class));
+    }
+
+    @Benchmark
+    public String encodeDocument() {
+        return JniBsonProtocol.encode(document, REGISTRY);
+    }
+
+    @Benchmark
+    public BsonDocument decodeDocument() {
+        return JniBsonProtocol.decode(encodedDocument, BsonDocument.class, REGISTRY);
+    }
+
+    @Benchmark
+    public String encodeList() {
+        return JniBsonProtocol.encode(list, REGISTRY);
+    }
+
+    @Benchmark
+    public BsonValue decodeList() {
+        return JniBsonProtocol.decode(encodedList, BsonValue.class, REGISTRY);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeDocumentBinary() {
+        return JniBsonProtocol.encodeBinary(document, REGISTRY.get(BsonDocument.class));
+    }
+
+    @Benchmark
+    public BsonDocument decodeDocumentBinary() {
+        // Decoding consumes the buffer
+        return JniBsonProtocol.decodeResult(binaryDocument.duplicate(), BsonDocument.class, REGISTRY);
+    }
+
+    @Benchmark
+    public List<Long> decodeListElements() {
+        return JniBsonProtocol.decodeResultList(encodedList, REGISTRY.get(Long.class));
+    }
+
+    @Benchmark
+    public List<Long> decodeListElementsBinary() {
+        return JniBsonProtocol.decodeResultList(binaryList.duplicate(), REGISTRY.get(Long.class));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks.jvm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Sort;
+import io.realm.internal.QueryDescriptors;
+
+/**
+ * Building of the SORT and DISTINCT descriptors used by {@code RealmQuery.sort()}, {@code RealmQuery.distinct()} and
+ * {@code RealmResults.sort()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryDescriptorsBenchmarks {
+
+    @Param({"1", "5"})
+    public int fields;
+
+    @Param({"false", "true"})
+    public boolean withSpaces;
+
+    private String[] fieldNames;
+    private Sort[] sortOrders;
+
+    @Setup
+    public void setUp() {
+        fieldNames = new String[fields];
+        sortOrders = new Sort[fields];
+        for (int i = 0; i < fields; i++) {
+            fieldNames[i] = withSpaces ? ("linked object.field " + i) : ("linkedObject.field" + i);
+            sortOrders[i] = (i % 2 == 0) ? Sort.ASCENDING : Sort.DESCENDING;
+        }
+    }
+
+    @Benchmark
+    public String buildSortDescriptor() {
+        return QueryDescriptors.buildSortDescriptor(fieldNames, sortOrders);
+    }
+
+    @Benchmark
+    public String buildDistinctDescriptor() {
+        return QueryDescriptors.buildDistinctDescriptor(fieldNames);
+    }
+
+    @Benchmark
+    public String escapeFieldName() {
+        return QueryDescriptors.escapeFieldName(fieldNames[0]);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Map;
+
+import io.realm.entities.AllTypes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(AndroidJUnit4.class)
+public class JniCallAccountingTests {
+
+    private static final String GET_LONG = "io.realm.internal.UncheckedRow.nativeGetLong";
+    private static final String SET_LONG = "io.realm.internal.UncheckedRow.nativeSetLong";
+
+    @Rule
+    public final TestRealmConfigurationFactory configFactory = new TestRealmConfigurationFactory();
+
+    private Realm realm;
+
+    @Before
+    public void setUp() {
+        realm = Realm.getInstance(configFactory.createConfiguration());
+        JniCallAccounting.disable();
+        JniCallAccounting.reset();
+    }
+
+    @After
+    public void tearDown() {
+        JniCallAccounting.disable();
+        JniCallAccounting.reset();
+        if (realm != null) {
+            realm.close();
+        }
+    }
+
+    @Test
+    public void disabledByDefault() {
+        assertFalse(JniCallAccounting.isEnabled());
+        readAndWrite(10);
+        assertTrue(JniCallAccounting.getSnapshot().isEmpty());
+    }
+
+    @Test
+    public void countsCalls() {
+        JniCallAccounting.enable(false);
+        assertTrue(JniCallAccounting.isEnabled());
+        assertFalse(JniCallAccounting.isMeasuringTime());
+
+        readAndWrite(10);
+
+        Map<String, JniCallAccounting.CallStats> snapshot = JniCallAccounting.getSnapshot();
+        JniCallAccounting.CallStats getLong = snapshot.get(GET_LONG);
+        assertNotNull(getLong);
+        assertEquals(10, getLong.getCalls());
+        assertEquals(0, getLong.getTotalNanos());
+        assertEquals(10, snapshot.get(SET_LONG).getCalls());
+
+        // Ordered by the number of calls.
+        long previous = Long.MAX_VALUE;
+        for (JniCallAccounting.CallStats stats : snapshot.values()) {
+            assertTrue(stats.getCalls() <= previous);
+            previous = stats.getCalls();
+        }
+    }
+
+    @Test
+    public void measuresTime() {
+        JniCallAccounting.enable(true);
+        assertTrue(JniCallAccounting.isMeasuringTime());
+
+        readAndWrite(10);
+
+        JniCallAccounting.CallStats stats = JniCallAccounting.getSnapshot().get(GET_LONG);
+        assertEquals(10, stats.getCalls());
+        assertTrue(stats.getTotalNanos() > 0);
+        assertEquals(stats.getTotalNanos() / 10, stats.getAverageNanos());
+    }
+
+    @Test
+    public void disable_keepsCounters() {
+        JniCallAccounting.enable(false);
+        readAndWrite(5);
+        JniCallAccounting.disable();
+        readAndWrite(5);
+
+        assertEquals(5, JniCallAccounting.getSnapshot().get(GET_LONG).getCalls());
+    }
+
+    @Test
+    public void reset() {
+        JniCallAccounting.enable(false);
+        readAndWrite(5);
+        JniCallAccounting.reset();
+
+        assertNull(JniCallAccounting.getSnapshot().get(GET_LONG));
+        readAndWrite(1);
+        assertEquals(1, JniCallAccounting.getSnapshot().get(GET_LONG).getCalls());
+    }
+
+    @Test
+    public void toMethodName() {
+        assertEquals("io.realm.internal.OsList.nativeAddLong",
+                JniCallAccounting.toMethodName("Java_io_realm_internal_OsList_nativeAddLong"));
+        assertEquals("io.realm.internal.objectstore.OsObjectBuilder.native_add",
+                JniCallAccounting.toMethodName("Java_io_realm_internal_objectstore_OsObjectBuilder_native_1add"));
+        assertEquals("helper", JniCallAccounting.toMethodName("helper"));
+    }
+
+    // Sets and reads the long field of the given number of objects, one native call each.
+    private void readAndWrite(int count) {
+        realm.beginTransaction();
+        realm.delete(AllTypes.class);
+        for (int i = 0; i < count; i++) {
+            realm.createObject(AllTypes.class).setColumnLong(i);
+        }
+        realm.commitTransaction();
+
+        for (AllTypes object : realm.where(AllTypes.class).findAll()) {
+            object.getColumnLong();
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 import javax.annotation.Nullable;
@@ -34,6 +35,7 @@ import io.realm.rule.RunInLooperThread;
 import io.realm.rule.RunTestInLooperThread;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertNotNull;
 import static junit.framework.Assert.assertSame;
 import static junit.framework.Assert.fail;
@@ -209,9 +211,14 @@ public class OrderedCollectionChangeSetTests {
     }
 
     private void registerCheckListener(Realm realm, final ChangesCheck changesCheck) {
+        registerCheckListener(realm, 0, changesCheck);
+    }
+
+    private void registerCheckListener(Realm realm, int changeSetLimit, final ChangesCheck changesCheck) {
         switch (type) {
             case REALM_RESULTS:
                 RealmResults<Dog> results = (RealmResults<Dog>) getTestingCollection(realm);
+                results.setChangeSetLimit(changeSetLimit);
                 results.addChangeListener(new OrderedRealmCollectionChangeListener<RealmResults<Dog>>() {
                     @Override
                     public void onChange(RealmResults<Dog> collection, @Nullable OrderedCollectionChangeSet changeSet) {
@@ -222,6 +229,7 @@ public class OrderedCollectionChangeSetTests {
             case REALM_LIST:
                 RealmList<Dog> list = (RealmList<Dog>) getTestingCollection(realm);
                 looperThread.keepStrongReference(list);
+                list.setChangeSetLimit(changeSetLimit);
                 list.addChangeListener(new OrderedRealmCollectionChangeListener<RealmList<Dog>>() {
                     @Override
                     public void onChange(RealmList<Dog> collection, @Nullable OrderedCollectionChangeSet changeSet) {
@@ -264,6 +272,122 @@ public class OrderedCollectionChangeSetTests {
         realm.commitTransaction();
     }
 
+    @Test
+    @RunTestInLooperThread
+    public void rangeIteratorsAndCounts() {
+        Realm realm = looperThread.getRealm();
+        final int testSize = 1000;
+        populateData(realm, testSize);
+
+        final ChangesCheck changesCheck = new ChangesCheck() {
+            @Override
+            public void check(OrderedCollectionChangeSet changeSet) {
+                // Every other object is modified, so there are many single object ranges.
+                OrderedCollectionChangeSet.Range[] ranges = changeSet.getChangeRanges();
+                assertEquals(testSize / 2, ranges.length);
+                Iterator<OrderedCollectionChangeSet.Range> iterator = changeSet.getChangeRangeIterator();
+                for (OrderedCollectionChangeSet.Range range : ranges) {
+                    assertTrue(iterator.hasNext());
+                    OrderedCollectionChangeSet.Range next = iterator.next();
+                    assertEquals(range.startIndex, next.startIndex);
+                    assertEquals(range.length, next.length);
+                }
+                assertFalse(iterator.hasNext());
+                assertEquals(testSize / 2, changeSet.getChangeCount());
+                assertEquals(0, changeSet.getInsertionCount());
+                assertEquals(0, changeSet.getDeletionCount());
+                assertFalse(changeSet.getInsertionRangeIterator().hasNext());
+                assertFalse(changeSet.isReloadRequired());
+                looperThread.testComplete();
+            }
+        };
+        registerCheckListener(realm, changesCheck);
+
+        realm.beginTransaction();
+        for (Dog dog : realm.where(Dog.class).findAll()) {
+            if (dog.getAge() % 2 == 0) {
+                dog.setName("modified");
+            }
+        }
+        realm.commitTransaction();
+    }
+
+    @Test
+    @RunTestInLooperThread
+    public void changeSetLimit_reloadRequired() {
+        Realm realm = looperThread.getRealm();
+        populateData(realm, 10);
+
+        final ChangesCheck changesCheck = new ChangesCheck() {
+            @Override
+            public void check(OrderedCollectionChangeSet changeSet) {
+                assertTrue(changeSet.isReloadRequired());
+                assertEquals(OrderedCollectionChangeSet.State.UPDATE, changeSet.getState());
+                assertEquals(0, changeSet.getChanges().length);
+                assertEquals(0, changeSet.getChangeRanges().length);
+                assertEquals(0, changeSet.getChangeCount());
+                assertFalse(changeSet.getChangeRangeIterator().hasNext());
+                looperThread.testComplete();
+            }
+        };
+        registerCheckListener(realm, 3, changesCheck);
+
+        realm.beginTransaction();
+        modifyObjects(realm, 0, 2, 4, 6);
+        realm.commitTransaction();
+    }
+
+    @Test
+    public void defaultMethods_builtOnRanges() {
+        final OrderedCollectionChangeSet.Range[] insertions = {
+                new OrderedCollectionChangeSet.Range(0, 2), new OrderedCollectionChangeSet.Range(5, 3)};
+        final OrderedCollectionChangeSet.Range[] none = new OrderedCollectionChangeSet.Range[0];
+        // Implements only the methods that existed before the counts and iterators were added.
+        OrderedCollectionChangeSet changeSet = new OrderedCollectionChangeSet() {
+            @Override public State getState() { return State.UPDATE; }
+            @Override public int[] getDeletions() { return new int[0]; }
+            @Override public int[] getInsertions() { return new int[] {0, 1, 5, 6, 7}; }
+            @Override public int[] getChanges() { return new int[0]; }
+            @Override public Range[] getDeletionRanges() { return none; }
+            @Override public Range[] getInsertionRanges() { return insertions; }
+            @Override public Range[] getChangeRanges() { return none; }
+            @Nullable @Override public Throwable getError() { return null; }
+        };
+
+        assertEquals(5, changeSet.getInsertionCount());
+        assertEquals(0, changeSet.getDeletionCount());
+        assertEquals(0, changeSet.getChangeCount());
+        Iterator<OrderedCollectionChangeSet.Range> iterator = changeSet.getInsertionRangeIterator();
+        assertSame(insertions[0], iterator.next());
+        assertSame(insertions[1], iterator.next());
+        assertFalse(iterator.hasNext());
+        assertFalse(changeSet.getDeletionRangeIterator().hasNext());
+        assertFalse(changeSet.getChangeRangeIterator().hasNext());
+        assertFalse(changeSet.isReloadRequired());
+    }
+
+    @Test
+    @RunTestInLooperThread
+    public void changeSetLimit_notExceeded() {
+        Realm realm = looperThread.getRealm();
+        populateData(realm, 10);
+
+        final ChangesCheck changesCheck = new ChangesCheck() {
+            @Override
+            public void check(OrderedCollectionChangeSet changeSet) {
+                assertFalse(changeSet.isReloadRequired());
+                assertArrayEquals(new int[] {0, 2, 4}, changeSet.getChanges());
+                assertEquals(3, changeSet.getChangeCount());
+                looperThread.testComplete();
+            }
+        };
+        registerCheckListener(realm, 3, changesCheck);
+
+        realm.beginTransaction();
+        modifyObjects(realm, 0, 2, 4);
+        realm.commitTransaction();
+    }
+
     @Test
     @RunTestInLooperThread
     public void insertion() {
@@ -54,6 +54,7 @@ import io.realm.entities.StringOnly;
 import io.realm.exceptions.RealmException;
 import io.realm.exceptions.RealmFileException;
 import io.realm.exceptions.RealmMigrationNeededException;
+import io.realm.internal.RealmTrace;
 import io.realm.internal.modules.CompositeMediator;
 import io.realm.internal.modules.FilterableMediator;
 import io.realm.rx.CollectionChange;
@@ -442,6 +443,26 @@ public class RealmConfigurationTests {
         assertEquals(config1.hashCode(), config2.hashCode());
     }
 
+    @Test
+    public void equals_withEqualBackgroundCompactionPolicies() {
+        RealmConfiguration config1 = configFactory.createConfigurationBuilder()
+                .directory(configFactory.getRoot())
+                .backgroundCompaction(new BackgroundCompactionPolicy.Builder().minFreeSpaceRatio(0.3).build())
+                .build();
+        RealmConfiguration config2 = configFactory.createConfigurationBuilder()
+                .directory(configFactory.getRoot())
+                .backgroundCompaction(new BackgroundCompactionPolicy.Builder().minFreeSpaceRatio(0.3).build())
+                .build();
+        RealmConfiguration config3 = configFactory.createConfigurationBuilder()
+                .directory(configFactory.getRoot())
+                .backgroundCompaction(new BackgroundCompactionPolicy.Builder().minFreeSpaceRatio(0.4).build())
+                .build();
+
+        assertTrue(config1.equals(config2));
+        assertEquals(config1.hashCode(), config2.hashCode());
+        assertFalse(config1.equals(config3));
+    }
+
     @Test
     public void equals_withCustomModules() {
         RealmConfiguration config1 = configFactory.createConfigurationBuilder()
@@ -1196,6 +1217,101 @@ public class RealmConfigurationTests {
         }
     }
 
+    @Test
+    public void readOnly_backgroundCompaction_throws() {
+        try {
+            new RealmConfiguration.Builder()
+                    .assetFile("foo")
+                    .readOnly()
+                    .backgroundCompaction(new BackgroundCompactionPolicy.Builder().build())
+                    .build();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void encryptedPageCacheSize_negativeSizeThrows() {
+        try {
+            new RealmConfiguration.Builder().encryptedPageCacheSize(-1);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void encryptedPageCacheSize_withoutEncryptionKeyThrows() {
+        try {
+            new RealmConfiguration.Builder()
+                    .encryptedPageCacheSize(1024 * 1024)
+                    .build();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void encryptedPageCacheSize() {
+        RealmConfiguration config = new RealmConfiguration.Builder()
+                .encryptionKey(TestHelper.getRandomKey())
+                .encryptedPageCacheSize(1024 * 1024)
+                .build();
+        assertEquals(1024 * 1024, config.getEncryptedPageCacheSize());
+        assertEquals(0, new RealmConfiguration.Builder().build().getEncryptedPageCacheSize());
+    }
+
+    @Test
+    public void preload_nullThrows() {
+        try {
+            //noinspection ConstantConditions
+            new RealmConfiguration.Builder().preload(null);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void preload_classNotInSchemaThrows() {
+        try {
+            new RealmConfiguration.Builder()
+                    .schema(StringOnly.class)
+                    .preload(AllTypes.class)
+                    .build();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void preload() {
+        RealmConfiguration config = new RealmConfiguration.Builder()
+                .preload(AllTypes.class, Dog.class)
+                .build();
+        assertEquals(2, config.getPreloadClasses().size());
+        assertTrue(config.getPreloadClasses().contains(AllTypes.class));
+        assertTrue(config.getPreloadClasses().contains(Dog.class));
+        assertTrue(new RealmConfiguration.Builder().build().getPreloadClasses().isEmpty());
+    }
+
+    @Test
+    public void traceSections() {
+        RealmConfiguration config = configFactory.createConfigurationBuilder()
+                .traceSections(true)
+                .build();
+        assertTrue(config.isTraceSectionsEnabled());
+        assertFalse(new RealmConfiguration.Builder().build().isTraceSectionsEnabled());
+
+        // Traced paths must behave exactly like untraced ones.
+        realm = Realm.getInstance(config);
+        assertTrue(RealmTrace.isEnabled());
+        realm.beginTransaction();
+        realm.copyToRealm(new Dog());
+        realm.insert(new Dog());
+        realm.commitTransaction();
+        realm.refresh();
+        assertEquals(2, realm.where(Dog.class).findAll().size());
+    }
+
     @Test
     public void readOnly_compactOnLaunch_throws() {
         try {
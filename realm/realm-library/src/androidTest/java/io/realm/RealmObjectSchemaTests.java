@@ -20,6 +20,7 @@ import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 import org.hamcrest.CoreMatchers;
 import org.junit.After;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -1174,6 +1175,53 @@ public class RealmObjectSchemaTests {
         }
     }
 
+    @Test
+    public void addFullTextIndex_removeIndex() {
+        if (type == ObjectSchemaType.IMMUTABLE) {
+            thrown.expect(UnsupportedOperationException.class);
+            schema.addFullTextIndex("test");
+            return;
+        }
+        Assume.assumeTrue("Full-text indexes are not supported by this Realm Core version.", Table.isFullTextIndexSupported());
+        String fieldName = "foo";
+        schema.addField(fieldName, String.class, FieldAttribute.FULL_TEXT_INDEXED);
+        assertTrue(schema.hasFullTextIndex(fieldName));
+        assertFalse(schema.hasIndex(fieldName));
+        schema.removeIndex(fieldName);
+        assertFalse(schema.hasFullTextIndex(fieldName));
+        schema.removeField(fieldName);
+    }
+
+    @Test
+    public void addFullTextIndex_illegalFieldTypeThrows() {
+        if (type == ObjectSchemaType.IMMUTABLE) {
+            return;
+        }
+        String fieldName = "foo";
+        schema.addField(fieldName, long.class);
+        try {
+            schema.addFullTextIndex(fieldName);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        schema.removeField(fieldName);
+    }
+
+    @Test
+    public void addFullTextIndex_alreadyIndexedThrows() {
+        if (type == ObjectSchemaType.IMMUTABLE) {
+            return;
+        }
+        String fieldName = "foo";
+        schema.addField(fieldName, String.class, FieldAttribute.INDEXED);
+        try {
+            schema.addFullTextIndex(fieldName);
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+        schema.removeField(fieldName);
+    }
+
     @Test
     public void removeNonExistingIndexThrows() {
         if (type == ObjectSchemaType.IMMUTABLE) {
@@ -1331,6 +1379,186 @@ public class RealmObjectSchemaTests {
         });
         assertEquals(5, ((DynamicRealm)realm).where("Dog").sum("age").intValue());    }
 
+    @Test
+    public void transformColumns() {
+        if (type == ObjectSchemaType.IMMUTABLE) {
+            thrown.expect(UnsupportedOperationException.class);
+            DOG_SCHEMA.transformColumns(new String[] {Dog.FIELD_AGE}, new RealmObjectSchema.BatchFunction() {
+                @Override
+                public void apply(ColumnBatch batch) {
+                }
+            });
+            return;
+        }
+        String className = DOG_SCHEMA.getClassName();
+        // Spans more than one batch.
+        int count = 5000;
+        for (int i = 0; i < count; i++) {
+            ((DynamicRealm) realm).createObject(className).setLong(Dog.FIELD_AGE, i);
+        }
+
+        DOG_SCHEMA.transformColumns(new String[] {Dog.FIELD_AGE, Dog.FIELD_NAME}, new RealmObjectSchema.BatchFunction() {
+            @Override
+            public void apply(ColumnBatch batch) {
+                ColumnBatch.Column ages = batch.getColumn(Dog.FIELD_AGE);
+                ColumnBatch.Column names = batch.getColumn(Dog.FIELD_NAME);
+                for (int i = 0; i < batch.size(); i++) {
+                    names.setString(i, "Dog " + ages.getLong(i));
+                    ages.setLong(i, ages.getLong(i) * 2);
+                }
+            }
+        });
+
+        RealmResults<DynamicRealmObject> dogs = ((DynamicRealm) realm).where(className).findAll();
+        assertEquals((long) count * (count - 1), dogs.sum(Dog.FIELD_AGE).longValue());
+        for (DynamicRealmObject dog : dogs) {
+            assertEquals("Dog " + dog.getLong(Dog.FIELD_AGE) / 2, dog.getString(Dog.FIELD_NAME));
+        }
+    }
+
+    @Test
+    public void transformColumns_writesMoreStringsThanLocalReferenceLimitInOneBatch() {
+        if (type == ObjectSchemaType.IMMUTABLE) {
+            return;
+        }
+        String className = DOG_SCHEMA.getClassName();
+        // Older Android versions only allow 512 local references per JNI call.
+        int count = 1000;
+        for (int i = 0; i < count; i++) {
+            ((DynamicRealm) realm).createObject(className).setLong(Dog.FIELD_AGE, i);
+        }
+
+        final int[] batches = {0};
+        DOG_SCHEMA.transformColumns(new String[] {Dog.FIELD_AGE, Dog.FIELD_NAME}, new RealmObjectSchema.BatchFunction() {
+            @Override
+            public void apply(ColumnBatch batch) {
+                batches[0]++;
+                ColumnBatch.Column ages = batch.getColumn(Dog.FIELD_AGE);
+                ColumnBatch.Column names = batch.getColumn(Dog.FIELD_NAME);
+                for (int i = 0; i < batch.size(); i++) {
+                    names.setString(i, "Dog " + ages.getLong(i));
+                }
+            }
+        });
+
+        assertEquals(1, batches[0]);
+        RealmResults<DynamicRealmObject> dogs = ((DynamicRealm) realm).where(className).findAll();
+        assertEquals(count, dogs.size());
+        for (DynamicRealmObject dog : dogs) {
+            assertEquals("Dog " + dog.getLong(Dog.FIELD_AGE), dog.getString(Dog.FIELD_NAME));
+        }
+    }
+
+    @Test
+    public void transformColumns_unsupportedFieldTypeThrows() {
+        if (type == ObjectSchemaType.IMMUTABLE) {
+            return;
+        }
+        thrown.expect(IllegalArgumentException.class);
+        DOG_SCHEMA.transformColumns(new String[] {"owner"}, new RealmObjectSchema.BatchFunction() {
+            @Override
+            public void apply(ColumnBatch batch) {
+            }
+        });
+    }
+
+    @Test
+    public void copyField() {
+        if (type == ObjectSchemaType.IMMUTABLE) {
+            thrown.expect(UnsupportedOperationException.class);
+            DOG_SCHEMA.copyField(Dog.FIELD_AGE, Dog.FIELD_AGE);
+            return;
+        }
+        String className = DOG_SCHEMA.getClassName();
+        ((DynamicRealm) realm).createObject(className).setLong(Dog.FIELD_AGE, 3);
+        ((DynamicRealm) realm).createObject(className).setLong(Dog.FIELD_AGE, 4);
+
+        DOG_SCHEMA.addField("previousAge", long.class);
+        DOG_SCHEMA.copyField(Dog.FIELD_AGE, "previousAge");
+
+        for (DynamicRealmObject dog : ((DynamicRealm) realm).where(className).findAll()) {
+            assertEquals(dog.getLong(Dog.FIELD_AGE), dog.getLong("previousAge"));
+        }
+    }
+
+    @Test
+    public void copyField_differentTypesThrows() {
+        if (type == ObjectSchemaType.IMMUTABLE) {
+            return;
+        }
+        thrown.expect(IllegalArgumentException.class);
+        DOG_SCHEMA.copyField(Dog.FIELD_HEIGHT, Dog.FIELD_WEIGHT);
+    }
+
+    @Test
+    public void setAll() {
+        if (type == ObjectSchemaType.IMMUTABLE) {
+            thrown.expect(UnsupportedOperationException.class);
+            DOG_SCHEMA.setAll(Dog.FIELD_NAME, "Fido");
+            return;
+        }
+        String className = DOG_SCHEMA.getClassName();
+        ((DynamicRealm) realm).createObject(className).setString(Dog.FIELD_NAME, "Rex");
+        ((DynamicRealm) realm).createObject(className);
+
+        DOG_SCHEMA.setAll(Dog.FIELD_NAME, "Fido");
+        DOG_SCHEMA.setAll(Dog.FIELD_HAS_TAIL, true);
+        DOG_SCHEMA.setAll(Dog.FIELD_WEIGHT, 12);
+
+        for (DynamicRealmObject dog : ((DynamicRealm) realm).where(className).findAll()) {
+            assertEquals("Fido", dog.getString(Dog.FIELD_NAME));
+            assertTrue(dog.getBoolean(Dog.FIELD_HAS_TAIL));
+            assertEquals(12D, dog.getDouble(Dog.FIELD_WEIGHT), 0D);
+        }
+
+        DOG_SCHEMA.setAll(Dog.FIELD_NAME, null);
+        for (DynamicRealmObject dog : ((DynamicRealm) realm).where(className).findAll()) {
+            assertTrue(dog.isNull(Dog.FIELD_NAME));
+        }
+    }
+
+    @Test
+    public void setAll_wrongValueTypeThrows() {
+        if (type == ObjectSchemaType.IMMUTABLE) {
+            return;
+        }
+        ((DynamicRealm) realm).createObject(DOG_SCHEMA.getClassName());
+        thrown.expect(IllegalArgumentException.class);
+        DOG_SCHEMA.setAll(Dog.FIELD_AGE, "not a number");
+    }
+
+    @Test
+    public void convertField() {
+        if (type == ObjectSchemaType.IMMUTABLE) {
+            thrown.expect(UnsupportedOperationException.class);
+            DOG_SCHEMA.convertField(Dog.FIELD_AGE, RealmFieldType.STRING, new RealmObjectSchema.FieldConverter() {
+                @Override
+                public void convert(ColumnBatch.Column source, ColumnBatch.Column target) {
+                }
+            });
+            return;
+        }
+        String className = DOG_SCHEMA.getClassName();
+        DOG_SCHEMA.addField("timestamp", long.class, FieldAttribute.INDEXED);
+        ((DynamicRealm) realm).createObject(className).setLong("timestamp", 1000);
+        ((DynamicRealm) realm).createObject(className).setLong("timestamp", 2000);
+
+        DOG_SCHEMA.convertField("timestamp", RealmFieldType.DATE, new RealmObjectSchema.FieldConverter() {
+            @Override
+            public void convert(ColumnBatch.Column source, ColumnBatch.Column target) {
+                for (int i = 0; i < source.size(); i++) {
+                    target.setDate(i, new Date(source.getLong(i)));
+                }
+            }
+        });
+
+        assertEquals(RealmFieldType.DATE, DOG_SCHEMA.getFieldType("timestamp"));
+        assertTrue(DOG_SCHEMA.isRequired("timestamp"));
+        assertTrue(DOG_SCHEMA.hasIndex("timestamp"));
+        assertEquals(new Date(1000), ((DynamicRealm) realm).where(className).minimumDate("timestamp"));
+        assertEquals(new Date(2000), ((DynamicRealm) realm).where(className).maximumDate("timestamp"));
+    }
+
     @Test
     public void transformObjectReferences() {
         if (type == ObjectSchemaType.IMMUTABLE) {
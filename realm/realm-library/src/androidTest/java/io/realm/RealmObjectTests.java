@@ -24,7 +24,13 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 
+import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -120,6 +126,146 @@ public class RealmObjectTests {
         assertEquals(26, row.getColumnCount());     // Update this value when adding new fields to AllTypes
     }
 
+    @Test
+    public void openOutputStream_openInputStream_binary() throws IOException {
+        byte[] data = new byte[1024 * 1024 + 13];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        realm.beginTransaction();
+        AllTypes obj = realm.createObject(AllTypes.class);
+        OutputStream out = RealmObject.openOutputStream(obj, AllTypes.FIELD_BINARY);
+        for (int offset = 0; offset < data.length; offset += 4096) {
+            out.write(data, offset, Math.min(4096, data.length - offset));
+        }
+        out.close();
+        realm.commitTransaction();
+
+        InputStream in = RealmObject.openInputStream(obj, AllTypes.FIELD_BINARY);
+        assertEquals(data.length, in.available());
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        byte[] chunk = new byte[1000];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            copy.write(chunk, 0, read);
+        }
+        assertArrayEquals(data, copy.toByteArray());
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    public void openChannel_stringAsUtf8() throws IOException {
+        String value = "Здравей ÆØÅ";
+        realm.beginTransaction();
+        AllTypes obj = realm.createObject(AllTypes.class);
+        obj.setColumnString(value);
+        realm.commitTransaction();
+
+        byte[] expected = value.getBytes(Charset.forName("UTF-8"));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length + 10);
+        ReadableByteChannel channel = RealmObject.openChannel(obj, AllTypes.FIELD_STRING);
+        assertEquals(expected.length, channel.read(buffer));
+        assertEquals(-1, channel.read(buffer));
+        buffer.flip();
+        byte[] actual = new byte[buffer.remaining()];
+        buffer.get(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void openOutputStream_outsideTransactionThrows() {
+        realm.beginTransaction();
+        AllTypes obj = realm.createObject(AllTypes.class);
+        realm.commitTransaction();
+
+        try {
+            RealmObject.openOutputStream(obj, AllTypes.FIELD_BINARY);
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void openInputStream_readOnWrongThreadThrows() throws IOException, ExecutionException, InterruptedException {
+        realm.beginTransaction();
+        AllTypes obj = realm.createObject(AllTypes.class);
+        obj.setColumnBinary(new byte[] {1, 2, 3});
+        realm.commitTransaction();
+
+        final InputStream in = RealmObject.openInputStream(obj, AllTypes.FIELD_BINARY);
+        Future<Boolean> future = Executors.newSingleThreadExecutor().submit(new Callable<Boolean>() {
+            @Override
+            public Boolean call() throws Exception {
+                try {
+                    in.read();
+                    return false;
+                } catch (IllegalStateException ignored) {
+                    return true;
+                }
+            }
+        });
+        assertTrue(future.get());
+        assertEquals(1, in.read());
+    }
+
+    @Test
+    public void openInputStream_readAfterDeleteOrCloseThrows() throws IOException {
+        realm.beginTransaction();
+        AllTypes obj = realm.createObject(AllTypes.class);
+        obj.setColumnBinary(new byte[] {1, 2, 3});
+        realm.commitTransaction();
+
+        InputStream in = RealmObject.openInputStream(obj, AllTypes.FIELD_BINARY);
+        realm.beginTransaction();
+        obj.deleteFromRealm();
+        realm.commitTransaction();
+        try {
+            in.read();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+
+        realm.beginTransaction();
+        obj = realm.createObject(AllTypes.class);
+        realm.commitTransaction();
+        in = RealmObject.openInputStream(obj, AllTypes.FIELD_BINARY);
+        realm.close();
+        try {
+            in.skip(1);
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void openOutputStream_closeAfterCommitThrows() throws IOException {
+        realm.beginTransaction();
+        AllTypes obj = realm.createObject(AllTypes.class);
+        OutputStream out = RealmObject.openOutputStream(obj, AllTypes.FIELD_BINARY);
+        out.write(new byte[] {1, 2, 3});
+        realm.commitTransaction();
+
+        try {
+            out.close();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void openInputStream_wrongFieldTypeThrows() {
+        realm.beginTransaction();
+        AllTypes obj = realm.createObject(AllTypes.class);
+        realm.commitTransaction();
+
+        try {
+            RealmObject.openInputStream(obj, AllTypes.FIELD_LONG);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
     @Test
     public void stringEncoding() {
         String[] strings = {"ABCD", "ÆØÅ", "Ö∫Ë", "ΠΑΟΚ", "Здравей"};
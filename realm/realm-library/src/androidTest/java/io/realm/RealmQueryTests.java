@@ -21,6 +21,7 @@ import android.util.Log;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 import org.jetbrains.annotations.NotNull;
+import org.junit.Assume;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -39,6 +40,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import androidx.test.annotation.UiThreadTest;
@@ -50,7 +52,9 @@ import io.realm.entities.Cat;
 import io.realm.entities.CatOwner;
 import io.realm.entities.DictionaryAllTypes;
 import io.realm.entities.Dog;
+import io.realm.entities.CompoundIndexHintFields;
 import io.realm.entities.IndexedFields;
+import io.realm.entities.Measurement;
 import io.realm.entities.KeywordFieldNames;
 import io.realm.entities.NoPrimaryKeyNullTypes;
 import io.realm.entities.NonLatinFieldNames;
@@ -66,6 +70,7 @@ import io.realm.entities.embedded.EmbeddedSimpleChild;
 import io.realm.entities.embedded.EmbeddedSimpleParent;
 import io.realm.entities.realmname.ClassWithValueDefinedNames;
 import io.realm.exceptions.RealmException;
+import io.realm.internal.Table;
 import io.realm.log.RealmLog;
 import io.realm.rule.RunTestInLooperThread;
 
@@ -1014,6 +1019,17 @@ public class RealmQueryTests extends QueryTests {
         assertTrue(resultList.isEmpty());
     }
 
+    @Test
+    public void in_manyValues() {
+        populateTestRealm(realm, 50);
+        Long[] values = new Long[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) (i * 2);
+        }
+        assertEquals(25, realm.where(AllTypes.class).in(AllTypes.FIELD_LONG, values).count());
+        assertEquals(25, realm.where(AllTypes.class).not().in(AllTypes.FIELD_LONG, values).count());
+    }
+
     @Test
     public void in_stringNull() {
         doTestForInString(NoPrimaryKeyNullTypes.FIELD_STRING_NULL);
@@ -3251,6 +3267,221 @@ public class RealmQueryTests extends QueryTests {
         assertEquals(2, results.size());
     }
 
+    @Test
+    public void findAll_compoundIndexHintEqualityAndRange() {
+        realm.beginTransaction();
+        for (int i = 0; i < 10; i++) {
+            CompoundIndexHintFields obj = realm.createObject(CompoundIndexHintFields.class);
+            obj.ownerId = i % 2;
+            obj.updatedAt = new Date(i * 1000);
+        }
+        realm.commitTransaction();
+
+        RealmObjectSchema schema = realm.getSchema().get(CompoundIndexHintFields.CLASS_NAME);
+        assertTrue(schema.hasIndex(CompoundIndexHintFields.FIELD_OWNER_ID));
+        assertEquals(1, schema.getCompoundIndexHints().size());
+        assertEquals(Arrays.asList(CompoundIndexHintFields.FIELD_OWNER_ID, CompoundIndexHintFields.FIELD_UPDATED_AT),
+                schema.getCompoundIndexHints().get(0));
+
+        RealmResults<CompoundIndexHintFields> results = realm.where(CompoundIndexHintFields.class)
+                .equalTo(CompoundIndexHintFields.FIELD_OWNER_ID, 1L)
+                .greaterThan(CompoundIndexHintFields.FIELD_UPDATED_AT, new Date(4000))
+                .sort(CompoundIndexHintFields.FIELD_UPDATED_AT)
+                .findAll();
+        assertEquals(3, results.size());
+        assertEquals(new Date(5000), results.first().updatedAt);
+    }
+
+    @Test
+    public void textSearch() {
+        Assume.assumeTrue("Full-text indexes are not supported by this Realm Core version.", Table.isFullTextIndexSupported());
+        // The test models cannot declare @FullText fields, as they would fail to open without full-text index support.
+        DynamicRealm dynamicRealm = DynamicRealm.getInstance(configFactory.createConfiguration("fulltext.realm"));
+        try {
+            dynamicRealm.beginTransaction();
+            dynamicRealm.getSchema().create("Text").addField("text", String.class, FieldAttribute.FULL_TEXT_INDEXED);
+            dynamicRealm.createObject("Text").setString("text", "The quick brown fox");
+            dynamicRealm.createObject("Text").setString("text", "The lazy dog");
+            dynamicRealm.createObject("Text").setString("text", "A quick dog");
+            dynamicRealm.commitTransaction();
+
+            assertEquals(2, dynamicRealm.where("Text").textSearch("text", "quick").count());
+            assertEquals(1, dynamicRealm.where("Text").textSearch("text", "quick dog").count());
+            assertEquals(1, dynamicRealm.where("Text").textSearch("text", "dog -lazy").count());
+            assertEquals(0, dynamicRealm.where("Text").textSearch("text", "cat").count());
+            assertEquals(2, dynamicRealm.where("Text").rawPredicate("text TEXT 'the'").count());
+        } finally {
+            dynamicRealm.close();
+        }
+    }
+
+    @Test
+    public void textSearch_fieldWithoutFullTextIndexThrows() {
+        try {
+            realm.where(IndexedFields.class).textSearch(IndexedFields.FIELD_NON_INDEXED_STRING, "quick");
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void groupBy_sumOnBooleanKey() {
+        populateTestRealm(realm, 10);
+        RealmGroupedResults groups = realm.where(AllTypes.class)
+                .groupBy(AllTypes.FIELD_BOOLEAN)
+                .sum(AllTypes.FIELD_LONG);
+
+        assertEquals(2, groups.size());
+        assertEquals(RealmFieldType.BOOLEAN, groups.getKeyType());
+        assertFalse(groups.getBooleanKey(0));
+        assertEquals(27D, groups.getValue(0), 0D);
+        assertEquals(6, groups.getCount(0));
+        assertTrue(groups.getBooleanKey(1));
+        assertEquals(18D, groups.getValue(1), 0D);
+        assertEquals(4, groups.getCount(1));
+    }
+
+    @Test
+    public void groupBy_linkedKeyPath() {
+        populateTestRealm(realm, 10);
+        RealmGroupedResults groups = realm.where(AllTypes.class)
+                .lessThan(AllTypes.FIELD_LONG, 5)
+                .groupBy(AllTypes.FIELD_REALMOBJECT + "." + Dog.FIELD_AGE)
+                .max(AllTypes.FIELD_FLOAT);
+
+        assertEquals(5, groups.size());
+        for (int i = 0; i < groups.size(); i++) {
+            assertEquals(i, groups.getLongKey(i));
+            assertEquals(1.2345f + i, groups.getValue(i), 0.0001D);
+            assertEquals(1, groups.getCount(i));
+        }
+    }
+
+    @Test
+    public void groupBy_dateBuckets() {
+        realm.beginTransaction();
+        for (int i = 0; i < 10; i++) {
+            realm.createObject(Measurement.class).recordedAt = new Date(i * 1000);
+        }
+        realm.createObject(Measurement.class).recordedAt = null;
+        realm.commitTransaction();
+
+        RealmGroupedResults groups = realm.where(Measurement.class)
+                .groupBy(Measurement.FIELD_RECORDED_AT, 5, TimeUnit.SECONDS)
+                .count();
+
+        assertEquals(3, groups.size());
+        assertTrue(groups.isNullKey(0));
+        assertNull(groups.getDateKey(0));
+        assertEquals(1, groups.getCount(0));
+        assertEquals(new Date(0), groups.getDateKey(1));
+        assertEquals(5, groups.getCount(1));
+        assertEquals(new Date(5000), groups.getDateKey(2));
+        assertEquals(5D, groups.getValue(2), 0D);
+    }
+
+    @Test
+    public void groupBy_exactIntegerAggregates() {
+        // Sums beyond 2^53 cannot be represented exactly as a double.
+        long large = (1L << 53) + 1;
+        realm.beginTransaction();
+        for (String sensor : new String[] {"a", "a", "b"}) {
+            Measurement measurement = realm.createObject(Measurement.class);
+            measurement.sensor = sensor;
+            measurement.reading = large;
+            measurement.temperature = 1.5;
+        }
+        realm.createObject(Measurement.class).sensor = "c";
+        realm.commitTransaction();
+
+        RealmGroupedResults sums = realm.where(Measurement.class)
+                .groupBy(Measurement.FIELD_SENSOR)
+                .sum(Measurement.FIELD_READING);
+        assertEquals(3, sums.size());
+        assertEquals("a", sums.getStringKey(0));
+        assertEquals(2 * large, sums.getLongValue(0));
+        assertEquals(large, sums.getLongValue(1));
+        assertEquals(0, sums.getLongValue(2));
+
+        RealmGroupedResults maximums = realm.where(Measurement.class)
+                .groupBy(Measurement.FIELD_SENSOR)
+                .max(Measurement.FIELD_READING);
+        assertEquals(large, maximums.getLongValue(0));
+
+        RealmGroupedResults optionalMinimums = realm.where(Measurement.class)
+                .groupBy(Measurement.FIELD_SENSOR)
+                .min(Measurement.FIELD_OPTIONAL_READING);
+        assertTrue(Double.isNaN(optionalMinimums.getValue(0)));
+        assertEquals(0, optionalMinimums.getLongValue(0));
+
+        RealmGroupedResults temperatures = realm.where(Measurement.class)
+                .groupBy(Measurement.FIELD_SENSOR)
+                .sum(Measurement.FIELD_TEMPERATURE);
+        assertEquals(3D, temperatures.getValue(0), 0D);
+        try {
+            temperatures.getLongValue(0);
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void groupBy_invalidFieldsThrows() {
+        RealmQuery<AllTypes> query = realm.where(AllTypes.class);
+        try {
+            query.groupBy(AllTypes.FIELD_BINARY);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            query.groupBy(AllTypes.FIELD_LONG, 1, TimeUnit.HOURS);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            query.groupBy(AllTypes.FIELD_LONG + "." + Dog.FIELD_AGE);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            query.groupBy(AllTypes.FIELD_LONG).sum(AllTypes.FIELD_STRING);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void parallel_aggregatesMatchSerialEvaluation() {
+        realm.beginTransaction();
+        for (int i = 0; i < 25000; i++) {
+            AllTypes allTypes = realm.createObject(AllTypes.class);
+            allTypes.setColumnLong(i);
+            allTypes.setColumnDouble(i / 2D);
+            allTypes.setColumnString((i % 7 == 0) ? "seven" : "other");
+        }
+        realm.commitTransaction();
+
+        RealmQuery<AllTypes> serial = realm.where(AllTypes.class).equalTo(AllTypes.FIELD_STRING, "seven");
+        RealmQuery<AllTypes> parallel = realm.where(AllTypes.class).equalTo(AllTypes.FIELD_STRING, "seven").parallel(4);
+
+        assertEquals(serial.count(), parallel.count());
+        assertEquals(serial.sum(AllTypes.FIELD_LONG), parallel.sum(AllTypes.FIELD_LONG));
+        assertEquals(serial.sum(AllTypes.FIELD_DOUBLE).doubleValue(), parallel.sum(AllTypes.FIELD_DOUBLE).doubleValue(), 0.0001D);
+        assertEquals(serial.average(AllTypes.FIELD_LONG), parallel.average(AllTypes.FIELD_LONG), 0.0001D);
+        assertEquals(serial.min(AllTypes.FIELD_LONG), parallel.min(AllTypes.FIELD_LONG));
+        assertEquals(serial.max(AllTypes.FIELD_DOUBLE), parallel.max(AllTypes.FIELD_DOUBLE));
+        assertNull(realm.where(AllTypes.class).equalTo(AllTypes.FIELD_STRING, "none").parallel(4).max(AllTypes.FIELD_LONG));
+    }
+
+    @Test
+    public void parallel_invalidThreadCountThrows() {
+        try {
+            realm.where(AllTypes.class).parallel(0);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
     @Test
     public void sort_listOnSubObjectField() {
         String[] fieldNames = new String[2];
@@ -32,6 +32,8 @@ import org.mockito.Mockito;
 import org.skyscreamer.jsonassert.JSONAssert;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -53,12 +55,15 @@ import io.realm.entities.DictionaryAllTypes;
 import io.realm.entities.Dog;
 import io.realm.entities.MappedAllJavaTypes;
 import io.realm.entities.NonLatinFieldNames;
+import io.realm.entities.NullTypes;
 import io.realm.entities.Owner;
 import io.realm.entities.PrimaryKeyAsLong;
 import io.realm.entities.PrimaryKeyAsString;
 import io.realm.entities.RandomPrimaryKey;
 import io.realm.entities.StringOnly;
 import io.realm.internal.OsResults;
+import io.realm.internal.RealmObjectProxy;
+import io.realm.internal.Row;
 import io.realm.log.RealmLog;
 import io.realm.rule.RunInLooperThread;
 import io.realm.rule.RunTestInLooperThread;
@@ -122,6 +127,148 @@ public class RealmResultsTests extends CollectionTests {
         assertNull(none);
     }
 
+    @Test
+    public void page() {
+        PagedRealmResults<AllTypes> page = collection.page(10, 30);
+        assertEquals(10, page.getOffset());
+        assertEquals(30, page.getPageSize());
+        assertEquals(30, page.size());
+        assertEquals(10, page.get(0).getColumnLong());
+        assertEquals(39, page.get(29).getColumnLong());
+        assertTrue(page.hasNextPage());
+
+        PagedRealmResults<AllTypes> next = page.nextPage();
+        assertEquals(40, next.getOffset());
+        assertEquals(40, next.get(0).getColumnLong());
+
+        PagedRealmResults<AllTypes> last = collection.page(TEST_DATA_SIZE - 5, 30);
+        assertEquals(5, last.size());
+        assertFalse(last.hasNextPage());
+        assertTrue(last.nextPage().isEmpty());
+        assertTrue(collection.page(TEST_DATA_SIZE, 10).isEmpty());
+    }
+
+    @Test
+    public void page_prefetchNextPage() {
+        PagedRealmResults<AllTypes> page = collection.page(0, 30);
+        page.prefetchNextPage();
+
+        PagedRealmResults<AllTypes> next = page.nextPage();
+        assertEquals(30, next.size());
+        assertEquals(30, next.get(0).getColumnLong());
+        assertEquals(59, next.get(29).getColumnLong());
+
+        // The prefetch is skipped for the last page and inside write transactions.
+        collection.page(TEST_DATA_SIZE - 5, 30).prefetchNextPage();
+        realm.beginTransaction();
+        page.prefetchNextPage();
+        realm.cancelTransaction();
+    }
+
+    @Test
+    public void page_invalidArgumentsThrows() {
+        try {
+            collection.page(-1, 10);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            collection.page(0, 0);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void page_outOfBoundsThrows() {
+        PagedRealmResults<AllTypes> page = collection.page(0, 10);
+        try {
+            page.get(10);
+            fail();
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+    }
+
+    @Test
+    public void findPage() {
+        PagedRealmResults<AllTypes> page = realm.where(AllTypes.class)
+                .sort(AllTypes.FIELD_LONG, Sort.DESCENDING)
+                .findPage(20, 10);
+        assertEquals(10, page.size());
+        assertEquals(TEST_DATA_SIZE - 21, page.get(0).getColumnLong());
+        assertEquals(30, page.getResults().size());
+        assertFalse(page.hasNextPage());
+    }
+
+    @Test
+    public void findPage_doesNotChangeQuery() {
+        RealmQuery<AllTypes> query = realm.where(AllTypes.class).sort(AllTypes.FIELD_LONG, Sort.ASCENDING);
+        assertEquals(10, query.findPage(0, 10).size());
+        assertEquals(TEST_DATA_SIZE, query.count());
+        assertEquals(TEST_DATA_SIZE, query.findAll().size());
+        assertEquals(20, query.findPage(20, 10).get(0).getColumnLong());
+    }
+
+    @Test
+    public void readStringsUtf8() {
+        RealmUtf8Strings strings = collection.readStringsUtf8(AllTypes.FIELD_STRING);
+        assertEquals(TEST_DATA_SIZE, strings.size());
+        for (int i = 0; i < TEST_DATA_SIZE; i++) {
+            String expected = collection.get(i).getColumnString();
+            byte[] utf8 = expected.getBytes(Charset.forName("UTF-8"));
+            assertFalse(strings.isNull(i));
+            assertEquals(utf8.length, strings.getByteLength(i));
+            assertArrayEquals(utf8, strings.getBytes(i));
+            assertEquals(expected, strings.getString(i));
+            assertEquals(expected, strings.getCharSequence(i).toString());
+            assertTrue(strings.contentEquals(i, utf8));
+            assertEquals(RealmUtf8Strings.hash(utf8, 0, utf8.length), strings.hash(i));
+
+            Row row = ((RealmObjectProxy) collection.get(i)).realmGet$proxyState().getRow$realm();
+            long columnKey = row.getColumnKey(AllTypes.FIELD_STRING);
+            assertEquals(strings.hash(i), row.getStringHash(columnKey));
+            assertTrue(row.stringEquals(columnKey, utf8));
+            ByteBuffer buffer = ByteBuffer.allocateDirect(utf8.length);
+            assertEquals(utf8.length, row.getStringUtf8(columnKey, buffer));
+            assertFalse(buffer.hasRemaining());
+        }
+        assertFalse(strings.contentEquals(0, strings.getBytes(1)));
+    }
+
+    @Test
+    public void readStringsUtf8_nonLatinAndNullValues() {
+        realm.beginTransaction();
+        realm.delete(NullTypes.class);
+        realm.createObject(NullTypes.class, 1).setFieldStringNull("ÆØÅ 日本語");
+        realm.createObject(NullTypes.class, 2).setFieldStringNull(null);
+        realm.commitTransaction();
+
+        RealmUtf8Strings strings = realm.where(NullTypes.class).sort(NullTypes.FIELD_ID).findAll()
+                .readStringsUtf8(NullTypes.FIELD_STRING_NULL);
+        assertEquals("ÆØÅ 日本語", strings.getString(0));
+        assertEquals("ÆØÅ 日本語", strings.getCharSequence(0).toString());
+        assertTrue(strings.isNull(1));
+        assertEquals(-1, strings.getByteLength(1));
+        assertNull(strings.getBytes(1));
+        assertNull(strings.getString(1));
+        assertTrue(strings.contentEquals(1, null));
+        assertEquals(0, strings.hash(1));
+    }
+
+    @Test
+    public void readStringsUtf8_invalidFieldThrows() {
+        try {
+            collection.readStringsUtf8(AllTypes.FIELD_LONG);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            collection.readStringsUtf8("unknown");
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
     @Test
     public void size_returns_Integer_MAX_VALUE_for_huge_results() {
         final OsResults osResults = Mockito.mock(OsResults.class);
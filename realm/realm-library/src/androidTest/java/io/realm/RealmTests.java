@@ -31,6 +31,7 @@ import static io.realm.TestHelper.testNoObjectFound;
 import static io.realm.TestHelper.testOneObjectFound;
 import static io.realm.internal.test.ExtraTests.assertArrayEquals;
 
+import android.content.ComponentCallbacks2;
 import android.content.Context;
 import android.os.Build;
 import android.os.Looper;
@@ -91,6 +92,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import io.realm.entities.AllJavaTypes;
 import io.realm.entities.AllTypes;
 import io.realm.entities.AllTypesPrimaryKey;
+import io.realm.entities.AnimalModule;
 import io.realm.entities.Cat;
 import io.realm.entities.CyclicType;
 import io.realm.entities.CyclicTypePrimaryKey;
@@ -101,6 +103,7 @@ import io.realm.entities.DefaultValueOverwriteNullLink;
 import io.realm.entities.DefaultValueSetter;
 import io.realm.entities.Dog;
 import io.realm.entities.DogPrimaryKey;
+import io.realm.entities.HumanModule;
 import io.realm.entities.NoPrimaryKeyNullTypes;
 import io.realm.entities.NonLatinFieldNames;
 import io.realm.entities.Object4957;
@@ -122,6 +125,7 @@ import io.realm.entities.RandomPrimaryKey;
 import io.realm.entities.StringAndInt;
 import io.realm.entities.StringOnly;
 import io.realm.entities.StringOnlyReadOnly;
+import io.realm.entities.realmname.ClassWithValueDefinedNames;
 import io.realm.exceptions.RealmException;
 import io.realm.exceptions.RealmFileException;
 import io.realm.exceptions.RealmMigrationNeededException;
@@ -1273,6 +1277,217 @@ public class RealmTests {
         assertEquals(results.first, results.second);
     }
 
+    @Test
+    public void backgroundCompaction_compactsAfterLastInstanceIsClosed() {
+        final String REALM_NAME = "test.realm";
+        final CountDownLatch compacted = new CountDownLatch(1);
+        final AtomicLong reclaimed = new AtomicLong(-1);
+        RealmConfiguration realmConfig = configFactory.createConfigurationBuilder()
+                .name(REALM_NAME)
+                .backgroundCompaction(new BackgroundCompactionPolicy.Builder()
+                        .minFileSize(0)
+                        .minFreeSpaceRatio(0.1)
+                        .idleDelay(0, TimeUnit.MILLISECONDS)
+                        .callback(new BackgroundCompactionPolicy.Callback() {
+                            @Override
+                            public void onCompacted(RealmConfiguration configuration, long reclaimedBytes) {
+                                reclaimed.set(reclaimedBytes);
+                                compacted.countDown();
+                            }
+                        })
+                        .build())
+                .build();
+        Realm realm = Realm.getInstance(realmConfig);
+        populateTestRealmForCompact(realm, 1);
+        realm.beginTransaction();
+        realm.deleteAll();
+        realm.commitTransaction();
+        long before = new File(realmConfig.getPath()).length();
+        realm.close();
+
+        TestHelper.awaitOrFail(compacted);
+        assertTrue(reclaimed.get() > 0);
+        assertTrue(new File(realmConfig.getPath()).length() < before);
+    }
+
+    @Test
+    public void backgroundCompaction_skippedWhileOpen() throws InterruptedException {
+        final CountDownLatch compacted = new CountDownLatch(1);
+        RealmConfiguration realmConfig = configFactory.createConfigurationBuilder()
+                .name("test.realm")
+                .backgroundCompaction(new BackgroundCompactionPolicy.Builder()
+                        .minFileSize(0)
+                        .minFreeSpaceRatio(0)
+                        .idleDelay(200, TimeUnit.MILLISECONDS)
+                        .callback(new BackgroundCompactionPolicy.Callback() {
+                            @Override
+                            public void onCompacted(RealmConfiguration configuration, long reclaimedBytes) {
+                                compacted.countDown();
+                            }
+                        })
+                        .build())
+                .build();
+        Realm realm = Realm.getInstance(realmConfig);
+        realm.close();
+        // Opening the Realm again before the idle delay expires cancels the check.
+        realm = Realm.getInstance(realmConfig);
+        assertFalse(compacted.await(1, TimeUnit.SECONDS));
+        realm.close();
+    }
+
+    @Test
+    public void backgroundCompactionPolicy_shouldCompact() {
+        BackgroundCompactionPolicy policy = new BackgroundCompactionPolicy.Builder()
+                .minFileSize(100)
+                .minFreeSpaceRatio(0.5)
+                .build();
+        assertFalse(policy.shouldCompact(99, 0));
+        assertFalse(policy.shouldCompact(100, 51));
+        assertTrue(policy.shouldCompact(100, 50));
+    }
+
+    @Test
+    public void warmUp() {
+        populateTestRealm(realm, TEST_DATA_SIZE);
+
+        // Pages may already be resident after populating the Realm, so only the bounds can be checked.
+        assertTrue(realm.warmUp(AllTypes.class) >= 0);
+        assertTrue(realm.warmUp(AllTypes.class, AllTypes.FIELD_STRING) >= 0);
+        assertTrue(realm.warmUp(Dog.class) >= 0);
+        assertTrue(realm.warmUp(AllTypes.class) <= new File(realm.getPath()).length());
+    }
+
+    @Test
+    public void warmUp_unknownFieldThrows() {
+        try {
+            realm.warmUp(AllTypes.class, "unknownField");
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void getStorageStats() {
+        populateTestRealm(realm, TEST_DATA_SIZE);
+
+        RealmStorageStats stats = Realm.getStorageStats(realm.getConfiguration());
+        assertTrue(stats.getTotalBytes() > 0);
+        assertTrue(stats.getUsedBytes() > 0);
+        assertEquals(stats.getTotalBytes() - stats.getUsedBytes(), stats.getFreeBytes());
+        assertTrue(stats.getLockedBytes() >= 0);
+        assertTrue(stats.getNumberOfVersions() >= 1);
+
+        RealmStorageStats.ClassStats allTypes = stats.getClassStats(AllTypes.CLASS_NAME);
+        assertNotNull(allTypes);
+        assertEquals(TEST_DATA_SIZE, allTypes.getCount());
+        assertTrue(allTypes.getValueBytes() > 0);
+        assertNull(stats.getClassStats("unknownClass"));
+
+        RealmStorageStats.FieldStats stringField = allTypes.getFieldStats(AllTypes.FIELD_STRING);
+        assertNotNull(stringField);
+        assertEquals(RealmFieldType.STRING, stringField.getType());
+        assertTrue(stringField.getValueBytes() > 0);
+        // All values are distinct.
+        assertEquals(stringField.getValueBytes(), stringField.getUniqueValueBytes());
+        assertEquals(1.0, stringField.getCompressionRatio(), 0.0);
+
+        RealmStorageStats.FieldStats longField = allTypes.getFieldStats(AllTypes.FIELD_LONG);
+        assertNotNull(longField);
+        assertEquals(TEST_DATA_SIZE * 8, longField.getValueBytes());
+        assertEquals(-1, longField.getUniqueValueBytes());
+        assertFalse(longField.isIndexed());
+        assertEquals(0, longField.getIndexBytes());
+    }
+
+    @Test
+    public void getStorageStats_repeatedStrings() {
+        realm.beginTransaction();
+        for (int i = 0; i < TEST_DATA_SIZE; i++) {
+            realm.createObject(StringOnly.class).setChars((i % 2 == 0) ? "even" : "odd");
+        }
+        realm.commitTransaction();
+
+        RealmStorageStats stats = Realm.getStorageStats(realm.getConfiguration());
+        RealmStorageStats.FieldStats field = stats.getClassStats(StringOnly.CLASS_NAME).getFieldStats(StringOnly.FIELD_CHARS);
+        assertEquals("evenodd".length(), field.getUniqueValueBytes());
+        assertTrue(field.getCompressionRatio() > 1);
+    }
+
+    @Test
+    public void trimMemory_keepsReferencedFrozenRealms() {
+        populateTestRealm(realm, TEST_DATA_SIZE);
+        Realm frozenRealm = realm.freeze();
+        RealmResults<AllTypes> frozenResults = frozenRealm.where(AllTypes.class).findAll();
+
+        TrimMemoryResult result = Realm.trimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+        assertTrue(result.getReleasedFrozenRealms() >= 0);
+        assertTrue(result.getFreedNativeObjects() >= 0);
+        assertTrue(result.getReleasedMappedBytes() >= 0);
+
+        assertFalse(frozenRealm.isClosed());
+        assertEquals(TEST_DATA_SIZE, frozenResults.size());
+        assertEquals(TEST_DATA_SIZE, realm.where(AllTypes.class).count());
+        // The cached frozen Realm is handed out again.
+        assertTrue(frozenRealm == realm.freeze());
+    }
+
+    @Test
+    public void trimMemory_lowLevelDoesNotReleaseFrozenRealms() {
+        realm.freeze();
+        TrimMemoryResult result = Realm.trimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE);
+        assertEquals(0, result.getReleasedFrozenRealms());
+        assertEquals(0, result.getReleasedMappedBytes());
+    }
+
+    @Test
+    public void trimMemory_uiHiddenAndBackgroundDoNotReleaseFrozenRealms() {
+        realm.freeze();
+        for (int level : new int[] {ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN, ComponentCallbacks2.TRIM_MEMORY_BACKGROUND}) {
+            TrimMemoryResult result = Realm.trimMemory(level);
+            assertEquals(0, result.getReleasedFrozenRealms());
+            assertEquals(0, result.getReleasedMappedBytes());
+        }
+    }
+
+    @Test
+    public void getEncryptionMetrics_encryptedRealm() {
+        RealmConfiguration realmConfig = configFactory.createConfigurationBuilder()
+                .name("encrypted.realm")
+                .encryptionKey(TestHelper.getRandomKey())
+                .encryptedPageCacheSize(1024 * 1024)
+                .build();
+        Realm encryptedRealm = Realm.getInstance(realmConfig);
+        try {
+            populateTestRealm(encryptedRealm, TEST_DATA_SIZE);
+            assertEquals(TEST_DATA_SIZE, encryptedRealm.where(AllTypes.class).count());
+
+            EncryptionMetrics metrics = Realm.getEncryptionMetrics();
+            assertTrue(metrics.getDecryptedPages() > 0);
+            assertEquals(metrics.getDecryptedPages() * EncryptionMetrics.PAGE_SIZE, metrics.getDecryptedBytes());
+            assertEquals(1024 * 1024, metrics.getCacheTarget());
+        } finally {
+            encryptedRealm.close();
+        }
+    }
+
+    @Test
+    public void getEncryptionMetrics_encryptedRealmWithoutSizeRestoresDefault() {
+        RealmConfiguration sizedConfig = configFactory.createConfigurationBuilder()
+                .name("encrypted_sized.realm")
+                .encryptionKey(TestHelper.getRandomKey())
+                .encryptedPageCacheSize(1024 * 1024)
+                .build();
+        RealmConfiguration defaultConfig = configFactory.createConfigurationBuilder()
+                .name("encrypted_default.realm")
+                .encryptionKey(TestHelper.getRandomKey())
+                .build();
+        Realm.getInstance(sizedConfig).close();
+        assertEquals(1024 * 1024, Realm.getEncryptionMetrics().getCacheTarget());
+
+        Realm.getInstance(defaultConfig).close();
+        assertEquals(0, Realm.getEncryptionMetrics().getCacheTarget());
+    }
+
     @Test
     public void compactOnLaunch_multipleThread() throws IOException {
         final String REALM_NAME = "test.realm";
@@ -4016,6 +4231,111 @@ public class RealmTests {
         assertEquals(1, realm.where(StringAndInt.class).count());
     }
 
+    private RealmConfiguration createFingerprintConfiguration(Object... modules) {
+        return configFactory.createConfigurationBuilder()
+                .name("fingerprint.realm")
+                .modules(modules[0], Arrays.copyOfRange(modules, 1, modules.length))
+                .storeSchemaFingerprint(true)
+                .build();
+    }
+
+    @Test
+    public void schemaFingerprint_notStoredByDefault() {
+        assertFalse(realmConfig.isStoreSchemaFingerprintEnabled());
+        assertEquals(0, realm.getSharedRealm().getSchemaFingerprint());
+    }
+
+    @Test
+    public void schemaFingerprint_storedWhenOpened() {
+        RealmConfiguration config = createFingerprintConfiguration(new HumanModule(), new AnimalModule());
+        long fingerprint = config.getSchemaMediator().getSchemaFingerprint();
+        assertTrue(fingerprint != 0);
+        Realm fingerprintRealm = Realm.getInstance(config);
+        assertEquals(fingerprint, fingerprintRealm.getSharedRealm().getSchemaFingerprint());
+
+        // Reopening with a matching fingerprint skips the schema validation but keeps the schema usable.
+        fingerprintRealm.close();
+        fingerprintRealm = Realm.getInstance(config);
+        try {
+            assertEquals(fingerprint, fingerprintRealm.getSharedRealm().getSchemaFingerprint());
+            fingerprintRealm.executeTransaction(r -> r.createObject(Dog.class).setName("foo"));
+            assertEquals("foo", fingerprintRealm.where(Dog.class).findFirst().getName());
+        } finally {
+            fingerprintRealm.close();
+        }
+    }
+
+    @Test
+    public void schemaFingerprint_invalidatedByDynamicSchemaChange() {
+        RealmConfiguration config = createFingerprintConfiguration(new HumanModule(), new AnimalModule());
+        long fingerprint = config.getSchemaMediator().getSchemaFingerprint();
+        Realm.getInstance(config).close();
+
+        DynamicRealm dynamicRealm = DynamicRealm.getInstance(config);
+        dynamicRealm.beginTransaction();
+        dynamicRealm.getSchema().create("NewClass").addField("name", String.class);
+        dynamicRealm.commitTransaction();
+        assertEquals(0, dynamicRealm.getSharedRealm().getSchemaFingerprint());
+        dynamicRealm.close();
+
+        Realm fingerprintRealm = Realm.getInstance(config);
+        try {
+            assertEquals(fingerprint, fingerprintRealm.getSharedRealm().getSchemaFingerprint());
+        } finally {
+            fingerprintRealm.close();
+        }
+    }
+
+    @Test
+    public void schemaFingerprint_differsBetweenSchemas() {
+        long fingerprint1 = createFingerprintConfiguration(new HumanModule(), new AnimalModule())
+                .getSchemaMediator().getSchemaFingerprint();
+        long fingerprint2 = createFingerprintConfiguration(new AnimalModule())
+                .getSchemaMediator().getSchemaFingerprint();
+        assertTrue(fingerprint1 != 0);
+        assertTrue(fingerprint2 != 0);
+        assertTrue(fingerprint1 != fingerprint2);
+        assertEquals(fingerprint1, createFingerprintConfiguration(new AnimalModule(), new HumanModule())
+                .getSchemaMediator().getSchemaFingerprint());
+    }
+
+    // Public names and computed properties are not stored in the file, so a schema using them is always validated.
+    @Test
+    public void schemaFingerprint_renamedFieldsAndBacklinksKeepWorkingOnReopen() {
+        RealmConfiguration config = configFactory.createConfigurationBuilder()
+                .name("fingerprint.realm")
+                .schema(ClassWithValueDefinedNames.class)
+                .storeSchemaFingerprint(true)
+                .build();
+        assertEquals(0, config.getSchemaMediator().getSchemaFingerprint());
+
+        Realm fingerprintRealm = Realm.getInstance(config);
+        fingerprintRealm.executeTransaction(r -> {
+            ClassWithValueDefinedNames parent = r.createObject(ClassWithValueDefinedNames.class);
+            parent.field = "parent";
+            ClassWithValueDefinedNames child = r.createObject(ClassWithValueDefinedNames.class);
+            child.field = "child";
+            parent.objectLink = child;
+        });
+        fingerprintRealm.close();
+
+        for (int i = 0; i < 2; i++) {
+            fingerprintRealm = Realm.getInstance(config);
+            try {
+                assertEquals(0, fingerprintRealm.getSharedRealm().getSchemaFingerprint());
+                assertEquals(1, fingerprintRealm.where(ClassWithValueDefinedNames.class)
+                        .equalTo(ClassWithValueDefinedNames.JAVA_FIELD_NAME, "child").count());
+                ClassWithValueDefinedNames child = fingerprintRealm.where(ClassWithValueDefinedNames.class)
+                        .equalTo("parents." + ClassWithValueDefinedNames.JAVA_FIELD_NAME, "parent")
+                        .findFirst();
+                assertNotNull(child);
+                assertEquals("child", child.field);
+                assertEquals(1, child.parents.size());
+            } finally {
+                fingerprintRealm.close();
+            }
+        }
+    }
 
     @Test
     public void waitForChange_emptyDataChange() throws InterruptedException {
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.realm.entities.AllTypes;
+import io.realm.log.RealmLog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(AndroidJUnit4.class)
+public class RealmVersionDiagnosticsTests {
+
+    @Rule
+    public final TestRealmConfigurationFactory configFactory = new TestRealmConfigurationFactory();
+
+    private RealmConfiguration config;
+
+    @Before
+    public void setUp() {
+        config = configFactory.createConfiguration();
+        RealmVersionDiagnostics.setEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        RealmVersionDiagnostics.setEnabled(false);
+        RealmVersionDiagnostics.setRecordStackTraces(false);
+        RealmVersionDiagnostics.stopWatchdog();
+    }
+
+    @Test
+    public void getActiveVersions_nullThrows() {
+        try {
+            //noinspection ConstantConditions
+            RealmVersionDiagnostics.getActiveVersions(null);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void getActiveVersions() {
+        assertTrue(RealmVersionDiagnostics.getActiveVersions(config).isEmpty());
+
+        Realm realm = Realm.getInstance(config);
+        DynamicRealm dynamicRealm = DynamicRealm.getInstance(config);
+        try {
+            List<RealmVersionDiagnostics.ActiveVersion> versions = RealmVersionDiagnostics.getActiveVersions(config);
+            assertEquals(1, versions.size());
+            List<RealmVersionDiagnostics.VersionHolder> holders = versions.get(0).getHolders();
+            assertEquals(2, holders.size());
+            for (RealmVersionDiagnostics.VersionHolder holder : holders) {
+                assertEquals(Thread.currentThread().getName(), holder.getThreadName());
+                assertFalse(holder.isFrozen());
+                assertEquals(versions.get(0).getVersion(), holder.getVersion());
+                assertNull(holder.getCreationStackTrace());
+            }
+            assertTrue(holders.get(0).isDynamic() != holders.get(1).isDynamic());
+        } finally {
+            dynamicRealm.close();
+            realm.close();
+        }
+
+        assertTrue(RealmVersionDiagnostics.getActiveVersions(config).isEmpty());
+    }
+
+    @Test
+    public void getActiveVersions_disabledDoesNotTrackInstances() {
+        RealmVersionDiagnostics.setEnabled(false);
+        assertFalse(RealmVersionDiagnostics.isEnabled());
+        Realm realm = Realm.getInstance(config);
+        try {
+            assertNull(realm.versionHolder);
+            assertTrue(RealmVersionDiagnostics.getActiveVersions(config).isEmpty());
+
+            // Instances opened before tracking was enabled stay untracked.
+            RealmVersionDiagnostics.setEnabled(true);
+            realm.beginTransaction();
+            realm.commitTransaction();
+            assertTrue(RealmVersionDiagnostics.getActiveVersions(config).isEmpty());
+        } finally {
+            realm.close();
+        }
+    }
+
+    @Test
+    public void getActiveVersions_frozenRealmHoldsOldVersion() {
+        Realm realm = Realm.getInstance(config);
+        try {
+            Realm frozenRealm = realm.freeze();
+            realm.beginTransaction();
+            realm.createObject(AllTypes.class);
+            realm.commitTransaction();
+
+            List<RealmVersionDiagnostics.ActiveVersion> versions = RealmVersionDiagnostics.getActiveVersions(config);
+            assertEquals(2, versions.size());
+            assertTrue(versions.get(0).getVersion() < versions.get(1).getVersion());
+            assertEquals(1, versions.get(0).getHolders().size());
+            assertTrue(versions.get(0).getHolders().get(0).isFrozen());
+            assertFalse(versions.get(1).getHolders().get(0).isFrozen());
+
+            frozenRealm.close();
+            assertEquals(1, RealmVersionDiagnostics.getActiveVersions(config).size());
+        } finally {
+            realm.close();
+        }
+    }
+
+    @Test
+    public void recordStackTraces() {
+        assertFalse(RealmVersionDiagnostics.isRecordingStackTraces());
+        RealmVersionDiagnostics.setRecordStackTraces(true);
+        assertTrue(RealmVersionDiagnostics.isRecordingStackTraces());
+
+        Realm realm = Realm.getInstance(config);
+        try {
+            RealmVersionDiagnostics.VersionHolder holder =
+                    RealmVersionDiagnostics.getActiveVersions(config).get(0).getHolders().get(0);
+            StackTraceElement[] stackTrace = holder.getCreationStackTrace();
+            assertNotNull(stackTrace);
+            boolean foundTest = false;
+            for (StackTraceElement element : stackTrace) {
+                if (element.getMethodName().equals("recordStackTraces")) {
+                    foundTest = true;
+                    break;
+                }
+            }
+            assertTrue(foundTest);
+        } finally {
+            realm.close();
+        }
+    }
+
+    @Test
+    public void startWatchdog_invalidArgumentsThrows() {
+        try {
+            RealmVersionDiagnostics.startWatchdog(0, TimeUnit.SECONDS);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            //noinspection ConstantConditions
+            RealmVersionDiagnostics.startWatchdog(1, null);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void checkActiveVersions_warnsOnceForOutdatedVersion() {
+        TestHelper.TestLogger testLogger = new TestHelper.TestLogger();
+        RealmLog.add(testLogger);
+        Realm realm = Realm.getInstance(config);
+        try {
+            // Holding the latest version is not reported.
+            assertEquals(0, RealmVersionDiagnostics.checkActiveVersions(0));
+
+            Realm frozenRealm = realm.freeze();
+            realm.beginTransaction();
+            realm.createObject(AllTypes.class);
+            realm.commitTransaction();
+
+            assertEquals(1, RealmVersionDiagnostics.checkActiveVersions(0));
+            assertNotNull(testLogger.message);
+            assertTrue(testLogger.message.contains("Realm (frozen)"));
+            assertTrue(testLogger.message.contains(config.getPath()));
+
+            // The same version is only reported once.
+            assertEquals(0, RealmVersionDiagnostics.checkActiveVersions(0));
+            frozenRealm.close();
+        } finally {
+            realm.close();
+            RealmLog.remove(testLogger);
+        }
+    }
+}
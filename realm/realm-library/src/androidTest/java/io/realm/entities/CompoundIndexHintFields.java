@@ -0,0 +1,34 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.entities;
+
+import java.util.Date;
+
+import io.realm.RealmObject;
+import io.realm.annotations.CompoundIndexHint;
+import io.realm.annotations.Index;
+
+@CompoundIndexHint(fields = {"ownerId", "updatedAt"})
+public class CompoundIndexHintFields extends RealmObject {
+    public static final String CLASS_NAME = CompoundIndexHintFields.class.getSimpleName();
+    public static final String FIELD_OWNER_ID = "ownerId";
+    public static final String FIELD_UPDATED_AT = "updatedAt";
+
+    @Index
+    public long ownerId;
+    public Date updatedAt;
+}
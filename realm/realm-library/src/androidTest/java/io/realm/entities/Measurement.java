@@ -0,0 +1,36 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.entities;
+
+import java.util.Date;
+
+import io.realm.RealmObject;
+
+public class Measurement extends RealmObject {
+    public static final String CLASS_NAME = Measurement.class.getSimpleName();
+    public static final String FIELD_SENSOR = "sensor";
+    public static final String FIELD_RECORDED_AT = "recordedAt";
+    public static final String FIELD_READING = "reading";
+    public static final String FIELD_OPTIONAL_READING = "optionalReading";
+    public static final String FIELD_TEMPERATURE = "temperature";
+
+    public String sensor;
+    public Date recordedAt;
+    public long reading;
+    public Long optionalReading;
+    public double temperature;
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.internal;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+
+import io.realm.RealmConfiguration;
+import io.realm.RealmFieldType;
+import io.realm.TestRealmConfigurationFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(AndroidJUnit4.class)
+public class OsObjectSchemaInfoTests {
+    @Rule
+    public final TestRealmConfigurationFactory configFactory = new TestRealmConfigurationFactory();
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    private static OsObjectSchemaInfo createPersonSchema() {
+        return new OsObjectSchemaInfo.Builder("Person", "PersonTable", false, 4, 1)
+                .addPersistedProperty("", "id", RealmFieldType.INTEGER, Property.PRIMARY_KEY, !Property.INDEXED, Property.REQUIRED)
+                .addPersistedProperty("name", "náme", RealmFieldType.STRING, !Property.PRIMARY_KEY, Property.INDEXED, !Property.REQUIRED)
+                .addPersistedLinkProperty("", "friend", RealmFieldType.OBJECT, "PersonTable")
+                .addPersistedValueListProperty("", "tags", RealmFieldType.STRING_LIST, !Property.REQUIRED)
+                .addComputedLinkProperty("friendOf", "PersonTable", "friend")
+                .build();
+    }
+
+    @Test
+    public void build() {
+        OsObjectSchemaInfo info = createPersonSchema();
+
+        assertEquals("PersonTable", info.getClassName());
+        assertFalse(info.isEmbedded());
+        Property primaryKey = info.getPrimaryKeyProperty();
+        assertNotNull(primaryKey);
+        assertEquals(RealmFieldType.INTEGER, primaryKey.getType());
+        assertEquals(RealmFieldType.STRING, info.getProperty("náme").getType());
+        assertEquals(RealmFieldType.OBJECT, info.getProperty("friend").getType());
+        assertEquals("PersonTable", info.getProperty("friend").getLinkedObjectName());
+        assertEquals(RealmFieldType.STRING_LIST, info.getProperty("tags").getType());
+        assertEquals(RealmFieldType.LINKING_OBJECTS, info.getProperty("friendOf").getType());
+    }
+
+    @Test
+    public void build_fullTextIndexWithoutCoreSupportThrows() {
+        Assume.assumeFalse(Table.isFullTextIndexSupported());
+        OsObjectSchemaInfo.Builder builder = new OsObjectSchemaInfo.Builder("Text", false, 1, 0)
+                .addPersistedProperty("", "text", RealmFieldType.STRING, !Property.PRIMARY_KEY, !Property.INDEXED,
+                        Property.FULL_TEXT_INDEXED, !Property.REQUIRED);
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("text");
+        builder.build();
+    }
+
+    @Test
+    public void build_embedded() {
+        OsObjectSchemaInfo info = new OsObjectSchemaInfo.Builder("Embedded", true, 1, 0)
+                .addPersistedProperty("", "value", RealmFieldType.INTEGER, !Property.PRIMARY_KEY, !Property.INDEXED, Property.REQUIRED)
+                .build();
+
+        assertTrue(info.isEmbedded());
+        assertNull(info.getPrimaryKeyProperty());
+    }
+
+    @Test
+    public void build_invalidIndexThrows() {
+        OsObjectSchemaInfo.Builder builder = new OsObjectSchemaInfo.Builder("Invalid", false, 1, 0)
+                .addPersistedProperty("", "value", RealmFieldType.DOUBLE, !Property.PRIMARY_KEY, Property.INDEXED, Property.REQUIRED);
+
+        thrown.expect(IllegalArgumentException.class);
+        builder.build();
+    }
+
+    @Test
+    public void build_invalidPrimaryKeyTypeThrows() {
+        OsObjectSchemaInfo.Builder builder = new OsObjectSchemaInfo.Builder("Invalid", false, 1, 0)
+                .addPersistedProperty("", "value", RealmFieldType.FLOAT, Property.PRIMARY_KEY, !Property.INDEXED, Property.REQUIRED);
+
+        thrown.expect(IllegalArgumentException.class);
+        builder.build();
+    }
+
+    @Test
+    public void build_twiceThrows() {
+        OsObjectSchemaInfo.Builder builder = new OsObjectSchemaInfo.Builder("Twice", false, 0, 0);
+        builder.build();
+
+        thrown.expect(IllegalStateException.class);
+        builder.build();
+    }
+
+    @Test
+    public void getColumnDetails() {
+        RealmConfiguration config = configFactory.createConfiguration();
+        OsRealmConfig.Builder configBuilder = new OsRealmConfig.Builder(config)
+                .schemaInfo(new OsSchemaInfo(Arrays.asList(createPersonSchema())));
+        OsSharedRealm sharedRealm = OsSharedRealm.getInstance(configBuilder, OsSharedRealm.VersionID.LIVE);
+        try {
+            OsObjectSchemaInfo info = sharedRealm.getSchemaInfo().getObjectSchemaInfo("PersonTable");
+            for (String name : new String[] {"id", "náme", "friend", "tags"}) {
+                Property property = info.getProperty(name);
+                ColumnInfo.ColumnDetails details = info.getColumnDetails(name);
+                assertEquals(property.getColumnKey(), details.columnKey);
+                assertEquals(property.getType(), details.columnType);
+                assertEquals(property.getLinkedObjectName(), details.linkedClassName);
+            }
+
+            thrown.expect(IllegalStateException.class);
+            info.getColumnDetails("unknown");
+        } finally {
+            sharedRealm.close();
+        }
+    }
+}
@@ -7,6 +7,11 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
 import io.realm.Realm;
 import io.realm.TestHelper;
 
@@ -14,6 +19,7 @@ import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertNull;
 import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
 
 @RunWith(AndroidJUnit4.class)
 public class RealmLogTests {
@@ -109,4 +115,144 @@ public class RealmLogTests {
         assertTrue(testLogger.message.equals("45"));
         RealmLog.nativeCloseCoreLoggerBridge(ptr);
     }
+
+    @Test
+    public void setLevel_category() {
+        TestHelper.TestLogger testLogger = new TestHelper.TestLogger(LogLevel.TRACE);
+        RealmLog.add(testLogger);
+        RealmLog.setLevel(LogLevel.WARN);
+        RealmLog.setLevel(LogCategory.SYNC, LogLevel.DEBUG);
+        try {
+            assertEquals(LogLevel.DEBUG, RealmLog.getLevel(LogCategory.SYNC));
+            assertEquals(LogLevel.WARN, RealmLog.getLevel(LogCategory.QUERY));
+            assertTrue(RealmLog.isLoggable(LogCategory.SYNC, LogLevel.DEBUG));
+            assertFalse(RealmLog.isLoggable(LogCategory.QUERY, LogLevel.DEBUG));
+            assertFalse(RealmLog.isLoggable(LogLevel.DEBUG));
+
+            // More verbose than the global level, so the native side must not filter it.
+            RealmLog.log(LogCategory.SYNC, LogLevel.DEBUG, null, "SYNC_%d", 1);
+            assertEquals("SYNC_1", testLogger.message);
+            RealmLog.log(LogCategory.QUERY, LogLevel.DEBUG, null, "QUERY_%d", 1);
+            assertEquals("SYNC_1", testLogger.message);
+
+            RealmLog.resetLevel(LogCategory.SYNC);
+            assertEquals(LogLevel.WARN, RealmLog.getLevel(LogCategory.SYNC));
+            RealmLog.log(LogCategory.SYNC, LogLevel.DEBUG, null, "SYNC_%d", 2);
+            assertEquals("SYNC_1", testLogger.message);
+        } finally {
+            RealmLog.resetLevel(LogCategory.SYNC);
+            RealmLog.remove(testLogger);
+        }
+    }
+
+    @Test
+    public void setLevel_category_invalidArgumentsThrows() {
+        try {
+            RealmLog.setLevel(LogCategory.QUERY, LogLevel.OFF + 1);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            //noinspection ConstantConditions
+            RealmLog.setLevel(null, LogLevel.DEBUG);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void asyncLogging() {
+        TestHelper.TestLogger testLogger = new TestHelper.TestLogger();
+        RealmLog.add(testLogger);
+        RealmLog.enableAsyncLogging(16);
+        try {
+            assertTrue(RealmLog.isAsyncLoggingEnabled());
+            RealmLog.fatal("TEST_%s", "ASYNC");
+        } finally {
+            // Writes the buffered events before returning.
+            RealmLog.disableAsyncLogging();
+            RealmLog.remove(testLogger);
+        }
+        assertFalse(RealmLog.isAsyncLoggingEnabled());
+        assertEquals("TEST_ASYNC", testLogger.message);
+        assertEquals(0, RealmLog.getDroppedEventCount());
+    }
+
+    @Test
+    public void asyncLogging_formatsArgumentsOnLoggingThread() {
+        final Thread loggingThread = Thread.currentThread();
+        Object threadConfinedArg = new Object() {
+            @Override
+            public String toString() {
+                if (Thread.currentThread() != loggingThread) {
+                    throw new IllegalStateException("Accessed from the wrong thread.");
+                }
+                return "CONFINED";
+            }
+        };
+        TestHelper.TestLogger testLogger = new TestHelper.TestLogger();
+        RealmLog.add(testLogger);
+        RealmLog.enableAsyncLogging(16);
+        try {
+            RealmLog.fatal("TEST_%s", threadConfinedArg);
+        } finally {
+            RealmLog.disableAsyncLogging();
+            RealmLog.remove(testLogger);
+        }
+        assertEquals("TEST_CONFINED", testLogger.message);
+    }
+
+    @Test
+    public void asyncRealmLogger_dropsEventsWhenFull() throws InterruptedException {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> messages = Collections.synchronizedList(new ArrayList<String>());
+        AsyncRealmLogger logger = new AsyncRealmLogger(new RealmLogger() {
+            @Override
+            public void log(int level, String tag, Throwable throwable, String message) {
+                messages.add(message);
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }, 2);
+
+        // The first event blocks the writer thread, the next two fill the buffer and the last two are dropped.
+        logger.log(LogLevel.INFO, "TAG", null, "1");
+        blocked.await();
+        for (int i = 2; i <= 5; i++) {
+            logger.log(LogLevel.INFO, "TAG", null, Integer.toString(i));
+        }
+        assertEquals(2, logger.getDroppedCount());
+
+        release.countDown();
+        logger.close();
+        assertEquals(4, messages.size());
+        assertEquals("3", messages.get(2));
+        assertTrue(messages.get(3).startsWith("Dropped 2 log events"));
+    }
+
+    @Test
+    public void asyncRealmLogger_logAfterCloseIsDropped() {
+        final List<String> messages = Collections.synchronizedList(new ArrayList<String>());
+        AsyncRealmLogger logger = new AsyncRealmLogger(new RealmLogger() {
+            @Override
+            public void log(int level, String tag, Throwable throwable, String message) {
+                messages.add(message);
+            }
+        }, 4);
+
+        logger.log(LogLevel.INFO, "TAG", null, "1");
+        logger.close();
+        logger.log(LogLevel.INFO, "TAG", null, "2");
+        // Closing again returns right away.
+        logger.close();
+
+        assertEquals(1, messages.size());
+        assertEquals("1", messages.get(0));
+        assertEquals(1, logger.getDroppedCount());
+    }
 }
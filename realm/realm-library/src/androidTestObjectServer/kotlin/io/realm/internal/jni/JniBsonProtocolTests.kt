@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.internal.jni
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import io.realm.mongodb.AppConfiguration
+import io.realm.mongodb.ErrorCode
+import io.realm.util.assertFailsWithErrorCode
+import org.bson.BsonArray
+import org.bson.BsonDocument
+import org.bson.BsonInt32
+import org.bson.BsonValue
+import org.bson.Document
+import org.bson.types.Decimal128
+import org.bson.types.ObjectId
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.nio.ByteBuffer
+import java.util.Date
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+@RunWith(AndroidJUnit4::class)
+class JniBsonProtocolTests {
+
+    private val registry = AppConfiguration.DEFAULT_BSON_CODEC_REGISTRY
+
+    private val document = Document("_id", ObjectId())
+            .append("name", "Realm")
+            .append("count", 42L)
+            .append("price", Decimal128.parse("4.2"))
+            .append("created", Date(1_600_000_000_000L))
+            .append("tags", listOf("a", "b"))
+            .append("nested", Document("value", 1))
+
+    @After
+    fun tearDown() {
+        JniBsonProtocol.setBinaryTransportEnabled(true)
+    }
+
+    @Test
+    fun encodeArgument_binaryByDefault() {
+        assertTrue(JniBsonProtocol.isBinaryTransportEnabled())
+        val encoded = JniBsonProtocol.encodeArgument(document, registry) as ByteBuffer
+        assertTrue(encoded.isDirect)
+    }
+
+    @Test
+    fun encodeArgument_jsonWhenBinaryTransportDisabled() {
+        JniBsonProtocol.setBinaryTransportEnabled(false)
+        assertTrue(JniBsonProtocol.encodeArgument(document, registry) is String)
+    }
+
+    @Test
+    fun decodeResult_roundtrip() {
+        for (binary in listOf(true, false)) {
+            JniBsonProtocol.setBinaryTransportEnabled(binary)
+            val encoded = JniBsonProtocol.encodeArgument(document, registry)
+            assertEquals(document, JniBsonProtocol.decodeResult(encoded, Document::class.java, registry))
+        }
+    }
+
+    @Test
+    fun decodeResultList() {
+        val values = listOf(BsonInt32(1), BsonDocument("a", BsonInt32(2)), BsonArray())
+        for (binary in listOf(true, false)) {
+            JniBsonProtocol.setBinaryTransportEnabled(binary)
+            val encoded = JniBsonProtocol.encodeArgument(values, registry)
+            val decoded = JniBsonProtocol.decodeResultList(encoded, JniBsonProtocol.getCodec(BsonValue::class.java, registry))
+            assertEquals<List<BsonValue>>(values, decoded)
+        }
+    }
+
+    @Test
+    fun decodeResult_truncatedBufferThrows() {
+        val encoded = JniBsonProtocol.encodeBinary(document, JniBsonProtocol.getCodec(Document::class.java, registry))
+        val truncated = ByteBuffer.allocateDirect(encoded.capacity() - 4)
+        encoded.limit(truncated.capacity())
+        truncated.put(encoded).flip()
+        assertFailsWithErrorCode(ErrorCode.BSON_DECODING) {
+            JniBsonProtocol.decodeResult(truncated, Document::class.java, registry)
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#include "io_realm_JniCallAccounting.h"
+
+#include "util.hpp"
+#include "jni_util/jni_call_accounting.hpp"
+
+using namespace realm::jni_util;
+
+JNIEXPORT void JNICALL Java_io_realm_JniCallAccounting_nativeSetMode(JNIEnv* env, jclass, jint mode)
+{
+    try {
+        switch (mode) {
+            case io_realm_JniCallAccounting_MODE_OFF:
+            case io_realm_JniCallAccounting_MODE_COUNT:
+            case io_realm_JniCallAccounting_MODE_COUNT_AND_TIME:
+                JniCallAccounting::set_mode(static_cast<JniCallAccounting::Mode>(mode));
+                break;
+            default:
+                ThrowException(env, IllegalArgument, "Unknown accounting mode: " + std::to_string(mode));
+        }
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL Java_io_realm_JniCallAccounting_nativeReset(JNIEnv* env, jclass)
+{
+    try {
+        JniCallAccounting::reset();
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT jobjectArray JNICALL Java_io_realm_JniCallAccounting_nativeGetSnapshot(JNIEnv* env, jclass)
+{
+    try {
+        return JniCallAccounting::snapshot(env);
+    }
+    CATCH_STD()
+    return nullptr;
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+#include "io_realm_internal_ColumnValueOutputStream.h"
+
+#include <vector>
+
+#include "java_accessor.hpp"
+#include "util.hpp"
+
+using namespace realm;
+using namespace realm::_impl;
+
+static void finalize_buffer(jlong ptr)
+{
+    delete reinterpret_cast<std::vector<char>*>(ptr);
+}
+
+JNIEXPORT jlong JNICALL Java_io_realm_internal_ColumnValueOutputStream_nativeGetFinalizerPtr(JNIEnv*, jclass)
+{
+    return reinterpret_cast<jlong>(&finalize_buffer);
+}
+
+JNIEXPORT jlong JNICALL Java_io_realm_internal_ColumnValueOutputStream_nativeCreate(JNIEnv* env, jclass)
+{
+    try {
+        return reinterpret_cast<jlong>(new std::vector<char>());
+    }
+    CATCH_STD()
+    return 0;
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_ColumnValueOutputStream_nativeWrite(JNIEnv* env, jclass,
+                                                                                jlong native_ptr, jbyteArray j_data,
+                                                                                jint offset, jint length)
+{
+    try {
+        auto& buffer = *reinterpret_cast<std::vector<char>*>(native_ptr);
+        size_t old_size = buffer.size();
+        buffer.resize(old_size + static_cast<size_t>(length));
+        env->GetByteArrayRegion(j_data, offset, length, reinterpret_cast<jbyte*>(buffer.data() + old_size));
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_ColumnValueOutputStream_nativeCommit(JNIEnv* env, jclass,
+                                                                                 jlong native_ptr, jlong row_ptr,
+                                                                                 jlong column_key)
+{
+    if (!ROW_VALID(env, OBJ(row_ptr))) {
+        return;
+    }
+
+    try {
+        auto& buffer = *reinterpret_cast<std::vector<char>*>(native_ptr);
+        OBJ(row_ptr)->set(ColKey(column_key), BinaryData(buffer.empty() ? "" : buffer.data(), buffer.size()));
+        // The value has been copied into the Realm, so release the memory now rather than when the stream is
+        // garbage collected.
+        std::vector<char>().swap(buffer);
+    }
+    CATCH_STD()
+}
@@ -25,6 +25,7 @@ using namespace realm;
 static void finalize_changeset(jlong ptr);
 static jintArray index_set_to_jint_array(JNIEnv* env, const IndexSet& index_set);
 static jintArray index_set_to_indices_array(JNIEnv* env, const IndexSet& index_set);
+static const IndexSet& get_index_set(const CollectionChangeSet& change_set, jint type);
 
 static void finalize_changeset(jlong ptr)
 {
@@ -79,6 +80,20 @@ static jintArray index_set_to_indices_array(JNIEnv* env, const IndexSet& index_s
     return jint_array;
 }
 
+static const IndexSet& get_index_set(const CollectionChangeSet& change_set, jint type)
+{
+    switch (type) {
+        case io_realm_internal_OsCollectionChangeSet_TYPE_DELETION:
+            return change_set.deletions;
+        case io_realm_internal_OsCollectionChangeSet_TYPE_INSERTION:
+            return change_set.insertions;
+        case io_realm_internal_OsCollectionChangeSet_TYPE_MODIFICATION:
+            return change_set.modifications_new;
+        default:
+            REALM_UNREACHABLE();
+    }
+}
+
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsCollectionChangeSet_nativeGetFinalizerPtr(JNIEnv*, jclass)
 {
     return reinterpret_cast<jlong>(&finalize_changeset);
@@ -117,3 +132,15 @@ JNIEXPORT jintArray JNICALL Java_io_realm_internal_OsCollectionChangeSet_nativeG
             REALM_UNREACHABLE();
     }
 }
+
+JNIEXPORT jint JNICALL Java_io_realm_internal_OsCollectionChangeSet_nativeGetIndexCount(JNIEnv*, jclass,
+                                                                                        jlong native_ptr, jint type)
+{
+    // no throws
+    auto& change_set = *reinterpret_cast<CollectionChangeSet*>(native_ptr);
+    size_t count = 0;
+    for (auto& range : get_index_set(change_set, type)) {
+        count += range.second - range.first;
+    }
+    return static_cast<jint>(count);
+}
@@ -76,12 +76,14 @@ inline void check_nullable(JNIEnv* env, jlong list_ptr, jobject jobject_ptr = nu
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeGetFinalizerPtr(JNIEnv*, jclass)
 {
+    ACCOUNT_JNI_CALL();
     return reinterpret_cast<jlong>(&finalize_list);
 }
 
 JNIEXPORT jlongArray JNICALL Java_io_realm_internal_OsList_nativeCreate(JNIEnv* env, jclass, jlong shared_realm_ptr,
                                                                         jlong obj_ptr, jlong column_key)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& obj = *reinterpret_cast<realm::Obj*>(obj_ptr);
 
@@ -117,6 +119,7 @@ JNIEXPORT jlongArray JNICALL Java_io_realm_internal_OsList_nativeCreate(JNIEnv*
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeGetRow(JNIEnv* env, jclass, jlong list_ptr,
                                                                    jlong column_index)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
         auto obj = wrapper.collection().get(column_index);
@@ -129,6 +132,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeGetRow(JNIEnv* env,
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddRow(JNIEnv* env, jclass, jlong list_ptr,
                                                                   jlong target_obj_key)
 {
+    ACCOUNT_JNI_CALL();
 
     try {
         auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
@@ -140,6 +144,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddRow(JNIEnv* env, j
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertRow(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                      jlong target_obj_key)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
         wrapper.collection().insert(static_cast<size_t>(pos), ObjKey(target_obj_key));
@@ -150,6 +155,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertRow(JNIEnv* env
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetRow(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                   jlong target_obj_key)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
         wrapper.collection().set(static_cast<size_t>(pos), ObjKey(target_obj_key));
@@ -160,6 +166,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetRow(JNIEnv* env, j
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeMove(JNIEnv* env, jclass, jlong list_ptr,
                                                                 jlong source_index, jlong target_index)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
         wrapper.collection().move(source_index, target_index);
@@ -169,6 +176,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeMove(JNIEnv* env, jcl
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeRemove(JNIEnv* env, jclass, jlong list_ptr, jlong index)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
         wrapper.collection().remove(index);
@@ -178,6 +186,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeRemove(JNIEnv* env, j
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeRemoveAll(JNIEnv* env, jclass, jlong list_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
         wrapper.collection().remove_all();
@@ -187,6 +196,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeRemoveAll(JNIEnv* env
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeSize(JNIEnv* env, jclass, jlong list_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
         return wrapper.collection().size();
@@ -197,6 +207,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeSize(JNIEnv* env, jc
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeGetQuery(JNIEnv* env, jclass, jlong list_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
         auto query = wrapper.collection().get_query();
@@ -209,6 +220,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeGetQuery(JNIEnv* env
 
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsList_nativeIsValid(JNIEnv* env, jclass, jlong list_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
         return wrapper.collection().is_valid();
@@ -219,6 +231,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsList_nativeIsValid(JNIEnv* e
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeDelete(JNIEnv* env, jclass, jlong list_ptr, jlong index)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
         wrapper.collection().delete_at(S(index));
@@ -228,6 +241,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeDelete(JNIEnv* env, j
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeDeleteAll(JNIEnv* env, jclass, jlong list_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
         wrapper.collection().delete_all();
@@ -238,6 +252,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeDeleteAll(JNIEnv* env
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeStartListening(JNIEnv* env, jobject instance,
                                                                               jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ListWrapper*>(native_ptr);
         wrapper->start_listening(env, instance);
@@ -247,6 +262,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeStartListening(JNIEnv
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeStopListening(JNIEnv* env, jobject, jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ListWrapper*>(native_ptr);
         wrapper->stop_listening();
@@ -256,6 +272,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeStopListening(JNIEnv*
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddNull(JNIEnv* env, jclass, jlong list_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         check_nullable(env, list_ptr);
         add_value(env, list_ptr, Any());
@@ -265,6 +282,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddNull(JNIEnv* env,
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertNull(JNIEnv* env, jclass, jlong list_ptr, jlong pos)
 {
+    ACCOUNT_JNI_CALL();
     try {
         check_nullable(env, list_ptr);
         insert_value(env, list_ptr, pos, Any());
@@ -274,6 +292,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertNull(JNIEnv* en
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetNull(JNIEnv* env, jclass, jlong list_ptr, jlong pos)
 {
+    ACCOUNT_JNI_CALL();
     try {
         check_nullable(env, list_ptr);
         set_value(env, list_ptr, pos, Any());
@@ -283,6 +302,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetNull(JNIEnv* env,
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddLong(JNIEnv* env, jclass, jlong list_ptr, jlong value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         add_value(env, list_ptr, Any(value));
     }
@@ -292,6 +312,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddLong(JNIEnv* env,
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertLong(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                       jlong value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         insert_value(env, list_ptr, pos, Any(value));
     }
@@ -301,6 +322,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertLong(JNIEnv* en
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetLong(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                    jlong value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         set_value(env, list_ptr, pos, Any(value));
     }
@@ -310,6 +332,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetLong(JNIEnv* env,
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddDouble(JNIEnv* env, jclass, jlong list_ptr,
                                                                      jdouble value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         add_value(env, list_ptr, Any(value));
     }
@@ -319,6 +342,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddDouble(JNIEnv* env
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertDouble(JNIEnv* env, jclass, jlong list_ptr,
                                                                         jlong pos, jdouble value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         insert_value(env, list_ptr, pos, Any(value));
     }
@@ -328,6 +352,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertDouble(JNIEnv*
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetDouble(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                      jdouble value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         set_value(env, list_ptr, pos, Any(value));
     }
@@ -336,6 +361,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetDouble(JNIEnv* env
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddFloat(JNIEnv* env, jclass, jlong list_ptr, jfloat value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         add_value(env, list_ptr, Any(value));
     }
@@ -345,6 +371,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddFloat(JNIEnv* env,
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertFloat(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                        jfloat value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         insert_value(env, list_ptr, pos, Any(value));
     }
@@ -354,6 +381,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertFloat(JNIEnv* e
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetFloat(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                     jfloat value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         set_value(env, list_ptr, pos, Any(value));
     }
@@ -363,6 +391,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetFloat(JNIEnv* env,
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddBoolean(JNIEnv* env, jclass, jlong list_ptr,
                                                                       jboolean value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         add_value(env, list_ptr, Any(value));
     }
@@ -372,6 +401,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddBoolean(JNIEnv* en
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertBoolean(JNIEnv* env, jclass, jlong list_ptr,
                                                                          jlong pos, jboolean value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         insert_value(env, list_ptr, pos, Any(value));
     }
@@ -381,6 +411,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertBoolean(JNIEnv*
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetBoolean(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                       jboolean value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         set_value(env, list_ptr, pos, Any(value));
     }
@@ -390,6 +421,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetBoolean(JNIEnv* en
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddBinary(JNIEnv* env, jclass, jlong list_ptr,
                                                                      jbyteArray value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         check_nullable(env, list_ptr, value);
         JByteArrayAccessor accessor(env, value);
@@ -401,6 +433,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddBinary(JNIEnv* env
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertBinary(JNIEnv* env, jclass, jlong list_ptr,
                                                                         jlong pos, jbyteArray value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         check_nullable(env, list_ptr, value);
         JByteArrayAccessor accessor(env, value);
@@ -412,6 +445,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertBinary(JNIEnv*
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetBinary(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                      jbyteArray value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         check_nullable(env, list_ptr, value);
         JByteArrayAccessor accessor(env, value);
@@ -422,6 +456,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetBinary(JNIEnv* env
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddDate(JNIEnv* env, jclass, jlong list_ptr, jlong value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         add_value(env, list_ptr, Any(value));
     }
@@ -431,6 +466,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddDate(JNIEnv* env,
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertDate(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                       jlong value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         insert_value(env, list_ptr, pos, Any(value));
     }
@@ -440,6 +476,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertDate(JNIEnv* en
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetDate(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                    jlong value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         set_value(env, list_ptr, pos, Any(value));
     }
@@ -449,6 +486,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetDate(JNIEnv* env,
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddString(JNIEnv* env, jclass, jlong list_ptr,
                                                                      jstring value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         check_nullable(env, list_ptr, value);
         JStringAccessor accessor(env, value);
@@ -460,6 +498,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddString(JNIEnv* env
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertString(JNIEnv* env, jclass, jlong list_ptr,
                                                                         jlong pos, jstring value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         check_nullable(env, list_ptr, value);
         JStringAccessor accessor(env, value);
@@ -471,6 +510,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertString(JNIEnv*
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetString(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                      jstring value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         check_nullable(env, list_ptr, value);
         JStringAccessor accessor(env, value);
@@ -482,6 +522,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetString(JNIEnv* env
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddDecimal128(JNIEnv* env, jclass, jlong list_ptr,
                                                                          jlong j_low_value, jlong j_high_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
           Decimal128::Bid128 raw {static_cast<uint64_t>(j_low_value), static_cast<uint64_t>(j_high_value)};
           add_value(env, list_ptr, Any(Decimal128(raw)));
@@ -492,6 +533,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddDecimal128(JNIEnv*
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertDecimal128(JNIEnv* env, jclass, jlong list_ptr,
                                                                             jlong pos, jlong j_low_value, jlong j_high_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         Decimal128::Bid128 raw {static_cast<uint64_t>(j_low_value), static_cast<uint64_t>(j_high_value)};
         insert_value(env, list_ptr, pos, Any(Decimal128(raw)));
@@ -502,6 +544,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertDecimal128(JNIE
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetDecimal128(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                          jlong j_high_value, jlong j_low_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         Decimal128::Bid128 raw {static_cast<uint64_t>(j_low_value), static_cast<uint64_t>(j_high_value)};
         set_value(env, list_ptr, pos, Any(Decimal128(raw)));
@@ -512,6 +555,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetDecimal128(JNIEnv*
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddObjectId(JNIEnv* env, jclass, jlong list_ptr,
                                                                        jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
 
     try {
         JStringAccessor value(env, j_value);
@@ -523,6 +567,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddObjectId(JNIEnv* e
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertObjectId(JNIEnv* env, jclass, jlong list_ptr,
                                                                           jlong pos, jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor value(env, j_value);
         insert_value(env, list_ptr, pos, Any(ObjectId(StringData(value).data())));
@@ -533,6 +578,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertObjectId(JNIEnv
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetObjectId(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                        jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor value(env, j_value);
         set_value(env, list_ptr, pos, Any(ObjectId(StringData(value).data())));
@@ -543,6 +589,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetObjectId(JNIEnv* e
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddUUID(JNIEnv* env, jclass, jlong list_ptr,
                                                                        jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor value(env, j_value);
         add_value(env, list_ptr, Any(UUID(StringData(value).data())));
@@ -553,6 +600,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddUUID(JNIEnv* env,
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertUUID(JNIEnv* env, jclass, jlong list_ptr,
                                                                           jlong pos, jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor value(env, j_value);
         insert_value(env, list_ptr, pos, Any(UUID(StringData(value).data())));
@@ -563,6 +611,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertUUID(JNIEnv* en
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetUUID(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                        jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor value(env, j_value);
         set_value(env, list_ptr, pos, Any(UUID(StringData(value).data())));
@@ -573,6 +622,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetUUID(JNIEnv* env,
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddRealmAny(JNIEnv* env, jclass, jlong list_ptr,
                                                                    jlong mixed_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue*>(mixed_ptr);
         add_value(env, list_ptr, Any(java_value.to_mixed()));
@@ -583,6 +633,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddRealmAny(JNIEnv* e
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertRealmAny(JNIEnv* env, jclass, jlong list_ptr,
                                                                       jlong pos, jlong mixed_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue*>(mixed_ptr);
         insert_value(env, list_ptr, pos, Any(java_value.to_mixed()));
@@ -593,6 +644,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertRealmAny(JNIEnv
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetRealmAny(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
                                                                    jlong mixed_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue*>(mixed_ptr);
         set_value(env, list_ptr, pos, Any(java_value.to_mixed()));
@@ -602,6 +654,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetRealmAny(JNIEnv* e
 
 JNIEXPORT jobject JNICALL Java_io_realm_internal_OsList_nativeGetValue(JNIEnv* env, jclass, jlong list_ptr, jlong pos)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ListWrapper*>(list_ptr);
         JavaAccessorContext context(env);
@@ -614,6 +667,7 @@ JNIEXPORT jobject JNICALL Java_io_realm_internal_OsList_nativeGetValue(JNIEnv* e
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeCreateAndAddEmbeddedObject(JNIEnv* env, jclass, jlong native_list_ptr, jlong j_index)
 {
+    ACCOUNT_JNI_CALL();
     try {
         List& list = reinterpret_cast<ListWrapper*>(native_list_ptr)->collection();
         auto& realm = list.get_realm();
@@ -633,6 +687,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeCreateAndAddEmbedded
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeCreateAndSetEmbeddedObject(JNIEnv* env, jclass, jlong native_list_ptr, jlong j_index)
 {
+    ACCOUNT_JNI_CALL();
     try {
         List& list = reinterpret_cast<ListWrapper*>(native_list_ptr)->collection();
         auto& realm = list.get_realm();
@@ -651,6 +706,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeCreateAndSetEmbedded
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsList_nativeFreeze(JNIEnv* env, jclass, jlong native_list_ptr, jlong frozen_realm_native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ListWrapper*>(native_list_ptr);
         auto frozen_realm = *(reinterpret_cast<SharedRealm*>(frozen_realm_native_ptr));
@@ -37,12 +37,14 @@ void finalize_map(jlong ptr) {
 }
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsMap_nativeGetFinalizerPtr(JNIEnv*, jclass) {
+    ACCOUNT_JNI_CALL();
     return reinterpret_cast<jlong>(&finalize_map);
 }
 
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsMap_nativeCreate(JNIEnv* env, jclass, jlong shared_realm_ptr,
                                           jlong obj_ptr, jlong column_key) {
+    ACCOUNT_JNI_CALL();
     try {
         auto obj = *reinterpret_cast<realm::Obj*>(obj_ptr);
         auto shared_realm = *reinterpret_cast<SharedRealm*>(shared_realm_ptr);
@@ -80,6 +82,7 @@ Java_io_realm_internal_OsMap_nativeCreate(JNIEnv* env, jclass, jlong shared_real
 JNIEXPORT jobject JNICALL
 Java_io_realm_internal_OsMap_nativeGetValue(JNIEnv* env, jclass, jlong wrapper_ptr,
                                             jstring j_key) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -126,6 +129,7 @@ Java_io_realm_internal_OsMap_nativeGetValue(JNIEnv* env, jclass, jlong wrapper_p
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_OsMap_nativeGetRealmAnyPtr(JNIEnv *env, jclass, jlong wrapper_ptr,
                                                jstring j_key) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -142,6 +146,7 @@ Java_io_realm_internal_OsMap_nativeGetRealmAnyPtr(JNIEnv *env, jclass, jlong wra
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_OsMap_nativeGetRow(JNIEnv* env, jclass, jlong wrapper_ptr,
                                           jstring j_key) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -161,6 +166,7 @@ Java_io_realm_internal_OsMap_nativeGetRow(JNIEnv* env, jclass, jlong wrapper_ptr
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativePutRealmAny(JNIEnv* env, jclass, jlong wrapper_ptr, jstring j_key,
                                             jlong mixed_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -175,6 +181,7 @@ Java_io_realm_internal_OsMap_nativePutRealmAny(JNIEnv* env, jclass, jlong wrappe
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativePutNull(JNIEnv* env, jclass, jlong wrapper_ptr,
                                            jstring j_key) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -187,6 +194,7 @@ Java_io_realm_internal_OsMap_nativePutNull(JNIEnv* env, jclass, jlong wrapper_pt
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativePutLong(JNIEnv* env, jclass, jlong wrapper_ptr,
                                            jstring j_key, jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -200,6 +208,7 @@ Java_io_realm_internal_OsMap_nativePutLong(JNIEnv* env, jclass, jlong wrapper_pt
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativePutFloat(JNIEnv* env, jclass, jlong wrapper_ptr,
                                             jstring j_key, jfloat j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -213,6 +222,7 @@ Java_io_realm_internal_OsMap_nativePutFloat(JNIEnv* env, jclass, jlong wrapper_p
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativePutDouble(JNIEnv* env, jclass, jlong wrapper_ptr,
                                              jstring j_key, jdouble j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -226,6 +236,7 @@ Java_io_realm_internal_OsMap_nativePutDouble(JNIEnv* env, jclass, jlong wrapper_
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativePutString(JNIEnv* env, jclass, jlong wrapper_ptr,
                                              jstring j_key, jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -240,6 +251,7 @@ Java_io_realm_internal_OsMap_nativePutString(JNIEnv* env, jclass, jlong wrapper_
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativePutBoolean(JNIEnv* env, jclass, jlong wrapper_ptr,
                                               jstring j_key, jboolean j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -253,6 +265,7 @@ Java_io_realm_internal_OsMap_nativePutBoolean(JNIEnv* env, jclass, jlong wrapper
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativePutDate(JNIEnv* env, jclass, jlong wrapper_ptr,
                                            jstring j_key, jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -267,6 +280,7 @@ JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativePutDecimal128(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                  jstring j_key, jlong j_high_value,
                                                  jlong j_low_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -282,6 +296,7 @@ Java_io_realm_internal_OsMap_nativePutDecimal128(JNIEnv* env, jclass, jlong wrap
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativePutBinary(JNIEnv* env, jclass, jlong wrapper_ptr,
                                              jstring j_key, jbyteArray j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -296,6 +311,7 @@ Java_io_realm_internal_OsMap_nativePutBinary(JNIEnv* env, jclass, jlong wrapper_
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativePutObjectId(JNIEnv* env, jclass, jlong wrapper_ptr, jstring j_key,
                                                jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -313,6 +329,7 @@ Java_io_realm_internal_OsMap_nativePutObjectId(JNIEnv* env, jclass, jlong wrappe
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativePutUUID(JNIEnv* env, jclass, jlong wrapper_ptr, jstring j_key,
                                            jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -327,6 +344,7 @@ Java_io_realm_internal_OsMap_nativePutUUID(JNIEnv* env, jclass, jlong wrapper_pt
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativePutRow(JNIEnv* env, jclass, jlong wrapper_ptr, jstring j_key,
                                           jlong j_obj_key) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -338,6 +356,7 @@ Java_io_realm_internal_OsMap_nativePutRow(JNIEnv* env, jclass, jlong wrapper_ptr
 
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativeClear(JNIEnv* env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -348,6 +367,7 @@ Java_io_realm_internal_OsMap_nativeClear(JNIEnv* env, jclass, jlong wrapper_ptr)
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_OsMap_nativeSize(JNIEnv* env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -360,6 +380,7 @@ Java_io_realm_internal_OsMap_nativeSize(JNIEnv* env, jclass, jlong wrapper_ptr)
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsMap_nativeContainsKey(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                jstring j_key) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -372,6 +393,7 @@ Java_io_realm_internal_OsMap_nativeContainsKey(JNIEnv* env, jclass, jlong wrappe
 
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsMap_nativeIsValid(JNIEnv* env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -384,6 +406,7 @@ Java_io_realm_internal_OsMap_nativeIsValid(JNIEnv* env, jclass, jlong wrapper_pt
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativeRemove(JNIEnv* env, jclass, jlong wrapper_ptr,
                                           jstring j_key) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -395,6 +418,7 @@ Java_io_realm_internal_OsMap_nativeRemove(JNIEnv* env, jclass, jlong wrapper_ptr
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_OsMap_nativeKeys(JNIEnv* env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -410,6 +434,7 @@ Java_io_realm_internal_OsMap_nativeKeys(JNIEnv* env, jclass, jlong wrapper_ptr)
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_OsMap_nativeValues(JNIEnv* env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -426,6 +451,7 @@ Java_io_realm_internal_OsMap_nativeValues(JNIEnv* env, jclass, jlong wrapper_ptr
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_OsMap_nativeFreeze(JNIEnv* env, jclass, jlong wrapper_ptr,
                                           jlong realm_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -441,6 +467,7 @@ JNIEXPORT jlong JNICALL
 Java_io_realm_internal_OsMap_nativeCreateAndPutEmbeddedObject(JNIEnv* env, jclass,
                                                               jlong wrapper_ptr,
                                                               jstring j_key) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -460,6 +487,7 @@ Java_io_realm_internal_OsMap_nativeCreateAndPutEmbeddedObject(JNIEnv* env, jclas
 
 JNIEXPORT jobjectArray JNICALL
 Java_io_realm_internal_OsMap_nativeGetEntryForModel(JNIEnv* env, jclass, jlong wrapper_ptr, jint j_pos) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -482,6 +510,7 @@ Java_io_realm_internal_OsMap_nativeGetEntryForModel(JNIEnv* env, jclass, jlong w
 
 JNIEXPORT jobjectArray JNICALL
 Java_io_realm_internal_OsMap_nativeGetEntryForRealmAny(JNIEnv* env, jclass, jlong wrapper_ptr, jint j_pos) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -502,6 +531,7 @@ Java_io_realm_internal_OsMap_nativeGetEntryForRealmAny(JNIEnv* env, jclass, jlon
 JNIEXPORT jobjectArray JNICALL
 Java_io_realm_internal_OsMap_nativeGetEntryForPrimitive(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                         jint j_pos) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -559,6 +589,7 @@ Java_io_realm_internal_OsMap_nativeGetEntryForPrimitive(JNIEnv* env, jclass, jlo
 
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsMap_nativeContainsNull(JNIEnv* env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -574,6 +605,7 @@ Java_io_realm_internal_OsMap_nativeContainsNull(JNIEnv* env, jclass, jlong wrapp
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsMap_nativeContainsLong(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                 jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -589,6 +621,7 @@ Java_io_realm_internal_OsMap_nativeContainsLong(JNIEnv* env, jclass, jlong wrapp
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsMap_nativeContainsBoolean(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                    jboolean j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -604,6 +637,7 @@ Java_io_realm_internal_OsMap_nativeContainsBoolean(JNIEnv* env, jclass, jlong wr
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsMap_nativeContainsString(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                   jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -620,6 +654,7 @@ Java_io_realm_internal_OsMap_nativeContainsString(JNIEnv* env, jclass, jlong wra
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsMap_nativeContainsBinary(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                   jbyteArray j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -636,6 +671,7 @@ Java_io_realm_internal_OsMap_nativeContainsBinary(JNIEnv* env, jclass, jlong wra
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsMap_nativeContainsFloat(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                  jfloat j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -651,6 +687,7 @@ Java_io_realm_internal_OsMap_nativeContainsFloat(JNIEnv* env, jclass, jlong wrap
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsMap_nativeContainsObjectId(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                     jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -668,6 +705,7 @@ Java_io_realm_internal_OsMap_nativeContainsObjectId(JNIEnv* env, jclass, jlong w
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsMap_nativeContainsUUID(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                 jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -685,6 +723,7 @@ Java_io_realm_internal_OsMap_nativeContainsUUID(JNIEnv* env, jclass, jlong wrapp
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsMap_nativeContainsDate(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                 jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -701,6 +740,7 @@ Java_io_realm_internal_OsMap_nativeContainsDate(JNIEnv* env, jclass, jlong wrapp
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsMap_nativeContainsDecimal128(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                       jlong j_high_value, jlong j_low_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -718,6 +758,7 @@ Java_io_realm_internal_OsMap_nativeContainsDecimal128(JNIEnv* env, jclass, jlong
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsMap_nativeContainsRealmAny(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                  jlong mixed_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -735,6 +776,7 @@ Java_io_realm_internal_OsMap_nativeContainsRealmAny(JNIEnv* env, jclass, jlong w
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsMap_nativeContainsRealmModel(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                       jlong j_obj_key, jlong j_table_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         auto& dictionary = wrapper.collection();
@@ -756,6 +798,7 @@ Java_io_realm_internal_OsMap_nativeContainsRealmModel(JNIEnv* env, jclass, jlong
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativeStartListening(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                   jobject j_observable_map) {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         wrapper->start_listening(env, j_observable_map);
@@ -765,6 +808,7 @@ Java_io_realm_internal_OsMap_nativeStartListening(JNIEnv* env, jclass, jlong wra
 
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsMap_nativeStopListening(JNIEnv* env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ObservableDictionaryWrapper*>(wrapper_ptr);
         wrapper->stop_listening();
@@ -271,12 +271,14 @@ static inline Obj do_create_row_with_uuid_primary_key(JNIEnv* env, jlong shared_
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeGetFinalizerPtr(JNIEnv*, jclass)
 {
+    ACCOUNT_JNI_CALL();
     return reinterpret_cast<jlong>(&finalize_object);
 }
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreate(JNIEnv*, jclass, jlong shared_realm_ptr,
                                                                      jlong obj_ptr)
 {
+    ACCOUNT_JNI_CALL();
     // FIXME: Currently OsObject is only used for object notifications. Since the Object Store's schema has not been
     // fully integrated with realm-java, we pass a dummy ObjectSchema to create Object.
     static const ObjectSchema dummy_object_schema;
@@ -290,6 +292,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreate(JNIEnv*, jc
 JNIEXPORT void JNICALL Java_io_realm_internal_OsObject_nativeStartListening(JNIEnv* env, jobject instance,
                                                                             jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ObjectWrapper*>(native_ptr);
         if (!wrapper->m_row_object_weak_ref) {
@@ -309,6 +312,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsObject_nativeStartListening(JNIE
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsObject_nativeStopListening(JNIEnv* env, jobject, jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ObjectWrapper*>(native_ptr);
         wrapper->m_notification_token = {};
@@ -318,6 +322,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsObject_nativeStopListening(JNIEn
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateRow(JNIEnv* env, jclass, jlong table_ref_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TBL_REF(table_ref_ptr);
         Obj obj = table->create_object();
@@ -329,6 +334,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateRow(JNIEnv*
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateNewObject(JNIEnv* env, jclass, jlong table_ref_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TBL_REF(table_ref_ptr);
         Obj* obj = new Obj(table->create_object());
@@ -342,6 +348,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateNewObjectWit
     JNIEnv* env, jclass, jlong shared_realm_ptr, jlong table_ref_ptr, jlong pk_column_ndx, jlong pk_value,
     jboolean is_pk_null)
 {
+    ACCOUNT_JNI_CALL();
     try {
         Obj obj =
             do_create_row_with_primary_key(env, shared_realm_ptr, table_ref_ptr, pk_column_ndx, pk_value, is_pk_null);
@@ -357,6 +364,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateRowWithLongP
     JNIEnv* env, jclass, jlong shared_realm_ptr, jlong table_ref_ptr, jlong pk_column_ndx, jlong pk_value,
     jboolean is_pk_null)
 {
+    ACCOUNT_JNI_CALL();
     try {
         Obj obj = do_create_row_with_primary_key(env, shared_realm_ptr, table_ref_ptr, pk_column_ndx, pk_value, is_pk_null);
         return (jlong)(obj.get_key().value);
@@ -368,6 +376,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateRowWithLongP
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateNewObjectWithStringPrimaryKey(
     JNIEnv* env, jclass, jlong shared_realm_ptr, jlong table_ref_ptr, jlong pk_column_ndx, jstring pk_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         Obj obj = do_create_row_with_primary_key(env, shared_realm_ptr, table_ref_ptr, pk_column_ndx, pk_value);
         if (bool(obj)) {
@@ -381,6 +390,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateNewObjectWit
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateRowWithStringPrimaryKey(
     JNIEnv* env, jclass, jlong shared_realm_ptr, jlong table_ref_ptr, jlong pk_column_ndx, jstring pk_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         Obj obj = do_create_row_with_primary_key(env, shared_realm_ptr, table_ref_ptr, pk_column_ndx, pk_value);
         return (jlong)(obj.get_key().value);
@@ -392,6 +402,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateRowWithStrin
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateRowWithObjectIdPrimaryKey(
         JNIEnv* env, jclass, jlong shared_realm_ptr, jlong table_ref_ptr, jlong pk_column_ndx, jstring pk_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         Obj obj = do_create_row_with_object_id_primary_key(env, shared_realm_ptr, table_ref_ptr, pk_column_ndx, pk_value);
         return (jlong)(obj.get_key().value);
@@ -403,6 +414,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateRowWithObjec
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateNewObjectWithObjectIdPrimaryKey(
         JNIEnv* env, jclass, jlong shared_realm_ptr, jlong table_ref_ptr, jlong pk_column_ndx, jstring pk_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         Obj obj = do_create_row_with_object_id_primary_key(env, shared_realm_ptr, table_ref_ptr, pk_column_ndx, pk_value);
         if (bool(obj)) {
@@ -416,6 +428,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateNewObjectWit
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateRowWithUUIDPrimaryKey(
         JNIEnv* env, jclass, jlong shared_realm_ptr, jlong table_ref_ptr, jlong pk_column_ndx, jstring pk_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         Obj obj = do_create_row_with_uuid_primary_key(env, shared_realm_ptr, table_ref_ptr, pk_column_ndx, pk_value);
         return (jlong)(obj.get_key().value);
@@ -427,6 +440,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateRowWithUUIDP
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateNewObjectWithUUIDPrimaryKey(
         JNIEnv* env, jclass, jlong shared_realm_ptr, jlong table_ref_ptr, jlong pk_column_ndx, jstring pk_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         Obj obj = do_create_row_with_uuid_primary_key(env, shared_realm_ptr, table_ref_ptr, pk_column_ndx, pk_value);
         if (bool(obj)) {
@@ -442,6 +456,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateNewObjectWit
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateEmbeddedObject(
     JNIEnv* env, jclass, jlong j_parent_table_ptr, jlong j_parent_object_key, jlong j_parent_column_key)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TBL_REF(j_parent_table_ptr);
         ObjKey obj_key(static_cast<int64_t>(j_parent_object_key));
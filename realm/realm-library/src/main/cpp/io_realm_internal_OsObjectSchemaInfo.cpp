@@ -26,6 +26,9 @@
 #include "jni_util/java_exception_thrower.hpp"
 #include "util.hpp"
 
+#include <memory>
+#include <vector>
+
 using namespace realm;
 using namespace realm::jni_util;
 using namespace realm::_impl;
@@ -35,58 +38,151 @@ static void finalize_object_schema(jlong ptr)
     delete reinterpret_cast<ObjectSchema*>(ptr);
 }
 
-JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObjectSchemaInfo_nativeCreateRealmObjectSchema(JNIEnv* env, jclass,
-                                                                                                jstring j_public_class_name,
-                                                                                                jstring j_internal_class_name,
-                                                                                                jboolean j_embedded)
+namespace {
+
+// Reads the blob written by OsObjectSchemaInfo.Builder. Integers are big-endian, strings are prefixed with their
+// UTF-8 byte length.
+class SchemaBlobReader {
+public:
+    SchemaBlobReader(const char* data, size_t size)
+        : m_data(data)
+        , m_size(size)
+    {
+    }
+
+    int8_t read_byte()
+    {
+        require(1);
+        return static_cast<int8_t>(m_data[m_pos++]);
+    }
+
+    int32_t read_int()
+    {
+        require(4);
+        uint32_t value = 0;
+        for (int i = 0; i < 4; ++i) {
+            value = (value << 8) | static_cast<uint8_t>(m_data[m_pos++]);
+        }
+        return static_cast<int32_t>(value);
+    }
+
+    std::string read_string()
+    {
+        int32_t length = read_int();
+        if (length < 0) {
+            throw std::invalid_argument("Corrupt schema blob.");
+        }
+        require(static_cast<size_t>(length));
+        std::string value(m_data + m_pos, static_cast<size_t>(length));
+        m_pos += static_cast<size_t>(length);
+        return value;
+    }
+
+private:
+    const char* m_data;
+    size_t m_size;
+    size_t m_pos = 0;
+
+    void require(size_t bytes)
+    {
+        if (m_size - m_pos < bytes) {
+            throw std::invalid_argument("Corrupt schema blob.");
+        }
+    }
+};
+
+// Same checks as the binding applied when properties were created one by one.
+void validate_persisted_property(const Property& property, bool is_fulltext_indexed)
 {
-    try {
-        JStringAccessor public_name(env, j_public_class_name);
-        JStringAccessor internal_name(env, j_internal_class_name);
-        ObjectSchema* object_schema = new ObjectSchema();
-        object_schema->name = internal_name;
-        object_schema->alias = public_name;
-        object_schema->table_type = to_bool(j_embedded) ? ObjectSchema::ObjectType::Embedded : ObjectSchema::ObjectType::TopLevel;
-        return reinterpret_cast<jlong>(object_schema);
+    PropertyType type = property.type;
+    if (property.is_indexed && !property.type_is_indexable()) {
+        throw std::invalid_argument(
+            "This field cannot be indexed - Only String/byte/short/int/long/boolean/Date fields are supported.");
+    }
+    if (is_fulltext_indexed &&
+        (property.is_indexed || property.is_primary || (type & ~PropertyType::Flags) != PropertyType::String)) {
+        throw std::invalid_argument(
+            "This field cannot have a full-text index - Only String fields without other indexes are supported.");
+    }
+    if (property.is_primary && type != PropertyType::Int && type != PropertyType::String &&
+        type != PropertyType::ObjectId && type != PropertyType::UUID) {
+        throw std::invalid_argument("Invalid primary key type: " + std::string(property.type_string()));
     }
-    CATCH_STD()
-    return 0;
 }
 
+} // anonymous namespace
+
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObjectSchemaInfo_nativeGetFinalizerPtr(JNIEnv*, jclass)
 {
     return reinterpret_cast<jlong>(&finalize_object_schema);
 }
 
-JNIEXPORT void JNICALL Java_io_realm_internal_OsObjectSchemaInfo_nativeAddProperties(JNIEnv* env, jclass,
-                                                                                     jlong native_ptr,
-                                                                                     jlongArray j_persisted_properties,
-                                                                                     jlongArray j_computed_properties)
+JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObjectSchemaInfo_nativeCreateFromBlob(JNIEnv* env, jclass,
+                                                                                       jbyteArray j_blob)
 {
     try {
-        ObjectSchema& object_schema = *reinterpret_cast<ObjectSchema*>(native_ptr);
-        JLongArrayAccessor persisted_properties(env, j_persisted_properties);
-        for (jsize i = 0; i < persisted_properties.size(); ++i)
-        {
-            Property* prop = reinterpret_cast<Property*>(persisted_properties[i]);
-            REALM_ASSERT_DEBUG(prop != nullptr);
-            if (prop->is_primary) {
-                object_schema.primary_key = prop->name;
+        JByteArrayAccessor blob_accessor(env, j_blob);
+        SchemaBlobReader reader(reinterpret_cast<const char*>(blob_accessor.data()),
+                                static_cast<size_t>(blob_accessor.size()));
+        if (reader.read_byte() != io_realm_internal_OsObjectSchemaInfo_SCHEMA_BLOB_VERSION) {
+            throw std::invalid_argument("Unsupported schema blob version.");
+        }
+
+        std::unique_ptr<ObjectSchema> object_schema(new ObjectSchema());
+        object_schema->alias = reader.read_string();
+        object_schema->name = reader.read_string();
+        object_schema->table_type =
+            reader.read_byte() != 0 ? ObjectSchema::ObjectType::Embedded : ObjectSchema::ObjectType::TopLevel;
+
+        int32_t persisted_count = reader.read_int();
+        object_schema->persisted_properties.reserve(static_cast<size_t>(persisted_count));
+        for (int32_t i = 0; i < persisted_count; ++i) {
+            int8_t kind = reader.read_byte();
+            std::string internal_name = reader.read_string();
+            std::string public_name = reader.read_string();
+            PropertyType type = static_cast<PropertyType>(reader.read_int());
+            int8_t flags = reader.read_byte();
+            if (kind == io_realm_internal_OsObjectSchemaInfo_PROPERTY_KIND_LINK) {
+                std::string link_class_name = reader.read_string();
+                object_schema->persisted_properties.emplace_back(internal_name, type, link_class_name, "",
+                                                                 public_name);
+                continue;
             }
-            object_schema.persisted_properties.emplace_back(std::move(*prop));
-            delete prop;
+            bool is_primary = (flags & io_realm_internal_OsObjectSchemaInfo_PROPERTY_FLAG_PRIMARY_KEY) != 0;
+            bool is_indexed = (flags & io_realm_internal_OsObjectSchemaInfo_PROPERTY_FLAG_INDEXED) != 0;
+            bool is_fulltext_indexed =
+                (flags & io_realm_internal_OsObjectSchemaInfo_PROPERTY_FLAG_FULL_TEXT_INDEXED) != 0;
+            Property property(internal_name, type, is_primary, is_indexed, public_name);
+            validate_persisted_property(property, is_fulltext_indexed);
+#if REALM_JNI_HAS_FULLTEXT_INDEX
+            property.is_fulltext_indexed = is_fulltext_indexed;
+#else
+            if (is_fulltext_indexed) {
+                throw std::invalid_argument(util::format("Field '%1' cannot have a full-text index: %2",
+                                                         property.public_name.empty() ? property.name
+                                                                                      : property.public_name,
+                                                         ERR_FULLTEXT_INDEX_UNSUPPORTED));
+            }
+#endif
+            if (is_primary) {
+                object_schema->primary_key = property.name;
+            }
+            object_schema->persisted_properties.push_back(std::move(property));
         }
 
-        JLongArrayAccessor computed_properties(env, j_computed_properties);
-        for (jsize i = 0; i < computed_properties.size(); ++i)
-        {
-            Property* prop = reinterpret_cast<Property*>(computed_properties[i]);
-            REALM_ASSERT_DEBUG(prop != nullptr);
-            object_schema.computed_properties.emplace_back(std::move(*prop));
-            delete prop;
+        int32_t computed_count = reader.read_int();
+        object_schema->computed_properties.reserve(static_cast<size_t>(computed_count));
+        for (int32_t i = 0; i < computed_count; ++i) {
+            std::string name = reader.read_string();
+            std::string source_class_name = reader.read_string();
+            std::string source_field_name = reader.read_string();
+            object_schema->computed_properties.emplace_back(name, PropertyType::LinkingObjects | PropertyType::Array,
+                                                            source_class_name, source_field_name);
         }
+        return reinterpret_cast<jlong>(object_schema.release());
     }
     CATCH_STD()
+    return 0;
 }
 
 JNIEXPORT jstring JNICALL Java_io_realm_internal_OsObjectSchemaInfo_nativeGetClassName(JNIEnv* env, jclass,
@@ -144,3 +240,56 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsObjectSchemaInfo_nativeIsEmb
     CATCH_STD()
     return to_jbool(false);
 }
+
+JNIEXPORT jobjectArray JNICALL Java_io_realm_internal_OsObjectSchemaInfo_nativeGetPersistedPropertyDetails(
+    JNIEnv* env, jclass, jlong native_ptr)
+{
+    try {
+        auto& object_schema = *reinterpret_cast<ObjectSchema*>(native_ptr);
+        auto& properties = object_schema.persisted_properties;
+        jsize count = static_cast<jsize>(properties.size());
+
+        jobjectArray j_names = env->NewObjectArray(count, JavaClassGlobalDef::java_lang_string(), nullptr);
+        jobjectArray j_linked_class_names =
+            env->NewObjectArray(count, JavaClassGlobalDef::java_lang_string(), nullptr);
+        jlongArray j_column_keys = env->NewLongArray(count);
+        jintArray j_types = env->NewIntArray(count);
+        if (!j_names || !j_linked_class_names || !j_column_keys || !j_types) {
+            ThrowException(env, OutOfMemory, "Could not allocate memory to return the column details.");
+            return nullptr;
+        }
+
+        std::vector<jlong> column_keys;
+        std::vector<jint> types;
+        column_keys.reserve(properties.size());
+        types.reserve(properties.size());
+        for (jsize i = 0; i < count; ++i) {
+            const Property& property = properties[i];
+            jstring j_name = to_jstring(env, property.name);
+            env->SetObjectArrayElement(j_names, i, j_name);
+            env->DeleteLocalRef(j_name);
+            if (!property.object_type.empty()) {
+                jstring j_linked_class_name = to_jstring(env, property.object_type);
+                env->SetObjectArrayElement(j_linked_class_names, i, j_linked_class_name);
+                env->DeleteLocalRef(j_linked_class_name);
+            }
+            column_keys.push_back(static_cast<jlong>(property.column_key.value));
+            types.push_back(static_cast<jint>(property.type));
+        }
+        env->SetLongArrayRegion(j_column_keys, 0, count, column_keys.data());
+        env->SetIntArrayRegion(j_types, 0, count, types.data());
+
+        jobjectArray j_details = env->NewObjectArray(4, JavaClassGlobalDef::java_lang_object(), nullptr);
+        if (!j_details) {
+            ThrowException(env, OutOfMemory, "Could not allocate memory to return the column details.");
+            return nullptr;
+        }
+        env->SetObjectArrayElement(j_details, 0, j_names);
+        env->SetObjectArrayElement(j_details, 1, j_column_keys);
+        env->SetObjectArrayElement(j_details, 2, j_types);
+        env->SetObjectArrayElement(j_details, 3, j_linked_class_names);
+        return j_details;
+    }
+    CATCH_STD()
+    return nullptr;
+}
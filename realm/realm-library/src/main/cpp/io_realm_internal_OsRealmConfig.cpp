@@ -24,6 +24,7 @@
 #include <realm/object-store/sync/sync_session.hpp>
 #include <realm/util/misc_ext_errors.hpp>
 #endif
+#include <realm/util/file_mapper.hpp>
 
 #include <linux/errno.h>
 #include <jni_util/bson_util.hpp>
@@ -38,6 +39,9 @@
 #include "jni_util/jni_utils.hpp"
 #include "jni_util/java_exception_thrower.hpp"
 
+#include <atomic>
+#include <mutex>
+
 using namespace realm;
 using namespace realm::jni_util;
 using namespace realm::_impl;
@@ -61,6 +65,35 @@ static_assert(SchemaMode::AdditiveDiscovered ==
 static_assert(SchemaMode::Manual == static_cast<SchemaMode>(io_realm_internal_OsRealmConfig_SCHEMA_MODE_VALUE_MANUAL),
               "");
 
+namespace {
+// Keeps the decrypted pages of encrypted Realms at a fixed target size instead of the default target derived from
+// the memory limits of the process. The reclaimer thread of core reports the current load on every round, which is
+// what the encryption metrics are built from.
+class FixedTargetPageReclaimGovernor : public util::PageReclaimGovernor {
+public:
+    util::UniqueFunction<int64_t()> current_target_getter(size_t load) override
+    {
+        m_current_load = static_cast<int64_t>(load);
+        int64_t target = m_target;
+        return [target] {
+            return target;
+        };
+    }
+
+    void report_target_result(int64_t) override
+    {
+        ++m_reclaim_rounds;
+    }
+
+    std::atomic<int64_t> m_target{0};
+    std::atomic<int64_t> m_current_load{0};
+    std::atomic<int64_t> m_reclaim_rounds{0};
+};
+
+FixedTargetPageReclaimGovernor s_page_reclaim_governor;
+std::mutex s_page_reclaim_governor_mutex;
+} // anonymous namespace
+
 static void finalize_realm_config(jlong ptr)
 {
     delete reinterpret_cast<Realm::Config*>(ptr);
@@ -110,6 +143,43 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsRealmConfig_nativeSetEncryptionK
     CATCH_STD()
 }
 
+JNIEXPORT void JNICALL Java_io_realm_internal_OsRealmConfig_nativeSetEncryptedPageCacheSize(JNIEnv* env, jclass,
+                                                                                           jlong j_bytes)
+{
+    try {
+        // The page reclaimer is global to the process, so the last configuration opened decides the cache size.
+        std::lock_guard<std::mutex> lock(s_page_reclaim_governor_mutex);
+        if (j_bytes > 0) {
+            s_page_reclaim_governor.m_target = static_cast<int64_t>(j_bytes);
+            util::set_page_reclaim_governor(&s_page_reclaim_governor);
+        }
+        else {
+            s_page_reclaim_governor.m_target = 0;
+            util::set_page_reclaim_governor_to_default();
+        }
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT jlongArray JNICALL Java_io_realm_internal_OsRealmConfig_nativeGetEncryptionMetrics(JNIEnv* env, jclass)
+{
+    try {
+        jlong metrics[4];
+        metrics[io_realm_internal_OsRealmConfig_ENCRYPTION_METRICS_DECRYPTED_PAGES] =
+            static_cast<jlong>(util::get_num_decrypted_pages());
+        metrics[io_realm_internal_OsRealmConfig_ENCRYPTION_METRICS_CACHE_TARGET] = s_page_reclaim_governor.m_target;
+        metrics[io_realm_internal_OsRealmConfig_ENCRYPTION_METRICS_CACHE_LOAD] =
+            s_page_reclaim_governor.m_current_load;
+        metrics[io_realm_internal_OsRealmConfig_ENCRYPTION_METRICS_RECLAIM_ROUNDS] =
+            s_page_reclaim_governor.m_reclaim_rounds;
+        jlongArray ret_array = env->NewLongArray(4);
+        env->SetLongArrayRegion(ret_array, 0, 4, metrics);
+        return ret_array;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
 JNIEXPORT void JNICALL Java_io_realm_internal_OsRealmConfig_nativeSetInMemory(JNIEnv*, jclass, jlong native_ptr,
                                                                               jboolean in_mem)
 {
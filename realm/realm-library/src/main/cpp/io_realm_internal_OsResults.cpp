@@ -16,6 +16,11 @@
 
 #include "io_realm_internal_OsResults.h"
 
+#include <algorithm>
+#include <limits>
+#include <memory>
+#include <vector>
+
 #include <realm/object-store/shared_realm.hpp>
 #include <realm/object-store/results.hpp>
 #include <realm/object-store/list.hpp>
@@ -27,6 +32,7 @@
 #include "java_query_descriptor.hpp"
 #include "observable_collection_wrapper.hpp"
 #include "util.hpp"
+#include "jni_util/trace.hpp"
 
 using namespace realm;
 using namespace realm::jni_util;
@@ -46,6 +52,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeCreateResults(JNI
                                                                              jlong shared_realm_ptr,
                                                                              jlong query_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& query = *reinterpret_cast<Query*>(query_ptr);
         if (!TABLE_VALID(env, query.get_table())) {
@@ -69,6 +76,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeCreateResults(JNI
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeCreateSnapshot(JNIEnv* env, jclass, jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         auto snapshot_results = wrapper->collection().snapshot();
@@ -82,6 +90,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeCreateSnapshot(JN
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsResults_nativeContains(JNIEnv* env, jclass, jlong native_ptr,
                                                                             jlong native_obj_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         const Obj* obj = reinterpret_cast<Obj*>(native_obj_ptr);
@@ -95,6 +104,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsResults_nativeContains(JNIEn
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeGetRow(JNIEnv* env, jclass, jlong native_ptr,
                                                                        jint index)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         auto obj = wrapper->collection().get(static_cast<size_t>(index));
@@ -104,8 +114,132 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeGetRow(JNIEnv* en
     return reinterpret_cast<jlong>(nullptr);
 }
 
+JNIEXPORT jlongArray JNICALL Java_io_realm_internal_OsResults_nativeGetRows(JNIEnv* env, jclass, jlong native_ptr,
+                                                                             jint start, jint count)
+{
+    ACCOUNT_JNI_CALL();
+    try {
+        auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
+        auto& results = wrapper->collection();
+        size_t size = results.size();
+        size_t begin = std::min(static_cast<size_t>(start), size);
+        size_t end = std::min(begin + static_cast<size_t>(count), size);
+
+        // The rows are owned here until they are handed over to Java, so nothing leaks if reading a row throws.
+        std::vector<std::unique_ptr<Obj>> rows;
+        rows.reserve(end - begin);
+        for (size_t i = begin; i < end; ++i) {
+            rows.push_back(std::make_unique<Obj>(results.get(i)));
+        }
+
+        jsize length = static_cast<jsize>(rows.size());
+        jlongArray ret_array = env->NewLongArray(length);
+        if (!ret_array) {
+            ThrowException(env, OutOfMemory, "Could not allocate memory to return the rows.");
+            return nullptr;
+        }
+        std::vector<jlong> row_ptrs;
+        row_ptrs.reserve(rows.size());
+        for (auto& row : rows) {
+            row_ptrs.push_back(reinterpret_cast<jlong>(row.get()));
+        }
+        env->SetLongArrayRegion(ret_array, 0, length, row_ptrs.data());
+        for (auto& row : rows) {
+            row.release();
+        }
+        return ret_array;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativePageIn(JNIEnv* env, jclass, jlong native_ptr,
+                                                                      jint start, jint count)
+{
+    ACCOUNT_JNI_CALL();
+    try {
+        auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
+        auto& results = wrapper->collection();
+        size_t size = results.size();
+        size_t begin = std::min(static_cast<size_t>(start), size);
+        size_t end = std::min(begin + static_cast<size_t>(count), size);
+
+        // Reading the non-link properties of every object pulls the pages holding them into memory, so accessors
+        // created for the same objects on another Realm instance don't have to fault them in one at a time.
+        std::vector<ColKey> columns;
+        ConstTableRef table = results.get_table();
+        if (table) {
+            for (auto col : table->get_column_keys()) {
+                if (!col.is_collection() && col.get_type() != col_type_Link) {
+                    columns.push_back(col);
+                }
+            }
+        }
+        for (size_t i = begin; i < end; ++i) {
+            Obj obj = results.get(i);
+            for (auto col : columns) {
+                obj.get_any(col);
+            }
+        }
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT jobjectArray JNICALL Java_io_realm_internal_OsResults_nativeGetStringsUtf8(JNIEnv* env, jclass,
+                                                                                    jlong native_ptr,
+                                                                                    jlong column_key)
+{
+    ACCOUNT_JNI_CALL();
+    try {
+        auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
+        auto& results = wrapper->collection();
+        ColKey col(column_key);
+        if (col.get_type() != col_type_String || col.is_collection()) {
+            ThrowException(env, IllegalArgument, "Only string fields can be read as UTF-8.");
+            return nullptr;
+        }
+
+        // All values are copied into one array with an offset table, so reading them costs a single JNI call and
+        // no UTF-16 conversion.
+        size_t size = results.size();
+        std::vector<char> data;
+        std::vector<jint> offsets;
+        std::vector<jboolean> nulls;
+        offsets.reserve(size + 1);
+        nulls.reserve(size);
+        offsets.push_back(0);
+        for (size_t i = 0; i < size; ++i) {
+            StringData value = results.get(i).get<StringData>(col);
+            if (data.size() + value.size() > static_cast<size_t>(std::numeric_limits<jint>::max())) {
+                ThrowException(env, IllegalState, "The strings are too large to be read at once.");
+                return nullptr;
+            }
+            data.insert(data.end(), value.data(), value.data() + value.size());
+            offsets.push_back(static_cast<jint>(data.size()));
+            nulls.push_back(to_jbool(value.is_null()));
+        }
+
+        jsize data_size = static_cast<jsize>(data.size());
+        jbyteArray j_data = env->NewByteArray(data_size);
+        env->SetByteArrayRegion(j_data, 0, data_size, reinterpret_cast<const jbyte*>(data.data()));
+        jintArray j_offsets = env->NewIntArray(static_cast<jsize>(offsets.size()));
+        env->SetIntArrayRegion(j_offsets, 0, static_cast<jsize>(offsets.size()), offsets.data());
+        jbooleanArray j_nulls = env->NewBooleanArray(static_cast<jsize>(nulls.size()));
+        env->SetBooleanArrayRegion(j_nulls, 0, static_cast<jsize>(nulls.size()), nulls.data());
+
+        jobjectArray result = env->NewObjectArray(3, JavaClassGlobalDef::java_lang_object(), nullptr);
+        env->SetObjectArrayElement(result, 0, j_data);
+        env->SetObjectArrayElement(result, 1, j_offsets);
+        env->SetObjectArrayElement(result, 2, j_nulls);
+        return result;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeFirstRow(JNIEnv* env, jclass, jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         auto optional_obj = wrapper->collection().first();
@@ -120,6 +254,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeFirstRow(JNIEnv*
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeLastRow(JNIEnv* env, jclass, jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         auto optional_obj = wrapper->collection().last();
@@ -133,6 +268,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeLastRow(JNIEnv* e
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeClear(JNIEnv* env, jclass, jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         wrapper->collection().clear();
@@ -142,6 +278,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeClear(JNIEnv* env,
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeSize(JNIEnv* env, jclass, jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         return static_cast<jlong>(wrapper->collection().size());
@@ -153,6 +290,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeSize(JNIEnv* env,
 JNIEXPORT jobject JNICALL Java_io_realm_internal_OsResults_nativeAggregate(JNIEnv* env, jclass, jlong native_ptr,
                                                                             jlong column_key, jbyte agg_func)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
 
@@ -210,6 +348,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeStringDescriptor(
                                                                                 jstring j_descriptor,
                                                                                 jlong j_mapping_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         JStringAccessor descriptor(env, j_descriptor); // throws
@@ -236,6 +375,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeStringDescriptor(
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeStartListening(JNIEnv* env, jobject instance,
                                                                               jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         wrapper->start_listening(env, instance);
@@ -245,6 +385,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeStartListening(JNI
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeStopListening(JNIEnv* env, jobject, jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         wrapper->stop_listening();
@@ -254,11 +395,13 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeStopListening(JNIE
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeGetFinalizerPtr(JNIEnv*, jclass)
 {
+    ACCOUNT_JNI_CALL();
     return reinterpret_cast<jlong>(&finalize_results);
 }
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeGetTable(JNIEnv *env, jclass,
                                                                         jlong native_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         auto* table_ref = new ConstTableRef(wrapper->collection().get_table());
@@ -270,6 +413,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeGetTable(JNIEnv *
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeWhere(JNIEnv* env, jclass, jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         TableView table_view = wrapper->collection().get_tableview();
@@ -283,6 +427,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeWhere(JNIEnv* env
 
 JNIEXPORT jstring JNICALL Java_io_realm_internal_OsResults_toJSON(JNIEnv* env, jclass, jlong native_ptr, jint maxDepth)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
 
@@ -298,6 +443,7 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_OsResults_toJSON(JNIEnv* env, j
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeIndexOf(JNIEnv* env, jclass, jlong native_ptr,
                                                                         jlong obj_native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         Obj* obj = reinterpret_cast<Obj*>(obj_native_ptr);
@@ -310,6 +456,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeIndexOf(JNIEnv* e
 
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsResults_nativeDeleteLast(JNIEnv* env, jclass, jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         auto obj = wrapper->collection().last();
@@ -324,6 +471,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsResults_nativeDeleteLast(JNI
 
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsResults_nativeDeleteFirst(JNIEnv* env, jclass, jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         auto obj = wrapper->collection().first();
@@ -349,36 +497,42 @@ static inline void update_objects(JNIEnv* env, jlong results_ptr, jstring& j_fie
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetNull(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name)
 {
+    ACCOUNT_JNI_CALL();
     auto value = JavaValue();
     update_objects(env, native_ptr, j_field_name, value);
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetBoolean(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name, jboolean j_value)
 {
+    ACCOUNT_JNI_CALL();
     JavaValue value(j_value);
     update_objects(env, native_ptr, j_field_name, value);
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetInt(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name, jlong j_value)
 {
+    ACCOUNT_JNI_CALL();
     JavaValue value(j_value);
     update_objects(env, native_ptr, j_field_name, value);
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetFloat(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name, jfloat j_value)
 {
+    ACCOUNT_JNI_CALL();
     JavaValue value(j_value);
     update_objects(env, native_ptr, j_field_name, value);
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetDouble(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name, jdouble j_value)
 {
+    ACCOUNT_JNI_CALL();
     JavaValue value(j_value);
     update_objects(env, native_ptr, j_field_name, value);
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetString(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name, jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
     JStringAccessor str(env, j_value);
     JavaValue value = str.is_null() ? JavaValue() : JavaValue(std::string(str));
     update_objects(env, native_ptr, j_field_name, value);
@@ -386,6 +540,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetString(JNIEnv*
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetBinary(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name, jbyteArray j_value)
 {
+    ACCOUNT_JNI_CALL();
     auto data = OwnedBinaryData(JByteArrayAccessor(env, j_value).transform<BinaryData>());
     JavaValue value(data);
     update_objects(env, native_ptr, j_field_name, value);
@@ -393,12 +548,14 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetBinary(JNIEnv*
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetTimestamp(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name, jlong j_value)
 {
+    ACCOUNT_JNI_CALL();
     JavaValue value(from_milliseconds(j_value));
     update_objects(env, native_ptr, j_field_name, value);
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetDecimal128(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name, jlong low, jlong high)
 {
+    ACCOUNT_JNI_CALL();
 
     Decimal128::Bid128 raw = {static_cast<uint64_t>(low), static_cast<uint64_t>(high)};
     Decimal128 decimal128 = Decimal128(raw);
@@ -408,6 +565,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetDecimal128(JNIE
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetObjectId(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name, jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
     JStringAccessor data(env, j_value);
     ObjectId objectId = ObjectId(StringData(data).data());
     JavaValue value(objectId);
@@ -416,6 +574,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetObjectId(JNIEnv
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetUUID(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name, jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
     JStringAccessor data(env, j_value);
     UUID uuid = UUID(StringData(data).data());
     JavaValue value(uuid);
@@ -424,12 +583,14 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetUUID(JNIEnv* en
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetObject(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name, jlong row_ptr)
 {
+    ACCOUNT_JNI_CALL();
     JavaValue value(reinterpret_cast<Obj*>(row_ptr));
     update_objects(env, native_ptr, j_field_name, value);
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetList(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name, jlong builder_ptr)
 {
+    ACCOUNT_JNI_CALL();
     // OsObjectBuilder has been used to build up the list we want to insert. This means the
     // fake object described by the OsObjectBuilder only contains one property, namely the list we
     // want to insert and this list is assumed to be at index = 0.
@@ -441,6 +602,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetList(JNIEnv* en
 JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeDelete(JNIEnv* env, jclass, jlong native_ptr,
                                                                       jlong index)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         auto obj = wrapper->collection().get(index);
@@ -453,6 +615,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeDelete(JNIEnv* env
 
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsResults_nativeIsValid(JNIEnv* env, jclass, jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         return wrapper->collection().is_valid();
@@ -463,6 +626,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsResults_nativeIsValid(JNIEnv
 
 JNIEXPORT jbyte JNICALL Java_io_realm_internal_OsResults_nativeGetMode(JNIEnv* env, jclass, jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         switch (wrapper->collection().get_mode()) {
@@ -490,6 +654,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeCreateResultsFrom
                                                                                            jlong src_table_ref_ptr,
                                                                                            jlong src_col_key)
 {
+    ACCOUNT_JNI_CALL();
     Obj* obj = OBJ(obj_ptr);
     if (!ROW_VALID(env, obj)) {
         return reinterpret_cast<jlong>(nullptr);
@@ -510,6 +675,8 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeEvaluateQueryIfNee
                                                                                     jlong native_ptr,
                                                                                     jboolean wants_notifications)
 {
+    ACCOUNT_JNI_CALL();
+    TraceSection trace_section("OsResults::evaluate_query");
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         wrapper->collection().evaluate_query_if_needed(wants_notifications);
@@ -520,6 +687,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeEvaluateQueryIfNee
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeFreeze(JNIEnv* env, jclass, jlong native_ptr, jlong frozen_realm_native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
         auto frozen_realm = *(reinterpret_cast<SharedRealm*>(frozen_realm_native_ptr));
@@ -533,6 +701,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeFreeze(JNIEnv* en
 JNIEXPORT jobject JNICALL
 Java_io_realm_internal_OsResults_nativeGetValue(JNIEnv* env, jclass, jlong native_ptr,
                                                 jint pos) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<ResultsWrapper*>(native_ptr);
         JavaAccessorContext context(env);
@@ -50,12 +50,14 @@ inline bool isSetNullable(JNIEnv *env, realm::object_store::Set &set) {
 }
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSet_nativeGetFinalizerPtr(JNIEnv*, jclass) {
+    ACCOUNT_JNI_CALL();
     return reinterpret_cast<jlong>(&finalize_set);
 }
 
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeCreate(JNIEnv* env, jclass, jlong shared_realm_ptr,
                                           jlong obj_ptr, jlong column_key) {
+    ACCOUNT_JNI_CALL();
     try {
         auto obj = *reinterpret_cast<realm::Obj*>(obj_ptr);
         auto shared_realm = *reinterpret_cast<SharedRealm*>(shared_realm_ptr);
@@ -93,6 +95,7 @@ Java_io_realm_internal_OsSet_nativeCreate(JNIEnv* env, jclass, jlong shared_real
 
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeIsValid(JNIEnv* env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -104,6 +107,7 @@ Java_io_realm_internal_OsSet_nativeIsValid(JNIEnv* env, jclass, jlong wrapper_pt
 
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsSet_nativeDeleteAll(JNIEnv* env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         wrapper.collection().delete_all();
@@ -113,6 +117,7 @@ Java_io_realm_internal_OsSet_nativeDeleteAll(JNIEnv* env, jclass, jlong wrapper_
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSet_nativeGetQuery(JNIEnv* env, jclass, jlong wrapper_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         auto query = wrapper.collection().get_query();
@@ -125,6 +130,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSet_nativeGetQuery(JNIEnv* env,
 
 JNIEXPORT jobject JNICALL
 Java_io_realm_internal_OsSet_nativeGetValueAtIndex(JNIEnv* env, jclass, jlong wrapper_ptr, jint position) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -165,6 +171,7 @@ Java_io_realm_internal_OsSet_nativeGetValueAtIndex(JNIEnv* env, jclass, jlong wr
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_OsSet_nativeSize(JNIEnv* env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -176,6 +183,7 @@ Java_io_realm_internal_OsSet_nativeSize(JNIEnv* env, jclass, jlong wrapper_ptr)
 
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsNull(JNIEnv *env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -192,6 +200,7 @@ Java_io_realm_internal_OsSet_nativeContainsNull(JNIEnv *env, jclass, jlong wrapp
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsBoolean(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                    jboolean j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -205,6 +214,7 @@ Java_io_realm_internal_OsSet_nativeContainsBoolean(JNIEnv* env, jclass, jlong wr
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsString(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                   jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -219,6 +229,7 @@ Java_io_realm_internal_OsSet_nativeContainsString(JNIEnv* env, jclass, jlong wra
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsLong(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                 jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -232,6 +243,7 @@ Java_io_realm_internal_OsSet_nativeContainsLong(JNIEnv* env, jclass, jlong wrapp
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsFloat(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                  jfloat j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -245,6 +257,7 @@ Java_io_realm_internal_OsSet_nativeContainsFloat(JNIEnv* env, jclass, jlong wrap
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsDouble(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                   jdouble j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -258,6 +271,7 @@ Java_io_realm_internal_OsSet_nativeContainsDouble(JNIEnv* env, jclass, jlong wra
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsBinary(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                   jbyteArray j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -272,6 +286,7 @@ Java_io_realm_internal_OsSet_nativeContainsBinary(JNIEnv* env, jclass, jlong wra
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsDate(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                 jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -286,6 +301,7 @@ Java_io_realm_internal_OsSet_nativeContainsDate(JNIEnv* env, jclass, jlong wrapp
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsDecimal128(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                       jlong j_low_value, jlong j_high_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -301,6 +317,7 @@ Java_io_realm_internal_OsSet_nativeContainsDecimal128(JNIEnv* env, jclass, jlong
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsObjectId(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                     jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -316,6 +333,7 @@ Java_io_realm_internal_OsSet_nativeContainsObjectId(JNIEnv* env, jclass, jlong w
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsUUID(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                 jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -331,6 +349,7 @@ Java_io_realm_internal_OsSet_nativeContainsUUID(JNIEnv* env, jclass, jlong wrapp
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsRow(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                jlong j_obj_key) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -345,6 +364,7 @@ Java_io_realm_internal_OsSet_nativeContainsRow(JNIEnv* env, jclass, jlong wrappe
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsRealmAny(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                  jlong mixed_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -358,6 +378,7 @@ Java_io_realm_internal_OsSet_nativeContainsRealmAny(JNIEnv* env, jclass, jlong w
 
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeAddNull(JNIEnv* env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -380,6 +401,7 @@ Java_io_realm_internal_OsSet_nativeAddNull(JNIEnv* env, jclass, jlong wrapper_pt
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeAddBoolean(JNIEnv* env, jclass, jlong wrapper_ptr,
                                               jboolean j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -401,6 +423,7 @@ Java_io_realm_internal_OsSet_nativeAddBoolean(JNIEnv* env, jclass, jlong wrapper
 
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeAddString(JNIEnv* env, jclass, jlong wrapper_ptr, jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -423,6 +446,7 @@ Java_io_realm_internal_OsSet_nativeAddString(JNIEnv* env, jclass, jlong wrapper_
 
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeAddLong(JNIEnv* env, jclass, jlong wrapper_ptr, jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -444,6 +468,7 @@ Java_io_realm_internal_OsSet_nativeAddLong(JNIEnv* env, jclass, jlong wrapper_pt
 
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeAddFloat(JNIEnv* env, jclass, jlong wrapper_ptr, jfloat j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -466,6 +491,7 @@ Java_io_realm_internal_OsSet_nativeAddFloat(JNIEnv* env, jclass, jlong wrapper_p
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeAddDouble(JNIEnv* env, jclass, jlong wrapper_ptr,
                                              jdouble j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -488,6 +514,7 @@ Java_io_realm_internal_OsSet_nativeAddDouble(JNIEnv* env, jclass, jlong wrapper_
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeAddBinary(JNIEnv* env, jclass, jlong wrapper_ptr,
                                              jbyteArray j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -511,6 +538,7 @@ Java_io_realm_internal_OsSet_nativeAddBinary(JNIEnv* env, jclass, jlong wrapper_
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeAddDate(JNIEnv* env, jclass, jlong wrapper_ptr,
                                            jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -533,6 +561,7 @@ Java_io_realm_internal_OsSet_nativeAddDate(JNIEnv* env, jclass, jlong wrapper_pt
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeAddDecimal128(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                  jlong j_low_value, jlong j_high_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -557,6 +586,7 @@ Java_io_realm_internal_OsSet_nativeAddDecimal128(JNIEnv* env, jclass, jlong wrap
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeAddObjectId(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -581,6 +611,7 @@ Java_io_realm_internal_OsSet_nativeAddObjectId(JNIEnv* env, jclass, jlong wrappe
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeAddUUID(JNIEnv* env, jclass, jlong wrapper_ptr,
                                            jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -605,6 +636,7 @@ Java_io_realm_internal_OsSet_nativeAddUUID(JNIEnv* env, jclass, jlong wrapper_pt
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeAddRow(JNIEnv* env, jclass, jlong wrapper_ptr,
                                           jlong j_obj_key) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -629,6 +661,7 @@ Java_io_realm_internal_OsSet_nativeAddRow(JNIEnv* env, jclass, jlong wrapper_ptr
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeAddRealmAny(JNIEnv* env, jclass, jlong wrapper_ptr,
                                             jlong mixed_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -650,6 +683,7 @@ Java_io_realm_internal_OsSet_nativeAddRealmAny(JNIEnv* env, jclass, jlong wrappe
 
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeRemoveNull(JNIEnv* env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -671,6 +705,7 @@ Java_io_realm_internal_OsSet_nativeRemoveNull(JNIEnv* env, jclass, jlong wrapper
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeRemoveBoolean(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                  jboolean j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -691,6 +726,7 @@ Java_io_realm_internal_OsSet_nativeRemoveBoolean(JNIEnv* env, jclass, jlong wrap
 
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeRemoveString(JNIEnv* env, jclass, jlong wrapper_ptr, jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -713,6 +749,7 @@ Java_io_realm_internal_OsSet_nativeRemoveString(JNIEnv* env, jclass, jlong wrapp
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeRemoveLong(JNIEnv* env, jclass, jlong wrapper_ptr,
                                               jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -734,6 +771,7 @@ Java_io_realm_internal_OsSet_nativeRemoveLong(JNIEnv* env, jclass, jlong wrapper
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeRemoveFloat(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                jfloat j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -755,6 +793,7 @@ Java_io_realm_internal_OsSet_nativeRemoveFloat(JNIEnv* env, jclass, jlong wrappe
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeRemoveDouble(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                 jdouble j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -776,6 +815,7 @@ Java_io_realm_internal_OsSet_nativeRemoveDouble(JNIEnv* env, jclass, jlong wrapp
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeRemoveBinary(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                 jbyteArray j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -798,6 +838,7 @@ Java_io_realm_internal_OsSet_nativeRemoveBinary(JNIEnv* env, jclass, jlong wrapp
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeRemoveDate(JNIEnv* env, jclass, jlong wrapper_ptr,
                                               jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -820,6 +861,7 @@ Java_io_realm_internal_OsSet_nativeRemoveDate(JNIEnv* env, jclass, jlong wrapper
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeRemoveDecimal128(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                     jlong j_low_value, jlong j_high_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -843,6 +885,7 @@ Java_io_realm_internal_OsSet_nativeRemoveDecimal128(JNIEnv* env, jclass, jlong w
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeRemoveObjectId(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                   jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -867,6 +910,7 @@ Java_io_realm_internal_OsSet_nativeRemoveObjectId(JNIEnv* env, jclass, jlong wra
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeRemoveUUID(JNIEnv* env, jclass, jlong wrapper_ptr,
                                               jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -890,6 +934,7 @@ Java_io_realm_internal_OsSet_nativeRemoveUUID(JNIEnv* env, jclass, jlong wrapper
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeRemoveRow(JNIEnv* env, jclass, jlong wrapper_ptr,
                                              jlong j_obj_key) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -912,6 +957,7 @@ Java_io_realm_internal_OsSet_nativeRemoveRow(JNIEnv* env, jclass, jlong wrapper_
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_OsSet_nativeRemoveRealmAny(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                jlong mixed_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -934,6 +980,7 @@ Java_io_realm_internal_OsSet_nativeRemoveRealmAny(JNIEnv* env, jclass, jlong wra
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_OsSet_nativeGetRow(JNIEnv* env, jclass, jlong wrapper_ptr,
                                           jint j_index) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -947,6 +994,7 @@ Java_io_realm_internal_OsSet_nativeGetRow(JNIEnv* env, jclass, jlong wrapper_ptr
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_OsSet_nativeGetRealmAny(JNIEnv* env, jclass, jlong wrapper_ptr,
                                             jint j_index) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -959,6 +1007,7 @@ Java_io_realm_internal_OsSet_nativeGetRealmAny(JNIEnv* env, jclass, jlong wrappe
 
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsAll(JNIEnv*, jclass, jlong wrapper_ptr, jlong other_wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
     object_store::Set& set = wrapper.collection();
     auto& other_wrapper = *reinterpret_cast<SetWrapper*>(other_wrapper_ptr);
@@ -971,6 +1020,7 @@ Java_io_realm_internal_OsSet_nativeContainsAll(JNIEnv*, jclass, jlong wrapper_pt
 
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeUnion(JNIEnv*, jclass, jlong wrapper_ptr, jlong other_wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
     object_store::Set& set = wrapper.collection();
     auto& other_wrapper = *reinterpret_cast<SetWrapper*>(other_wrapper_ptr);
@@ -987,6 +1037,7 @@ Java_io_realm_internal_OsSet_nativeAsymmetricDifference(JNIEnv*,
                                                         jclass,
                                                         jlong wrapper_ptr,
                                                         jlong other_wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
     object_store::Set& set = wrapper.collection();
     auto& other_wrapper = *reinterpret_cast<SetWrapper*>(other_wrapper_ptr);
@@ -1003,6 +1054,7 @@ Java_io_realm_internal_OsSet_nativeIntersect(JNIEnv*,
                                              jclass,
                                              jlong wrapper_ptr,
                                              jlong other_wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
     object_store::Set& set = wrapper.collection();
     auto& other_wrapper = *reinterpret_cast<SetWrapper*>(other_wrapper_ptr);
@@ -1016,6 +1068,7 @@ Java_io_realm_internal_OsSet_nativeIntersect(JNIEnv*,
 
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsSet_nativeClear(JNIEnv* env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -1027,6 +1080,7 @@ Java_io_realm_internal_OsSet_nativeClear(JNIEnv* env, jclass, jlong wrapper_ptr)
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_OsSet_nativeFreeze(JNIEnv* env, jclass, jlong wrapper_ptr,
                                           jlong frozen_realm_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -1041,6 +1095,7 @@ Java_io_realm_internal_OsSet_nativeFreeze(JNIEnv* env, jclass, jlong wrapper_ptr
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeContainsAllRealmAnyCollection(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                               jlong mixed_collection_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -1066,6 +1121,7 @@ Java_io_realm_internal_OsSet_nativeContainsAllRealmAnyCollection(JNIEnv* env, jc
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeAddAllRealmAnyCollection(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                          jlong mixed_collection_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -1092,6 +1148,7 @@ Java_io_realm_internal_OsSet_nativeAddAllRealmAnyCollection(JNIEnv* env, jclass,
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeRemoveAllRealmAnyCollection(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                             jlong mixed_collection_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -1118,6 +1175,7 @@ Java_io_realm_internal_OsSet_nativeRemoveAllRealmAnyCollection(JNIEnv* env, jcla
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_OsSet_nativeRetainAllRealmAnyCollection(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                             jlong mixed_collection_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto& wrapper = *reinterpret_cast<SetWrapper*>(wrapper_ptr);
         object_store::Set& set = wrapper.collection();
@@ -1155,6 +1213,7 @@ Java_io_realm_internal_OsSet_nativeRetainAllRealmAnyCollection(JNIEnv* env, jcla
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsSet_nativeStartListening(JNIEnv* env, jclass, jlong wrapper_ptr,
                                                   jobject j_observable_map) {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<SetWrapper*>(wrapper_ptr);
         wrapper->start_listening(env, j_observable_map);
@@ -1164,6 +1223,7 @@ Java_io_realm_internal_OsSet_nativeStartListening(JNIEnv* env, jclass, jlong wra
 
 JNIEXPORT void JNICALL
 Java_io_realm_internal_OsSet_nativeStopListening(JNIEnv* env, jclass, jlong wrapper_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto wrapper = reinterpret_cast<SetWrapper*>(wrapper_ptr);
         wrapper->stop_listening();
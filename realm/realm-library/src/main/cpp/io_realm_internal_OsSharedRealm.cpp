@@ -37,6 +37,20 @@
 #include "jni_util/java_method.hpp"
 #include "jni_util/java_class.hpp"
 #include "jni_util/java_exception_thrower.hpp"
+#include "jni_util/trace.hpp"
+
+#include <sys/mman.h>
+#include <unistd.h>
+
+#include <algorithm>
+#include <fstream>
+#include <sstream>
+#include <vector>
+
+// Not defined by older NDK headers. Supported by Linux 5.4 and later, madvise() fails with EINVAL before that.
+#ifndef MADV_PAGEOUT
+#define MADV_PAGEOUT 21
+#endif
 
 
 using namespace realm;
@@ -45,6 +59,123 @@ using namespace realm::jni_util;
 
 static const char* c_table_name_exists_exception_msg = "Class already exists: '%1'.";
 
+// The schema fingerprint lives in a table without the "class_" prefix, so Object Store doesn't treat it as part of
+// the schema.
+static const char* c_schema_fingerprint_table_name = "java_schema_fingerprint";
+static const char* c_schema_fingerprint_column_name = "fingerprint";
+static const char* c_schema_layout_column_name = "layout";
+
+namespace {
+// FNV-1a, also used by the annotation processor for the schema fingerprint itself.
+class LayoutHash {
+public:
+    void add(const void* data, size_t size)
+    {
+        auto bytes = static_cast<const unsigned char*>(data);
+        for (size_t i = 0; i < size; ++i) {
+            m_hash = (m_hash ^ bytes[i]) * 0x100000001b3ULL;
+        }
+    }
+
+    void add(StringData str)
+    {
+        add(str.data(), str.size());
+        add(int64_t(str.size()));
+    }
+
+    void add(int64_t value)
+    {
+        add(&value, sizeof(value));
+    }
+
+    int64_t get() const
+    {
+        return static_cast<int64_t>(m_hash);
+    }
+
+private:
+    uint64_t m_hash = 0xcbf29ce484222325ULL;
+};
+
+struct MappedRange {
+    uintptr_t start;
+    uintptr_t end;
+};
+
+// Returns the ranges of the address space mapping the file with the given path, as listed by /proc/self/maps.
+std::vector<MappedRange> find_mapped_ranges(const std::string& path)
+{
+    std::vector<MappedRange> ranges;
+    std::ifstream maps("/proc/self/maps");
+    std::string line;
+    while (std::getline(maps, line)) {
+        // Format: start-end perms offset dev inode pathname
+        std::istringstream fields(line);
+        std::string range, perms, offset, dev, inode, pathname;
+        fields >> range >> perms >> offset >> dev >> inode;
+        std::getline(fields >> std::ws, pathname);
+        size_t dash = range.find('-');
+        if (pathname != path || dash == std::string::npos) {
+            continue;
+        }
+        ranges.push_back({static_cast<uintptr_t>(std::stoull(range.substr(0, dash), nullptr, 16)),
+                          static_cast<uintptr_t>(std::stoull(range.substr(dash + 1), nullptr, 16))});
+    }
+    return ranges;
+}
+
+// Returns the number of bytes of the range that are resident in memory, or 0 if the range is no longer mapped.
+size_t resident_bytes(const MappedRange& range, size_t page_size)
+{
+    size_t length = range.end - range.start;
+    std::vector<unsigned char> pages(length / page_size);
+    if (mincore(reinterpret_cast<void*>(range.start), length, pages.data()) != 0) {
+        return 0;
+    }
+    size_t resident_pages = std::count_if(pages.begin(), pages.end(), [](unsigned char page) {
+        return (page & 1) != 0;
+    });
+    return resident_pages * page_size;
+}
+
+// Hashes the layout of all class tables in the file: names, column types, attributes and link targets. This is
+// what the stored schema fingerprint is validated against, so changes made to the schema without going through a
+// typed Realm (e.g. by a DynamicRealm or another process) invalidate it.
+int64_t compute_schema_layout_hash(Group& group)
+{
+    std::vector<std::pair<std::string, TableKey>> class_tables;
+    for (auto key : group.get_table_keys()) {
+        StringData name = group.get_table_name(key);
+        if (name.begins_with("class_")) {
+            class_tables.emplace_back(std::string(name), key);
+        }
+    }
+    std::sort(class_tables.begin(), class_tables.end());
+
+    LayoutHash hash;
+    for (auto& class_table : class_tables) {
+        ConstTableRef table = group.get_table(class_table.second);
+        hash.add(StringData(class_table.first));
+        hash.add(int64_t(table->is_embedded()));
+        ColKey pk_col = table->get_primary_key_column();
+        hash.add(pk_col ? table->get_column_name(pk_col) : StringData(""));
+        for (auto col : table->get_column_keys()) {
+            hash.add(table->get_column_name(col));
+            hash.add(int64_t(col.get_type()));
+            hash.add(int64_t(col.is_nullable()));
+            hash.add(int64_t(col.is_list()));
+            hash.add(int64_t(col.is_set()));
+            hash.add(int64_t(col.is_dictionary()));
+            hash.add(int64_t(table->has_search_index(col)));
+            if (col.get_type() == col_type_Link || col.get_type() == col_type_LinkList) {
+                hash.add(table->get_link_target(col)->get_name());
+            }
+        }
+    }
+    return hash.get();
+}
+} // anonymous namespace
+
 #if REALM_ENABLE_SYNC // used only for partial sync now
 typedef ObservableCollectionWrapper<Results> ResultsWrapper;
 #endif
@@ -52,6 +183,7 @@ typedef ObservableCollectionWrapper<Results> ResultsWrapper;
 JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeInit(JNIEnv* env, jclass,
                                                                      jstring temporary_directory_path)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor path(env, temporary_directory_path);    // throws
         DBOptions::set_sys_tmp_dir(std::string(path)); // throws
@@ -63,6 +195,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetSharedReal
                                                                                 jlong j_version_no, jlong j_version_index,
                                                                                 jobject realm_notifier)
 {
+    ACCOUNT_JNI_CALL();
     auto& config = *reinterpret_cast<Realm::Config*>(config_ptr);
     try {
         SharedRealm shared_realm;
@@ -111,6 +244,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetSharedReal
 JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeCloseSharedRealm(JNIEnv*, jclass,
                                                                                  jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     // Close the SharedRealm only. Let the finalizer daemon thread free the SharedRealm
     if (!shared_realm->is_closed()) {
@@ -121,7 +255,9 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeCloseSharedRea
 JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeBeginTransaction(JNIEnv* env, jclass,
                                                                                  jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
+    TraceSection trace_section("OsSharedRealm::begin_transaction");
     try {
         shared_realm->begin_transaction();
     }
@@ -131,7 +267,9 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeBeginTransacti
 JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeCommitTransaction(JNIEnv* env, jclass,
                                                                                   jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
+    TraceSection trace_section("OsSharedRealm::commit_transaction");
     try {
         shared_realm->commit_transaction();
         // Realm could be closed in the RealmNotifier.didChange().
@@ -147,6 +285,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeCommitTransact
 JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeCancelTransaction(JNIEnv* env, jclass,
                                                                                   jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     try {
         shared_realm->cancel_transaction();
@@ -158,6 +297,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeCancelTransact
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeIsInTransaction(JNIEnv*, jclass,
                                                                                     jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     return static_cast<jboolean>(shared_realm->is_in_transaction());
 }
@@ -165,6 +305,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeIsInTransa
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeIsEmpty(JNIEnv* env, jclass,
                                                                             jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     try {
         return static_cast<jboolean>(ObjectStore::is_empty(shared_realm->read_group()));
@@ -175,7 +316,9 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeIsEmpty(JN
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeRefresh(JNIEnv* env, jclass, jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
+    TraceSection trace_section("OsSharedRealm::refresh");
     try {
         shared_realm->refresh();
     }
@@ -185,6 +328,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeRefresh(JNIEnv
 JNIEXPORT jlongArray JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetVersionID(JNIEnv* env, jclass,
                                                                                    jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     try {
         util::Optional<DB::VersionID> opt_version_id = shared_realm->current_transaction_version();
@@ -213,6 +357,7 @@ JNIEXPORT jlongArray JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetVersi
 
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeIsClosed(JNIEnv*, jclass, jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     return static_cast<jboolean>(shared_realm->is_closed());
 }
@@ -221,6 +366,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeIsClosed(J
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetTableRef(JNIEnv* env, jclass, jlong shared_realm_ptr,
                                                                           jstring table_name)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor name(env, table_name); // throws
         auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
@@ -246,6 +392,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeCreateTable(J
                                                                              jlong shared_realm_ptr,
                                                                              jstring j_table_name)
 {
+    ACCOUNT_JNI_CALL();
     std::string table_name;
     try {
         table_name = JStringAccessor(env, j_table_name); // throws
@@ -279,6 +426,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeCreateTableWi
     JNIEnv* env, jclass, jlong shared_realm_ptr, jstring j_table_name, jstring j_field_name, jint j_field_type,
     jboolean is_nullable)
 {
+    ACCOUNT_JNI_CALL();
     std::string class_name_str;
     try {
         std::string table_name(JStringAccessor(env, j_table_name));
@@ -315,6 +463,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeCreateTableWi
 JNIEXPORT jobjectArray JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetTablesName(JNIEnv* env, jclass,
                                                                                         jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
 
     auto& group = shared_realm->read_group();
@@ -343,6 +492,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeHasTable(J
                                                                              jlong shared_realm_ptr,
                                                                              jstring table_name)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     try {
         JStringAccessor name(env, table_name);
@@ -357,6 +507,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeRenameTable(JN
                                                                             jstring old_table_name,
                                                                             jstring new_table_name)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     try {
         JStringAccessor old_name(env, old_table_name);
@@ -374,6 +525,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeRenameTable(JN
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeSize(JNIEnv* env, jclass, jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     try {
         return static_cast<jlong>(shared_realm->read_group().size());
@@ -386,6 +538,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeSize(JNIEnv*
 JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeWriteCopy(JNIEnv* env, jclass, jlong shared_realm_ptr,
                                                                           jstring path, jbyteArray key)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     try {
         JStringAccessor path_str(env, path);
@@ -407,6 +560,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeWriteCopy(JNIE
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeWaitForChange(JNIEnv* env, jclass,
                                                                                   jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     try {
         return static_cast<jboolean>(shared_realm->wait_for_change());
@@ -419,6 +573,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeWaitForCha
 JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeStopWaitForChange(JNIEnv* env, jclass,
                                                                                   jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     try {
         shared_realm->wait_for_change_release();
@@ -429,7 +584,9 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeStopWaitForCha
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeCompact(JNIEnv* env, jclass,
                                                                             jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
+    TraceSection trace_section("OsSharedRealm::compact");
     try {
         return static_cast<jboolean>(shared_realm->compact());
     }
@@ -438,6 +595,121 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeCompact(JN
     return JNI_FALSE;
 }
 
+JNIEXPORT jlongArray JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetStorageStats(JNIEnv* env, jclass,
+                                                                                      jlong shared_realm_ptr)
+{
+    ACCOUNT_JNI_CALL();
+    auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
+    try {
+        auto db = Realm::Internal::get_db(*shared_realm);
+        size_t free_space = 0;
+        size_t used_space = 0;
+        size_t locked_space = 0;
+        db->get_stats(free_space, used_space, locked_space);
+
+        jlong stats[3];
+        stats[io_realm_internal_OsSharedRealm_STORAGE_STATS_TOTAL_BYTES] = static_cast<jlong>(free_space + used_space);
+        stats[io_realm_internal_OsSharedRealm_STORAGE_STATS_USED_BYTES] = static_cast<jlong>(used_space);
+        stats[io_realm_internal_OsSharedRealm_STORAGE_STATS_LOCKED_BYTES] = static_cast<jlong>(locked_space);
+        jlongArray ret_array = env->NewLongArray(3);
+        env->SetLongArrayRegion(ret_array, 0, 3, stats);
+        return ret_array;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
+JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetResidentMappedBytes(JNIEnv* env, jclass,
+                                                                                        jstring j_path)
+{
+    ACCOUNT_JNI_CALL();
+    try {
+        JStringAccessor path(env, j_path);
+        size_t page_size = static_cast<size_t>(sysconf(_SC_PAGESIZE));
+        jlong bytes = 0;
+        for (auto& range : find_mapped_ranges(std::string(path))) {
+            bytes += static_cast<jlong>(resident_bytes(range, page_size));
+        }
+        return bytes;
+    }
+    CATCH_STD()
+    return 0;
+}
+
+JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeReleaseMappedPages(JNIEnv* env, jclass,
+                                                                                    jstring j_path)
+{
+    ACCOUNT_JNI_CALL();
+    try {
+        JStringAccessor path(env, j_path);
+        size_t page_size = static_cast<size_t>(sysconf(_SC_PAGESIZE));
+        jlong released_bytes = 0;
+        // The ranges can be unmapped or remapped by other threads at any time. MADV_PAGEOUT only reclaims pages and
+        // never changes their content, so advising a range that no longer maps the file is harmless.
+        for (auto& range : find_mapped_ranges(std::string(path))) {
+            size_t before = resident_bytes(range, page_size);
+            if (madvise(reinterpret_cast<void*>(range.start), range.end - range.start, MADV_PAGEOUT) != 0) {
+                continue;
+            }
+            size_t after = resident_bytes(range, page_size);
+            if (before > after) {
+                released_bytes += static_cast<jlong>(before - after);
+            }
+        }
+        return released_bytes;
+    }
+    CATCH_STD()
+    return 0;
+}
+
+JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetSchemaFingerprint(JNIEnv* env, jclass,
+                                                                                       jlong shared_realm_ptr)
+{
+    ACCOUNT_JNI_CALL();
+    auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
+    try {
+        auto& group = shared_realm->read_group();
+        ConstTableRef table = group.get_table(c_schema_fingerprint_table_name);
+        if (!table || table->is_empty()) {
+            return 0;
+        }
+        const Obj obj = *table->begin();
+        int64_t layout = obj.get<int64_t>(table->get_column_key(c_schema_layout_column_name));
+        if (layout != compute_schema_layout_hash(group)) {
+            // The schema was changed since the fingerprint was stored.
+            return 0;
+        }
+        return static_cast<jlong>(obj.get<int64_t>(table->get_column_key(c_schema_fingerprint_column_name)));
+    }
+    CATCH_STD()
+    return 0;
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeSetSchemaFingerprint(JNIEnv* env, jclass,
+                                                                                      jlong shared_realm_ptr,
+                                                                                      jlong fingerprint)
+{
+    ACCOUNT_JNI_CALL();
+    auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
+    try {
+        if (!shared_realm->is_in_transaction()) {
+            ThrowException(env, IllegalState, "The schema fingerprint can only be stored in a transaction.");
+            return;
+        }
+        auto& group = shared_realm->read_group();
+        TableRef table = group.get_table(c_schema_fingerprint_table_name);
+        if (!table) {
+            table = group.add_table(c_schema_fingerprint_table_name);
+            table->add_column(type_Int, c_schema_fingerprint_column_name);
+            table->add_column(type_Int, c_schema_layout_column_name);
+        }
+        Obj obj = table->is_empty() ? table->create_object() : *table->begin();
+        obj.set(table->get_column_key(c_schema_fingerprint_column_name), static_cast<int64_t>(fingerprint));
+        obj.set(table->get_column_key(c_schema_layout_column_name), compute_schema_layout_hash(group));
+    }
+    CATCH_STD()
+}
+
 static void finalize_shared_realm(jlong ptr)
 {
     delete reinterpret_cast<SharedRealm*>(ptr);
@@ -445,6 +717,7 @@ static void finalize_shared_realm(jlong ptr)
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetFinalizerPtr(JNIEnv*, jclass)
 {
+    ACCOUNT_JNI_CALL();
     return reinterpret_cast<jlong>(&finalize_shared_realm);
 }
 
@@ -452,6 +725,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeSetAutoRefresh
                                                                                jlong shared_realm_ptr,
                                                                                jboolean enabled)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
         shared_realm->set_auto_refresh(to_bool(enabled));
@@ -462,6 +736,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeSetAutoRefresh
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeIsAutoRefresh(JNIEnv* env, jclass,
                                                                                   jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
         return to_jbool(shared_realm->auto_refresh());
@@ -473,6 +748,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeIsAutoRefr
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetSchemaInfo(JNIEnv*, jclass,
                                                                                jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     // No throws
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     return reinterpret_cast<jlong>(&shared_realm->schema());
@@ -481,6 +757,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetSchemaInfo
 JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeRegisterSchemaChangedCallback(
     JNIEnv* env, jclass, jlong shared_realm_ptr, jobject j_schema_changed_callback)
 {
+    ACCOUNT_JNI_CALL();
     // No throws
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     JavaGlobalWeakRef callback_weak_ref(env, j_schema_changed_callback);
@@ -493,6 +770,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeRegisterSchema
 
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeIsPartial(JNIEnv*, jclass, jlong /*shared_realm_ptr*/)
 {
+    ACCOUNT_JNI_CALL();
     // No throws
     // auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     return to_jbool(false);
@@ -500,6 +778,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeIsPartial(
 
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeIsFrozen(JNIEnv* env, jclass, jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
         return to_jbool(shared_realm->is_frozen());
@@ -510,6 +789,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeIsFrozen(J
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeFreeze(JNIEnv* env, jclass, jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
         return reinterpret_cast<jlong>(new SharedRealm(shared_realm->freeze()));
@@ -520,6 +800,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeFreeze(JNIEnv
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeNumberOfVersions(JNIEnv* env, jclass, jlong shared_realm_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
         return to_jlong_or_not_found(shared_realm->get_number_of_versions());
@@ -531,6 +812,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeNumberOfVersi
 #if REALM_ENABLE_SYNC
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetActiveSubscriptionSet(JNIEnv* env, jclass, jlong j_native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto realm = *reinterpret_cast<SharedRealm*>(j_native_ptr);
         const sync::SubscriptionSet subs = realm->get_latest_subscription_set();
@@ -544,6 +826,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetActiveSubs
 #if REALM_ENABLE_SYNC
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetLatestSubscriptionSet(JNIEnv* env, jclass, jlong j_native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto realm = *reinterpret_cast<SharedRealm*>(j_native_ptr);
         const sync::SubscriptionSet subs = realm->get_active_subscription_set();
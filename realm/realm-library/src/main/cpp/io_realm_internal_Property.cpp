@@ -41,67 +41,6 @@ static void finalize_property(jlong ptr)
     delete reinterpret_cast<Property*>(ptr);
 }
 
-JNIEXPORT jlong JNICALL Java_io_realm_internal_Property_nativeCreatePersistedProperty(JNIEnv* env, jclass,
-                                                                                      jstring j_internal_name,
-                                                                                      jstring j_public_name,
-                                                                                      jint type,
-                                                                                      jboolean is_primary,
-                                                                                      jboolean is_indexed)
-{
-    try {
-        JStringAccessor public_name(env, j_public_name);
-        JStringAccessor internal_name(env, j_internal_name);
-        PropertyType p_type = static_cast<PropertyType>(static_cast<int>(type));
-        std::unique_ptr<Property> property(
-            new Property(internal_name, p_type, to_bool(is_primary), to_bool(is_indexed), public_name));
-        if (to_bool(is_indexed) && !property->type_is_indexable()) {
-            throw std::invalid_argument(
-                "This field cannot be indexed - Only String/byte/short/int/long/boolean/Date fields are supported.");
-        }
-        if (to_bool(is_primary) && p_type != PropertyType::Int && p_type != PropertyType::String && p_type != PropertyType::ObjectId && p_type != PropertyType::UUID) {
-            std::string typ = property->type_string();
-            throw std::invalid_argument("Invalid primary key type: " + typ);
-        }
-        return reinterpret_cast<jlong>(property.release());
-    }
-    CATCH_STD()
-    return 0;
-}
-
-JNIEXPORT jlong JNICALL Java_io_realm_internal_Property_nativeCreatePersistedLinkProperty(JNIEnv* env, jclass,
-                                                                                          jstring j_internal_name,
-                                                                                          jstring j_public_name,
-                                                                                          jint type,
-                                                                                          jstring j_target_class_name)
-{
-    try {
-        JStringAccessor public_name(env, j_public_name);
-        JStringAccessor internal_name(env, j_internal_name);
-        JStringAccessor link_class_name(env, j_target_class_name);
-        PropertyType p_type = static_cast<PropertyType>(static_cast<int>(type));
-        return reinterpret_cast<jlong>(new Property(internal_name, p_type, link_class_name, "", public_name));
-    }
-    CATCH_STD()
-    return 0;
-}
-
-JNIEXPORT jlong JNICALL Java_io_realm_internal_Property_nativeCreateComputedLinkProperty(JNIEnv* env, jclass,
-                                                                                         jstring j_name_str,
-                                                                                         jstring j_source_class_name,
-                                                                                         jstring j_source_field_name)
-{
-    try {
-        JStringAccessor name(env, j_name_str);
-        JStringAccessor target_class_name(env, j_source_class_name);
-        JStringAccessor target_field_name(env, j_source_field_name);
-
-        PropertyType p_type = PropertyType::LinkingObjects | PropertyType::Array;
-        return reinterpret_cast<jlong>(new Property(name, p_type, target_class_name, target_field_name));
-    }
-    CATCH_STD()
-    return 0;
-}
-
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Property_nativeGetFinalizerPtr(JNIEnv*, jclass)
 {
     return reinterpret_cast<jlong>(&finalize_property);
@@ -119,6 +58,17 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Property_nativeGetColumnKey(JNIEn
     return static_cast<jlong>(property.column_key.value);
 }
 
+JNIEXPORT jboolean JNICALL Java_io_realm_internal_Property_nativeIsFullTextIndexed(JNIEnv*, jclass, jlong native_ptr)
+{
+#if REALM_JNI_HAS_FULLTEXT_INDEX
+    auto& property = *reinterpret_cast<Property*>(native_ptr);
+    return to_jbool(property.is_fulltext_indexed);
+#else
+    static_cast<void>(native_ptr);
+    return JNI_FALSE;
+#endif
+}
+
 JNIEXPORT jstring JNICALL Java_io_realm_internal_Property_nativeGetLinkedObjectName(JNIEnv* env, jclass,
                                                                                     jlong native_ptr)
 {
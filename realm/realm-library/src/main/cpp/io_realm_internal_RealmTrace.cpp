@@ -0,0 +1,27 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#include "io_realm_internal_RealmTrace.h"
+
+#include "util.hpp"
+#include "jni_util/trace.hpp"
+
+using namespace realm::jni_util;
+
+JNIEXPORT void JNICALL Java_io_realm_internal_RealmTrace_nativeSetEnabled(JNIEnv*, jclass, jboolean enabled)
+{
+    Trace::set_enabled(enabled == JNI_TRUE);
+}
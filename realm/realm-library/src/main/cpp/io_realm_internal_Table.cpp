@@ -15,6 +15,8 @@
  */
 
 #include <sstream>
+#include <unordered_set>
+#include <vector>
 
 #include "util.hpp"
 #include "io_realm_internal_Property.h"
@@ -25,6 +27,7 @@
 #include "java_exception_def.hpp"
 #include <realm/object-store/shared_realm.hpp>
 #include "jni_util/java_exception_thrower.hpp"
+#include "jni_util/java_local_ref.hpp"
 
 #include <realm/util/to_string.hpp>
 
@@ -64,6 +67,7 @@ inline static bool is_allowed_to_index(JNIEnv* env, DataType column_type)
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeAddColumn(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                      jint colType, jstring name, jboolean isNullable)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor name2(env, name); // throws
         bool is_column_nullable = to_bool(isNullable);
@@ -83,6 +87,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeAddPrimitiveListColum
                                                                                   jlong native_table_ptr, jint j_col_type,
                                                                                   jstring j_name, jboolean j_is_nullable)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor name(env, j_name); // throws
         bool is_column_nullable = to_bool(j_is_nullable);
@@ -101,6 +106,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeAddPrimitiveDictionar
                                                                                         jstring j_name,
                                                                                         jboolean j_is_nullable)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor name(env, j_name); // throws
         bool is_column_nullable = to_bool(j_is_nullable);
@@ -119,6 +125,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeAddPrimitiveSetColumn
                                                                                  jstring j_name,
                                                                                  jboolean j_is_nullable)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor name(env, j_name); // throws
         bool is_column_nullable = to_bool(j_is_nullable);
@@ -134,6 +141,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeAddColumnLink(JNIEnv*
                                                                          jint colType, jstring name,
                                                                          jlong targetTableRefPtr)
 {
+    ACCOUNT_JNI_CALL();
     TableRef targetTableRef = TBL_REF(targetTableRefPtr);
     if (!targetTableRef->is_group_level()) {
         ThrowException(env, UnsupportedOperation, "Links can only be made to toplevel tables.");
@@ -162,6 +170,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeAddColumnDictionaryLi
                                                                                    jstring name,
                                                                                    jlong targetTableRefPtr)
 {
+    ACCOUNT_JNI_CALL();
     TableRef targetTableRef = TBL_REF(targetTableRefPtr);
     if (!targetTableRef->is_group_level()) {
         ThrowException(env, UnsupportedOperation, "Links can only be made to toplevel tables.");
@@ -189,6 +198,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeAddColumnSetLink(JNIE
                                                                             jstring name,
                                                                             jlong targetTableRefPtr)
 {
+    ACCOUNT_JNI_CALL();
     TableRef targetTableRef = TBL_REF(targetTableRefPtr);
     if (!targetTableRef->is_group_level()) {
         ThrowException(env, UnsupportedOperation, "Links can only be made to toplevel tables.");
@@ -212,6 +222,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeAddColumnSetLink(JNIE
 JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeRemoveColumn(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                        jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TBL_REF(nativeTableRefPtr);
         table->remove_column(ColKey(columnKey));
@@ -222,6 +233,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeRemoveColumn(JNIEnv* e
 JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeRenameColumn(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                        jlong columnKey, jstring name)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor name2(env, name); // throws
         TableRef table = TBL_REF(nativeTableRefPtr);
@@ -234,6 +246,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeIsColumnNullable(J
                                                                                jlong nativeTableRefPtr,
                                                                                jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     return to_jbool(table->is_nullable(ColKey(columnKey))); // noexcept
 }
@@ -243,6 +256,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeConvertColumnToNullabl
                                                                                   jlong j_column_key,
                                                                                   jboolean is_primary_key)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TBL_REF(native_table_ref_ptr);
         ColKey col_key(j_column_key);
@@ -262,6 +276,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeConvertColumnToNotNull
                                                                                      jlong j_column_key,
                                                                                      jboolean is_primary_key)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TBL_REF(native_table_ref_ptr);
         ColKey col_key(j_column_key);
@@ -277,12 +292,14 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeConvertColumnToNotNull
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeSize(JNIEnv*, jobject, jlong nativeTableRefPtr)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     return static_cast<jlong>(table->size()); // noexcept
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeClear(JNIEnv* env, jobject, jlong nativeTableRefPtr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TBL_REF(nativeTableRefPtr);
         table->clear();
@@ -290,12 +307,410 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeClear(JNIEnv* env, job
     CATCH_STD()
 }
 
+// Size of the stored representation of a value, used to report how much data was warmed up and how much space the
+// values of a column take.
+static size_t stored_value_size(const Mixed& value)
+{
+    if (value.is_null()) {
+        return 0;
+    }
+    switch (value.get_type()) {
+        case type_String:
+            return value.get_string().size();
+        case type_Binary:
+            return value.get_binary().size();
+        case type_Bool:
+            return 1;
+        case type_Float:
+            return sizeof(float);
+        case type_Timestamp:
+            return sizeof(int64_t) + sizeof(int32_t);
+        case type_ObjectId:
+            return sizeof(ObjectId);
+        case type_Decimal:
+            return sizeof(Decimal128);
+        case type_UUID:
+            return sizeof(UUID);
+        default:
+            return sizeof(int64_t);
+    }
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeWarmUp(JNIEnv* env, jobject, jlong nativeTableRefPtr,
+                                                                 jlongArray j_column_keys)
+{
+    ACCOUNT_JNI_CALL();
+    try {
+        TableRef table = TBL_REF(nativeTableRefPtr);
+        JLongArrayAccessor column_keys(env, j_column_keys);
+        std::vector<ColKey> col_keys;
+        if (column_keys.size() == 0) {
+            for (auto col_key : table->get_column_keys()) {
+                col_keys.push_back(col_key);
+            }
+        }
+        else {
+            for (jsize i = 0; i < column_keys.size(); ++i) {
+                ColKey col_key(column_keys[i]);
+                if (!table->valid_column(col_key)) {
+                    ThrowException(env, IllegalArgument, "Column key is not valid for this table.");
+                    return;
+                }
+                col_keys.push_back(col_key);
+            }
+        }
+
+        // Reading every value touches the pages of the memory-mapped file backing the columns, so they are resident
+        // when the caller starts querying. Advising the kernel with MADV_WILLNEED would only work on whole file
+        // mappings, as the file offsets of a column's arrays are not known here, and load unrelated data as well.
+        for (auto& obj : *table) {
+            for (auto col_key : col_keys) {
+                if (col_key.is_collection()) {
+                    auto collection = obj.get_collection_ptr(col_key);
+                    size_t size = collection->size();
+                    for (size_t i = 0; i < size; ++i) {
+                        collection->get_any(i);
+                    }
+                }
+                else {
+                    obj.get_any(col_key);
+                }
+            }
+        }
+    }
+    CATCH_STD()
+}
+
+
+JNIEXPORT jlongArray JNICALL Java_io_realm_internal_Table_nativeGetColumnStorageStats(JNIEnv* env, jobject,
+                                                                                     jlong nativeTableRefPtr,
+                                                                                     jlongArray j_column_keys)
+{
+    ACCOUNT_JNI_CALL();
+    try {
+        TableRef table = TBL_REF(nativeTableRefPtr);
+        JLongArrayAccessor column_keys(env, j_column_keys);
+        const jsize stats_size = io_realm_internal_Table_COLUMN_STATS_SIZE;
+        std::vector<jlong> stats(static_cast<size_t>(column_keys.size() * stats_size), 0);
+
+        for (jsize i = 0; i < column_keys.size(); ++i) {
+            ColKey col_key(column_keys[i]);
+            if (!table->valid_column(col_key)) {
+                ThrowException(env, IllegalArgument, "Column key is not valid for this table.");
+                return nullptr;
+            }
+            jlong* column_stats = stats.data() + i * stats_size;
+            bool is_string_column = col_key.get_type() == col_type_String && !col_key.is_collection();
+            column_stats[io_realm_internal_Table_COLUMN_STATS_ENUMERATED] =
+                (is_string_column && table->is_enumerated(col_key)) ? 1 : 0;
+            column_stats[io_realm_internal_Table_COLUMN_STATS_UNIQUE_VALUE_BYTES] = is_string_column ? 0 : -1;
+
+            // The strings point into the mapped file and stay valid as long as the read transaction.
+            std::unordered_set<StringData> unique_strings;
+            uint64_t bytes = 0;
+            for (auto& obj : *table) {
+                if (col_key.is_collection()) {
+                    auto collection = obj.get_collection_ptr(col_key);
+                    size_t size = collection->size();
+                    for (size_t j = 0; j < size; ++j) {
+                        bytes += stored_value_size(collection->get_any(j));
+                    }
+                }
+                else if (is_string_column) {
+                    StringData value = obj.get<StringData>(col_key);
+                    bytes += value.size();
+                    if (!value.is_null()) {
+                        unique_strings.insert(value);
+                    }
+                }
+                else {
+                    bytes += stored_value_size(obj.get_any(col_key));
+                }
+            }
+            column_stats[io_realm_internal_Table_COLUMN_STATS_VALUE_BYTES] = static_cast<jlong>(bytes);
+            if (is_string_column) {
+                uint64_t unique_bytes = 0;
+                for (auto& value : unique_strings) {
+                    unique_bytes += value.size();
+                }
+                column_stats[io_realm_internal_Table_COLUMN_STATS_UNIQUE_VALUE_BYTES] = static_cast<jlong>(unique_bytes);
+            }
+        }
+
+        jlongArray j_stats = env->NewLongArray(static_cast<jsize>(stats.size()));
+        if (j_stats == nullptr) {
+            ThrowException(env, OutOfMemory, "Could not allocate memory to return the column storage statistics.");
+            return nullptr;
+        }
+        env->SetLongArrayRegion(j_stats, 0, static_cast<jsize>(stats.size()), stats.data());
+        return j_stats;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeCopyColumn(JNIEnv* env, jobject, jlong nativeTableRefPtr,
+                                                                     jlong fromColumnKey, jlong toColumnKey)
+{
+    ACCOUNT_JNI_CALL();
+    try {
+        TableRef table = TBL_REF(nativeTableRefPtr);
+        ColKey from_col_key(fromColumnKey);
+        ColKey to_col_key(toColumnKey);
+        for (auto& obj : *table) {
+            obj.set_any(to_col_key, obj.get_any(from_col_key));
+        }
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT jobjectArray JNICALL Java_io_realm_internal_Table_nativeReadColumnBatch(JNIEnv* env, jobject,
+                                                                                  jlong nativeTableRefPtr,
+                                                                                  jlongArray j_column_keys,
+                                                                                  jlong start, jint count)
+{
+    ACCOUNT_JNI_CALL();
+    try {
+        TableRef table = TBL_REF(nativeTableRefPtr);
+        JLongArrayAccessor column_keys(env, j_column_keys);
+        jsize column_count = column_keys.size();
+
+        std::vector<Obj> objects;
+        std::vector<jlong> object_keys;
+        objects.reserve(static_cast<size_t>(count));
+        object_keys.reserve(static_cast<size_t>(count));
+        for (jint i = 0; i < count; ++i) {
+            Obj obj = table->get_object(static_cast<size_t>(start + i));
+            object_keys.push_back(static_cast<jlong>(obj.get_key().value));
+            objects.push_back(std::move(obj));
+        }
+
+        // Layout: {long[] objectKeys, values of column 0, nulls of column 0, values of column 1, ...}
+        jobjectArray j_batch = env->NewObjectArray(1 + 2 * column_count, JavaClassGlobalDef::java_lang_object(), nullptr);
+        jlongArray j_object_keys = env->NewLongArray(count);
+        if (!j_batch || !j_object_keys) {
+            ThrowException(env, OutOfMemory, "Could not allocate memory to read the column batch.");
+            return nullptr;
+        }
+        env->SetLongArrayRegion(j_object_keys, 0, count, object_keys.data());
+        env->SetObjectArrayElement(j_batch, 0, j_object_keys);
+        env->DeleteLocalRef(j_object_keys);
+
+        std::vector<jboolean> nulls(static_cast<size_t>(count));
+        for (jsize c = 0; c < column_count; ++c) {
+            ColKey col_key(column_keys[c]);
+            ColumnType type = col_key.get_type();
+            jobject j_values;
+            switch (type) {
+                case col_type_Int:
+                case col_type_Bool:
+                case col_type_Timestamp: {
+                    std::vector<jlong> values(static_cast<size_t>(count));
+                    for (jint i = 0; i < count; ++i) {
+                        Mixed value = objects[i].get_any(col_key);
+                        nulls[i] = to_jbool(value.is_null());
+                        if (value.is_null()) {
+                            values[i] = 0;
+                        }
+                        else if (type == col_type_Int) {
+                            values[i] = static_cast<jlong>(value.get_int());
+                        }
+                        else if (type == col_type_Bool) {
+                            values[i] = value.get_bool() ? 1 : 0;
+                        }
+                        else {
+                            values[i] = to_milliseconds(value.get_timestamp());
+                        }
+                    }
+                    jlongArray j_longs = env->NewLongArray(count);
+                    if (!j_longs) {
+                        ThrowException(env, OutOfMemory, "Could not allocate memory to read the column batch.");
+                        return nullptr;
+                    }
+                    env->SetLongArrayRegion(j_longs, 0, count, values.data());
+                    j_values = j_longs;
+                    break;
+                }
+                case col_type_Float:
+                case col_type_Double: {
+                    std::vector<jdouble> values(static_cast<size_t>(count));
+                    for (jint i = 0; i < count; ++i) {
+                        Mixed value = objects[i].get_any(col_key);
+                        nulls[i] = to_jbool(value.is_null());
+                        if (value.is_null()) {
+                            values[i] = 0;
+                        }
+                        else {
+                            values[i] = type == col_type_Float ? static_cast<jdouble>(value.get_float())
+                                                               : value.get_double();
+                        }
+                    }
+                    jdoubleArray j_doubles = env->NewDoubleArray(count);
+                    if (!j_doubles) {
+                        ThrowException(env, OutOfMemory, "Could not allocate memory to read the column batch.");
+                        return nullptr;
+                    }
+                    env->SetDoubleArrayRegion(j_doubles, 0, count, values.data());
+                    j_values = j_doubles;
+                    break;
+                }
+                case col_type_String: {
+                    jobjectArray j_strings =
+                        env->NewObjectArray(count, JavaClassGlobalDef::java_lang_string(), nullptr);
+                    if (!j_strings) {
+                        ThrowException(env, OutOfMemory, "Could not allocate memory to read the column batch.");
+                        return nullptr;
+                    }
+                    for (jint i = 0; i < count; ++i) {
+                        Mixed value = objects[i].get_any(col_key);
+                        nulls[i] = to_jbool(value.is_null());
+                        if (!value.is_null()) {
+                            jstring j_string = to_jstring(env, value.get_string());
+                            env->SetObjectArrayElement(j_strings, i, j_string);
+                            env->DeleteLocalRef(j_string);
+                        }
+                    }
+                    j_values = j_strings;
+                    break;
+                }
+                default:
+                    throw std::invalid_argument(
+                        util::format("Column '%1' cannot be read in batches.", table->get_column_name(col_key)));
+            }
+            jbooleanArray j_nulls = env->NewBooleanArray(count);
+            if (!j_nulls) {
+                ThrowException(env, OutOfMemory, "Could not allocate memory to read the column batch.");
+                return nullptr;
+            }
+            env->SetBooleanArrayRegion(j_nulls, 0, count, nulls.data());
+            env->SetObjectArrayElement(j_batch, 1 + 2 * c, j_values);
+            env->SetObjectArrayElement(j_batch, 2 + 2 * c, j_nulls);
+            env->DeleteLocalRef(j_values);
+            env->DeleteLocalRef(j_nulls);
+        }
+        return j_batch;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeWriteColumnBatch(JNIEnv* env, jobject,
+                                                                           jlong nativeTableRefPtr,
+                                                                           jlongArray j_column_keys,
+                                                                           jlongArray j_object_keys,
+                                                                           jobjectArray j_values,
+                                                                           jobjectArray j_nulls,
+                                                                           jobjectArray j_modified_rows)
+{
+    ACCOUNT_JNI_CALL();
+    try {
+        TableRef table = TBL_REF(nativeTableRefPtr);
+        JLongArrayAccessor column_keys(env, j_column_keys);
+        JLongArrayAccessor object_keys(env, j_object_keys);
+        jsize count = object_keys.size();
+
+        // Objects deleted while the batch was being processed are skipped.
+        std::vector<Obj> objects;
+        objects.reserve(static_cast<size_t>(count));
+        for (jsize i = 0; i < count; ++i) {
+            ObjKey obj_key(object_keys[i]);
+            objects.push_back(table->is_valid(obj_key) ? table->get_object(obj_key) : Obj());
+        }
+
+        for (jsize c = 0; c < column_keys.size(); ++c) {
+            ColKey col_key(column_keys[c]);
+            ColumnType type = col_key.get_type();
+            jobject j_column_values = env->GetObjectArrayElement(j_values, c);
+            jbooleanArray j_column_nulls = static_cast<jbooleanArray>(env->GetObjectArrayElement(j_nulls, c));
+            jbooleanArray j_column_modified =
+                static_cast<jbooleanArray>(env->GetObjectArrayElement(j_modified_rows, c));
+            JBooleanArrayAccessor nulls(env, j_column_nulls);
+            // Only values set from Java are written, so unmodified values keep their full precision.
+            JBooleanArrayAccessor modified(env, j_column_modified);
+            switch (type) {
+                case col_type_Int:
+                case col_type_Bool:
+                case col_type_Timestamp: {
+                    JLongArrayAccessor values(env, static_cast<jlongArray>(j_column_values));
+                    for (jsize i = 0; i < count; ++i) {
+                        Obj& obj = objects[i];
+                        if (!to_bool(modified[i]) || !obj.is_valid()) {
+                            continue;
+                        }
+                        if (to_bool(nulls[i])) {
+                            obj.set_null(col_key);
+                        }
+                        else if (type == col_type_Int) {
+                            obj.set(col_key, static_cast<int64_t>(values[i]));
+                        }
+                        else if (type == col_type_Bool) {
+                            obj.set(col_key, values[i] != 0);
+                        }
+                        else {
+                            obj.set(col_key, from_milliseconds(values[i]));
+                        }
+                    }
+                    break;
+                }
+                case col_type_Float:
+                case col_type_Double: {
+                    JDoubleArrayAccessor values(env, static_cast<jdoubleArray>(j_column_values));
+                    for (jsize i = 0; i < count; ++i) {
+                        Obj& obj = objects[i];
+                        if (!to_bool(modified[i]) || !obj.is_valid()) {
+                            continue;
+                        }
+                        if (to_bool(nulls[i])) {
+                            obj.set_null(col_key);
+                        }
+                        else if (type == col_type_Float) {
+                            obj.set(col_key, static_cast<float>(values[i]));
+                        }
+                        else {
+                            obj.set(col_key, static_cast<double>(values[i]));
+                        }
+                    }
+                    break;
+                }
+                case col_type_String: {
+                    jobjectArray j_strings = static_cast<jobjectArray>(j_column_values);
+                    for (jsize i = 0; i < count; ++i) {
+                        Obj& obj = objects[i];
+                        if (!to_bool(modified[i]) || !obj.is_valid()) {
+                            continue;
+                        }
+                        if (to_bool(nulls[i])) {
+                            obj.set_null(col_key);
+                        }
+                        else {
+                            // A batch has more rows than the local reference table holds on older Android
+                            // versions, so the reference to each string is released right away.
+                            JavaLocalRef<jstring> j_string(
+                                env, static_cast<jstring>(env->GetObjectArrayElement(j_strings, i)));
+                            JStringAccessor value(env, j_string);
+                            obj.set(col_key, StringData(value));
+                        }
+                    }
+                    break;
+                }
+                default:
+                    throw std::invalid_argument(
+                        util::format("Column '%1' cannot be written in batches.", table->get_column_name(col_key)));
+            }
+            env->DeleteLocalRef(j_column_values);
+            env->DeleteLocalRef(j_column_nulls);
+            env->DeleteLocalRef(j_column_modified);
+        }
+    }
+    CATCH_STD()
+}
 
 // -------------- Column information
 
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetColumnCount(JNIEnv*, jobject, jlong nativeTableRefPtr)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     return static_cast<jlong>(table->get_column_count()); // noexcept
 }
@@ -303,6 +718,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetColumnCount(JNIEnv
 JNIEXPORT jstring JNICALL Java_io_realm_internal_Table_nativeGetColumnName(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                            jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TBL_REF(nativeTableRefPtr);
         ColKey col_key(columnKey);
@@ -315,6 +731,7 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_Table_nativeGetColumnName(JNIEn
 
 JNIEXPORT jobjectArray JNICALL Java_io_realm_internal_Table_nativeGetColumnNames(JNIEnv* env, jobject, jlong nativeTableRefPtr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TBL_REF(nativeTableRefPtr);
         ColKeys col_keys = table->get_column_keys();
@@ -337,6 +754,7 @@ JNIEXPORT jobjectArray JNICALL Java_io_realm_internal_Table_nativeGetColumnNames
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetColumnKey(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                           jstring columnName)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor columnName2(env, columnName);                                     // throws
         TableRef table = TBL_REF(nativeTableRefPtr);
@@ -353,6 +771,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetColumnKey(JNIEnv*
 JNIEXPORT jint JNICALL Java_io_realm_internal_Table_nativeGetColumnType(JNIEnv*, jobject, jlong nativeTableRefPtr,
                                                                         jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     ColKey column_key (columnKey);
     TableRef table = TBL_REF(nativeTableRefPtr);
     DataType column_type = table->get_column_type(column_key);
@@ -377,6 +796,7 @@ JNIEXPORT jint JNICALL Java_io_realm_internal_Table_nativeGetColumnType(JNIEnv*,
 JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeMoveLastOver(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                        jlong rowKey)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TBL_REF(nativeTableRefPtr);
         table->remove_object(ObjKey(rowKey));
@@ -389,6 +809,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeMoveLastOver(JNIEnv* e
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetLong(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                    jlong columnKey, jlong rowKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Int)) {
         return 0;
@@ -399,6 +820,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetLong(JNIEnv* env,
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeGetBoolean(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                          jlong columnKey, jlong rowKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Bool)) {
         return JNI_FALSE;
@@ -410,6 +832,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeGetBoolean(JNIEnv*
 JNIEXPORT jfloat JNICALL Java_io_realm_internal_Table_nativeGetFloat(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                      jlong columnKey, jlong rowKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Float)) {
         return 0;
@@ -421,6 +844,7 @@ JNIEXPORT jfloat JNICALL Java_io_realm_internal_Table_nativeGetFloat(JNIEnv* env
 JNIEXPORT jdouble JNICALL Java_io_realm_internal_Table_nativeGetDouble(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                        jlong columnKey, jlong rowKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Double)) {
         return 0;
@@ -432,6 +856,7 @@ JNIEXPORT jdouble JNICALL Java_io_realm_internal_Table_nativeGetDouble(JNIEnv* e
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetTimestamp(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                         jlong columnKey, jlong rowKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Timestamp)) {
         return 0;
@@ -446,6 +871,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetTimestamp(JNIEnv*
 JNIEXPORT jstring JNICALL Java_io_realm_internal_Table_nativeGetString(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                        jlong columnKey, jlong rowKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_String)) {
         return nullptr;
@@ -460,6 +886,7 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_Table_nativeGetString(JNIEnv* e
 JNIEXPORT jlongArray JNICALL Java_io_realm_internal_Table_nativeGetDecimal128(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                        jlong columnKey, jlong rowKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Decimal)) {
         return nullptr;
@@ -475,6 +902,7 @@ JNIEXPORT jlongArray JNICALL Java_io_realm_internal_Table_nativeGetDecimal128(JN
 JNIEXPORT jstring JNICALL Java_io_realm_internal_Table_nativeGetObjectId(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                        jlong columnKey, jlong rowKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_ObjectId)) {
         return nullptr;
@@ -490,6 +918,7 @@ JNIEXPORT jbyteArray JNICALL Java_io_realm_internal_Table_nativeGetByteArray(JNI
                                                                              jlong nativeTableRefPtr, jlong columnKey,
                                                                              jlong rowKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Binary)) {
         return nullptr;
@@ -505,6 +934,7 @@ JNIEXPORT jbyteArray JNICALL Java_io_realm_internal_Table_nativeGetByteArray(JNI
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetLink(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                    jlong columnKey, jlong rowKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Link)) {
         return 0;
@@ -515,6 +945,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetLink(JNIEnv* env,
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetLinkTarget(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                          jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table_ref = TBL_REF(nativeTableRefPtr);
         return reinterpret_cast<jlong>(new TableRef(table_ref->get_link_target(ColKey(columnKey))));
@@ -526,6 +957,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetLinkTarget(JNIEnv*
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeIsNull(JNIEnv*, jobject, jlong nativeTableRefPtr,
                                                                      jlong columnKey, jlong rowKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     return to_jbool(table->get_object(ObjKey(rowKey)).is_null(ColKey(columnKey))); // noexcept
 }
@@ -534,6 +966,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetRealmAny(JNIEnv* en
                                                                   jlong columnKey, jlong rowKey, jlong nativePtr,
                                                                   jboolean isDefault)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Mixed)) {
         return;
@@ -549,6 +982,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetLink(JNIEnv* env, j
                                                                   jlong columnKey, jlong rowKey,
                                                                   jlong targetRowKey, jboolean isDefault)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Link)) {
         return;
@@ -563,6 +997,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetLong(JNIEnv* env, j
                                                                   jlong columnKey, jlong rowKey, jlong value,
                                                                   jboolean isDefault)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Int)) {
         return;
@@ -576,6 +1011,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetLong(JNIEnv* env, j
 JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeIncrementLong(JNIEnv* env, jclass, jlong nativeTableRefPtr,
                                                                   jlong columnKey, jlong rowKey, jlong value)
 {
+    ACCOUNT_JNI_CALL();
 
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Int)) {
@@ -598,6 +1034,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetBoolean(JNIEnv* env
                                                                      jlong columnKey, jlong rowKey,
                                                                      jboolean value, jboolean isDefault)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Bool)) {
         return;
@@ -612,6 +1049,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetFloat(JNIEnv* env,
                                                                    jlong columnKey, jlong rowKey, jfloat value,
                                                                    jboolean isDefault)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Float)) {
         return;
@@ -626,6 +1064,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetDouble(JNIEnv* env,
                                                                     jlong columnKey, jlong rowKey, jdouble value,
                                                                     jboolean isDefault)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Double)) {
         return;
@@ -640,6 +1079,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetString(JNIEnv* env,
                                                                     jlong columnKey, jlong rowKey, jstring value,
                                                                     jboolean isDefault)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_String)) {
         return;
@@ -660,6 +1100,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetTimestamp(JNIEnv* e
                                                                        jlong columnKey, jlong rowKey,
                                                                        jlong timestampValue, jboolean isDefault)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Timestamp)) {
         return;
@@ -674,6 +1115,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetByteArray(JNIEnv* e
                                                                        jlong columnKey, jlong rowKey,
                                                                        jbyteArray dataArray, jboolean isDefault)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Binary)) {
         return;
@@ -693,6 +1135,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetDecimal128(JNIEnv*
                                                                         jlong columnKey, jlong rowKey, jlong low,
                                                                         jlong high, jboolean isDefault)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Decimal)) {
         return;
@@ -708,6 +1151,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetObjectId(JNIEnv* en
                                                                       jlong columnKey, jlong rowKey, jstring j_value,
                                                                       jboolean isDefault)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_ObjectId)) {
         return;
@@ -723,6 +1167,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetUUID(JNIEnv* env, j
                                                                       jlong columnKey, jlong rowKey, jstring j_value,
                                                                       jboolean isDefault)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_UUID)) {
         return;
@@ -739,6 +1184,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetNull(JNIEnv* env, j
                                                                   jlong columnKey, jlong rowKey,
                                                                   jboolean isDefault)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!COL_NULLABLE(env, table, columnKey)) {
         return;
@@ -753,6 +1199,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetNull(JNIEnv* env, j
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetRowPtr(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                      jlong key)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TBL_REF(nativeTableRefPtr);
         Obj* obj = new Obj(table->get_object(ObjKey(key)));
@@ -767,6 +1214,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetRowPtr(JNIEnv* env
 JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeAddSearchIndex(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                          jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     ColKey colKey(columnKey);
     DataType column_type = table->get_column_type(colKey);
@@ -783,6 +1231,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeAddSearchIndex(JNIEnv*
 JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeRemoveSearchIndex(JNIEnv* env, jobject,
                                                                             jlong nativeTableRefPtr, jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     DataType column_type = table->get_column_type(ColKey(columnKey));
     if (!is_allowed_to_index(env, column_type)) {
@@ -798,6 +1247,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeRemoveSearchIndex(JNIE
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeHasSearchIndex(JNIEnv* env, jobject,
                                                                              jlong nativeTableRefPtr, jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TBL_REF(nativeTableRefPtr);
         return to_jbool(table->has_search_index(ColKey(columnKey)));
@@ -806,9 +1256,77 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeHasSearchIndex(JNI
     return JNI_FALSE;
 }
 
+JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeAddFullTextIndex(JNIEnv* env, jobject, jlong nativeTableRefPtr,
+                                                                           jlong columnKey)
+{
+    ACCOUNT_JNI_CALL();
+    TableRef table = TBL_REF(nativeTableRefPtr);
+    ColKey colKey(columnKey);
+    if (table->get_column_type(colKey) != type_String || colKey.is_collection()) {
+        ThrowException(env, IllegalArgument, "This field cannot have a full-text index - "
+                                             "Only String fields are supported.");
+        return;
+    }
+
+    try {
+#if REALM_JNI_HAS_FULLTEXT_INDEX
+        table->add_fulltext_index(colKey);
+#else
+        throw std::invalid_argument(ERR_FULLTEXT_INDEX_UNSUPPORTED);
+#endif
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeIsFullTextIndexSupported(JNIEnv*, jclass)
+{
+    ACCOUNT_JNI_CALL();
+    return to_jbool(REALM_JNI_HAS_FULLTEXT_INDEX);
+}
+
+JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeRemoveFullTextIndex(JNIEnv* env, jobject,
+                                                                              jlong nativeTableRefPtr, jlong columnKey)
+{
+    ACCOUNT_JNI_CALL();
+    try {
+#if REALM_JNI_HAS_FULLTEXT_INDEX
+        TableRef table = TBL_REF(nativeTableRefPtr);
+        ColKey colKey(columnKey);
+        if (table->search_index_type(colKey) != IndexType::Fulltext) {
+            ThrowException(env, IllegalArgument, "Field does not have a full-text index.");
+            return;
+        }
+        table->remove_search_index(colKey);
+#else
+        static_cast<void>(nativeTableRefPtr);
+        static_cast<void>(columnKey);
+        throw std::invalid_argument(ERR_FULLTEXT_INDEX_UNSUPPORTED);
+#endif
+    }
+    CATCH_STD()
+}
+
+JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeHasFullTextIndex(JNIEnv* env, jobject,
+                                                                               jlong nativeTableRefPtr, jlong columnKey)
+{
+    ACCOUNT_JNI_CALL();
+    try {
+#if REALM_JNI_HAS_FULLTEXT_INDEX
+        TableRef table = TBL_REF(nativeTableRefPtr);
+        return to_jbool(table->search_index_type(ColKey(columnKey)) == IndexType::Fulltext);
+#else
+        static_cast<void>(nativeTableRefPtr);
+        static_cast<void>(columnKey);
+#endif
+    }
+    CATCH_STD()
+    return JNI_FALSE;
+}
+
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeIsNullLink(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                          jlong columnKey, jlong rowKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Link)) {
         return JNI_FALSE;
@@ -820,6 +1338,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeIsNullLink(JNIEnv*
 JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeNullifyLink(JNIEnv* env, jclass, jlong nativeTableRefPtr,
                                                                       jlong columnKey, jlong rowKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Link)) {
         return;
@@ -835,6 +1354,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeNullifyLink(JNIEnv* en
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeCountLong(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                      jlong columnKey, jlong value)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Int)) {
         return 0;
@@ -849,6 +1369,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeCountLong(JNIEnv* env
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeCountFloat(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                       jlong columnKey, jfloat value)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Float)) {
         return 0;
@@ -863,6 +1384,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeCountFloat(JNIEnv* en
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeCountDouble(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                        jlong columnKey, jdouble value)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Double)) {
         return 0;
@@ -877,6 +1399,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeCountDouble(JNIEnv* e
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeCountString(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                        jlong columnKey, jstring value)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_String)) {
         return 0;
@@ -892,6 +1415,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeCountString(JNIEnv* e
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeWhere(JNIEnv* env, jobject, jlong nativeTableRefPtr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TBL_REF(nativeTableRefPtr);
         Query* queryPtr = new Query(table->where());
@@ -907,6 +1431,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeWhere(JNIEnv* env, jo
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstInt(JNIEnv* env, jclass, jlong nativeTableRefPtr,
                                                                         jlong columnKey, jlong value)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Int)) {
         return -1;
@@ -921,6 +1446,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstInt(JNIEnv*
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstBool(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                          jlong columnKey, jboolean value)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Bool)) {
         return -1;
@@ -935,6 +1461,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstBool(JNIEnv*
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstFloat(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                           jlong columnKey, jfloat value)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Float)) {
         return -1;
@@ -949,6 +1476,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstFloat(JNIEnv
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstDouble(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                            jlong columnKey, jdouble value)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Double)) {
         return -1;
@@ -964,6 +1492,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstTimestamp(JN
                                                                               jlong nativeTableRefPtr, jlong columnKey,
                                                                               jlong dateTimeValue)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Timestamp)) {
         return -1;
@@ -978,6 +1507,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstTimestamp(JN
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstString(JNIEnv* env, jclass, jlong nativeTableRefPtr,
                                                                            jlong columnKey, jstring value)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_String)) {
         return -1;
@@ -994,6 +1524,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstString(JNIEn
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstDecimal128(JNIEnv* env, jclass, jlong nativeTableRefPtr,
                                                                              jlong columnKey, jlong low, jlong high)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_Decimal)) {
         return -1;
@@ -1010,6 +1541,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstDecimal128(J
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstObjectId(JNIEnv* env, jclass, jlong nativeTableRefPtr,
                                                                              jlong columnKey, jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_ObjectId)) {
         return -1;
@@ -1027,6 +1559,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstObjectId(JNI
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstUUID(JNIEnv* env, jclass, jlong nativeTableRefPtr,
                                                                              jlong columnKey, jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_UUID)) {
         return -1;
@@ -1045,6 +1578,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstUUID(JNIEnv*
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstNull(JNIEnv* env, jclass, jlong nativeTableRefPtr,
                                                                          jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!COL_NULLABLE(env, table, columnKey)) {
         return static_cast<jlong>(realm::not_found);
@@ -1062,6 +1596,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstNull(JNIEnv*
 
 JNIEXPORT jstring JNICALL Java_io_realm_internal_Table_nativeGetName(JNIEnv* env, jobject, jlong nativeTableRefPtr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TBL_REF(nativeTableRefPtr);
         // Mirror API in Java for now. Before Core 6 this would return null for tables not attached to the group.
@@ -1077,6 +1612,7 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_Table_nativeGetName(JNIEnv* env
 
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeIsValid(JNIEnv*, jobject, jlong nativeTableRefPtr)
 {
+    ACCOUNT_JNI_CALL();
     if(TBL_REF(nativeTableRefPtr)) {
         return JNI_TRUE;
     } else {
@@ -1087,6 +1623,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeIsValid(JNIEnv*, j
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeHasSameSchema(JNIEnv*, jobject, jlong thisTableRefPtr,
                                                                             jlong otherTableRefPtr)
 {
+    ACCOUNT_JNI_CALL();
     TableRef this_table = TBL_REF(thisTableRefPtr);
     TableRef other_table = TBL_REF(otherTableRefPtr);
     return to_jbool(this_table->get_key() == other_table->get_key());
@@ -1099,11 +1636,13 @@ static void finalize_table(jlong ptr)
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetFinalizerPtr(JNIEnv*, jclass)
 {
+    ACCOUNT_JNI_CALL();
     return reinterpret_cast<jlong>(&finalize_table);
 }
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFreeze(JNIEnv*, jclass, jlong j_frozen_shared_realm_ptr, jlong j_table_ptr)
 {
+    ACCOUNT_JNI_CALL();
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(j_frozen_shared_realm_ptr));
     TableRef table = TableRef(TBL_REF(j_table_ptr));
     TableRef* frozen_table = new TableRef(shared_realm->import_copy_of(table));
@@ -1112,6 +1651,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFreeze(JNIEnv*, jclas
 
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeIsEmbedded(JNIEnv* env, jclass, jlong j_table_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TableRef(TBL_REF(j_table_ptr));
         return to_jbool(table->is_embedded());
@@ -1122,6 +1662,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeIsEmbedded(JNIEnv*
 
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeSetEmbedded(JNIEnv* env, jclass, jlong j_table_ptr, jboolean j_embedded)
 {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef table = TableRef(TBL_REF(j_table_ptr));
         table->set_table_type(to_bool(j_embedded) ? Table::Type::Embedded : Table::Type::TopLevel);
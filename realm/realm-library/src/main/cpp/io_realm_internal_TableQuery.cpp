@@ -16,6 +16,12 @@
 
 #include "io_realm_internal_TableQuery.h"
 
+#include <algorithm>
+#include <exception>
+#include <limits>
+#include <map>
+#include <vector>
+
 #include <realm.hpp>
 #include <realm/query_expression.hpp>
 #include <realm/table.hpp>
@@ -30,6 +36,8 @@
 #include "java_object_accessor.hpp"
 #include "java_class_global_def.hpp"
 #include "util.hpp"
+#include "jni_util/java_local_ref.hpp"
+#include "jni_util/worker_pool.hpp"
 
 using namespace realm;
 using namespace realm::jni_util;
@@ -40,6 +48,7 @@ static void finalize_table_query(jlong ptr);
 // Find --------------------------------------
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeFind(JNIEnv *env, jobject, jlong nativeQueryPtr) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     try {
         auto ordering = pQuery->get_ordering();
@@ -64,6 +73,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeFind(JNIEnv *env
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeSumInt(JNIEnv *env, jobject, jlong nativeQueryPtr,
                                                                        jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Int)) {
@@ -78,6 +88,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeSumInt(JNIEnv *e
 
 JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMaximumInt(JNIEnv *env, jobject,
                                                                              jlong nativeQueryPtr, jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Int)) {
@@ -97,6 +108,7 @@ JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMaximumInt(JNI
 
 JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMinimumInt(JNIEnv *env, jobject,
                                                                              jlong nativeQueryPtr, jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Int)) {
@@ -115,6 +127,7 @@ JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMinimumInt(JNI
 
 JNIEXPORT jdouble JNICALL Java_io_realm_internal_TableQuery_nativeAverageInt(JNIEnv *env, jobject,
                                                                              jlong nativeQueryPtr, jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Int)) {
@@ -133,6 +146,7 @@ JNIEXPORT jdouble JNICALL Java_io_realm_internal_TableQuery_nativeAverageInt(JNI
 
 JNIEXPORT jdouble JNICALL Java_io_realm_internal_TableQuery_nativeSumFloat(JNIEnv *env, jobject, jlong nativeQueryPtr,
                                                                            jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Float)) {
@@ -148,6 +162,7 @@ JNIEXPORT jdouble JNICALL Java_io_realm_internal_TableQuery_nativeSumFloat(JNIEn
 JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMaximumFloat(JNIEnv *env, jobject,
                                                                                jlong nativeQueryPtr,
                                                                                jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Float)) {
@@ -167,6 +182,7 @@ JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMaximumFloat(J
 JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMinimumFloat(JNIEnv *env, jobject,
                                                                                jlong nativeQueryPtr,
                                                                                jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Float)) {
@@ -186,6 +202,7 @@ JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMinimumFloat(J
 JNIEXPORT jdouble JNICALL Java_io_realm_internal_TableQuery_nativeAverageFloat(JNIEnv *env, jobject,
                                                                                jlong nativeQueryPtr,
                                                                                jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Float)) {
@@ -201,6 +218,7 @@ JNIEXPORT jdouble JNICALL Java_io_realm_internal_TableQuery_nativeAverageFloat(J
 // double Aggregates
 JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeSumRealmAny(JNIEnv *env, jobject,
                                                                               jlong nativeQueryPtr, jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Mixed)) {
@@ -216,6 +234,7 @@ JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeSumRealmAny
 
 JNIEXPORT jdouble JNICALL Java_io_realm_internal_TableQuery_nativeSumDouble(JNIEnv *env, jobject,
                                                                             jlong nativeQueryPtr, jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Double)) {
@@ -231,6 +250,7 @@ JNIEXPORT jdouble JNICALL Java_io_realm_internal_TableQuery_nativeSumDouble(JNIE
 JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMaximumDouble(JNIEnv *env, jobject,
                                                                                 jlong nativeQueryPtr,
                                                                                 jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Double)) {
@@ -250,6 +270,7 @@ JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMaximumDouble(
 JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMaximumRealmAny(JNIEnv *env, jobject,
                                                                                jlong nativeQueryPtr,
                                                                                jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Mixed)) {
@@ -267,6 +288,7 @@ JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMaximumRealmAn
 JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeMaximumDecimal128(JNIEnv *env, jobject,
                                                                                        jlong nativeQueryPtr,
                                                                                        jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Decimal)) {
@@ -283,6 +305,7 @@ JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeMaximumDeci
 JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeSumDecimal128(JNIEnv *env, jobject,
                                                                                    jlong nativeQueryPtr,
                                                                                    jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Decimal)) {
@@ -299,6 +322,7 @@ JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeSumDecimal1
 JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMinimumDouble(JNIEnv *env, jobject,
                                                                                 jlong nativeQueryPtr,
                                                                                 jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Double)) {
@@ -318,6 +342,7 @@ JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMinimumDouble(
 JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMinimumRealmAny(JNIEnv *env, jobject,
                                                                                jlong nativeQueryPtr,
                                                                                jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Mixed)) {
@@ -335,6 +360,7 @@ JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMinimumRealmAn
 JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeMinimumDecimal128(JNIEnv *env, jobject,
                                                                                        jlong nativeQueryPtr,
                                                                                        jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Decimal)) {
@@ -351,6 +377,7 @@ JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeMinimumDeci
 JNIEXPORT jdouble JNICALL Java_io_realm_internal_TableQuery_nativeAverageDouble(JNIEnv *env, jobject,
                                                                                 jlong nativeQueryPtr,
                                                                                 jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Double)) {
@@ -366,6 +393,7 @@ JNIEXPORT jdouble JNICALL Java_io_realm_internal_TableQuery_nativeAverageDouble(
 JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeAverageRealmAny(JNIEnv *env, jobject,
                                                                                   jlong nativeQueryPtr,
                                                                                   jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Mixed)) {
@@ -382,6 +410,7 @@ JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeAverageReal
 JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeAverageDecimal128(JNIEnv *env, jobject,
                                                                                        jlong nativeQueryPtr,
                                                                                        jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Decimal)) {
@@ -400,6 +429,7 @@ JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeAverageDeci
 JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMaximumTimestamp(JNIEnv *env, jobject,
                                                                                    jlong nativeQueryPtr,
                                                                                    jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Timestamp)) {
@@ -419,6 +449,7 @@ JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMaximumTimesta
 JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMinimumTimestamp(JNIEnv *env, jobject,
                                                                                    jlong nativeQueryPtr,
                                                                                    jlong columnKey) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     ConstTableRef pTable = pQuery->get_table();
     if (!TYPE_VALID(env, pTable, columnKey, col_type_Timestamp)) {
@@ -435,9 +466,481 @@ JNIEXPORT jobject JNICALL Java_io_realm_internal_TableQuery_nativeMinimumTimesta
     return nullptr;
 }
 
+// Group by
+
+namespace {
+// Integer values are accumulated in int64_t, so sums, minimums and maximums of integer fields stay exact beyond the
+// 53 bits a double can represent. Only one of the two sets of fields is used, depending on the value column type.
+struct GroupAccumulator {
+    jlong count = 0;
+    jlong value_count = 0;
+    double sum = 0;
+    double min = 0;
+    double max = 0;
+    int64_t int_sum = 0;
+    int64_t int_min = 0;
+    int64_t int_max = 0;
+
+    void add(double value)
+    {
+        if (value_count == 0 || value < min) {
+            min = value;
+        }
+        if (value_count == 0 || value > max) {
+            max = value;
+        }
+        sum += value;
+        ++value_count;
+    }
+
+    void add(int64_t value)
+    {
+        if (value_count == 0 || value < int_min) {
+            int_min = value;
+        }
+        if (value_count == 0 || value > int_max) {
+            int_max = value;
+        }
+        int_sum += value;
+        ++value_count;
+    }
+
+    int64_t int_result(jint aggregate) const
+    {
+        switch (aggregate) {
+            case io_realm_internal_TableQuery_GROUP_BY_SUM:
+                return int_sum;
+            case io_realm_internal_TableQuery_GROUP_BY_MINIMUM:
+                return int_min;
+            case io_realm_internal_TableQuery_GROUP_BY_MAXIMUM:
+                return int_max;
+            default:
+                return count;
+        }
+    }
+
+    double result(jint aggregate, bool int_values) const
+    {
+        switch (aggregate) {
+            case io_realm_internal_TableQuery_GROUP_BY_SUM:
+                return int_values ? static_cast<double>(int_sum) : sum;
+            case io_realm_internal_TableQuery_GROUP_BY_AVERAGE:
+                if (value_count == 0) {
+                    return 0;
+                }
+                return (int_values ? static_cast<double>(int_sum) : sum) / value_count;
+            case io_realm_internal_TableQuery_GROUP_BY_MINIMUM:
+                if (value_count == 0) {
+                    return std::numeric_limits<double>::quiet_NaN();
+                }
+                return int_values ? static_cast<double>(int_min) : min;
+            case io_realm_internal_TableQuery_GROUP_BY_MAXIMUM:
+                if (value_count == 0) {
+                    return std::numeric_limits<double>::quiet_NaN();
+                }
+                return int_values ? static_cast<double>(int_max) : max;
+            default:
+                return static_cast<double>(count);
+        }
+    }
+};
+} // anonymous namespace
+
+JNIEXPORT jobjectArray JNICALL Java_io_realm_internal_TableQuery_nativeGroupBy(JNIEnv *env, jobject,
+                                                                             jlong nativeQueryPtr,
+                                                                             jlongArray j_key_path,
+                                                                             jlong j_value_column_key,
+                                                                             jint j_aggregate,
+                                                                             jlong j_date_bucket_millis) {
+    ACCOUNT_JNI_CALL();
+    Query *pQuery = Q(nativeQueryPtr);
+    try {
+        JLongArrayAccessor key_path(env, j_key_path);
+        if (key_path.size() == 0) {
+            ThrowException(env, IllegalArgument, "The group-by key path must not be empty.");
+            return nullptr;
+        }
+        std::vector<ColKey> links;
+        for (jsize i = 0; i + 1 < key_path.size(); ++i) {
+            links.emplace_back(key_path[i]);
+        }
+        ColKey key_col(key_path[key_path.size() - 1]);
+        ColKey value_col = j_value_column_key == -1 ? ColKey() : ColKey(j_value_column_key);
+        const bool int_values = value_col && value_col.get_type() == col_type_Int;
+        // The average of integers is a fraction, so only these aggregates have exact integer results.
+        const bool exact_int_results = int_values && (j_aggregate == io_realm_internal_TableQuery_GROUP_BY_SUM ||
+                                                      j_aggregate == io_realm_internal_TableQuery_GROUP_BY_MINIMUM ||
+                                                      j_aggregate == io_realm_internal_TableQuery_GROUP_BY_MAXIMUM);
+
+        // All keys are normalized to either int64_t (integer, boolean and date keys) or StringData before they
+        // are put in the map, so the ordering of the groups is the natural ordering of the key type. The string
+        // data points into the Realm file which stays mapped for the duration of this call.
+        std::map<Mixed, GroupAccumulator> groups;
+        TableView view = pQuery->find_all();
+        for (size_t i = 0; i < view.size(); ++i) {
+            Obj obj = view.get_object(i);
+
+            Obj target = obj;
+            bool null_link = false;
+            for (auto& link : links) {
+                if (!target.get<ObjKey>(link)) {
+                    null_link = true;
+                    break;
+                }
+                target = target.get_linked_object(link);
+            }
+
+            Mixed key;
+            if (!null_link) {
+                Mixed raw = target.get_any(key_col);
+                if (raw.is_null()) {
+                    // Keep the null key
+                } else if (raw.is_type(type_Timestamp)) {
+                    int64_t millis = to_milliseconds(raw.get_timestamp());
+                    if (j_date_bucket_millis > 0) {
+                        int64_t bucket = millis / j_date_bucket_millis;
+                        if (millis % j_date_bucket_millis < 0) {
+                            --bucket;
+                        }
+                        millis = bucket * j_date_bucket_millis;
+                    }
+                    key = Mixed(millis);
+                } else if (raw.is_type(type_Bool)) {
+                    key = Mixed(int64_t(raw.get_bool() ? 1 : 0));
+                } else {
+                    key = raw;
+                }
+            }
+
+            GroupAccumulator& group = groups[key];
+            ++group.count;
+            if (value_col) {
+                Mixed value = obj.get_any(value_col);
+                if (value.is_type(type_Int)) {
+                    group.add(value.get_int());
+                } else if (value.is_type(type_Float)) {
+                    group.add(static_cast<double>(value.get_float()));
+                } else if (value.is_type(type_Double)) {
+                    group.add(value.get_double());
+                }
+            }
+        }
+
+        const jsize size = static_cast<jsize>(groups.size());
+        const bool string_keys = key_col.get_type() == col_type_String;
+        const bool has_null_key = size > 0 && groups.begin()->first.is_null();
+
+        jobject j_keys;
+        std::vector<jlong> long_keys;
+        std::vector<jdouble> values;
+        std::vector<jlong> long_values;
+        std::vector<jlong> counts;
+        values.reserve(size);
+        counts.reserve(size);
+        if (string_keys) {
+            jobjectArray string_array = env->NewObjectArray(size, JavaClassGlobalDef::java_lang_string(), nullptr);
+            jsize index = 0;
+            for (auto& group : groups) {
+                if (!group.first.is_null()) {
+                    JavaLocalRef<jstring> j_key(env, to_jstring(env, group.first.get_string()));
+                    env->SetObjectArrayElement(string_array, index, j_key);
+                }
+                ++index;
+            }
+            j_keys = string_array;
+        } else {
+            long_keys.reserve(size);
+            for (auto& group : groups) {
+                long_keys.push_back(group.first.is_null() ? 0 : group.first.get_int());
+            }
+            jlongArray long_array = env->NewLongArray(size);
+            env->SetLongArrayRegion(long_array, 0, size, long_keys.data());
+            j_keys = long_array;
+        }
+        for (auto& group : groups) {
+            values.push_back(group.second.result(j_aggregate, int_values));
+            counts.push_back(group.second.count);
+            if (exact_int_results) {
+                long_values.push_back(group.second.int_result(j_aggregate));
+            }
+        }
+
+        jdoubleArray j_values = env->NewDoubleArray(size);
+        env->SetDoubleArrayRegion(j_values, 0, size, values.data());
+        jlongArray j_counts = env->NewLongArray(size);
+        env->SetLongArrayRegion(j_counts, 0, size, counts.data());
+
+        jlongArray j_long_values = nullptr;
+        if (exact_int_results) {
+            j_long_values = env->NewLongArray(size);
+            env->SetLongArrayRegion(j_long_values, 0, size, long_values.data());
+        }
+
+        jobjectArray result = env->NewObjectArray(5, JavaClassGlobalDef::java_lang_object(), nullptr);
+        env->SetObjectArrayElement(result, 0, j_keys);
+        env->SetObjectArrayElement(result, 1, j_values);
+        env->SetObjectArrayElement(result, 2, j_counts);
+        env->SetObjectArrayElement(result, 3, JavaClassGlobalDef::new_boolean(env, has_null_key));
+        env->SetObjectArrayElement(result, 4, j_long_values);
+        return result;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
+// Parallel evaluation
+
+namespace {
+// Below this many objects per worker the cost of starting a read transaction and importing the query outweighs
+// the gain of evaluating the partitions concurrently.
+constexpr size_t MIN_OBJECTS_PER_WORKER = 10000;
+
+// The aggregated value and the number of non-null values it covers. For minimum and maximum the count is only
+// used to tell whether a value was found.
+template <typename T>
+struct PartialAggregate {
+    T value = 0;
+    size_t count = 0;
+};
+
+// Works on both a Query and a TableView, so the serial fallback and the partitions use the same Core aggregates.
+template <typename Source>
+PartialAggregate<int64_t> aggregate_int(Source& source, ColKey col, jint aggregate)
+{
+    PartialAggregate<int64_t> result;
+    ObjKey key;
+    switch (aggregate) {
+        case io_realm_internal_TableQuery_AGGREGATE_SUM:
+            result.value = source.sum_int(col);
+            break;
+        case io_realm_internal_TableQuery_AGGREGATE_AVERAGE:
+            source.average_int(col, &result.count);
+            result.value = source.sum_int(col);
+            break;
+        case io_realm_internal_TableQuery_AGGREGATE_MINIMUM:
+            result.value = source.minimum_int(col, &key);
+            result.count = key ? 1 : 0;
+            break;
+        case io_realm_internal_TableQuery_AGGREGATE_MAXIMUM:
+            result.value = source.maximum_int(col, &key);
+            result.count = key ? 1 : 0;
+            break;
+        default:
+            throw std::invalid_argument(util::format("Unknown aggregate: %1", aggregate));
+    }
+    return result;
+}
+
+template <typename Source>
+PartialAggregate<double> aggregate_floating(Source& source, ColKey col, jint aggregate)
+{
+    const bool is_float = col.get_type() == col_type_Float;
+    PartialAggregate<double> result;
+    ObjKey key;
+    switch (aggregate) {
+        case io_realm_internal_TableQuery_AGGREGATE_SUM:
+            result.value = is_float ? source.sum_float(col) : source.sum_double(col);
+            break;
+        case io_realm_internal_TableQuery_AGGREGATE_AVERAGE:
+            if (is_float) {
+                source.average_float(col, &result.count);
+                result.value = source.sum_float(col);
+            }
+            else {
+                source.average_double(col, &result.count);
+                result.value = source.sum_double(col);
+            }
+            break;
+        case io_realm_internal_TableQuery_AGGREGATE_MINIMUM:
+            result.value = is_float ? source.minimum_float(col, &key) : source.minimum_double(col, &key);
+            result.count = key ? 1 : 0;
+            break;
+        case io_realm_internal_TableQuery_AGGREGATE_MAXIMUM:
+            result.value = is_float ? source.maximum_float(col, &key) : source.maximum_double(col, &key);
+            result.count = key ? 1 : 0;
+            break;
+        default:
+            throw std::invalid_argument(util::format("Unknown aggregate: %1", aggregate));
+    }
+    return result;
+}
+
+template <typename T>
+PartialAggregate<T> merge(const std::vector<PartialAggregate<T>>& partials, jint aggregate)
+{
+    PartialAggregate<T> result;
+    for (const auto& partial : partials) {
+        if (aggregate == io_realm_internal_TableQuery_AGGREGATE_SUM ||
+            aggregate == io_realm_internal_TableQuery_AGGREGATE_AVERAGE) {
+            result.value += partial.value;
+            result.count += partial.count;
+            continue;
+        }
+        if (partial.count == 0) {
+            continue;
+        }
+        bool replace = result.count == 0 || (aggregate == io_realm_internal_TableQuery_AGGREGATE_MINIMUM
+                                                 ? partial.value < result.value
+                                                 : partial.value > result.value);
+        if (replace) {
+            result.value = partial.value;
+        }
+        result.count += partial.count;
+    }
+    return result;
+}
+
+// Splits the objects of the query's table in position ranges and lets `fn` aggregate the matches of every range,
+// found with Query::find_all() so search indexes and Core's leaf level search are used. Partitions run on the shared
+// worker pool, each in its own read transaction on the version of the calling thread, so all of them see the same
+// data.
+//
+// Returns no partial results if the query should be evaluated on the calling thread instead: when the table is too
+// small to be worth splitting, or inside a write transaction whose uncommitted changes are only visible to the
+// calling thread.
+template <typename Partial, typename Fn>
+std::vector<Partial> evaluate_partitions(SharedRealm& shared_realm, Query& query, jint j_thread_count, Fn fn)
+{
+    const size_t size = query.get_table()->size();
+    size_t workers = j_thread_count > 1 ? static_cast<size_t>(j_thread_count) : 1;
+    // The calling thread evaluates one partition itself.
+    workers = std::min(workers, WorkerPool::shared().size() + 1);
+    workers = std::min(workers, std::max<size_t>(1, size / MIN_OBJECTS_PER_WORKER));
+    if (workers == 1 || shared_realm->is_in_transaction()) {
+        return {};
+    }
+
+    auto db = Realm::Internal::get_db(*shared_realm);
+    VersionID version = shared_realm->read_transaction_version();
+    std::vector<Partial> partials(workers);
+    std::vector<std::exception_ptr> errors(workers);
+    std::vector<std::function<void()>> tasks;
+    tasks.reserve(workers);
+    const size_t chunk = (size + workers - 1) / workers;
+    for (size_t w = 0; w < workers; ++w) {
+        const size_t begin = w * chunk;
+        const size_t end = std::min(size, begin + chunk);
+        tasks.emplace_back([&, w, begin, end]() {
+            try {
+                TransactionRef transaction = db->start_read(version);
+                std::unique_ptr<Query> worker_query = transaction->import_copy_of(query, PayloadPolicy::Copy);
+                TableView matches = worker_query->find_all(begin, end);
+                partials[w] = fn(matches);
+            }
+            catch (...) {
+                errors[w] = std::current_exception();
+            }
+        });
+    }
+    WorkerPool::shared().run_all(tasks);
+    for (auto& error : errors) {
+        if (error) {
+            std::rethrow_exception(error);
+        }
+    }
+    return partials;
+}
+} // anonymous namespace
+
+JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeParallelCount(JNIEnv *env, jobject,
+                                                                             jlong nativeQueryPtr,
+                                                                             jlong shared_realm_ptr,
+                                                                             jint j_thread_count) {
+    ACCOUNT_JNI_CALL();
+    Query *pQuery = Q(nativeQueryPtr);
+    try {
+        auto& shared_realm = *reinterpret_cast<SharedRealm*>(shared_realm_ptr);
+        // get_ordering() moves the ordering out of the query, so it has to be put back before returning.
+        auto ordering = pQuery->get_ordering();
+        if (ordering) {
+            pQuery->set_ordering(std::make_unique<DescriptorOrdering>(*ordering));
+        }
+        if (ordering && !ordering->is_empty()) {
+            // Sort, distinct and limit change which objects are counted; leave those to the serial path.
+            return static_cast<jlong>(pQuery->find_all(*ordering).size());
+        }
+        std::vector<size_t> partials = evaluate_partitions<size_t>(shared_realm, *pQuery, j_thread_count,
+                                                                   [](TableView& matches) {
+                                                                       return matches.size();
+                                                                   });
+        if (partials.empty()) {
+            return static_cast<jlong>(pQuery->count());
+        }
+        size_t count = 0;
+        for (size_t partial : partials) {
+            count += partial;
+        }
+        return static_cast<jlong>(count);
+    }
+    CATCH_STD()
+    return 0;
+}
+
+JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeParallelAggregateInt(JNIEnv *env, jobject,
+                                                                                        jlong nativeQueryPtr,
+                                                                                        jlong shared_realm_ptr,
+                                                                                        jlong columnKey,
+                                                                                        jint j_aggregate,
+                                                                                        jint j_thread_count) {
+    ACCOUNT_JNI_CALL();
+    Query *pQuery = Q(nativeQueryPtr);
+    ConstTableRef pTable = pQuery->get_table();
+    if (!TYPE_VALID(env, pTable, columnKey, col_type_Int)) {
+        return nullptr;
+    }
+    try {
+        auto& shared_realm = *reinterpret_cast<SharedRealm*>(shared_realm_ptr);
+        ColKey col(columnKey);
+        auto partials = evaluate_partitions<PartialAggregate<int64_t>>(shared_realm, *pQuery, j_thread_count,
+                                                                       [col, j_aggregate](TableView& matches) {
+                                                                           return aggregate_int(matches, col, j_aggregate);
+                                                                       });
+        PartialAggregate<int64_t> result = partials.empty() ? aggregate_int(*pQuery, col, j_aggregate)
+                                                            : merge(partials, j_aggregate);
+        jlong values[2] = {result.value, static_cast<jlong>(result.count)};
+        jlongArray ret_array = env->NewLongArray(2);
+        env->SetLongArrayRegion(ret_array, 0, 2, values);
+        return ret_array;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
+JNIEXPORT jdoubleArray JNICALL Java_io_realm_internal_TableQuery_nativeParallelAggregateDouble(JNIEnv *env, jobject,
+                                                                                             jlong nativeQueryPtr,
+                                                                                             jlong shared_realm_ptr,
+                                                                                             jlong columnKey,
+                                                                                             jint j_aggregate,
+                                                                                             jint j_thread_count) {
+    ACCOUNT_JNI_CALL();
+    Query *pQuery = Q(nativeQueryPtr);
+    ConstTableRef pTable = pQuery->get_table();
+    ColKey col(columnKey);
+    if (!pTable->valid_column(col) || (col.get_type() != col_type_Float && col.get_type() != col_type_Double)) {
+        ThrowException(env, IllegalArgument, "Only float and double fields can be aggregated as floating point values.");
+        return nullptr;
+    }
+    try {
+        auto& shared_realm = *reinterpret_cast<SharedRealm*>(shared_realm_ptr);
+        auto partials = evaluate_partitions<PartialAggregate<double>>(shared_realm, *pQuery, j_thread_count,
+                                                                      [col, j_aggregate](TableView& matches) {
+                                                                          return aggregate_floating(matches, col, j_aggregate);
+                                                                      });
+        PartialAggregate<double> result = partials.empty() ? aggregate_floating(*pQuery, col, j_aggregate)
+                                                           : merge(partials, j_aggregate);
+        jdouble values[2] = {result.value, static_cast<jdouble>(result.count)};
+        jdoubleArray ret_array = env->NewDoubleArray(2);
+        env->SetDoubleArrayRegion(ret_array, 0, 2, values);
+        return ret_array;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
 // Count, Remove
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeCount(JNIEnv *env, jobject, jlong nativeQueryPtr) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     try {
         return static_cast<jlong>(pQuery->count());
@@ -447,6 +950,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeCount(JNIEnv *en
 }
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeRemove(JNIEnv *env, jobject, jlong nativeQueryPtr) {
+    ACCOUNT_JNI_CALL();
     Query *pQuery = Q(nativeQueryPtr);
     try {
         return static_cast<jlong>(pQuery->remove());
@@ -459,7 +963,25 @@ static void finalize_table_query(jlong ptr) {
     delete Q(ptr);
 }
 
+JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeCopy(JNIEnv *env, jobject, jlong nativeQueryPtr) {
+    ACCOUNT_JNI_CALL();
+    try {
+        Query *pQuery = Q(nativeQueryPtr);
+        // The copy gets its own ordering, so descriptors appended to one query don't show up in the other.
+        auto ordering = pQuery->get_ordering();
+        auto copy = std::make_unique<Query>(*pQuery);
+        if (ordering) {
+            pQuery->set_ordering(std::make_unique<DescriptorOrdering>(*ordering));
+            copy->set_ordering(std::make_unique<DescriptorOrdering>(*ordering));
+        }
+        return reinterpret_cast<jlong>(copy.release());
+    }
+    CATCH_STD()
+    return 0;
+}
+
 JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeGetFinalizerPtr(JNIEnv *, jclass) {
+    ACCOUNT_JNI_CALL();
     return reinterpret_cast<jlong>(&finalize_table_query);
 }
 
@@ -496,6 +1018,7 @@ Java_io_realm_internal_TableQuery_nativeRawPredicate(JNIEnv *env,
                                                      jstring j_filter,
                                                      jlongArray j_args,
                                                      jlong j_mapping_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor filter(env, j_filter); // throws
 
@@ -512,12 +1035,102 @@ Java_io_realm_internal_TableQuery_nativeRawPredicate(JNIEnv *env,
     CATCH_STD()
 }
 
+JNIEXPORT void JNICALL
+Java_io_realm_internal_TableQuery_nativeRawPredicateWithTypedArguments(JNIEnv *env,
+                                                                      jobject,
+                                                                      jlong j_query_ptr,
+                                                                      jstring j_filter,
+                                                                      jbyteArray j_types,
+                                                                      jlongArray j_longs,
+                                                                      jdoubleArray j_doubles,
+                                                                      jobjectArray j_objects,
+                                                                      jlong j_mapping_ptr) {
+    ACCOUNT_JNI_CALL();
+    try {
+        JStringAccessor filter(env, j_filter); // throws
+        JByteArrayAccessor types(env, j_types);
+        JLongArrayAccessor longs(env, j_longs);
+        JDoubleArrayAccessor doubles(env, j_doubles);
+        const jsize size = types.size();
+
+        // The Mixed arguments only reference string and binary data, so it is kept alive here until the query
+        // has been parsed. Reserving up front keeps the references stable.
+        std::vector<std::string> strings;
+        std::vector<OwnedBinaryData> binaries;
+        strings.reserve(size);
+        binaries.reserve(size);
+
+        std::vector<Mixed> args;
+        args.reserve(size);
+        for (jsize i = 0; i < size; ++i) {
+            switch (types[i]) {
+                case io_realm_internal_TableQuery_ARGUMENT_TYPE_NULL:
+                    args.push_back(Mixed());
+                    break;
+                case io_realm_internal_TableQuery_ARGUMENT_TYPE_INTEGER:
+                    args.push_back(Mixed(int64_t(longs[2 * i])));
+                    break;
+                case io_realm_internal_TableQuery_ARGUMENT_TYPE_BOOLEAN:
+                    args.push_back(Mixed(longs[2 * i] != 0));
+                    break;
+                case io_realm_internal_TableQuery_ARGUMENT_TYPE_DATE:
+                    args.push_back(Mixed(from_milliseconds(longs[2 * i])));
+                    break;
+                case io_realm_internal_TableQuery_ARGUMENT_TYPE_FLOAT:
+                    args.push_back(Mixed(static_cast<float>(doubles[i])));
+                    break;
+                case io_realm_internal_TableQuery_ARGUMENT_TYPE_DOUBLE:
+                    args.push_back(Mixed(doubles[i]));
+                    break;
+                case io_realm_internal_TableQuery_ARGUMENT_TYPE_DECIMAL128: {
+                    Decimal128::Bid128 raw{static_cast<uint64_t>(longs[2 * i]), static_cast<uint64_t>(longs[2 * i + 1])};
+                    args.push_back(Mixed(Decimal128(raw)));
+                    break;
+                }
+                case io_realm_internal_TableQuery_ARGUMENT_TYPE_STRING:
+                case io_realm_internal_TableQuery_ARGUMENT_TYPE_OBJECT_ID:
+                case io_realm_internal_TableQuery_ARGUMENT_TYPE_UUID: {
+                    JavaLocalRef<jstring> j_string(env, static_cast<jstring>(env->GetObjectArrayElement(j_objects, i)));
+                    JStringAccessor accessor(env, j_string);
+                    strings.push_back(std::string(accessor));
+                    const std::string& value = strings.back();
+                    if (types[i] == io_realm_internal_TableQuery_ARGUMENT_TYPE_STRING) {
+                        args.push_back(Mixed(StringData(value)));
+                    } else if (types[i] == io_realm_internal_TableQuery_ARGUMENT_TYPE_OBJECT_ID) {
+                        args.push_back(Mixed(ObjectId(value.c_str())));
+                    } else {
+                        args.push_back(Mixed(UUID(StringData(value))));
+                    }
+                    break;
+                }
+                case io_realm_internal_TableQuery_ARGUMENT_TYPE_BINARY: {
+                    JavaLocalRef<jbyteArray> j_binary(env, static_cast<jbyteArray>(env->GetObjectArrayElement(j_objects, i)));
+                    JByteArrayAccessor accessor(env, j_binary);
+                    binaries.push_back(OwnedBinaryData(accessor.transform<BinaryData>()));
+                    args.push_back(Mixed(binaries.back().get()));
+                    break;
+                }
+                case io_realm_internal_TableQuery_ARGUMENT_TYPE_POINTER:
+                    args.push_back(reinterpret_cast<JavaValue *>(longs[2 * i])->to_mixed());
+                    break;
+                default:
+                    ThrowException(env, IllegalArgument, util::format("Unknown query argument type: %1", types[i]));
+                    return;
+            }
+        }
+
+        rawQuery(j_query_ptr, std::string(filter), args, j_mapping_ptr);
+    }
+    CATCH_STD()
+}
+
 JNIEXPORT void JNICALL
 Java_io_realm_internal_TableQuery_nativeRawDescriptor(JNIEnv *env,
                                                       jobject,
                                                       jlong j_query_ptr,
                                                       jstring j_descriptor,
                                                       jlong j_mapping_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor filter(env, j_descriptor); // throws
         std::vector<Mixed> args(0);
@@ -531,6 +1144,7 @@ JNIEXPORT void JNICALL
 Java_io_realm_internal_TableQuery_nativeBeginGroup(JNIEnv *env,
                                                    jobject,
                                                    jlong j_query_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto query = reinterpret_cast<Query *>(j_query_ptr);
         query->group();
@@ -542,6 +1156,7 @@ JNIEXPORT void JNICALL
 Java_io_realm_internal_TableQuery_nativeEndGroup(JNIEnv *env,
                                                  jobject,
                                                  jlong j_query_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto query = reinterpret_cast<Query *>(j_query_ptr);
         query->end_group();
@@ -553,6 +1168,7 @@ JNIEXPORT void JNICALL
 Java_io_realm_internal_TableQuery_nativeOr(JNIEnv *env,
                                            jobject,
                                            jlong j_query_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto query = reinterpret_cast<Query *>(j_query_ptr);
         query->Or();
@@ -564,6 +1180,7 @@ JNIEXPORT void JNICALL
 Java_io_realm_internal_TableQuery_nativeNot(JNIEnv *env,
                                             jobject,
                                             jlong j_query_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto query = reinterpret_cast<Query *>(j_query_ptr);
         query->Not();
@@ -574,6 +1191,7 @@ Java_io_realm_internal_TableQuery_nativeNot(JNIEnv *env,
 JNIEXPORT jstring JNICALL
 Java_io_realm_internal_TableQuery_nativeValidateQuery(JNIEnv *env, jobject,
                                                       jlong nativeQueryPtr) {
+    ACCOUNT_JNI_CALL();
     try {
         const std::string str = Q(nativeQueryPtr)->validate();
         StringData sd(str);
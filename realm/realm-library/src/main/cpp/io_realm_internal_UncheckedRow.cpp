@@ -17,6 +17,9 @@
 #include "io_realm_internal_UncheckedRow.h"
 #include "io_realm_internal_Property.h"
 
+#include <algorithm>
+#include <cstring>
+
 #include "java_accessor.hpp"
 #include "java_object_accessor.hpp"
 #include "util.hpp"
@@ -28,6 +31,7 @@ static void finalize_unchecked_row(jlong ptr);
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetColumnCount(JNIEnv*, jobject, jlong nativeRowPtr)
 {
+    ACCOUNT_JNI_CALL();
     if (!OBJ(nativeRowPtr)->is_valid()) {
         return 0;
     }
@@ -39,6 +43,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetColumnKey(J
                                                                                  jlong nativeRowPtr,
                                                                                  jstring columnName)
 {
+    ACCOUNT_JNI_CALL();
     if (!OBJ(nativeRowPtr)->is_valid()) {
         ThrowException(env, IllegalArgument, "Object passed is not valid");
     }
@@ -57,6 +62,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetColumnKey(J
 JNIEXPORT jobjectArray JNICALL Java_io_realm_internal_UncheckedRow_nativeGetColumnNames(JNIEnv* env, jobject,
                                                                                jlong nativeRowPtr)
 {
+    ACCOUNT_JNI_CALL();
     if (!OBJ(nativeRowPtr)->is_valid()) {
         ThrowException(env, IllegalArgument, "Object passed is not valid");
     }
@@ -85,6 +91,7 @@ JNIEXPORT jobjectArray JNICALL Java_io_realm_internal_UncheckedRow_nativeGetColu
 JNIEXPORT jint JNICALL Java_io_realm_internal_UncheckedRow_nativeGetColumnType(JNIEnv*, jobject, jlong nativeRowPtr,
                                                                                jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     ColKey column_key (columnKey);
     auto table = OBJ(nativeRowPtr)->get_table();
     DataType column_type = table->get_column_type(column_key);
@@ -102,6 +109,7 @@ JNIEXPORT jint JNICALL Java_io_realm_internal_UncheckedRow_nativeGetColumnType(J
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetObjectKey(JNIEnv* env, jobject, jlong nativeRowPtr)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return 0;
     }
@@ -112,6 +120,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetObjectKey(J
 JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetLong(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                           jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return 0;
     }
@@ -127,6 +136,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetLong(JNIEnv
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_UncheckedRow_nativeGetBoolean(JNIEnv* env, jobject,
                                                                                 jlong nativeRowPtr, jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return 0;
     }
@@ -137,6 +147,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_UncheckedRow_nativeGetBoolean(
 JNIEXPORT jfloat JNICALL Java_io_realm_internal_UncheckedRow_nativeGetFloat(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                             jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return 0;
     }
@@ -147,6 +158,7 @@ JNIEXPORT jfloat JNICALL Java_io_realm_internal_UncheckedRow_nativeGetFloat(JNIE
 JNIEXPORT jdouble JNICALL Java_io_realm_internal_UncheckedRow_nativeGetDouble(JNIEnv* env, jobject,
                                                                               jlong nativeRowPtr, jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return 0;
     }
@@ -157,6 +169,7 @@ JNIEXPORT jdouble JNICALL Java_io_realm_internal_UncheckedRow_nativeGetDouble(JN
 JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetTimestamp(JNIEnv* env, jobject,
                                                                                jlong nativeRowPtr, jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return 0;
     }
@@ -167,6 +180,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetTimestamp(J
 JNIEXPORT jstring JNICALL Java_io_realm_internal_UncheckedRow_nativeGetString(JNIEnv* env, jobject,
                                                                               jlong nativeRowPtr, jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return nullptr;
     }
@@ -183,6 +197,7 @@ JNIEXPORT jbyteArray JNICALL Java_io_realm_internal_UncheckedRow_nativeGetByteAr
                                                                                     jlong nativeRowPtr,
                                                                                     jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return nullptr;
     }
@@ -195,9 +210,168 @@ JNIEXPORT jbyteArray JNICALL Java_io_realm_internal_UncheckedRow_nativeGetByteAr
     return nullptr;
 }
 
+// Chunked access to binary and string values. Strings are exposed as their stored UTF-8 bytes.
+static bool get_stored_bytes(JNIEnv* env, Obj* obj, ColKey col, const char*& data, size_t& size)
+{
+    ColumnType type = col.get_type();
+    if (type == col_type_Binary) {
+        BinaryData value = obj->get<BinaryData>(col);
+        data = value.data();
+        size = value.size();
+        return !value.is_null();
+    }
+    if (type == col_type_String) {
+        StringData value = obj->get<StringData>(col);
+        data = value.data();
+        size = value.size();
+        return !value.is_null();
+    }
+    ThrowException(env, IllegalArgument, "Only binary and string fields can be read as bytes.");
+    return false;
+}
+
+JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetByteSize(JNIEnv* env, jobject,
+                                                                             jlong nativeRowPtr, jlong columnKey)
+{
+    ACCOUNT_JNI_CALL();
+    if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
+        return -1;
+    }
+
+    try {
+        const char* data;
+        size_t size;
+        if (!get_stored_bytes(env, OBJ(nativeRowPtr), ColKey(columnKey), data, size)) {
+            return -1;
+        }
+        return static_cast<jlong>(size);
+    }
+    CATCH_STD()
+    return -1;
+}
+
+JNIEXPORT jint JNICALL Java_io_realm_internal_UncheckedRow_nativeReadBytes(JNIEnv* env, jobject, jlong nativeRowPtr,
+                                                                          jlong columnKey, jlong position,
+                                                                          jbyteArray j_dst, jint offset, jint length)
+{
+    ACCOUNT_JNI_CALL();
+    if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
+        return -1;
+    }
+
+    try {
+        const char* data;
+        size_t size;
+        if (!get_stored_bytes(env, OBJ(nativeRowPtr), ColKey(columnKey), data, size) ||
+            static_cast<size_t>(position) >= size) {
+            return -1;
+        }
+        size_t count = std::min(size - static_cast<size_t>(position), static_cast<size_t>(length));
+        env->SetByteArrayRegion(j_dst, offset, static_cast<jsize>(count),
+                                reinterpret_cast<const jbyte*>(data + position));
+        return static_cast<jint>(count);
+    }
+    CATCH_STD()
+    return -1;
+}
+
+JNIEXPORT jint JNICALL Java_io_realm_internal_UncheckedRow_nativeReadBytesToBuffer(JNIEnv* env, jobject,
+                                                                                  jlong nativeRowPtr,
+                                                                                  jlong columnKey, jlong position,
+                                                                                  jobject j_buffer,
+                                                                                  jint buffer_position, jint length)
+{
+    ACCOUNT_JNI_CALL();
+    if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
+        return -1;
+    }
+
+    try {
+        char* dst = static_cast<char*>(env->GetDirectBufferAddress(j_buffer));
+        if (!dst) {
+            ThrowException(env, IllegalArgument, "Only direct ByteBuffers can be filled natively.");
+            return -1;
+        }
+        const char* data;
+        size_t size;
+        if (!get_stored_bytes(env, OBJ(nativeRowPtr), ColKey(columnKey), data, size) ||
+            static_cast<size_t>(position) >= size) {
+            return -1;
+        }
+        size_t count = std::min(size - static_cast<size_t>(position), static_cast<size_t>(length));
+        std::memcpy(dst + buffer_position, data + position, count);
+        return static_cast<jint>(count);
+    }
+    CATCH_STD()
+    return -1;
+}
+
+// 64-bit FNV-1a over the stored UTF-8 bytes. Must match RealmUtf8Strings.hash() on the Java side.
+static jlong hash_utf8(const char* data, size_t size)
+{
+    uint64_t hash = 0xcbf29ce484222325ULL;
+    for (size_t i = 0; i < size; ++i) {
+        hash ^= static_cast<uint8_t>(data[i]);
+        hash *= 0x100000001b3ULL;
+    }
+    return static_cast<jlong>(hash);
+}
+
+JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetStringHash(JNIEnv* env, jobject,
+                                                                               jlong nativeRowPtr, jlong columnKey)
+{
+    ACCOUNT_JNI_CALL();
+    if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
+        return 0;
+    }
+
+    try {
+        ColKey col(columnKey);
+        if (col.get_type() != col_type_String) {
+            ThrowException(env, IllegalArgument, "Only string fields can be hashed.");
+            return 0;
+        }
+        StringData value = OBJ(nativeRowPtr)->get<StringData>(col);
+        if (value.is_null()) {
+            return 0;
+        }
+        return hash_utf8(value.data(), value.size());
+    }
+    CATCH_STD()
+    return 0;
+}
+
+JNIEXPORT jboolean JNICALL Java_io_realm_internal_UncheckedRow_nativeStringEquals(JNIEnv* env, jobject,
+                                                                                 jlong nativeRowPtr, jlong columnKey,
+                                                                                 jbyteArray j_utf8)
+{
+    ACCOUNT_JNI_CALL();
+    if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
+        return JNI_FALSE;
+    }
+
+    try {
+        ColKey col(columnKey);
+        if (col.get_type() != col_type_String) {
+            ThrowException(env, IllegalArgument, "Only string fields can be compared as UTF-8.");
+            return JNI_FALSE;
+        }
+        StringData value = OBJ(nativeRowPtr)->get<StringData>(col);
+        JByteArrayAccessor other(env, j_utf8);
+        if (value.is_null() || other.is_null()) {
+            return to_jbool(value.is_null() && other.is_null());
+        }
+        return to_jbool(value.size() == static_cast<size_t>(other.size()) &&
+                        std::memcmp(value.data(), other.data(), value.size()) == 0);
+    }
+    CATCH_STD()
+    return JNI_FALSE;
+}
+
 JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetLink(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                           jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return 0;
     }
@@ -213,6 +387,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetLink(JNIEnv
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_UncheckedRow_nativeIsNullLink(JNIEnv* env, jobject,
                                                                                 jlong nativeRowPtr, jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return 0;
     }
@@ -223,6 +398,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_UncheckedRow_nativeIsNullLink(
 JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetLong(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                          jlong columnKey, jlong value)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
@@ -236,6 +412,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetLong(JNIEnv*
 JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetRealmAny(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                               jlong columnKey, jlong nativePtr)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
@@ -251,6 +428,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetRealmAny(JNI
 JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetBoolean(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                             jlong columnKey, jboolean value)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
@@ -264,6 +442,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetBoolean(JNIE
 JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetFloat(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                           jlong columnKey, jfloat value)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
@@ -277,6 +456,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetFloat(JNIEnv
 JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetDouble(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                            jlong columnKey, jdouble value)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
@@ -291,6 +471,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetTimestamp(JN
                                                                               jlong nativeRowPtr, jlong columnKey,
                                                                               jlong value)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
@@ -304,6 +485,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetTimestamp(JN
 JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetString(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                            jlong columnKey, jstring value)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
@@ -324,6 +506,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetByteArray(JN
                                                                               jlong nativeRowPtr, jlong columnKey,
                                                                               jbyteArray value)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
@@ -345,6 +528,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetByteArray(JN
 JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetLink(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                          jlong columnKey, jlong valueObjKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
@@ -358,6 +542,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetLink(JNIEnv*
 JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeNullifyLink(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                              jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
@@ -370,12 +555,14 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeNullifyLink(JNI
 
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_UncheckedRow_nativeIsValid(JNIEnv*, jobject, jlong nativeRowPtr)
 {
+    ACCOUNT_JNI_CALL();
     return to_jbool(OBJ(nativeRowPtr)->is_valid());
 }
 
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_UncheckedRow_nativeHasColumn(JNIEnv* env, jobject obj,
                                                                                jlong nativeRowPtr, jstring columnName)
 {
+    ACCOUNT_JNI_CALL();
     ColKey col_key (Java_io_realm_internal_UncheckedRow_nativeGetColumnKey(env, obj, nativeRowPtr, columnName));
     return to_jbool(bool(col_key));
 }
@@ -383,6 +570,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_UncheckedRow_nativeHasColumn(J
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_UncheckedRow_nativeIsNull(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                             jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return JNI_FALSE;
     }
@@ -398,6 +586,7 @@ JNIEXPORT jboolean JNICALL Java_io_realm_internal_UncheckedRow_nativeIsNull(JNIE
 JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetNull(JNIEnv* env, jobject, jlong nativeRowPtr,
                                                                          jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
@@ -413,6 +602,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetNull(JNIEnv*
 JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeFreeze(JNIEnv* env, jobject, jlong j_native_row_ptr,
                                                                          jlong j_frozen_realm_native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         Obj* obj = reinterpret_cast<Obj*>(j_native_row_ptr);
         auto frozen_realm = *(reinterpret_cast<SharedRealm*>(j_frozen_realm_native_ptr));
@@ -431,6 +621,7 @@ static void finalize_unchecked_row(jlong ptr)
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetFinalizerPtr(JNIEnv*, jclass)
 {
+    ACCOUNT_JNI_CALL();
     return reinterpret_cast<jlong>(&finalize_unchecked_row);
 }
 
@@ -438,6 +629,7 @@ JNIEXPORT jlongArray JNICALL Java_io_realm_internal_UncheckedRow_nativeGetDecima
                                                                                     jlong nativeRowPtr,
                                                                                     jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return nullptr;
     }
@@ -454,6 +646,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetDecimal128(J
                                                                               jlong nativeRowPtr, jlong columnKey,
                                                                               jlong low, jlong high)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
@@ -470,6 +663,7 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_UncheckedRow_nativeGetObjectId(
                                                                                 jlong nativeRowPtr,
                                                                                 jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return nullptr;
     }
@@ -486,6 +680,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetObjectId(JNI
                                                                               jlong nativeRowPtr, jlong columnKey,
                                                                               jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
@@ -501,6 +696,7 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_UncheckedRow_nativeGetUUID(JNIE
                                                                             jlong nativeRowPtr,
                                                                             jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return nullptr;
     }
@@ -517,6 +713,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetRealmAny(JN
                                                                             jlong nativeRowPtr,
                                                                             jlong columnKey)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return reinterpret_cast<jlong>(nullptr);
     }
@@ -533,6 +730,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetUUID(JNIEnv*
                                                                              jlong nativeRowPtr, jlong columnKey,
                                                                              jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
@@ -548,6 +746,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeCreateEmbedded
                                                                                        jlong j_obj_ptr,
                                                                                        jlong j_column_key)
 {
+    ACCOUNT_JNI_CALL();
     if (!ROW_VALID(env, OBJ(j_obj_ptr))) {
         return -1;
     }
@@ -29,11 +29,13 @@ static void finalize_mixed(jlong ptr) {
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeGetFinalizerPtr(JNIEnv *, jclass) {
+    ACCOUNT_JNI_CALL();
     return reinterpret_cast<jlong>(&finalize_mixed);
 }
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeCreateNull(JNIEnv *env, jclass) {
+    ACCOUNT_JNI_CALL();
     try {
         return reinterpret_cast<jlong>(new JavaValue());
     } CATCH_STD()
@@ -43,6 +45,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeCreateNull(JNIEnv *env, jclass)
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeCreateBoolean(JNIEnv *env, jclass, jboolean j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         return reinterpret_cast<jlong>(new JavaValue(j_value));
     } CATCH_STD()
@@ -52,6 +55,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeCreateBoolean(JNIEnv *env, jcla
 
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeAsBoolean(JNIEnv *env, jclass, jlong native_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
         return java_value.get_boolean();
@@ -62,6 +66,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeAsBoolean(JNIEnv *env, jclass,
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeCreateLong(JNIEnv *env, jclass, jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         return reinterpret_cast<jlong>(new JavaValue(j_value));
     } CATCH_STD()
@@ -71,6 +76,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeCreateLong(JNIEnv *env, jclass,
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeAsLong(JNIEnv *env, jclass, jlong native_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
         return java_value.get_int();
@@ -81,6 +87,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeAsLong(JNIEnv *env, jclass, jlo
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeCreateFloat(JNIEnv *env, jclass, jfloat j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         return reinterpret_cast<jlong>(new JavaValue(j_value));
     } CATCH_STD()
@@ -90,6 +97,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeCreateFloat(JNIEnv *env, jclass
 
 JNIEXPORT jfloat JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeAsFloat(JNIEnv *env, jclass, jlong native_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
         return java_value.get_float();
@@ -100,6 +108,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeAsFloat(JNIEnv *env, jclass, jl
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeCreateDouble(JNIEnv *env, jclass, jdouble j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         return reinterpret_cast<jlong>(new JavaValue(j_value));
     } CATCH_STD()
@@ -109,6 +118,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeCreateDouble(JNIEnv *env, jclas
 
 JNIEXPORT jdouble JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeAsDouble(JNIEnv *env, jclass, jlong native_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
         return java_value.get_double();
@@ -119,6 +129,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeAsDouble(JNIEnv *env, jclass, j
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeCreateString(JNIEnv *env, jclass, jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor string_accessor(env, j_value); // throws
         return reinterpret_cast<jlong>(new JavaValue(std::string(string_accessor)));
@@ -129,6 +140,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeCreateString(JNIEnv *env, jclas
 
 JNIEXPORT jstring JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeAsString(JNIEnv *env, jclass, jlong native_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
         return to_jstring(env, java_value.get_string());
@@ -139,6 +151,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeAsString(JNIEnv *env, jclass, j
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeCreateBinary(JNIEnv *env, jclass, jbyteArray j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         JByteArrayAccessor array_accessor(env, j_value); // throws
         auto data = OwnedBinaryData(JByteArrayAccessor(env, j_value).transform<BinaryData>());
@@ -150,6 +163,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeCreateBinary(JNIEnv *env, jclas
 
 JNIEXPORT jbyteArray JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeAsBinary(JNIEnv *env, jclass, jlong native_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
         return JavaClassGlobalDef::new_byte_array(env, java_value.get_binary().get());
@@ -160,6 +174,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeAsBinary(JNIEnv *env, jclass, j
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeCreateDate(JNIEnv *env, jclass, jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         return reinterpret_cast<jlong>(new JavaValue(from_milliseconds(j_value)));
     } CATCH_STD()
@@ -169,6 +184,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeCreateDate(JNIEnv *env, jclass,
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeAsDate(JNIEnv *env, jclass, jlong native_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
         return to_milliseconds(java_value.get_date());
@@ -179,6 +195,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeAsDate(JNIEnv *env, jclass, jlo
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeCreateObjectId(JNIEnv *env, jclass, jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor string_accessor(env, j_value); // throws
         return reinterpret_cast<jlong>(new JavaValue(ObjectId(StringData(string_accessor).data())));
@@ -189,6 +206,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeCreateObjectId(JNIEnv *env, jcl
 
 JNIEXPORT jstring JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeAsObjectId(JNIEnv *env, jclass, jlong native_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
         return to_jstring(env, java_value.get_object_id().to_string().data());
@@ -199,6 +217,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeAsObjectId(JNIEnv *env, jclass,
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeCreateDecimal128(JNIEnv *env, jclass, jlong j_low, jlong j_high) {
+    ACCOUNT_JNI_CALL();
     try {
         Decimal128::Bid128 raw{static_cast<uint64_t>(j_low), static_cast<uint64_t>(j_high)};
         return reinterpret_cast<jlong>(new JavaValue(Decimal128(raw)));
@@ -209,6 +228,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeCreateDecimal128(JNIEnv *env, j
 
 JNIEXPORT jlongArray JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeAsDecimal128(JNIEnv *env, jclass, jlong native_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
         Decimal128 decimal128 = java_value.get_decimal128();
@@ -220,6 +240,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeAsDecimal128(JNIEnv *env, jclas
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeCreateUUID(JNIEnv *env, jclass, jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor string_accessor(env, j_value); // throws
         return reinterpret_cast<jlong>(new JavaValue(UUID(StringData(string_accessor).data())));
@@ -230,6 +251,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeCreateUUID(JNIEnv *env, jclass,
 
 JNIEXPORT jstring JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeAsUUID(JNIEnv *env, jclass, jlong native_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
         return to_jstring(env, java_value.get_uuid().to_string().data());
@@ -241,6 +263,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeAsUUID(JNIEnv *env, jclass, jlo
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeCreateLink(JNIEnv *env, jclass, jlong target_table_ref,
                                                               jlong target_object_key) {
+    ACCOUNT_JNI_CALL();
     try {
         TableRef target_table = TBL_REF(target_table_ref);
         ObjKey object_key(target_object_key);
@@ -254,6 +277,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeCreateLink(JNIEnv *env, jclass,
 
 JNIEXPORT jint JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeGetType(JNIEnv *env, jclass, jlong native_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
         auto mixed = java_value.to_mixed();
@@ -267,6 +291,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeGetType(JNIEnv *env, jclass, jl
 JNIEXPORT jstring JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeGetRealmModelTableName(JNIEnv *env, jclass, jlong native_ptr,
                                                                      jlong shared_realm_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
         auto &shared_realm = *(reinterpret_cast<SharedRealm *>(shared_realm_ptr));
@@ -285,6 +310,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeGetRealmModelTableName(JNIEnv *
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeGetRealmModelRowKey(JNIEnv *env, jclass, jlong native_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
 
@@ -303,6 +329,7 @@ Java_io_realm_internal_core_NativeRealmAny_nativeGetRealmModelRowKey(JNIEnv *env
 
 JNIEXPORT jboolean JNICALL
 Java_io_realm_internal_core_NativeRealmAny_nativeEquals(JNIEnv *env, jclass, jlong native_ptr, jlong native_other_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(native_ptr);
         auto other_java_value = *reinterpret_cast<JavaValue *>(native_other_ptr);
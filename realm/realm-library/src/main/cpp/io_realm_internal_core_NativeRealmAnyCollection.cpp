@@ -30,6 +30,7 @@ static void finalize_collection(jlong ptr) {
 
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAnyCollection_nativeGetFinalizerPtr(JNIEnv *, jclass) {
+    ACCOUNT_JNI_CALL();
     return reinterpret_cast<jlong>(&finalize_collection);
 }
 
@@ -37,6 +38,7 @@ JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAnyCollection_nativeCreateBooleanCollection(JNIEnv *env, jclass,
                                                                                 jbooleanArray j_boolean_array,
                                                                                 jbooleanArray j_not_null) {
+    ACCOUNT_JNI_CALL();
     try {
         // TODO: could be worth templating this logic here and in the methods below
         //  https://github.com/realm/realm-java/issues/7384
@@ -60,6 +62,7 @@ JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAnyCollection_nativeCreateIntegerCollection(JNIEnv *env, jclass,
                                                                                 jlongArray j_long_array,
                                                                                 jbooleanArray j_not_null) {
+    ACCOUNT_JNI_CALL();
     try {
         JLongArrayAccessor values(env, j_long_array);
         JBooleanArrayAccessor not_null(env, j_not_null);
@@ -81,6 +84,7 @@ JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAnyCollection_nativeCreateFloatCollection(JNIEnv *env, jclass,
                                                                               jfloatArray j_float_array,
                                                                               jbooleanArray j_not_null) {
+    ACCOUNT_JNI_CALL();
     try {
         JFloatArrayAccessor values(env, j_float_array);
         JBooleanArrayAccessor not_null(env, j_not_null);
@@ -102,6 +106,7 @@ JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAnyCollection_nativeCreateDoubleCollection(JNIEnv *env, jclass,
                                                                                jdoubleArray j_double_arrray,
                                                                                jbooleanArray j_not_null) {
+    ACCOUNT_JNI_CALL();
     try {
         JDoubleArrayAccessor values(env, j_double_arrray);
         JBooleanArrayAccessor not_null(env, j_not_null);
@@ -123,6 +128,7 @@ JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAnyCollection_nativeCreateStringCollection(JNIEnv *env, jclass,
                                                                                jobjectArray j_string_array,
                                                                                jbooleanArray j_not_null) {
+    ACCOUNT_JNI_CALL();
     try {
         JObjectArrayAccessor<JStringAccessor, jstring> values(env, j_string_array);
         JBooleanArrayAccessor not_null(env, j_not_null);
@@ -144,6 +150,7 @@ JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAnyCollection_nativeCreateBinaryCollection(JNIEnv *env, jclass,
                                                                                jobjectArray j_binary_array,
                                                                                jbooleanArray j_not_null) {
+    ACCOUNT_JNI_CALL();
     try {
         JObjectArrayAccessor<JByteArrayAccessor, jbyteArray> values(env, j_binary_array);
         JBooleanArrayAccessor not_null(env, j_not_null);
@@ -165,6 +172,7 @@ JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAnyCollection_nativeCreateDateCollection(JNIEnv *env, jclass,
                                                                              jlongArray j_date_array,
                                                                              jbooleanArray j_not_null) {
+    ACCOUNT_JNI_CALL();
     try {
         JLongArrayAccessor values(env, j_date_array);
         JBooleanArrayAccessor not_null(env, j_not_null);
@@ -186,6 +194,7 @@ JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAnyCollection_nativeCreateObjectIdCollection(JNIEnv *env, jclass,
                                                                                  jobjectArray j_object_id_array,
                                                                                  jbooleanArray j_not_null) {
+    ACCOUNT_JNI_CALL();
     try {
         JObjectArrayAccessor<JStringAccessor, jstring> values(env, j_object_id_array);
         JBooleanArrayAccessor not_null(env, j_not_null);
@@ -208,6 +217,7 @@ Java_io_realm_internal_core_NativeRealmAnyCollection_nativeCreateDecimal128Colle
                                                                                    jlongArray j_low_array,
                                                                                    jlongArray j_high_array,
                                                                                    jbooleanArray j_not_null) {
+    ACCOUNT_JNI_CALL();
     try {
         JLongArrayAccessor low_values(env, j_low_array);
         JLongArrayAccessor high_values(env, j_high_array);
@@ -232,6 +242,7 @@ JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAnyCollection_nativeCreateUUIDCollection(JNIEnv *env, jclass,
                                                                              jobjectArray j_uuid_array,
                                                                              jbooleanArray j_not_null) {
+    ACCOUNT_JNI_CALL();
     try {
         JObjectArrayAccessor<JStringAccessor, jstring> values(env, j_uuid_array);
         JBooleanArrayAccessor not_null(env, j_not_null);
@@ -253,6 +264,7 @@ JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAnyCollection_nativeCreateObjectCollection(JNIEnv *env, jclass,
                                                                                jlongArray j_object_array,
                                                                                jbooleanArray j_not_null) {
+    ACCOUNT_JNI_CALL();
     try {
         JLongArrayAccessor values(env, j_object_array);
         JBooleanArrayAccessor not_null(env, j_not_null);
@@ -271,6 +283,7 @@ JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAnyCollection_nativeCreateRealmAnyCollection(JNIEnv *env, jclass,
                                                                                jlongArray j_mixed_ptrs,
                                                                                jbooleanArray j_not_null) {
+    ACCOUNT_JNI_CALL();
     try {
         JLongArrayAccessor values(env, j_mixed_ptrs);
         JBooleanArrayAccessor not_null(env, j_not_null);
@@ -288,6 +301,7 @@ Java_io_realm_internal_core_NativeRealmAnyCollection_nativeCreateRealmAnyCollect
 JNIEXPORT jint JNICALL
 Java_io_realm_internal_core_NativeRealmAnyCollection_nativeGetCollectionSize(JNIEnv *env, jclass,
                                                                           jlong j_native_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto &collection = *reinterpret_cast<std::vector<JavaValue> *>(j_native_ptr);
         return collection.size();
@@ -300,6 +314,7 @@ JNIEXPORT jlong JNICALL
 Java_io_realm_internal_core_NativeRealmAnyCollection_nativeGetCollectionItem(JNIEnv *env, jclass,
                                                                           jlong j_native_ptr,
                                                                           jint j_index) {
+    ACCOUNT_JNI_CALL();
     try {
         auto &collection = *reinterpret_cast<std::vector<JavaValue> *>(j_native_ptr);
         return reinterpret_cast<jlong>(new JavaValue(collection[j_index]));
@@ -42,43 +42,44 @@ static std::function<jobject(JNIEnv*, uint64_t)> collection_mapper_count = [](JN
 };
 
 // This mapper works for both findOne and findOneAndUpdate/Replace functions
-static std::function<jobject(JNIEnv*, util::Optional<bson::BsonDocument>)> collection_mapper_find_one = [](JNIEnv* env, util::Optional<bson::BsonDocument> document) {
-    return document ? JniBsonProtocol::bson_to_jstring(env, *document) : nullptr;
-};
+static std::function<jobject(JNIEnv*, util::Optional<bson::BsonDocument>)> collection_mapper_find_one(JniBsonProtocol::Format format) {
+    return [format](JNIEnv* env, util::Optional<bson::BsonDocument> document) {
+        return document ? JniBsonProtocol::bson_to_jobject(env, *document, format) : nullptr;
+    };
+}
 
-static std::function<jobject(JNIEnv*, util::Optional<Bson>)> collection_mapper_insert_one = [](JNIEnv* env, util::Optional<Bson> bson_id) {
-    if (bson_id) {
-        return JniBsonProtocol::bson_to_jstring(env, bson_id.value());
-    }
-    throw std::logic_error("Error in 'insert_one', parameter 'bson_id' has no value.");
-};
+static std::function<jobject(JNIEnv*, util::Optional<Bson>)> collection_mapper_insert_one(JniBsonProtocol::Format format) {
+    return [format](JNIEnv* env, util::Optional<Bson> bson_id) {
+        if (bson_id) {
+            return JniBsonProtocol::bson_to_jobject(env, bson_id.value(), format);
+        }
+        throw std::logic_error("Error in 'insert_one', parameter 'bson_id' has no value.");
+    };
+}
 
-static std::function<jobject(JNIEnv*, std::vector<Bson>)> collection_mapper_insert_many = [](JNIEnv* env, std::vector<Bson> bson_ids) {
-    if (bson_ids.empty()) {
-        throw std::logic_error("Error in 'insert_many', parameter 'object_ids' is empty.");
-    }
-    auto arr = (jobjectArray)env->NewObjectArray(static_cast<jsize>(bson_ids.size()), JavaClassGlobalDef::java_lang_object(), nullptr);
-    if (arr == nullptr) {
-        ThrowException(env, OutOfMemory, "Could not allocate memory to return list of ObjectIds of inserted documents.");
-        return arr;
-    }
-    for (size_t i = 0; i < bson_ids.size(); ++i) {
-        env->SetObjectArrayElement(arr, i, JniBsonProtocol::bson_to_jstring(env, bson_ids[i]));
-    }
-    return arr;
-};
+static std::function<jobject(JNIEnv*, std::vector<Bson>)> collection_mapper_insert_many(JniBsonProtocol::Format format) {
+    return [format](JNIEnv* env, std::vector<Bson> bson_ids) {
+        if (bson_ids.empty()) {
+            throw std::logic_error("Error in 'insert_many', parameter 'object_ids' is empty.");
+        }
+        // All ids are returned as a single BsonArray so they can be decoded in one pass
+        return JniBsonProtocol::bson_to_jobject(env, Bson(bson_ids), format);
+    };
+}
 
-static std::function<jobject(JNIEnv*, MongoCollection::UpdateResult)> collection_mapper_update = [](JNIEnv* env, MongoCollection::UpdateResult result) {
-    Bson matched_count(result.matched_count);
-    Bson modified_count(result.modified_count);
-    Bson upserted_value;
-    if (result.upserted_id) {
-        upserted_value = Bson(result.upserted_id.value());
-    }
-    std::vector<Bson> bson_vector = { matched_count, modified_count, upserted_value };
-    Bson output(bson_vector);
-    return JniBsonProtocol::bson_to_jstring(env, output);
-};
+static std::function<jobject(JNIEnv*, MongoCollection::UpdateResult)> collection_mapper_update(JniBsonProtocol::Format format) {
+    return [format](JNIEnv* env, MongoCollection::UpdateResult result) {
+        Bson matched_count(result.matched_count);
+        Bson modified_count(result.modified_count);
+        Bson upserted_value;
+        if (result.upserted_id) {
+            upserted_value = Bson(result.upserted_id.value());
+        }
+        std::vector<Bson> bson_vector = { matched_count, modified_count, upserted_value };
+        Bson output(bson_vector);
+        return JniBsonProtocol::bson_to_jobject(env, output, format);
+    };
+}
 
 static void finalize_collection(jlong ptr) {
     delete reinterpret_cast<MongoCollection*>(ptr);
@@ -93,7 +94,7 @@ JNIEXPORT void JNICALL
 Java_io_realm_internal_objectstore_OsMongoCollection_nativeCount(JNIEnv* env,
                                                                  jclass,
                                                                  jlong j_collection_ptr,
-                                                                 jstring j_filter,
+                                                                 jobject j_filter,
                                                                  jlong j_limit,
                                                                  jobject j_callback) {
     try {
@@ -111,19 +112,20 @@ Java_io_realm_internal_objectstore_OsMongoCollection_nativeFindOne(JNIEnv* env,
                                                                    jclass,
                                                                    jint j_find_one_type,
                                                                    jlong j_collection_ptr,
-                                                                   jstring j_filter,
-                                                                   jstring j_projection,
-                                                                   jstring j_sort,
+                                                                   jobject j_filter,
+                                                                   jobject j_projection,
+                                                                   jobject j_sort,
                                                                    jlong j_limit,
                                                                    jobject j_callback) {
     try {
         auto collection = reinterpret_cast<MongoCollection*>(j_collection_ptr);
+        auto format = JniBsonProtocol::format_of(env, j_filter);
 
         bson::BsonDocument filter(JniBsonProtocol::parse_checked(env, j_filter, Bson::Type::Document, "BSON filter must be a Document"));
 
         switch (j_find_one_type) {
             case io_realm_internal_objectstore_OsMongoCollection_FIND_ONE:
-                collection->find_one(filter, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one));
+                collection->find_one(filter, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one(format)));
                 break;
             case io_realm_internal_objectstore_OsMongoCollection_FIND_ONE_WITH_OPTIONS: {
                 uint64_t limit = std::uint64_t(j_limit);
@@ -136,7 +138,7 @@ Java_io_realm_internal_objectstore_OsMongoCollection_nativeFindOne(JNIEnv* env,
                         sort
                 };
 
-                collection->find_one(filter, options, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one));
+                collection->find_one(filter, options, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one(format)));
                 break;
             }
             default:
@@ -150,13 +152,14 @@ JNIEXPORT void JNICALL
 Java_io_realm_internal_objectstore_OsMongoCollection_nativeInsertOne(JNIEnv* env,
                                                                      jclass,
                                                                      jlong j_collection_ptr,
-                                                                     jstring j_document,
+                                                                     jobject j_document,
                                                                      jobject j_callback) {
     try {
         auto collection = reinterpret_cast<MongoCollection*>(j_collection_ptr);
+        auto format = JniBsonProtocol::format_of(env, j_document);
 
         bson::BsonDocument filter(JniBsonProtocol::parse_checked(env, j_document, Bson::Type::Document, "BSON document must be a Document"));
-        collection->insert_one(filter, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_insert_one));
+        collection->insert_one(filter, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_insert_one(format)));
     }
     CATCH_STD()
 }
@@ -165,13 +168,14 @@ JNIEXPORT void JNICALL
 Java_io_realm_internal_objectstore_OsMongoCollection_nativeInsertMany(JNIEnv* env,
                                                                       jclass,
                                                                       jlong j_collection_ptr,
-                                                                      jstring j_documents,
+                                                                      jobject j_documents,
                                                                       jobject j_callback) {
     try {
         auto collection = reinterpret_cast<MongoCollection*>(j_collection_ptr);
+        auto format = JniBsonProtocol::format_of(env, j_documents);
 
         BsonArray bson_array(JniBsonProtocol::parse_checked(env, j_documents, Bson::Type::Array, "BSON documents must be a BsonArray"));
-        collection->insert_many(bson_array, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_insert_many));
+        collection->insert_many(bson_array, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_insert_many(format)));
     }
     CATCH_STD()
 }
@@ -181,7 +185,7 @@ Java_io_realm_internal_objectstore_OsMongoCollection_nativeDelete(JNIEnv* env,
                                                                   jclass,
                                                                   jint j_delete_type,
                                                                   jlong j_collection_ptr,
-                                                                  jstring j_document,
+                                                                  jobject j_document,
                                                                   jobject j_callback) {
     try {
         auto collection = reinterpret_cast<MongoCollection*>(j_collection_ptr);
@@ -206,28 +210,29 @@ Java_io_realm_internal_objectstore_OsMongoCollection_nativeUpdate(JNIEnv *env,
                                                                   jclass,
                                                                   jint j_update_type,
                                                                   jlong j_collection_ptr,
-                                                                  jstring j_filter,
-                                                                  jstring j_update,
+                                                                  jobject j_filter,
+                                                                  jobject j_update,
                                                                   jboolean j_upsert,
                                                                   jobject j_callback) {
     try {
         auto collection = reinterpret_cast<MongoCollection*>(j_collection_ptr);
+        auto format = JniBsonProtocol::format_of(env, j_filter);
 
         bson::BsonDocument filter(JniBsonProtocol::parse_checked(env, j_filter, Bson::Type::Document, "BSON filter must be a Document"));
         bson::BsonDocument update(JniBsonProtocol::parse_checked(env, j_update, Bson::Type::Document, "BSON update must be a Document"));
 
         switch (j_update_type) {
             case io_realm_internal_objectstore_OsMongoCollection_UPDATE_ONE:
-                collection->update_one(filter, update, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_update));
+                collection->update_one(filter, update, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_update(format)));
                 break;
             case io_realm_internal_objectstore_OsMongoCollection_UPDATE_ONE_WITH_OPTIONS:
-                collection->update_one(filter, update, to_bool(j_upsert), JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_update));
+                collection->update_one(filter, update, to_bool(j_upsert), JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_update(format)));
                 break;
             case io_realm_internal_objectstore_OsMongoCollection_UPDATE_MANY:
-                collection->update_many(filter, update, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_update));
+                collection->update_many(filter, update, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_update(format)));
                 break;
             case io_realm_internal_objectstore_OsMongoCollection_UPDATE_MANY_WITH_OPTIONS:
-                collection->update_many(filter, update, to_bool(j_upsert), JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_update));
+                collection->update_many(filter, update, to_bool(j_upsert), JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_update(format)));
                 break;
             default:
                 throw std::logic_error(util::format("Unknown update type: %1", j_update_type));
@@ -241,22 +246,23 @@ Java_io_realm_internal_objectstore_OsMongoCollection_nativeFindOneAndUpdate(JNIE
                                                                             jclass,
                                                                             jint j_find_one_and_update_type,
                                                                             jlong j_collection_ptr,
-                                                                            jstring j_filter,
-                                                                            jstring j_update,
-                                                                            jstring j_projection,
-                                                                            jstring j_sort,
+                                                                            jobject j_filter,
+                                                                            jobject j_update,
+                                                                            jobject j_projection,
+                                                                            jobject j_sort,
                                                                             jboolean j_upsert,
                                                                             jboolean j_return_new_document,
                                                                             jobject j_callback) {
     try {
         auto collection = reinterpret_cast<MongoCollection*>(j_collection_ptr);
+        auto format = JniBsonProtocol::format_of(env, j_filter);
 
         bson::BsonDocument filter(JniBsonProtocol::parse_checked(env, j_filter, Bson::Type::Document, "BSON filter must be a Document"));
         bson::BsonDocument update(JniBsonProtocol::parse_checked(env, j_update, Bson::Type::Document, "BSON update must be a Document"));
 
         switch (j_find_one_and_update_type) {
             case io_realm_internal_objectstore_OsMongoCollection_FIND_ONE_AND_UPDATE:
-                collection->find_one_and_update(filter, update, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one));
+                collection->find_one_and_update(filter, update, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one(format)));
                 break;
             case io_realm_internal_objectstore_OsMongoCollection_FIND_ONE_AND_UPDATE_WITH_OPTIONS: {
                 bson::BsonDocument projection(JniBsonProtocol::parse_checked(env, j_projection, Bson::Type::Document, "BSON projection must be a Document"));
@@ -267,7 +273,7 @@ Java_io_realm_internal_objectstore_OsMongoCollection_nativeFindOneAndUpdate(JNIE
                         to_bool(j_upsert),
                         to_bool(j_return_new_document)
                 };
-                collection->find_one_and_update(filter, update, options, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one));
+                collection->find_one_and_update(filter, update, options, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one(format)));
                 break;
             }
             default:
@@ -282,22 +288,23 @@ Java_io_realm_internal_objectstore_OsMongoCollection_nativeFindOneAndReplace(JNI
                                                                              jclass,
                                                                              jint j_find_one_and_replace_type,
                                                                              jlong j_collection_ptr,
-                                                                             jstring j_filter,
-                                                                             jstring j_update,
-                                                                             jstring j_projection,
-                                                                             jstring j_sort,
+                                                                             jobject j_filter,
+                                                                             jobject j_update,
+                                                                             jobject j_projection,
+                                                                             jobject j_sort,
                                                                              jboolean j_upsert,
                                                                              jboolean j_return_new_document,
                                                                              jobject j_callback) {
     try {
         auto collection = reinterpret_cast<MongoCollection*>(j_collection_ptr);
+        auto format = JniBsonProtocol::format_of(env, j_filter);
 
         bson::BsonDocument filter(JniBsonProtocol::parse_checked(env, j_filter, Bson::Type::Document, "BSON filter must be a Document"));
         bson::BsonDocument update(JniBsonProtocol::parse_checked(env, j_update, Bson::Type::Document, "BSON update must be a Document"));
 
         switch (j_find_one_and_replace_type) {
             case io_realm_internal_objectstore_OsMongoCollection_FIND_ONE_AND_REPLACE:
-                collection->find_one_and_replace(filter, update, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one));
+                collection->find_one_and_replace(filter, update, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one(format)));
                 break;
             case io_realm_internal_objectstore_OsMongoCollection_FIND_ONE_AND_REPLACE_WITH_OPTIONS: {
                 bson::BsonDocument projection(JniBsonProtocol::parse_checked(env, j_projection, Bson::Type::Document, "BSON projection must be a Document"));
@@ -308,7 +315,7 @@ Java_io_realm_internal_objectstore_OsMongoCollection_nativeFindOneAndReplace(JNI
                         to_bool(j_upsert),
                         to_bool(j_return_new_document)
                 };
-                collection->find_one_and_replace(filter, update, options, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one));
+                collection->find_one_and_replace(filter, update, options, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one(format)));
                 break;
             }
             default:
@@ -323,20 +330,21 @@ Java_io_realm_internal_objectstore_OsMongoCollection_nativeFindOneAndDelete(JNIE
                                                                             jclass,
                                                                             jint j_find_one_and_delete_type,
                                                                             jlong j_collection_ptr,
-                                                                            jstring j_filter,
-                                                                            jstring j_projection,
-                                                                            jstring j_sort,
+                                                                            jobject j_filter,
+                                                                            jobject j_projection,
+                                                                            jobject j_sort,
                                                                             jboolean j_upsert,
                                                                             jboolean j_return_new_document,
                                                                             jobject j_callback) {
     try {
         auto collection = reinterpret_cast<MongoCollection*>(j_collection_ptr);
+        auto format = JniBsonProtocol::format_of(env, j_filter);
 
         bson::BsonDocument filter(JniBsonProtocol::parse_checked(env, j_filter, Bson::Type::Document, "BSON filter must be a Document"));
 
         switch (j_find_one_and_delete_type) {
             case io_realm_internal_objectstore_OsMongoCollection_FIND_ONE_AND_DELETE:
-                collection->find_one_and_delete(filter, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one));
+                collection->find_one_and_delete(filter, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one(format)));
                 break;
             case io_realm_internal_objectstore_OsMongoCollection_FIND_ONE_AND_DELETE_WITH_OPTIONS: {
                 bson::BsonDocument projection(JniBsonProtocol::parse_checked(env, j_projection, Bson::Type::Document, "BSON projection must be a Document"));
@@ -347,7 +355,7 @@ Java_io_realm_internal_objectstore_OsMongoCollection_nativeFindOneAndDelete(JNIE
                         to_bool(j_upsert),
                         to_bool(j_return_new_document)
                 };
-                collection->find_one_and_delete(filter, options, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one));
+                collection->find_one_and_delete(filter, options, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find_one(format)));
                 break;
             }
             default:
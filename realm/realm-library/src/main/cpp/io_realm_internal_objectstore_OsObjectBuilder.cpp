@@ -18,6 +18,7 @@
 
 #include "java_object_accessor.hpp"
 #include "util.hpp"
+#include "jni_util/trace.hpp"
 
 #include <realm/util/any.hpp>
 
@@ -29,11 +30,13 @@ typedef std::map<ColKey, JavaValue> OsObjectData;
 
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeDestroyBuilder(JNIEnv*, jclass, jlong data_ptr)
 {
+    ACCOUNT_JNI_CALL();
     delete reinterpret_cast<OsObjectData*>(data_ptr);
 }
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeCreateBuilder(JNIEnv* env, jclass)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto map = new std::map<ColKey, JavaValue>();
         return reinterpret_cast<jlong>(map);
@@ -51,6 +54,7 @@ static inline void add_property(jlong data_ptr, jlong column_key, JavaValue cons
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddNull
         (JNIEnv* env, jclass, jlong data_ptr, jlong column_key)
 {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value = JavaValue();
         add_property(data_ptr, column_key, value);
@@ -61,6 +65,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddString
     (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor value(env, j_value);
         std::string string_value(value);
@@ -73,6 +78,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddInteger
         (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jlong j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(j_value);
         add_property(data_ptr, column_key, value);
@@ -83,6 +89,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddFloat
         (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jfloat j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(j_value);
         add_property(data_ptr, column_key, value);
@@ -93,6 +100,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddDouble
         (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jdouble j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(j_value);
         add_property(data_ptr, column_key, value);
@@ -103,6 +111,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddBoolean
         (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jboolean j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(j_value);
         add_property(data_ptr, column_key, value);
@@ -113,6 +122,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddByteArray
         (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jbyteArray j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto data = OwnedBinaryData(JByteArrayAccessor(env, j_value).transform<BinaryData>());
         const JavaValue value(data);
@@ -124,6 +134,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddDate
         (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jlong j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(from_milliseconds(j_value));
         add_property(data_ptr, column_key, value);
@@ -134,6 +145,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddDecimal128
         (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jlong j_low_value, jlong j_high_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         Decimal128::Bid128 raw {static_cast<uint64_t>(j_low_value), static_cast<uint64_t>(j_high_value)};
         Decimal128 decimal128 = Decimal128(raw);
@@ -146,6 +158,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObjectId
         (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jstring j_data)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor data(env, j_data);
         ObjectId objectId = ObjectId(StringData(data).data());
@@ -158,6 +171,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddUUID
         (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jstring j_data)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor data(env, j_data);
         UUID uuid = UUID(StringData(data).data());
@@ -170,6 +184,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddRealmAny
         (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jlong native_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = reinterpret_cast<JavaValue*>(native_ptr);
         const JavaValue value(java_value);
@@ -181,6 +196,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObject
         (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jlong row_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(reinterpret_cast<Obj*>(row_ptr));
         add_property(data_ptr, column_key, value);
@@ -207,6 +223,8 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativ
                                                                                                               jboolean update_existing,
                                                                                                               jboolean ignore_same_values)
 {
+    ACCOUNT_JNI_CALL();
+    TraceSection trace_section("OsObjectBuilder::create_or_update_object");
     try {
         SharedRealm shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
 
@@ -238,6 +256,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativ
                                                                                                       jlong j_obj_key,
                                                                                                       jboolean ignore_same_values)
 {
+    ACCOUNT_JNI_CALL();
     try {
         SharedRealm shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
         CreatePolicy policy = (ignore_same_values) ? CreatePolicy::UpdateModified : CreatePolicy::UpdateAll;
@@ -258,6 +277,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativ
 JNIEXPORT jlong JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeStartList
         (JNIEnv* env, jclass, jlong list_size)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto list = new std::vector<JavaValue>();
         list->reserve(list_size);
@@ -270,6 +290,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativ
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeStopList
         (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jlong list_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto list = reinterpret_cast<std::vector<JavaValue>*>(list_ptr);
         const JavaValue value((*list));
@@ -283,6 +304,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObjectList
         (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jlongArray row_ptrs)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto rows = JLongArrayAccessor(env, row_ptrs);
         auto list = std::vector<JavaValue>();
@@ -306,6 +328,7 @@ static inline void add_list_element(jlong list_ptr, JavaValue const& value)
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddNullListItem
         (JNIEnv* env, jclass, jlong list_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value = JavaValue();
         add_list_element(list_ptr, value);
@@ -316,6 +339,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddIntegerListItem
         (JNIEnv* env, jclass, jlong list_ptr, jlong j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(j_value);
         add_list_element(list_ptr, value);
@@ -326,6 +350,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddStringListItem
     (JNIEnv* env, jclass, jlong list_ptr, jstring j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor value(env, j_value);
         std::string string_value(value);
@@ -338,6 +363,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddFloatListItem
         (JNIEnv* env, jclass, jlong list_ptr, jfloat j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(j_value);
         add_list_element(list_ptr, value);
@@ -348,6 +374,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddDoubleListItem
         (JNIEnv* env, jclass, jlong list_ptr, jdouble j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(j_value);
         add_list_element(list_ptr, value);
@@ -358,6 +385,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddBooleanListItem
         (JNIEnv* env, jclass, jlong list_ptr, jboolean j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(j_value);
         add_list_element(list_ptr, value);
@@ -368,6 +396,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddByteArrayListItem
         (JNIEnv* env, jclass, jlong list_ptr, jbyteArray j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto data = OwnedBinaryData(JByteArrayAccessor(env, j_value).transform<BinaryData>());
         const JavaValue value(data);
@@ -379,6 +408,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddDateListItem
         (JNIEnv* env, jclass, jlong list_ptr, jlong j_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(from_milliseconds(j_value));
         add_list_element(list_ptr, value);
@@ -389,6 +419,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObjectListItem
         (JNIEnv* env, jclass, jlong list_ptr, jlong row_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(reinterpret_cast<Obj*>(row_ptr));
         add_list_element(list_ptr, value);
@@ -399,6 +430,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddDecimal128ListItem
         (JNIEnv* env, jclass, jlong list_ptr, jlong j_low_value, jlong j_high_value)
 {
+    ACCOUNT_JNI_CALL();
     try {
         Decimal128::Bid128 raw {static_cast<uint64_t>(j_low_value), static_cast<uint64_t>(j_high_value)};
         Decimal128 decimal128 = Decimal128(raw);
@@ -411,6 +443,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObjectIdListItem
         (JNIEnv* env, jclass, jlong list_ptr, jstring j_data)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor data(env, j_data);
         ObjectId objectId = ObjectId(StringData(data).data());
@@ -423,6 +456,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddUUIDListItem
         (JNIEnv* env, jclass, jlong list_ptr, jstring j_data)
 {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor data(env, j_data);
         UUID uuid = UUID(StringData(data).data());
@@ -435,6 +469,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddRealmAnyListItem
         (JNIEnv* env, jclass, jlong list_ptr, jlong mixed_ptr)
 {
+    ACCOUNT_JNI_CALL();
     try {
         auto java_value = *reinterpret_cast<JavaValue *>(mixed_ptr);
         add_list_element(list_ptr, java_value);
@@ -445,6 +480,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 JNIEXPORT jlong JNICALL
 Java_io_realm_internal_objectstore_OsObjectBuilder_nativeStartDictionary(JNIEnv* env,
                                                                          jclass) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = new std::map<std::string, JavaValue>();
         return reinterpret_cast<jlong>(dictionary);
@@ -458,6 +494,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeStopDictionary(JNIEnv*
                                                                         jlong data_ptr,
                                                                         jlong column_key,
                                                                         jlong dictionary_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
         const JavaValue value((*dictionary));
@@ -472,6 +509,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddNullDictionaryEntry(
                                                                                 jclass,
                                                                                 jlong dictionary_ptr,
                                                                                 jstring j_key) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
         JStringAccessor key(env, j_key);
@@ -487,6 +525,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddBooleanDictionaryEnt
                                                                                    jlong dictionary_ptr,
                                                                                    jstring j_key,
                                                                                    jboolean j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
         JStringAccessor key(env, j_key);
@@ -502,6 +541,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddStringDictionaryEntr
                                                                                   jlong dictionary_ptr,
                                                                                   jstring j_key,
                                                                                   jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
         JStringAccessor key(env, j_key);
@@ -518,6 +558,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddIntegerDictionaryEnt
                                                                                    jlong dictionary_ptr,
                                                                                    jstring j_key,
                                                                                    jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
         JStringAccessor key(env, j_key);
@@ -533,6 +574,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddDoubleDictionaryEntr
                                                                                   jlong dictionary_ptr,
                                                                                   jstring j_key,
                                                                                   jdouble j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
         JStringAccessor key(env, j_key);
@@ -548,6 +590,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddFloatDictionaryEntry
                                                                                  jlong dictionary_ptr,
                                                                                  jstring j_key,
                                                                                  jfloat j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
         JStringAccessor key(env, j_key);
@@ -563,6 +606,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddBinaryDictionaryEntr
                                                                                   jlong dictionary_ptr,
                                                                                   jstring j_key,
                                                                                   jbyteArray j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
         JStringAccessor key(env, j_key);
@@ -579,6 +623,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddDateDictionaryEntry(
                                                                                 jlong dictionary_ptr,
                                                                                 jstring j_key,
                                                                                 jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
         JStringAccessor key(env, j_key);
@@ -595,6 +640,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddDecimal128Dictionary
                                                                                       jstring j_key,
                                                                                       jlong j_high_value,
                                                                                       jlong j_low_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
 
@@ -615,6 +661,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObjectIdDictionaryEn
                                                                                     jlong dictionary_ptr,
                                                                                     jstring j_key,
                                                                                     jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
 
@@ -635,6 +682,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddUUIDDictionaryEntry(
                                                                                 jlong dictionary_ptr,
                                                                                 jstring j_key,
                                                                                 jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
 
@@ -655,6 +703,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObjectDictionaryEntr
                                                                                 jlong dictionary_ptr,
                                                                                 jstring j_key,
                                                                                 jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
         JStringAccessor key(env, j_key);
@@ -669,6 +718,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddRealmAnyDictionaryEn
                                                                                  jlong dictionary_ptr,
                                                                                  jstring j_key,
                                                                                  jlong mixed_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto dictionary = reinterpret_cast<std::map<std::string, JavaValue>*>(dictionary_ptr);
         auto mixed_java_value = *reinterpret_cast<JavaValue *>(mixed_ptr);
@@ -684,6 +734,7 @@ JNIEXPORT jlong JNICALL
 Java_io_realm_internal_objectstore_OsObjectBuilder_nativeStartSet(JNIEnv* env,
                                                                   jclass,
                                                                   jlong j_size) {
+    ACCOUNT_JNI_CALL();
     try {
         auto set_as_list = new std::vector<JavaValue>();
         set_as_list->reserve(j_size);
@@ -699,6 +750,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeStopSet(JNIEnv* env,
                                                                  jlong data_ptr,
                                                                  jlong column_key,
                                                                  jlong set_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         auto set_as_list = reinterpret_cast<std::vector<JavaValue>*>(set_ptr);
         const JavaValue value((*set_as_list));
@@ -712,6 +764,7 @@ JNIEXPORT void JNICALL
 Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddNullSetItem(JNIEnv* env,
                                                                         jclass,
                                                                         jlong set_ptr) {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value = JavaValue();
         add_list_element(set_ptr, value);
@@ -724,6 +777,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddStringSetItem(JNIEnv
                                                                           jclass,
                                                                           jlong set_ptr,
                                                                           jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor value(env, j_value);
         std::string string_value(value);
@@ -738,6 +792,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddBooleanSetItem(JNIEn
                                                                            jclass,
                                                                            jlong set_ptr,
                                                                            jboolean j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue wrapped_value(j_value);
         add_list_element(set_ptr, wrapped_value);
@@ -750,6 +805,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddIntegerSetItem(JNIEn
                                                                            jclass,
                                                                            jlong set_ptr,
                                                                            jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(j_value);
         add_list_element(set_ptr, value);
@@ -762,6 +818,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddFloatSetItem(JNIEnv*
                                                                          jclass,
                                                                          jlong set_ptr,
                                                                          jfloat j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(j_value);
         add_list_element(set_ptr, value);
@@ -774,6 +831,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddDoubleSetItem(JNIEnv
                                                                           jclass,
                                                                           jlong set_ptr,
                                                                           jdouble j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(j_value);
         add_list_element(set_ptr, value);
@@ -786,6 +844,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddByteArraySetItem(JNI
                                                                              jclass,
                                                                              jlong set_ptr,
                                                                              jbyteArray j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         auto data = OwnedBinaryData(JByteArrayAccessor(env, j_value).transform<BinaryData>());
         const JavaValue value(data);
@@ -799,6 +858,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddDateSetItem(JNIEnv*
                                                                         jclass,
                                                                         jlong set_ptr,
                                                                         jlong j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         const JavaValue value(from_milliseconds(j_value));
         add_list_element(set_ptr, value);
@@ -812,6 +872,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddDecimal128SetItem(JN
                                                                               jlong set_ptr,
                                                                               jlong j_low_value,
                                                                               jlong j_high_value) {
+    ACCOUNT_JNI_CALL();
     try {
         Decimal128::Bid128 raw {static_cast<uint64_t>(j_low_value), static_cast<uint64_t>(j_high_value)};
         Decimal128 decimal128 = Decimal128(raw);
@@ -826,6 +887,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObjectIdSetItem(JNIE
                                                                             jclass,
                                                                             jlong set_ptr,
                                                                             jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor data(env, j_value);
         ObjectId objectId = ObjectId(StringData(data).data());
@@ -840,6 +902,7 @@ Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddUUIDSetItem(JNIEnv*
                                                                         jclass,
                                                                         jlong set_ptr,
                                                                         jstring j_value) {
+    ACCOUNT_JNI_CALL();
     try {
         JStringAccessor data(env, j_value);
         UUID uuid = UUID(StringData(data).data());
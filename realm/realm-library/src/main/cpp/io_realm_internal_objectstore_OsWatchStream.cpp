@@ -80,12 +80,14 @@ Java_io_realm_internal_objectstore_OsWatchStream_nativeGetState(JNIEnv *env, jcl
     return nullptr;
 }
 
-JNIEXPORT jstring JNICALL
+JNIEXPORT jobject JNICALL
 Java_io_realm_internal_objectstore_OsWatchStream_nativeGetNextEvent(JNIEnv *env, jclass,
-                                                                    jlong j_watch_stream_ptr) {
+                                                                    jlong j_watch_stream_ptr,
+                                                                    jboolean j_binary) {
     try {
         WatchStream *watch_stream = reinterpret_cast<WatchStream *>(j_watch_stream_ptr);
-        return JniBsonProtocol::bson_to_jstring(env, watch_stream->next_event());
+        auto format = to_bool(j_binary) ? JniBsonProtocol::Format::BINARY : JniBsonProtocol::Format::JSON;
+        return JniBsonProtocol::bson_to_jobject(env, watch_stream->next_event(), format);
     }
     CATCH_STD()
 
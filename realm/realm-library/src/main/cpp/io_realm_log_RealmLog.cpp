@@ -59,8 +59,8 @@ JNIEXPORT void JNICALL Java_io_realm_log_RealmLog_nativeLog(JNIEnv* env, jclass,
     try {
         JStringAccessor tag_accessor(env, tag);
         JStringAccessor message_accessor(env, message);
-        Log::shared().log(static_cast<Log::Level>(level), std::string(tag_accessor).c_str(), throwable,
-                          std::string(message_accessor).c_str());
+        Log::shared().dispatch(static_cast<Log::Level>(level), std::string(tag_accessor).c_str(), throwable,
+                               std::string(message_accessor).c_str());
     }
     CATCH_STD()
 }
@@ -27,27 +27,29 @@ using namespace realm::app;
 using namespace realm::bson;
 using namespace realm::jni_util;
 
-static std::function<jobject(JNIEnv*, util::Optional<Bson> )> success_mapper = [](JNIEnv* env, util::Optional<Bson> response) {
-    if (response) {
-        return JniBsonProtocol::bson_to_jstring(env, *response);
-    } else {
-        // We should never reach here, as this is the success mapper and we would not end up here
-        // if we did not received a parsable BSON response
-        throw std::logic_error("Function did not return a result");
-    }
-};
+static std::function<jobject(JNIEnv*, util::Optional<Bson> )> success_mapper(JniBsonProtocol::Format format) {
+    return [format](JNIEnv* env, util::Optional<Bson> response) {
+        if (response) {
+            return JniBsonProtocol::bson_to_jobject(env, *response, format);
+        } else {
+            // We should never reach here, as this is the success mapper and we would not end up here
+            // if we did not received a parsable BSON response
+            throw std::logic_error("Function did not return a result");
+        }
+    };
+}
 
 JNIEXPORT void JNICALL
 Java_io_realm_mongodb_FunctionsImpl_nativeCallFunction(JNIEnv* env, jclass , jlong j_app_ptr, jlong j_user_ptr, jstring j_name,
-                                               jstring j_args_json , jobject j_callback) {
+                                               jobject j_args , jobject j_callback) {
     try {
         auto app = *reinterpret_cast<std::shared_ptr<App>*>(j_app_ptr);
         auto user = *reinterpret_cast<std::shared_ptr<SyncUser>*>(j_user_ptr);
 
-        auto callback = JavaNetworkTransport::create_result_callback(env, j_callback, success_mapper);
+        auto callback = JavaNetworkTransport::create_result_callback(env, j_callback, success_mapper(JniBsonProtocol::format_of(env, j_args)));
 
         JStringAccessor name(env, j_name);
-        BsonArray args(JniBsonProtocol::parse_checked(env, j_args_json, Bson::Type::Array, "BSON argument must be an BsonArray"));
+        BsonArray args(JniBsonProtocol::parse_checked(env, j_args, Bson::Type::Array, "BSON argument must be an BsonArray"));
         app->call_function(user, name, args, std::move(callback));
     }
     CATCH_STD()
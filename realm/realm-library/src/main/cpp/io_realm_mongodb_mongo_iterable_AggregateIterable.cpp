@@ -34,22 +34,25 @@ using namespace realm::bson;
 using namespace realm::jni_util;
 using namespace realm::_impl;
 
-static std::function<jobject(JNIEnv*, util::Optional<bson::BsonArray>)> collection_mapper_aggregate = [](JNIEnv* env, util::Optional<bson::BsonArray> array) {
-    return array ? JniBsonProtocol::bson_to_jstring(env, *array) : NULL;
-};
+static std::function<jobject(JNIEnv*, util::Optional<bson::BsonArray>)> collection_mapper_aggregate(JniBsonProtocol::Format format) {
+    return [format](JNIEnv* env, util::Optional<bson::BsonArray> array) {
+        return array ? JniBsonProtocol::bson_to_jobject(env, *array, format) : NULL;
+    };
+}
 
 JNIEXPORT void JNICALL
 Java_io_realm_mongodb_mongo_iterable_AggregateIterable_nativeAggregate(JNIEnv* env,
                                                                        jclass,
                                                                        jlong j_collection_ptr,
-                                                                       jstring j_pipeline,
+                                                                       jobject j_pipeline,
                                                                        jobject j_callback) {
     try {
         auto collection = reinterpret_cast<MongoCollection *>(j_collection_ptr);
+        auto format = JniBsonProtocol::format_of(env, j_pipeline);
 
         BsonArray bson_array(JniBsonProtocol::parse_checked(env, j_pipeline, Bson::Type::Array, "BSON pipeline must be a BsonArray"));
 
-        collection->aggregate(bson_array, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_aggregate));
+        collection->aggregate(bson_array, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_aggregate(format)));
     }
     CATCH_STD()
 }
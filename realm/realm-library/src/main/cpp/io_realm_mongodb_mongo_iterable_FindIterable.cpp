@@ -33,28 +33,31 @@ using namespace realm::bson;
 using namespace realm::jni_util;
 using namespace realm::_impl;
 
-static std::function<jobject(JNIEnv*, util::Optional<bson::BsonArray>)> collection_mapper_find = [](JNIEnv* env, util::Optional<bson::BsonArray> array) {
-    return array ? JniBsonProtocol::bson_to_jstring(env, *array) : NULL;
-};
+static std::function<jobject(JNIEnv*, util::Optional<bson::BsonArray>)> collection_mapper_find(JniBsonProtocol::Format format) {
+    return [format](JNIEnv* env, util::Optional<bson::BsonArray> array) {
+        return array ? JniBsonProtocol::bson_to_jobject(env, *array, format) : NULL;
+    };
+}
 
 JNIEXPORT void JNICALL
 Java_io_realm_mongodb_mongo_iterable_FindIterable_nativeFind(JNIEnv *env,
                                                              jclass,
                                                              jint j_find_type,
                                                              jlong j_collection_ptr,
-                                                             jstring j_filter,
-                                                             jstring j_projection,
-                                                             jstring j_sort,
+                                                             jobject j_filter,
+                                                             jobject j_projection,
+                                                             jobject j_sort,
                                                              jlong j_limit,
                                                              jobject j_callback) {
     try {
         auto collection = reinterpret_cast<MongoCollection*>(j_collection_ptr);
+        auto format = JniBsonProtocol::format_of(env, j_filter);
 
         bson::BsonDocument filter(JniBsonProtocol::parse_checked(env, j_filter, Bson::Type::Document, "BSON filter must be a Document"));
 
         switch (j_find_type) {
             case io_realm_mongodb_mongo_iterable_FindIterable_FIND:
-                collection->find(filter, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find));
+                collection->find(filter, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find(format)));
                 break;
             case io_realm_mongodb_mongo_iterable_FindIterable_FIND_WITH_OPTIONS:
                 uint64_t limit = std::uint64_t(j_limit);
@@ -65,7 +68,7 @@ Java_io_realm_mongodb_mongo_iterable_FindIterable_nativeFind(JNIEnv *env,
                         projection,
                         sort
                 };
-                collection->find(filter, options, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find));
+                collection->find(filter, options, JavaNetworkTransport::create_result_callback(env, j_callback, collection_mapper_find(format)));
                 break;
         }
     }
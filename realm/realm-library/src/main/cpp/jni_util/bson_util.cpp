@@ -14,15 +14,431 @@
  * limitations under the License.
  */
 
+#include <cstring>
 #include <string>
 #include "util.hpp"
 #include "bson_util.hpp"
+#include "java_class_global_def.hpp"
+#include "jni_util/java_class.hpp"
+#include "jni_util/java_method.hpp"
 
 // Must match JniBsonProtocol.VALUE from Java
 static const std::string VALUE("value");
 
+using namespace realm;
 using namespace realm::bson;
 using namespace realm::jni_util;
+using namespace realm::_impl;
+
+namespace {
+
+// Element types from the BSON specification, http://bsonspec.org/spec.html
+constexpr uint8_t TYPE_DOUBLE = 0x01;
+constexpr uint8_t TYPE_STRING = 0x02;
+constexpr uint8_t TYPE_DOCUMENT = 0x03;
+constexpr uint8_t TYPE_ARRAY = 0x04;
+constexpr uint8_t TYPE_BINARY = 0x05;
+constexpr uint8_t TYPE_OBJECT_ID = 0x07;
+constexpr uint8_t TYPE_BOOLEAN = 0x08;
+constexpr uint8_t TYPE_DATE_TIME = 0x09;
+constexpr uint8_t TYPE_NULL = 0x0A;
+constexpr uint8_t TYPE_REGULAR_EXPRESSION = 0x0B;
+constexpr uint8_t TYPE_SYMBOL = 0x0E;
+constexpr uint8_t TYPE_INT32 = 0x10;
+constexpr uint8_t TYPE_TIMESTAMP = 0x11;
+constexpr uint8_t TYPE_INT64 = 0x12;
+constexpr uint8_t TYPE_DECIMAL128 = 0x13;
+constexpr uint8_t TYPE_MIN_KEY = 0xFF;
+constexpr uint8_t TYPE_MAX_KEY = 0x7F;
+
+constexpr uint8_t SUBTYPE_GENERIC = 0x00;
+constexpr uint8_t SUBTYPE_UUID = 0x04;
+
+constexpr size_t OBJECT_ID_SIZE = 12;
+constexpr size_t UUID_SIZE = 16;
+
+const char HEX_DIGITS[] = "0123456789abcdef";
+
+std::string bytes_to_hex(const char* bytes, size_t size)
+{
+    std::string hex;
+    hex.reserve(size * 2);
+    for (size_t i = 0; i < size; ++i) {
+        auto byte = static_cast<uint8_t>(bytes[i]);
+        hex.push_back(HEX_DIGITS[byte >> 4]);
+        hex.push_back(HEX_DIGITS[byte & 0x0F]);
+    }
+    return hex;
+}
+
+// Appends the bytes of the hex digits in the given string, skipping other characters like the dashes of UUIDs.
+void hex_to_bytes(const std::string& hex, std::vector<char>& out)
+{
+    int high = -1;
+    for (char c : hex) {
+        int digit;
+        if (c >= '0' && c <= '9') {
+            digit = c - '0';
+        }
+        else if (c >= 'a' && c <= 'f') {
+            digit = c - 'a' + 10;
+        }
+        else if (c >= 'A' && c <= 'F') {
+            digit = c - 'A' + 10;
+        }
+        else {
+            continue;
+        }
+        if (high < 0) {
+            high = digit;
+        }
+        else {
+            out.push_back(static_cast<char>((high << 4) | digit));
+            high = -1;
+        }
+    }
+}
+
+// Writes values as little endian binary BSON.
+class BinaryWriter {
+public:
+    std::vector<char>& buffer()
+    {
+        return m_buffer;
+    }
+
+    void write_document(const BsonDocument& document)
+    {
+        size_t start = begin_document();
+        for (const auto& entry : document) {
+            write_element(entry.first, entry.second);
+        }
+        end_document(start);
+    }
+
+    void write_array(const BsonArray& array)
+    {
+        size_t start = begin_document();
+        for (size_t i = 0; i < array.size(); ++i) {
+            write_element(std::to_string(i), array[i]);
+        }
+        end_document(start);
+    }
+
+private:
+    std::vector<char> m_buffer;
+
+    size_t begin_document()
+    {
+        size_t start = m_buffer.size();
+        write_int32(0); // Patched by end_document()
+        return start;
+    }
+
+    void end_document(size_t start)
+    {
+        m_buffer.push_back(0);
+        auto size = static_cast<uint32_t>(m_buffer.size() - start);
+        for (int i = 0; i < 4; ++i) {
+            m_buffer[start + i] = static_cast<char>((size >> (8 * i)) & 0xFF);
+        }
+    }
+
+    void write_element(const std::string& name, const Bson& value)
+    {
+        size_t type_position = m_buffer.size();
+        m_buffer.push_back(0); // Patched once the type is known
+        write_cstring(name);
+        m_buffer[type_position] = static_cast<char>(write_value(value));
+    }
+
+    uint8_t write_value(const Bson& value)
+    {
+        switch (value.type()) {
+            case Bson::Type::Null:
+                return TYPE_NULL;
+            case Bson::Type::Int32:
+                write_int32(static_cast<uint32_t>(static_cast<int32_t>(value)));
+                return TYPE_INT32;
+            case Bson::Type::Int64:
+                write_int64(static_cast<uint64_t>(static_cast<int64_t>(value)));
+                return TYPE_INT64;
+            case Bson::Type::Bool:
+                m_buffer.push_back(static_cast<bool>(value) ? 1 : 0);
+                return TYPE_BOOLEAN;
+            case Bson::Type::Double: {
+                double d = static_cast<double>(value);
+                uint64_t bits;
+                std::memcpy(&bits, &d, sizeof(bits));
+                write_int64(bits);
+                return TYPE_DOUBLE;
+            }
+            case Bson::Type::String: {
+                auto str = static_cast<std::string>(value);
+                write_int32(static_cast<uint32_t>(str.size() + 1));
+                write_cstring(str);
+                return TYPE_STRING;
+            }
+            case Bson::Type::Binary: {
+                auto bytes = static_cast<std::vector<char>>(value);
+                write_int32(static_cast<uint32_t>(bytes.size()));
+                m_buffer.push_back(static_cast<char>(SUBTYPE_GENERIC));
+                m_buffer.insert(m_buffer.end(), bytes.begin(), bytes.end());
+                return TYPE_BINARY;
+            }
+            case Bson::Type::Uuid: {
+                write_int32(static_cast<uint32_t>(UUID_SIZE));
+                m_buffer.push_back(static_cast<char>(SUBTYPE_UUID));
+                hex_to_bytes(static_cast<UUID>(value).to_string(), m_buffer);
+                return TYPE_BINARY;
+            }
+            case Bson::Type::Timestamp: {
+                auto timestamp = static_cast<MongoTimestamp>(value);
+                write_int32(timestamp.increment);
+                write_int32(timestamp.seconds);
+                return TYPE_TIMESTAMP;
+            }
+            case Bson::Type::Datetime: {
+                auto date = static_cast<Timestamp>(value);
+                int64_t millis = date.get_seconds() * 1000 + date.get_nanoseconds() / 1000000;
+                write_int64(static_cast<uint64_t>(millis));
+                return TYPE_DATE_TIME;
+            }
+            case Bson::Type::ObjectId:
+                hex_to_bytes(static_cast<ObjectId>(value).to_string(), m_buffer);
+                return TYPE_OBJECT_ID;
+            case Bson::Type::Decimal128: {
+                auto decimal = static_cast<Decimal128>(value);
+                const uint64_t* raw = decimal.raw()->w;
+                write_int64(raw[0]); // low
+                write_int64(raw[1]); // high
+                return TYPE_DECIMAL128;
+            }
+            case Bson::Type::RegularExpression: {
+                auto regex = static_cast<RegularExpression>(value);
+                std::ostringstream options;
+                options << regex.options();
+                write_cstring(regex.pattern());
+                write_cstring(options.str());
+                return TYPE_REGULAR_EXPRESSION;
+            }
+            case Bson::Type::MinKey:
+                return TYPE_MIN_KEY;
+            case Bson::Type::MaxKey:
+                return TYPE_MAX_KEY;
+            case Bson::Type::Document:
+                write_document(static_cast<BsonDocument>(value));
+                return TYPE_DOCUMENT;
+            case Bson::Type::Array:
+                write_array(static_cast<BsonArray>(value));
+                return TYPE_ARRAY;
+        }
+        throw std::logic_error(util::format("Unsupported BSON type: %1", static_cast<int>(value.type())));
+    }
+
+    void write_int32(uint32_t value)
+    {
+        for (int i = 0; i < 4; ++i) {
+            m_buffer.push_back(static_cast<char>((value >> (8 * i)) & 0xFF));
+        }
+    }
+
+    void write_int64(uint64_t value)
+    {
+        for (int i = 0; i < 8; ++i) {
+            m_buffer.push_back(static_cast<char>((value >> (8 * i)) & 0xFF));
+        }
+    }
+
+    void write_cstring(const std::string& str)
+    {
+        m_buffer.insert(m_buffer.end(), str.begin(), str.end());
+        m_buffer.push_back(0);
+    }
+};
+
+// Reads little endian binary BSON. All reads are bounds checked, so malformed input results in an exception.
+class BinaryReader {
+public:
+    BinaryReader(const char* data, size_t size)
+        : m_data(data)
+        , m_size(size)
+    {
+    }
+
+    BsonDocument read_document()
+    {
+        size_t end = read_document_end();
+        BsonDocument document;
+        uint8_t type;
+        while ((type = read_uint8()) != 0) {
+            std::string name = read_cstring();
+            document[name] = read_value(type);
+        }
+        check_document_end(end);
+        return document;
+    }
+
+    BsonArray read_array()
+    {
+        size_t end = read_document_end();
+        BsonArray array;
+        uint8_t type;
+        while ((type = read_uint8()) != 0) {
+            read_cstring(); // Array keys are just the indices
+            array.push_back(read_value(type));
+        }
+        check_document_end(end);
+        return array;
+    }
+
+private:
+    const char* m_data;
+    size_t m_size;
+    size_t m_position = 0;
+
+    Bson read_value(uint8_t type)
+    {
+        switch (type) {
+            case TYPE_DOUBLE: {
+                uint64_t bits = read_uint64();
+                double d;
+                std::memcpy(&d, &bits, sizeof(d));
+                return Bson(d);
+            }
+            case TYPE_STRING:
+            case TYPE_SYMBOL:
+                return Bson(read_string());
+            case TYPE_DOCUMENT:
+                return Bson(read_document());
+            case TYPE_ARRAY:
+                return Bson(read_array());
+            case TYPE_BINARY: {
+                size_t size = read_uint32();
+                uint8_t subtype = read_uint8();
+                const char* bytes = read_bytes(size);
+                if (subtype == SUBTYPE_UUID && size == UUID_SIZE) {
+                    std::string hex = bytes_to_hex(bytes, size);
+                    std::string uuid = hex.substr(0, 8) + "-" + hex.substr(8, 4) + "-" + hex.substr(12, 4) + "-" +
+                                       hex.substr(16, 4) + "-" + hex.substr(20);
+                    return Bson(UUID(StringData(uuid).data()));
+                }
+                return Bson(std::vector<char>(bytes, bytes + size));
+            }
+            case TYPE_OBJECT_ID:
+                return Bson(ObjectId(bytes_to_hex(read_bytes(OBJECT_ID_SIZE), OBJECT_ID_SIZE).c_str()));
+            case TYPE_BOOLEAN:
+                return Bson(read_uint8() != 0);
+            case TYPE_DATE_TIME: {
+                auto millis = static_cast<int64_t>(read_uint64());
+                // Seconds and nanoseconds of a Timestamp must have the same sign, which truncating division keeps.
+                return Bson(Timestamp(millis / 1000, static_cast<int32_t>((millis % 1000) * 1000000)));
+            }
+            case TYPE_NULL:
+                return Bson();
+            case TYPE_REGULAR_EXPRESSION: {
+                std::string pattern = read_cstring();
+                std::string options = read_cstring();
+                return Bson(RegularExpression(pattern, options));
+            }
+            case TYPE_INT32:
+                return Bson(static_cast<int32_t>(read_uint32()));
+            case TYPE_TIMESTAMP: {
+                uint32_t increment = read_uint32();
+                uint32_t seconds = read_uint32();
+                return Bson(MongoTimestamp(seconds, increment));
+            }
+            case TYPE_INT64:
+                return Bson(static_cast<int64_t>(read_uint64()));
+            case TYPE_DECIMAL128: {
+                uint64_t low = read_uint64();
+                uint64_t high = read_uint64();
+                Decimal128::Bid128 raw{low, high};
+                return Bson(Decimal128(raw));
+            }
+            case TYPE_MIN_KEY:
+                return Bson(MinKey());
+            case TYPE_MAX_KEY:
+                return Bson(MaxKey());
+            default:
+                throw util::invalid_argument(util::format("Unsupported BSON type: 0x%1", bytes_to_hex(reinterpret_cast<const char*>(&type), 1)));
+        }
+    }
+
+    // Reads the size prefix of a document and returns the position right after its terminating zero.
+    size_t read_document_end()
+    {
+        size_t start = m_position;
+        size_t size = read_uint32();
+        if (size < 5 || size > m_size - start) {
+            throw util::invalid_argument("Invalid BSON document size");
+        }
+        return start + size;
+    }
+
+    void check_document_end(size_t end)
+    {
+        if (m_position != end) {
+            throw util::invalid_argument("BSON document size does not match its content");
+        }
+    }
+
+    const char* read_bytes(size_t count)
+    {
+        if (count > m_size - m_position) {
+            throw util::invalid_argument("Truncated BSON data");
+        }
+        const char* bytes = m_data + m_position;
+        m_position += count;
+        return bytes;
+    }
+
+    uint8_t read_uint8()
+    {
+        return static_cast<uint8_t>(*read_bytes(1));
+    }
+
+    uint32_t read_uint32()
+    {
+        auto bytes = reinterpret_cast<const uint8_t*>(read_bytes(4));
+        return uint32_t(bytes[0]) | (uint32_t(bytes[1]) << 8) | (uint32_t(bytes[2]) << 16) |
+               (uint32_t(bytes[3]) << 24);
+    }
+
+    uint64_t read_uint64()
+    {
+        uint64_t low = read_uint32();
+        uint64_t high = read_uint32();
+        return low | (high << 32);
+    }
+
+    std::string read_cstring()
+    {
+        const void* terminator = std::memchr(m_data + m_position, 0, m_size - m_position);
+        if (!terminator) {
+            throw util::invalid_argument("Unterminated BSON string");
+        }
+        size_t length = static_cast<const char*>(terminator) - (m_data + m_position);
+        std::string str(m_data + m_position, length);
+        m_position += length + 1;
+        return str;
+    }
+
+    std::string read_string()
+    {
+        size_t size = read_uint32();
+        if (size == 0) {
+            throw util::invalid_argument("Invalid BSON string size");
+        }
+        const char* bytes = read_bytes(size);
+        if (bytes[size - 1] != 0) {
+            throw util::invalid_argument("Unterminated BSON string");
+        }
+        return std::string(bytes, size - 1);
+    }
+};
+
+} // anonymous namespace
 
 Bson JniBsonProtocol::string_to_bson(const std::string arg) {
     BsonDocument document(parse(arg));
@@ -55,3 +471,62 @@ jstring JniBsonProtocol::bson_to_jstring(JNIEnv* env, const Bson& bson) {
     std::string r = bson_to_string(bson);
     return to_jstring(env, r);
 };
+
+JniBsonProtocol::Format JniBsonProtocol::format_of(JNIEnv* env, const jobject arg) {
+    return env->IsInstanceOf(arg, JavaClassGlobalDef::java_lang_string()) ? Format::JSON : Format::BINARY;
+}
+
+Bson JniBsonProtocol::jobject_to_bson(JNIEnv* env, const jobject arg) {
+    if (format_of(env, arg) == Format::JSON) {
+        return jstring_to_bson(env, static_cast<jstring>(arg));
+    }
+    const char* data = static_cast<const char*>(env->GetDirectBufferAddress(arg));
+    jlong capacity = env->GetDirectBufferCapacity(arg);
+    if (!data || capacity < 0) {
+        throw realm::util::invalid_argument("BSON values must be passed as Strings or direct ByteBuffers");
+    }
+    return binary_to_bson(data, static_cast<size_t>(capacity));
+}
+
+Bson JniBsonProtocol::parse_checked(JNIEnv* env, const jobject arg, const Bson::Type type, const std::string message) {
+    return JniBsonProtocol::check(JniBsonProtocol::jobject_to_bson(env, arg), type, message);
+}
+
+jobject JniBsonProtocol::bson_to_jobject(JNIEnv* env, const Bson& bson, const Format format) {
+    if (format == Format::BINARY) {
+        jobject buffer = bson_to_jbytebuffer(env, bson);
+        if (buffer) {
+            return buffer;
+        }
+    }
+    // Also used if no direct buffer could be allocated, JniBsonProtocol.java decodes both formats.
+    return bson_to_jstring(env, bson);
+}
+
+Bson JniBsonProtocol::binary_to_bson(const char* data, size_t size) {
+    BinaryReader reader(data, size);
+    BsonDocument document(reader.read_document());
+    return document[VALUE];
+}
+
+std::vector<char> JniBsonProtocol::bson_to_binary(const Bson& bson) {
+    BinaryWriter writer;
+    writer.write_document(BsonDocument{{VALUE, bson}});
+    return std::move(writer.buffer());
+}
+
+// The buffer is allocated by Java, so its lifetime is managed by the garbage collector. Returns null if the
+// buffer could not be allocated.
+jobject JniBsonProtocol::bson_to_jbytebuffer(JNIEnv* env, const Bson& bson) {
+    static JavaClass byte_buffer_class(env, "java/nio/ByteBuffer");
+    static JavaMethod allocate_direct(env, byte_buffer_class, "allocateDirect", "(I)Ljava/nio/ByteBuffer;", true);
+
+    std::vector<char> bytes = bson_to_binary(bson);
+    jobject buffer = env->CallStaticObjectMethod(byte_buffer_class, allocate_direct, static_cast<jint>(bytes.size()));
+    if (env->ExceptionCheck() || !buffer) {
+        env->ExceptionClear();
+        return nullptr;
+    }
+    std::memcpy(env->GetDirectBufferAddress(buffer), bytes.data(), bytes.size());
+    return buffer;
+}
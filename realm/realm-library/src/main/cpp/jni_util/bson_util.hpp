@@ -18,6 +18,7 @@
 #define REALM_BSON_UTIL_HPP
 
 #include <jni.h>
+#include <vector>
 #include <realm/object-store/util/bson/bson.hpp>
 
 namespace realm {
@@ -28,12 +29,28 @@ using namespace realm::bson;
 // Serializes and wraps bson values passed between java and JNI according to JniBsonProtocol.java
 class JniBsonProtocol {
 public:
+    // Values are passed either as binary BSON in direct ByteBuffers or as extended JSON Strings. Results are
+    // returned in the format of the arguments of the call.
+    enum class Format {
+        JSON,
+        BINARY
+    };
+
     static Bson string_to_bson(const std::string arg);
     static Bson jstring_to_bson(JNIEnv* env, const jstring arg);
     static const Bson& check(const Bson& bson, const Bson::Type type, const std::string message);
     static Bson parse_checked(JNIEnv* env, const jstring arg, const Bson::Type type, const std::string message);
     static std::string bson_to_string(const Bson& bson);
     static jstring bson_to_jstring(JNIEnv* env, const Bson& bson);
+
+    static Format format_of(JNIEnv* env, const jobject arg);
+    static Bson jobject_to_bson(JNIEnv* env, const jobject arg);
+    static Bson parse_checked(JNIEnv* env, const jobject arg, const Bson::Type type, const std::string message);
+    static jobject bson_to_jobject(JNIEnv* env, const Bson& bson, const Format format);
+
+    static Bson binary_to_bson(const char* data, size_t size);
+    static std::vector<char> bson_to_binary(const Bson& bson);
+    static jobject bson_to_jbytebuffer(JNIEnv* env, const Bson& bson);
 };
 
 } // jni_util
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#include "jni_call_accounting.hpp"
+
+#include <mutex>
+#include <vector>
+
+#include "java_class_global_def.hpp"
+#include "java_local_ref.hpp"
+
+using namespace realm::jni_util;
+using namespace realm::_impl;
+
+namespace {
+
+std::mutex& registry_mutex()
+{
+    static std::mutex mutex;
+    return mutex;
+}
+
+// Counters are function local statics, so they outlive any use of the registry.
+std::vector<JniCallCounter*>& registry()
+{
+    static std::vector<JniCallCounter*> counters;
+    return counters;
+}
+
+} // anonymous namespace
+
+std::atomic<int> JniCallAccounting::s_mode(JniCallAccounting::off);
+
+JniCallCounter::JniCallCounter(const char* function_name)
+    : calls(0)
+    , nanos(0)
+    , m_function_name(function_name)
+{
+    std::lock_guard<std::mutex> lock(registry_mutex());
+    registry().push_back(this);
+}
+
+void JniCallAccounting::reset()
+{
+    std::lock_guard<std::mutex> lock(registry_mutex());
+    for (JniCallCounter* counter : registry()) {
+        counter->calls.store(0, std::memory_order_relaxed);
+        counter->nanos.store(0, std::memory_order_relaxed);
+    }
+}
+
+jobjectArray JniCallAccounting::snapshot(JNIEnv* env)
+{
+    std::vector<const char*> names;
+    std::vector<jlong> calls;
+    std::vector<jlong> nanos;
+    {
+        std::lock_guard<std::mutex> lock(registry_mutex());
+        for (JniCallCounter* counter : registry()) {
+            uint64_t counted_calls = counter->calls.load(std::memory_order_relaxed);
+            if (counted_calls == 0) {
+                continue;
+            }
+            names.push_back(counter->function_name());
+            calls.push_back(static_cast<jlong>(counted_calls));
+            nanos.push_back(static_cast<jlong>(counter->nanos.load(std::memory_order_relaxed)));
+        }
+    }
+
+    jsize size = static_cast<jsize>(names.size());
+    JavaLocalRef<jobjectArray> names_array(env, env->NewObjectArray(size, JavaClassGlobalDef::java_lang_string(), nullptr));
+    for (jsize i = 0; i < size; ++i) {
+        JavaLocalRef<jstring> name(env, env->NewStringUTF(names[i]));
+        env->SetObjectArrayElement(names_array, i, name);
+    }
+    JavaLocalRef<jlongArray> calls_array(env, env->NewLongArray(size));
+    env->SetLongArrayRegion(calls_array, 0, size, calls.data());
+    JavaLocalRef<jlongArray> nanos_array(env, env->NewLongArray(size));
+    env->SetLongArrayRegion(nanos_array, 0, size, nanos.data());
+
+    jobjectArray result = env->NewObjectArray(3, JavaClassGlobalDef::java_lang_object(), nullptr);
+    env->SetObjectArrayElement(result, 0, names_array);
+    env->SetObjectArrayElement(result, 1, calls_array);
+    env->SetObjectArrayElement(result, 2, nanos_array);
+    return result;
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#ifndef REALM_JNI_UTIL_JNI_CALL_ACCOUNTING_HPP
+#define REALM_JNI_UTIL_JNI_CALL_ACCOUNTING_HPP
+
+#include <jni.h>
+
+#include <atomic>
+#include <chrono>
+#include <cstdint>
+
+#include <realm/util/features.h>
+
+#include "io_realm_JniCallAccounting.h"
+
+// Counts the calls of the JNI function it is placed in, and optionally the time spent in it, while accounting is
+// enabled from io.realm.JniCallAccounting. Must be the first statement of the function. While accounting is off the
+// cost is a single relaxed atomic load.
+#define ACCOUNT_JNI_CALL()                                                                                           \
+    static realm::jni_util::JniCallCounter jni_call_counter(__func__);                                              \
+    realm::jni_util::JniCallScope jni_call_scope(jni_call_counter)
+
+namespace realm {
+namespace jni_util {
+
+// Counters of a single JNI function. Created on the first call of the function and never destroyed.
+class JniCallCounter {
+public:
+    explicit JniCallCounter(const char* function_name);
+
+    JniCallCounter(const JniCallCounter&) = delete;
+    JniCallCounter& operator=(const JniCallCounter&) = delete;
+
+    const char* function_name() const
+    {
+        return m_function_name;
+    }
+
+    std::atomic<uint64_t> calls;
+    std::atomic<uint64_t> nanos;
+
+private:
+    const char* m_function_name;
+};
+
+class JniCallAccounting {
+public:
+    enum Mode {
+        off = io_realm_JniCallAccounting_MODE_OFF,
+        count = io_realm_JniCallAccounting_MODE_COUNT,
+        count_and_time = io_realm_JniCallAccounting_MODE_COUNT_AND_TIME
+    };
+
+    static void set_mode(Mode mode)
+    {
+        s_mode.store(mode, std::memory_order_relaxed);
+    }
+
+    static Mode mode()
+    {
+        return static_cast<Mode>(s_mode.load(std::memory_order_relaxed));
+    }
+
+    // Resets the counters of all functions called so far.
+    static void reset();
+
+    // Returns an Object[] of a String[] with the function names, a long[] with their calls and a long[] with the
+    // nanoseconds spent in them. Functions that have not been called since the last reset are left out.
+    static jobjectArray snapshot(JNIEnv* env);
+
+private:
+    static std::atomic<int> s_mode;
+};
+
+class JniCallScope {
+public:
+    explicit JniCallScope(JniCallCounter& counter) noexcept
+        : m_counter(nullptr)
+    {
+        JniCallAccounting::Mode mode = JniCallAccounting::mode();
+        if (REALM_LIKELY(mode == JniCallAccounting::off)) {
+            return;
+        }
+        counter.calls.fetch_add(1, std::memory_order_relaxed);
+        if (mode == JniCallAccounting::count_and_time) {
+            m_counter = &counter;
+            m_start = std::chrono::steady_clock::now();
+        }
+    }
+
+    ~JniCallScope()
+    {
+        if (m_counter) {
+            auto elapsed = std::chrono::steady_clock::now() - m_start;
+            m_counter->nanos.fetch_add(
+                static_cast<uint64_t>(std::chrono::duration_cast<std::chrono::nanoseconds>(elapsed).count()),
+                std::memory_order_relaxed);
+        }
+    }
+
+    JniCallScope(const JniCallScope&) = delete;
+    JniCallScope& operator=(const JniCallScope&) = delete;
+
+private:
+    JniCallCounter* m_counter;
+    std::chrono::steady_clock::time_point m_start;
+};
+
+} // namespace jni_util
+} // namespace realm
+
+#endif // REALM_JNI_UTIL_JNI_CALL_ACCOUNTING_HPP
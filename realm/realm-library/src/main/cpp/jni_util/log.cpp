@@ -173,10 +173,15 @@ void Log::set_level(Level level)
 void Log::log(Level level, const char* tag, jthrowable throwable, const char* message)
 {
     if (s_level <= level) {
-        std::lock_guard<std::mutex> lock(m_mutex);
-        for (auto& logger : m_loggers) {
-            logger->log(level, tag, throwable, message);
-        }
+        dispatch(level, tag, throwable, message);
+    }
+}
+
+void Log::dispatch(Level level, const char* tag, jthrowable throwable, const char* message)
+{
+    std::lock_guard<std::mutex> lock(m_mutex);
+    for (auto& logger : m_loggers) {
+        logger->log(level, tag, throwable, message);
     }
 }
 
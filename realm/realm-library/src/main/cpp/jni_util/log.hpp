@@ -70,6 +70,10 @@ public:
 
     void log(Level level, const char* tag, jthrowable throwable, const char* message);
 
+    // Passes the event to all loggers without checking the level. Used for events from RealmLog, which filters
+    // them on the Java side where per category levels may be more verbose than the global one.
+    void dispatch(Level level, const char* tag, jthrowable throwable, const char* message);
+
     inline void log(Level level, const char* tag, const char* message)
     {
         log(level, tag, nullptr, message);
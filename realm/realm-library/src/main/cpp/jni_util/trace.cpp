@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#include "trace.hpp"
+
+#include <atomic>
+#include <mutex>
+
+#include <dlfcn.h>
+
+using namespace realm::jni_util;
+
+namespace {
+
+typedef void (*BeginSectionFunc)(const char*);
+typedef void (*EndSectionFunc)();
+
+std::atomic<bool> s_enabled(false);
+std::once_flag s_resolve_once;
+BeginSectionFunc s_begin_section = nullptr;
+EndSectionFunc s_end_section = nullptr;
+
+// ATrace_beginSection/ATrace_endSection are only available from API 23, while we support older devices. Resolve them
+// at runtime so the library still loads there; tracing simply stays off.
+void resolve_functions()
+{
+    void* lib = dlopen("libandroid.so", RTLD_NOW | RTLD_LOCAL);
+    if (!lib) {
+        return;
+    }
+    BeginSectionFunc begin_section = reinterpret_cast<BeginSectionFunc>(dlsym(lib, "ATrace_beginSection"));
+    EndSectionFunc end_section = reinterpret_cast<EndSectionFunc>(dlsym(lib, "ATrace_endSection"));
+    if (begin_section && end_section) {
+        s_begin_section = begin_section;
+        s_end_section = end_section;
+    }
+    // The handle is intentionally never closed. libandroid.so stays loaded for the lifetime of the process anyway.
+}
+
+} // anonymous namespace
+
+void Trace::set_enabled(bool enabled)
+{
+    if (enabled) {
+        std::call_once(s_resolve_once, resolve_functions);
+        s_enabled.store(s_begin_section != nullptr, std::memory_order_release);
+    }
+    else {
+        s_enabled.store(false, std::memory_order_release);
+    }
+}
+
+bool Trace::is_enabled()
+{
+    return s_enabled.load(std::memory_order_acquire);
+}
+
+void Trace::begin_section(const char* name)
+{
+    s_begin_section(name);
+}
+
+void Trace::end_section()
+{
+    s_end_section();
+}
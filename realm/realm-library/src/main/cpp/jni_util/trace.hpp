@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#ifndef REALM_JNI_UTIL_TRACE_HPP
+#define REALM_JNI_UTIL_TRACE_HPP
+
+namespace realm {
+namespace jni_util {
+
+// Emits sections to the Android system trace (systrace/Perfetto). Tracing is off until enabled from
+// io.realm.internal.RealmTrace, in which case a TraceSection costs a single atomic load.
+class Trace {
+public:
+    static void set_enabled(bool enabled);
+    static bool is_enabled();
+
+    static void begin_section(const char* name);
+    static void end_section();
+};
+
+// RAII helper emitting a trace section for the lifetime of the object. The name must be a string literal or otherwise
+// outlive the section.
+class TraceSection {
+public:
+    explicit TraceSection(const char* name)
+        : m_traced(Trace::is_enabled())
+    {
+        if (m_traced) {
+            Trace::begin_section(name);
+        }
+    }
+
+    ~TraceSection()
+    {
+        if (m_traced) {
+            Trace::end_section();
+        }
+    }
+
+    TraceSection(const TraceSection&) = delete;
+    TraceSection& operator=(const TraceSection&) = delete;
+
+private:
+    const bool m_traced;
+};
+
+} // namespace jni_util
+} // namespace realm
+
+#endif // REALM_JNI_UTIL_TRACE_HPP
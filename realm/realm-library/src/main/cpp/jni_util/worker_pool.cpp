@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#include "worker_pool.hpp"
+
+#include <algorithm>
+
+using namespace realm::jni_util;
+
+WorkerPool& WorkerPool::shared()
+{
+    // Never destroyed, the threads would otherwise have to be joined during static destruction.
+    static WorkerPool* pool = new WorkerPool(std::max(1u, std::thread::hardware_concurrency()));
+    return *pool;
+}
+
+WorkerPool::WorkerPool(size_t thread_count)
+{
+    m_threads.reserve(thread_count);
+    for (size_t i = 0; i < thread_count; ++i) {
+        m_threads.emplace_back(&WorkerPool::work, this);
+    }
+}
+
+void WorkerPool::work()
+{
+    while (true) {
+        std::function<void()> task;
+        {
+            std::unique_lock<std::mutex> lock(m_mutex);
+            m_work_available.wait(lock, [this] {
+                return !m_queue.empty();
+            });
+            task = std::move(m_queue.front());
+            m_queue.pop_front();
+        }
+        task();
+    }
+}
+
+void WorkerPool::run_all(std::vector<std::function<void()>>& tasks)
+{
+    if (tasks.empty()) {
+        return;
+    }
+
+    std::mutex done_mutex;
+    std::condition_variable done_cv;
+    size_t pending = tasks.size() - 1;
+    {
+        std::lock_guard<std::mutex> lock(m_mutex);
+        for (size_t i = 1; i < tasks.size(); ++i) {
+            std::function<void()>& task = tasks[i];
+            m_queue.emplace_back([&task, &done_mutex, &done_cv, &pending] {
+                task();
+                std::lock_guard<std::mutex> done_lock(done_mutex);
+                if (--pending == 0) {
+                    done_cv.notify_one();
+                }
+            });
+        }
+    }
+    m_work_available.notify_all();
+
+    tasks[0]();
+
+    std::unique_lock<std::mutex> done_lock(done_mutex);
+    done_cv.wait(done_lock, [&pending] {
+        return pending == 0;
+    });
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#ifndef REALM_JNI_UTIL_WORKER_POOL_HPP
+#define REALM_JNI_UTIL_WORKER_POOL_HPP
+
+#include <condition_variable>
+#include <deque>
+#include <functional>
+#include <mutex>
+#include <thread>
+#include <vector>
+
+namespace realm {
+namespace jni_util {
+
+// A fixed set of background threads shared by all native code that splits work into independent tasks. The threads
+// are started on first use and live as long as the process.
+class WorkerPool {
+public:
+    // The pool sized to the number of processors.
+    static WorkerPool& shared();
+
+    WorkerPool(const WorkerPool&) = delete;
+    WorkerPool& operator=(const WorkerPool&) = delete;
+
+    size_t size() const
+    {
+        return m_threads.size();
+    }
+
+    // Runs all tasks and returns once every one of them has finished. The first task runs on the calling thread.
+    // Tasks must not throw and must not call run_all() themselves.
+    void run_all(std::vector<std::function<void()>>& tasks);
+
+private:
+    explicit WorkerPool(size_t thread_count);
+    void work();
+
+    std::mutex m_mutex;
+    std::condition_variable m_work_available;
+    std::deque<std::function<void()>> m_queue;
+    std::vector<std::thread> m_threads;
+};
+
+} // namespace jni_util
+} // namespace realm
+
+#endif // REALM_JNI_UTIL_WORKER_POOL_HPP
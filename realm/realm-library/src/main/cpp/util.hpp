@@ -31,14 +31,25 @@
 #include <realm/timestamp.hpp>
 #include <realm/table.hpp>
 #include <realm/util/safe_int_ops.hpp>
+#include <realm/version.hpp>
 #include "io_realm_internal_Util.h"
 
 #include "java_exception_def.hpp"
 #include "jni_util/log.hpp"
 #include "jni_util/java_exception_thrower.hpp"
+#include "jni_util/jni_call_accounting.hpp"
 
 #define CHECK_PARAMETERS 1 // Check all parameters in API and throw exceptions in java if invalid
 
+// Full-text indexes are only available from Realm Core 13. With older Core releases requests for them are rejected
+// at runtime and no index is ever reported as full-text indexed.
+#if REALM_VERSION_MAJOR >= 13
+#define REALM_JNI_HAS_FULLTEXT_INDEX 1
+#else
+#define REALM_JNI_HAS_FULLTEXT_INDEX 0
+#endif
+#define ERR_FULLTEXT_INDEX_UNSUPPORTED "Full-text indexes require Realm Core 13 or later."
+
 #ifdef __cplusplus
 extern "C" {
 #endif
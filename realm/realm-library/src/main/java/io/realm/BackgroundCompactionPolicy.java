@@ -0,0 +1,200 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.realm;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Policy for compacting a Realm file in the background once the process is no longer using it.
+ * <p>
+ * Unlike {@link RealmConfiguration.Builder#compactOnLaunch(CompactOnLaunchCallback)}, which only runs when the first
+ * instance of a Realm is opened, this policy is checked every time the last {@link Realm} or {@link DynamicRealm}
+ * instance of a configuration is closed. After the Realm has been idle for {@link Builder#idleDelay(long, TimeUnit)},
+ * the free space in the file is measured on a background thread and the file is compacted if enough of it can be
+ * reclaimed. Opening the Realm again while compaction runs blocks until it completes; opening it before the idle
+ * delay expires cancels the check.
+ * <p>
+ * Compaction is skipped if the file is open in another process.
+ *
+ * @see RealmConfiguration.Builder#backgroundCompaction(BackgroundCompactionPolicy)
+ */
+public final class BackgroundCompactionPolicy {
+
+    /**
+     * Callback reporting the result of a background compaction. It is invoked on the background compaction thread.
+     */
+    public interface Callback {
+        /**
+         * Called after the Realm file was compacted.
+         *
+         * @param configuration the configuration of the compacted Realm.
+         * @param reclaimedBytes the number of bytes the file shrank by.
+         */
+        void onCompacted(RealmConfiguration configuration, long reclaimedBytes);
+    }
+
+    private final long minFileSize;
+    private final double minFreeSpaceRatio;
+    private final long idleDelayMillis;
+    @Nullable
+    private final Callback callback;
+
+    private BackgroundCompactionPolicy(long minFileSize, double minFreeSpaceRatio, long idleDelayMillis,
+                                       @Nullable Callback callback) {
+        this.minFileSize = minFileSize;
+        this.minFreeSpaceRatio = minFreeSpaceRatio;
+        this.idleDelayMillis = idleDelayMillis;
+        this.callback = callback;
+    }
+
+    /**
+     * Checks if a file of the given size should be compacted.
+     *
+     * @param totalBytes the total file size (data + free space).
+     * @param usedBytes the bytes used by data in the file.
+     * @return {@code true} if the file is large enough and enough of it is free space.
+     */
+    public boolean shouldCompact(long totalBytes, long usedBytes) {
+        if (totalBytes < minFileSize || totalBytes <= 0) {
+            return false;
+        }
+        return ((double) (totalBytes - usedBytes) / (double) totalBytes) >= minFreeSpaceRatio;
+    }
+
+    public long getMinFileSize() {
+        return minFileSize;
+    }
+
+    public double getMinFreeSpaceRatio() {
+        return minFreeSpaceRatio;
+    }
+
+    public long getIdleDelayMillis() {
+        return idleDelayMillis;
+    }
+
+    @Nullable
+    public Callback getCallback() {
+        return callback;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+
+        BackgroundCompactionPolicy that = (BackgroundCompactionPolicy) o;
+
+        if (minFileSize != that.minFileSize) { return false; }
+        if (Double.compare(that.minFreeSpaceRatio, minFreeSpaceRatio) != 0) { return false; }
+        if (idleDelayMillis != that.idleDelayMillis) { return false; }
+        return callback != null ? callback.equals(that.callback) : that.callback == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (int) (minFileSize ^ (minFileSize >>> 32));
+        long ratioBits = Double.doubleToLongBits(minFreeSpaceRatio);
+        result = 31 * result + (int) (ratioBits ^ (ratioBits >>> 32));
+        result = 31 * result + (int) (idleDelayMillis ^ (idleDelayMillis >>> 32));
+        result = 31 * result + (callback != null ? callback.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "BackgroundCompactionPolicy{minFileSize=%d, minFreeSpaceRatio=%.2f, idleDelayMillis=%d}",
+                minFileSize, minFreeSpaceRatio, idleDelayMillis);
+    }
+
+    /**
+     * Builder used to construct a {@link BackgroundCompactionPolicy}. By default, files above 50 MB are compacted
+     * when at least half of them is free space, 5 seconds after the last instance was closed.
+     */
+    public static final class Builder {
+        private long minFileSize = 50 * 1024 * 1024;
+        private double minFreeSpaceRatio = 0.5;
+        private long idleDelayMillis = TimeUnit.SECONDS.toMillis(5);
+        @Nullable
+        private Callback callback;
+
+        /**
+         * Sets the minimum total file size for compaction to be considered.
+         *
+         * @param bytes the minimum file size in bytes.
+         * @throws IllegalArgumentException if {@code bytes} is negative.
+         */
+        public Builder minFileSize(long bytes) {
+            if (bytes < 0) {
+                throw new IllegalArgumentException("Only non-negative file sizes are allowed: " + bytes);
+            }
+            this.minFileSize = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the minimum fraction of the file that must be free space for compaction to run.
+         *
+         * @param ratio the ratio of free space to the total file size, between 0 and 1.
+         * @throws IllegalArgumentException if {@code ratio} is not within [0, 1].
+         */
+        public Builder minFreeSpaceRatio(double ratio) {
+            if (!(ratio >= 0 && ratio <= 1)) {
+                throw new IllegalArgumentException("The ratio must be between 0 and 1: " + ratio);
+            }
+            this.minFreeSpaceRatio = ratio;
+            return this;
+        }
+
+        /**
+         * Sets how long the Realm must have no open instances before it is checked for compaction.
+         *
+         * @param delay the idle delay.
+         * @param unit the unit of {@code delay}.
+         * @throws IllegalArgumentException if {@code delay} is negative.
+         */
+        public Builder idleDelay(long delay, TimeUnit unit) {
+            if (delay < 0) {
+                throw new IllegalArgumentException("Only non-negative delays are allowed: " + delay);
+            }
+            this.idleDelayMillis = unit.toMillis(delay);
+            return this;
+        }
+
+        /**
+         * Sets the callback to be notified about completed compactions.
+         *
+         * @param callback the callback.
+         */
+        public Builder callback(Callback callback) {
+            //noinspection ConstantConditions
+            if (callback == null) {
+                throw new IllegalArgumentException("A non-null callback must be provided");
+            }
+            this.callback = callback;
+            return this;
+        }
+
+        public BackgroundCompactionPolicy build() {
+            return new BackgroundCompactionPolicy(minFileSize, minFreeSpaceRatio, idleDelayMillis, callback);
+        }
+    }
+}
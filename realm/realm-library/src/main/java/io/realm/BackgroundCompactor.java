@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.realm;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import io.realm.internal.OsSharedRealm;
+import io.realm.internal.RealmTrace;
+import io.realm.log.LogCategory;
+import io.realm.log.LogLevel;
+import io.realm.log.RealmLog;
+
+/**
+ * Runs the {@link BackgroundCompactionPolicy} of a configuration once its last instance in the process is closed.
+ * <p>
+ * Core can only compact a file that no other transaction has mapped, so the {@link RealmCache} lock is only taken to
+ * check that no instance was opened in the meantime and to reserve the file. The compaction itself runs without the
+ * lock; opening the same Realm waits until it is done, while other Realms can be opened as usual.
+ */
+final class BackgroundCompactor {
+
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "RealmBackgroundCompaction");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                }
+            });
+
+    // Pending checks by Realm path. Guarded by itself.
+    private static final Map<String, ScheduledFuture<?>> pendingChecks = new HashMap<>();
+
+    private BackgroundCompactor() {
+    }
+
+    /**
+     * Schedules a compaction check after the idle delay of the configuration's policy. Any pending check for the same
+     * file is replaced.
+     */
+    static void scheduleCheck(final RealmConfiguration configuration) {
+        final BackgroundCompactionPolicy policy = configuration.getBackgroundCompactionPolicy();
+        if (policy == null || configuration.isReadOnly()) {
+            return;
+        }
+        synchronized (pendingChecks) {
+            ScheduledFuture<?> pending = pendingChecks.remove(configuration.getPath());
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            ScheduledFuture<?> future = EXECUTOR.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    synchronized (pendingChecks) {
+                        pendingChecks.remove(configuration.getPath());
+                    }
+                    compactIfIdle(configuration, policy);
+                }
+            }, policy.getIdleDelayMillis(), TimeUnit.MILLISECONDS);
+            pendingChecks.put(configuration.getPath(), future);
+        }
+    }
+
+    /**
+     * Cancels a pending compaction check, e.g. because the Realm was opened again.
+     */
+    static void cancelCheck(String realmPath) {
+        synchronized (pendingChecks) {
+            ScheduledFuture<?> pending = pendingChecks.remove(realmPath);
+            if (pending != null) {
+                pending.cancel(false);
+            }
+        }
+    }
+
+    private static void compactIfIdle(RealmConfiguration configuration, BackgroundCompactionPolicy policy) {
+        RealmCache cache = RealmCache.beginCompaction(configuration);
+        if (cache == null) {
+            // Opened again, the check is rescheduled when it is closed.
+            return;
+        }
+        long reclaimedBytes = -1;
+        try {
+            reclaimedBytes = compact(configuration, policy);
+        } catch (Throwable e) {
+            RealmLog.warn(e, "Background compaction of '%s' failed.", configuration.getPath());
+        } finally {
+            cache.endCompaction();
+        }
+
+        // The callback is invoked after the file is released, so it can open the Realm again.
+        BackgroundCompactionPolicy.Callback callback = policy.getCallback();
+        if (callback != null && reclaimedBytes >= 0) {
+            callback.onCompacted(configuration, reclaimedBytes);
+        }
+    }
+
+    // Returns the number of reclaimed bytes, or -1 if the file was not compacted.
+    private static long compact(RealmConfiguration configuration, BackgroundCompactionPolicy policy) {
+        File file = new File(configuration.getPath());
+        if (!file.exists()) {
+            return -1;
+        }
+        long sizeBefore = file.length();
+        boolean compacted;
+        OsSharedRealm sharedRealm = OsSharedRealm.getInstance(configuration, OsSharedRealm.VersionID.LIVE);
+        try {
+            long[] stats = sharedRealm.getStorageStats();
+            if (!policy.shouldCompact(stats[OsSharedRealm.STORAGE_STATS_TOTAL_BYTES], stats[OsSharedRealm.STORAGE_STATS_USED_BYTES])) {
+                return -1;
+            }
+            boolean traced = RealmTrace.beginSection("Realm.backgroundCompaction");
+            try {
+                compacted = sharedRealm.compact();
+            } finally {
+                RealmTrace.endSection(traced);
+            }
+        } finally {
+            sharedRealm.close();
+        }
+
+        if (!compacted) {
+            RealmLog.log(LogCategory.STORAGE, LogLevel.DEBUG, null,
+                    "Background compaction of '%s' skipped, the file is in use.", configuration.getPath());
+            return -1;
+        }
+        long reclaimedBytes = Math.max(0, sizeBefore - file.length());
+        RealmLog.log(LogCategory.STORAGE, LogLevel.DEBUG, null,
+                "Background compaction of '%s' reclaimed %d bytes.", configuration.getPath(), reclaimedBytes);
+        return reclaimedBytes;
+    }
+}
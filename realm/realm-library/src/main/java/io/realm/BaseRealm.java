@@ -41,12 +41,15 @@ import io.realm.internal.OsSchemaInfo;
 import io.realm.internal.OsSharedRealm;
 import io.realm.internal.RealmObjectProxy;
 import io.realm.internal.RealmProxyMediator;
+import io.realm.internal.RealmTrace;
 import io.realm.internal.Row;
 import io.realm.internal.Table;
 import io.realm.internal.UncheckedRow;
 import io.realm.internal.Util;
 import io.realm.internal.annotations.ObjectServer;
 import io.realm.internal.async.RealmThreadPoolExecutor;
+import io.realm.log.LogCategory;
+import io.realm.log.LogLevel;
 import io.realm.log.RealmLog;
 
 /**
@@ -91,6 +94,10 @@ abstract class BaseRealm implements Closeable {
     private RealmCache realmCache;
     public OsSharedRealm sharedRealm;
     private boolean shouldCloseSharedRealm;
+    // Tracks the version read by this instance, see RealmVersionDiagnostics. Only set for instances in a RealmCache
+    // opened while tracking is enabled.
+    @Nullable
+    RealmVersionDiagnostics.VersionHolder versionHolder;
     private OsSharedRealm.SchemaChangedCallback schemaChangedCallback = new OsSharedRealm.SchemaChangedCallback() {
         @Override
         public void onSchemaChanged() {
@@ -110,12 +117,72 @@ abstract class BaseRealm implements Closeable {
         this.realmCache = cache;
     }
 
+    // Create a typed realm instance and associate it to a RealmCache. The expected schema is only built if the schema
+    // fingerprint stored in the Realm file doesn't match the one of the mediator.
+    BaseRealm(RealmCache cache, OsSharedRealm.VersionID version, RealmProxyMediator mediator) {
+        this.threadId = Thread.currentThread().getId();
+        this.configuration = cache.getConfiguration();
+        this.realmCache = cache;
+        this.sharedRealm = openTypedSharedRealm(configuration, mediator, version);
+        this.frozen = sharedRealm.isFrozen();
+        this.shouldCloseSharedRealm = true;
+        sharedRealm.registerSchemaChangedCallback(schemaChangedCallback);
+    }
+
     // Create a realm instance without associating it to any RealmCache.
     BaseRealm(final RealmConfiguration configuration, @Nullable OsSchemaInfo schemaInfo, OsSharedRealm.VersionID version) {
         this.threadId = Thread.currentThread().getId();
         this.configuration = configuration;
         this.realmCache = null;
+        this.sharedRealm = openSharedRealm(configuration, schemaInfo, version);
+        this.frozen = sharedRealm.isFrozen();
+        this.shouldCloseSharedRealm = true;
+        sharedRealm.registerSchemaChangedCallback(schemaChangedCallback);
+    }
+
+    // Opens the Realm file for a typed Realm. If storing the schema fingerprint is enabled and the fingerprint stored
+    // in the file matches the one of the mediator, the file still has the schema it was last opened with and is opened
+    // without building and comparing the expected schema. Otherwise the schema is validated as usual and the
+    // fingerprint is stored afterwards. Mediators whose schema has public names or computed properties, which are
+    // not stored in the file, have no fingerprint.
+    private static OsSharedRealm openTypedSharedRealm(RealmConfiguration configuration, RealmProxyMediator mediator,
+                                                      OsSharedRealm.VersionID version) {
+        long fingerprint = mediator.getSchemaFingerprint();
+        boolean useFingerprint = configuration.isStoreSchemaFingerprintEnabled()
+                && fingerprint != 0
+                && !configuration.isReadOnly()
+                && !configuration.isSyncConfiguration()
+                && configuration.getDurability() != OsRealmConfig.Durability.MEM_ONLY;
+
+        if (useFingerprint && new File(configuration.getPath()).exists()) {
+            OsSharedRealm sharedRealm = openSharedRealm(configuration, null, version);
+            if (sharedRealm.getSchemaFingerprint() == fingerprint
+                    && OsObjectStore.getSchemaVersion(sharedRealm) == configuration.getSchemaVersion()) {
+                return sharedRealm;
+            }
+            sharedRealm.close();
+        }
+
+        OsSchemaInfo schemaInfo = new OsSchemaInfo(mediator.getExpectedObjectSchemaInfoMap().values());
+        OsSharedRealm sharedRealm = openSharedRealm(configuration, schemaInfo, version);
+        if (useFingerprint && !sharedRealm.isFrozen()) {
+            try {
+                sharedRealm.beginTransaction();
+                sharedRealm.setSchemaFingerprint(fingerprint);
+                sharedRealm.commitTransaction();
+            } catch (Throwable e) {
+                if (sharedRealm.isInTransaction()) {
+                    sharedRealm.cancelTransaction();
+                }
+                sharedRealm.close();
+                throw e;
+            }
+        }
+        return sharedRealm;
+    }
 
+    private static OsSharedRealm openSharedRealm(RealmConfiguration configuration, @Nullable OsSchemaInfo schemaInfo,
+                                                 OsSharedRealm.VersionID version) {
         OsSharedRealm.MigrationCallback migrationCallback = null;
         if (schemaInfo != null && configuration.getMigration() != null) {
             migrationCallback = createMigrationCallback(configuration.getMigration());
@@ -139,10 +206,7 @@ abstract class BaseRealm implements Closeable {
                 .migrationCallback(migrationCallback)
                 .schemaInfo(schemaInfo)
                 .initializationCallback(initializationCallback);
-        this.sharedRealm = OsSharedRealm.getInstance(configBuilder, version);
-        this.frozen = sharedRealm.isFrozen();
-        this.shouldCloseSharedRealm = true;
-        sharedRealm.registerSchemaChangedCallback(schemaChangedCallback);
+        return OsSharedRealm.getInstance(configBuilder, version);
     }
 
     // Create a realm instance directly from a OsSharedRealm instance. This instance doesn't have the ownership of the
@@ -202,7 +266,13 @@ abstract class BaseRealm implements Closeable {
         if (isInTransaction()) {
             throw new IllegalStateException("Cannot refresh a Realm instance inside a transaction.");
         }
-        sharedRealm.refresh();
+        boolean traced = RealmTrace.beginSection("Realm.refresh");
+        try {
+            sharedRealm.refresh();
+        } finally {
+            RealmTrace.endSection(traced);
+        }
+        updateVersionHolder();
     }
 
     /**
@@ -243,7 +313,8 @@ abstract class BaseRealm implements Closeable {
             throw new IllegalArgumentException("Listener should not be null");
         }
         if (isClosed()) {
-            RealmLog.warn("Calling removeChangeListener on a closed Realm %s, " +
+            RealmLog.log(LogCategory.NOTIFICATIONS, LogLevel.WARN, null,
+                    "Calling removeChangeListener on a closed Realm %s, " +
                     "make sure to close all listeners before closing the Realm.", configuration.getPath());
         }
         //noinspection unchecked
@@ -294,7 +365,8 @@ abstract class BaseRealm implements Closeable {
      */
     protected void removeAllListeners() {
         if (isClosed()) {
-            RealmLog.warn("Calling removeChangeListener on a closed Realm %s, " +
+            RealmLog.log(LogCategory.NOTIFICATIONS, LogLevel.WARN, null,
+                    "Calling removeChangeListener on a closed Realm %s, " +
                     "make sure to close all listeners before closing the Realm.", configuration.getPath());
         }
         sharedRealm.realmNotifier.removeChangeListeners(this);
@@ -445,7 +517,13 @@ abstract class BaseRealm implements Closeable {
      */
     public void beginTransaction() {
         checkIfValid();
-        sharedRealm.beginTransaction();
+        boolean traced = RealmTrace.beginSection("Realm.beginTransaction");
+        try {
+            sharedRealm.beginTransaction();
+        } finally {
+            RealmTrace.endSection(traced);
+        }
+        updateVersionHolder();
     }
 
     /**
@@ -456,7 +534,13 @@ abstract class BaseRealm implements Closeable {
      */
     public void commitTransaction() {
         checkIfValid();
-        sharedRealm.commitTransaction();
+        boolean traced = RealmTrace.beginSection("Realm.commitTransaction");
+        try {
+            sharedRealm.commitTransaction();
+        } finally {
+            RealmTrace.endSection(traced);
+        }
+        updateVersionHolder();
     }
 
     /**
@@ -470,6 +554,7 @@ abstract class BaseRealm implements Closeable {
     public void cancelTransaction() {
         checkIfValid();
         sharedRealm.cancelTransaction();
+        updateVersionHolder();
     }
 
     /**
@@ -517,6 +602,13 @@ abstract class BaseRealm implements Closeable {
         return getSharedRealm().getNumberOfVersions();
     }
 
+    // Beginning, committing or cancelling a transaction and refreshing can all move the Realm to another version.
+    private void updateVersionHolder() {
+        if (versionHolder != null) {
+            versionHolder.update(sharedRealm.getVersionID().version);
+        }
+    }
+
     /**
      * Checks if a Realm's underlying resources are still available or not getting accessed from the wrong thread.
      */
@@ -671,6 +763,10 @@ abstract class BaseRealm implements Closeable {
      */
     void doClose() {
         realmCache = null;
+        if (versionHolder != null) {
+            RealmVersionDiagnostics.unregister(versionHolder);
+            versionHolder = null;
+        }
         if (sharedRealm != null && shouldCloseSharedRealm) {
             sharedRealm.close();
             sharedRealm = null;
@@ -811,10 +907,15 @@ abstract class BaseRealm implements Closeable {
      * @return {@code true} if compaction succeeded, {@code false} otherwise.
      */
     static boolean compactRealm(final RealmConfiguration configuration) {
-        OsSharedRealm sharedRealm = OsSharedRealm.getInstance(configuration, OsSharedRealm.VersionID.LIVE);
-        Boolean result = sharedRealm.compact();
-        sharedRealm.close();
-        return result;
+        boolean traced = RealmTrace.beginSection("Realm.compactRealm");
+        try {
+            OsSharedRealm sharedRealm = OsSharedRealm.getInstance(configuration, OsSharedRealm.VersionID.LIVE);
+            Boolean result = sharedRealm.compact();
+            sharedRealm.close();
+            return result;
+        } finally {
+            RealmTrace.endSection(traced);
+        }
     }
 
     /**
@@ -889,7 +990,12 @@ abstract class BaseRealm implements Closeable {
         return new OsSharedRealm.MigrationCallback() {
             @Override
             public void onMigrationNeeded(OsSharedRealm sharedRealm, long oldVersion, long newVersion) {
-                migration.migrate(DynamicRealm.createInstance(sharedRealm), oldVersion, newVersion);
+                boolean traced = RealmTrace.beginSection("Realm.migrate");
+                try {
+                    migration.migrate(DynamicRealm.createInstance(sharedRealm), oldVersion, newVersion);
+                } finally {
+                    RealmTrace.endSection(traced);
+                }
             }
         };
     }
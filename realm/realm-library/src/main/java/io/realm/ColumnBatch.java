@@ -0,0 +1,410 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import io.realm.internal.Table;
+
+/**
+ * The values of a set of fields for a range of objects of a class, used by the bulk migration operations of
+ * {@link RealmObjectSchema}.
+ * <p>
+ * A batch is read from the Realm file and written back in a single native call per batch, so the cost of a migration
+ * doesn't grow with the number of objects times the number of fields accessed. Only fields of type
+ * {@link RealmFieldType#INTEGER}, {@link RealmFieldType#BOOLEAN}, {@link RealmFieldType#FLOAT},
+ * {@link RealmFieldType#DOUBLE}, {@link RealmFieldType#STRING} and {@link RealmFieldType#DATE} are supported.
+ * Only the values which have been set are written back, so values of unmodified objects are left untouched, e.g.
+ * dates keep their sub-millisecond precision.
+ *
+ * @see RealmObjectSchema#transformColumns(String[], RealmObjectSchema.BatchFunction)
+ */
+public final class ColumnBatch {
+
+    static final Set<RealmFieldType> SUPPORTED_FIELD_TYPES = EnumSet.of(RealmFieldType.INTEGER,
+            RealmFieldType.BOOLEAN, RealmFieldType.FLOAT, RealmFieldType.DOUBLE, RealmFieldType.STRING,
+            RealmFieldType.DATE);
+
+    private final long[] objectKeys;
+    private final Map<String, Column> columns;
+
+    private ColumnBatch(long[] objectKeys, Map<String, Column> columns) {
+        this.objectKeys = objectKeys;
+        this.columns = columns;
+    }
+
+    /**
+     * Reads a batch of objects from the given table.
+     */
+    static ColumnBatch read(Table table, String[] fieldNames, long[] columnKeys, RealmFieldType[] types, long start,
+            int count) {
+        Object[] batch = table.readColumnBatch(columnKeys, start, count);
+        Map<String, Column> columns = new LinkedHashMap<>(fieldNames.length * 2);
+        for (int i = 0; i < fieldNames.length; i++) {
+            columns.put(fieldNames[i], new Column(fieldNames[i], columnKeys[i], types[i], count, batch[1 + 2 * i],
+                    (boolean[]) batch[2 + 2 * i]));
+        }
+        return new ColumnBatch((long[]) batch[0], columns);
+    }
+
+    /**
+     * Writes the modified values of this batch back to the given table.
+     */
+    void write(Table table) {
+        int modifiedCount = 0;
+        for (Column column : columns.values()) {
+            if (column.modified) {
+                modifiedCount++;
+            }
+        }
+        if (modifiedCount == 0) {
+            return;
+        }
+        long[] columnKeys = new long[modifiedCount];
+        Object[] values = new Object[modifiedCount];
+        boolean[][] nulls = new boolean[modifiedCount][];
+        boolean[][] modifiedRows = new boolean[modifiedCount][];
+        int i = 0;
+        for (Column column : columns.values()) {
+            if (column.modified) {
+                columnKeys[i] = column.columnKey;
+                values[i] = column.values();
+                nulls[i] = column.nulls;
+                modifiedRows[i] = column.modifiedRows;
+                i++;
+            }
+        }
+        table.writeColumnBatch(columnKeys, objectKeys, values, nulls, modifiedRows);
+    }
+
+    /**
+     * Returns the number of objects in this batch.
+     *
+     * @return the number of objects in this batch.
+     */
+    public int size() {
+        return objectKeys.length;
+    }
+
+    /**
+     * Returns the values of a field in this batch.
+     *
+     * @param fieldName the name of the field.
+     * @return the {@link Column} holding the values of the field.
+     * @throws IllegalArgumentException if the field is not part of this batch.
+     */
+    public Column getColumn(String fieldName) {
+        Column column = columns.get(fieldName);
+        if (column == null) {
+            throw new IllegalArgumentException("Field is not part of this batch: " + fieldName);
+        }
+        return column;
+    }
+
+    /**
+     * The values of a single field for all objects in a {@link ColumnBatch}. Values are accessed by the index of the
+     * object in the batch. Accessing a value with a getter or setter not matching the type of the field throws an
+     * {@link IllegalArgumentException}.
+     */
+    public static final class Column {
+        private final String fieldName;
+        private final long columnKey;
+        private final RealmFieldType type;
+        private final int size;
+        // INTEGER, BOOLEAN (0 or 1) and DATE (milliseconds since the epoch) values.
+        @Nullable
+        private long[] longs;
+        // FLOAT and DOUBLE values.
+        @Nullable
+        private double[] doubles;
+        @Nullable
+        private String[] strings;
+        private final boolean[] nulls;
+        // Objects whose value has been set. Only these are written back.
+        private final boolean[] modifiedRows;
+        private boolean modified = false;
+
+        Column(String fieldName, long columnKey, RealmFieldType type, int size, Object values, boolean[] nulls) {
+            this.fieldName = fieldName;
+            this.columnKey = columnKey;
+            this.type = type;
+            this.size = size;
+            this.nulls = nulls;
+            this.modifiedRows = new boolean[size];
+            switch (type) {
+                case INTEGER:
+                case BOOLEAN:
+                case DATE:
+                    longs = (long[]) values;
+                    break;
+                case FLOAT:
+                case DOUBLE:
+                    doubles = (double[]) values;
+                    break;
+                case STRING:
+                    strings = (String[]) values;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported field type: " + type);
+            }
+        }
+
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        public RealmFieldType getType() {
+            return type;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isNull(int index) {
+            return nulls[index];
+        }
+
+        public void setNull(int index) {
+            nulls[index] = true;
+            if (strings != null) {
+                strings[index] = null;
+            }
+            setModified(index);
+        }
+
+        public long getLong(int index) {
+            checkType(RealmFieldType.INTEGER);
+            return longs[index];
+        }
+
+        public void setLong(int index, long value) {
+            checkType(RealmFieldType.INTEGER);
+            longs[index] = value;
+            setNotNull(index);
+        }
+
+        public boolean getBoolean(int index) {
+            checkType(RealmFieldType.BOOLEAN);
+            return longs[index] != 0;
+        }
+
+        public void setBoolean(int index, boolean value) {
+            checkType(RealmFieldType.BOOLEAN);
+            longs[index] = value ? 1 : 0;
+            setNotNull(index);
+        }
+
+        public float getFloat(int index) {
+            checkType(RealmFieldType.FLOAT);
+            return (float) doubles[index];
+        }
+
+        public void setFloat(int index, float value) {
+            checkType(RealmFieldType.FLOAT);
+            doubles[index] = value;
+            setNotNull(index);
+        }
+
+        public double getDouble(int index) {
+            checkType(RealmFieldType.DOUBLE);
+            return doubles[index];
+        }
+
+        public void setDouble(int index, double value) {
+            checkType(RealmFieldType.DOUBLE);
+            doubles[index] = value;
+            setNotNull(index);
+        }
+
+        @Nullable
+        public String getString(int index) {
+            checkType(RealmFieldType.STRING);
+            return strings[index];
+        }
+
+        public void setString(int index, @Nullable String value) {
+            checkType(RealmFieldType.STRING);
+            if (value == null) {
+                setNull(index);
+            } else {
+                strings[index] = value;
+                setNotNull(index);
+            }
+        }
+
+        @Nullable
+        public Date getDate(int index) {
+            checkType(RealmFieldType.DATE);
+            return nulls[index] ? null : new Date(longs[index]);
+        }
+
+        public void setDate(int index, @Nullable Date value) {
+            checkType(RealmFieldType.DATE);
+            if (value == null) {
+                setNull(index);
+            } else {
+                longs[index] = value.getTime();
+                setNotNull(index);
+            }
+        }
+
+        /**
+         * Returns a value boxed as the Java type matching the type of the field, i.e. {@link Long},
+         * {@link Boolean}, {@link Float}, {@link Double}, {@link String} or {@link Date}.
+         *
+         * @param index the index of the object in the batch.
+         * @return the value, or {@code null} if the value is {@code null}.
+         */
+        @Nullable
+        public Object get(int index) {
+            if (nulls[index]) {
+                return null;
+            }
+            switch (type) {
+                case INTEGER:
+                    return getLong(index);
+                case BOOLEAN:
+                    return getBoolean(index);
+                case FLOAT:
+                    return getFloat(index);
+                case DOUBLE:
+                    return getDouble(index);
+                case STRING:
+                    return getString(index);
+                case DATE:
+                    return getDate(index);
+                default:
+                    throw new IllegalStateException("Unsupported field type: " + type);
+            }
+        }
+
+        /**
+         * Sets a value from an object of a Java type matching the type of the field. Any {@link Number} can be used
+         * for numeric fields.
+         *
+         * @param index the index of the object in the batch.
+         * @param value the value to set, or {@code null} to set the value to {@code null}.
+         * @throws IllegalArgumentException if the value cannot be stored in this field.
+         */
+        public void set(int index, @Nullable Object value) {
+            if (value == null) {
+                setNull(index);
+                return;
+            }
+            switch (type) {
+                case INTEGER:
+                    if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                        setLong(index, ((Number) value).longValue());
+                        return;
+                    }
+                    break;
+                case BOOLEAN:
+                    if (value instanceof Boolean) {
+                        setBoolean(index, (Boolean) value);
+                        return;
+                    }
+                    break;
+                case FLOAT:
+                    if (value instanceof Number) {
+                        setFloat(index, ((Number) value).floatValue());
+                        return;
+                    }
+                    break;
+                case DOUBLE:
+                    if (value instanceof Number) {
+                        setDouble(index, ((Number) value).doubleValue());
+                        return;
+                    }
+                    break;
+                case STRING:
+                    if (value instanceof String) {
+                        setString(index, (String) value);
+                        return;
+                    }
+                    break;
+                case DATE:
+                    if (value instanceof Date) {
+                        setDate(index, (Date) value);
+                        return;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "A value of type %s cannot be stored in field '%s' of type %s.",
+                    value.getClass().getSimpleName(), fieldName, type));
+        }
+
+        /**
+         * Sets all values of this column to the same value.
+         *
+         * @param value the value to set, or {@code null} to set all values to {@code null}.
+         * @throws IllegalArgumentException if the value cannot be stored in this field.
+         */
+        public void setAll(@Nullable Object value) {
+            if (size == 0) {
+                return;
+            }
+            set(0, value);
+            if (longs != null) {
+                Arrays.fill(longs, longs[0]);
+            } else if (doubles != null) {
+                Arrays.fill(doubles, doubles[0]);
+            } else if (strings != null) {
+                Arrays.fill(strings, strings[0]);
+            }
+            Arrays.fill(nulls, nulls[0]);
+            Arrays.fill(modifiedRows, true);
+        }
+
+        private Object values() {
+            if (longs != null) {
+                return longs;
+            }
+            if (doubles != null) {
+                return doubles;
+            }
+            return strings;
+        }
+
+        private void setNotNull(int index) {
+            nulls[index] = false;
+            setModified(index);
+        }
+
+        private void setModified(int index) {
+            modifiedRows[index] = true;
+            modified = true;
+        }
+
+        private void checkType(RealmFieldType expected) {
+            if (type != expected) {
+                throw new IllegalArgumentException(String.format(Locale.US,
+                        "Field '%s' is not of the expected type. Actual: %s, Expected: %s", fieldName, type, expected));
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.Locale;
+
+import io.realm.internal.OsRealmConfig;
+
+/**
+ * A snapshot of the cache holding the decrypted pages of encrypted Realms.
+ * <p>
+ * Pages of an encrypted Realm file are decrypted into memory when they are read and kept until Realm reclaims them
+ * again. The cache is shared by all encrypted Realms in the process, so these numbers are process wide.
+ *
+ * @see Realm#getEncryptionMetrics()
+ * @see RealmConfiguration.Builder#encryptedPageCacheSize(long)
+ */
+public final class EncryptionMetrics {
+
+    /**
+     * The size of the pages the decrypted page counts are reported in.
+     */
+    public static final long PAGE_SIZE = 4096;
+
+    private final long decryptedPages;
+    private final long cacheTarget;
+    private final long cacheLoad;
+    private final long reclaimRounds;
+
+    EncryptionMetrics(long[] metrics) {
+        this.decryptedPages = metrics[OsRealmConfig.ENCRYPTION_METRICS_DECRYPTED_PAGES];
+        this.cacheTarget = metrics[OsRealmConfig.ENCRYPTION_METRICS_CACHE_TARGET];
+        this.cacheLoad = metrics[OsRealmConfig.ENCRYPTION_METRICS_CACHE_LOAD];
+        this.reclaimRounds = metrics[OsRealmConfig.ENCRYPTION_METRICS_RECLAIM_ROUNDS];
+    }
+
+    /**
+     * Returns the number of pages currently held decrypted in memory.
+     *
+     * @return the number of decrypted pages, each {@link #PAGE_SIZE} bytes.
+     */
+    public long getDecryptedPages() {
+        return decryptedPages;
+    }
+
+    /**
+     * Returns the memory currently used by decrypted pages.
+     *
+     * @return the size of the decrypted pages in bytes.
+     */
+    public long getDecryptedBytes() {
+        return decryptedPages * PAGE_SIZE;
+    }
+
+    /**
+     * Returns the target size of the cache as set by {@link RealmConfiguration.Builder#encryptedPageCacheSize(long)}.
+     *
+     * @return the target size in bytes, or {@code 0} if the default size is used.
+     */
+    public long getCacheTarget() {
+        return cacheTarget;
+    }
+
+    /**
+     * Returns the load of the cache measured during the last reclaim round.
+     *
+     * @return the load in bytes. This is only tracked when a cache size has been configured.
+     */
+    public long getCacheLoad() {
+        return cacheLoad;
+    }
+
+    /**
+     * Returns the number of times Realm has checked the cache for pages to reclaim.
+     *
+     * @return the number of reclaim rounds. This is only tracked when a cache size has been configured.
+     */
+    public long getReclaimRounds() {
+        return reclaimRounds;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US,
+                "EncryptionMetrics{decryptedPages=%d, cacheTarget=%d, cacheLoad=%d, reclaimRounds=%d}",
+                decryptedPages, cacheTarget, cacheLoad, reclaimRounds);
+    }
+}
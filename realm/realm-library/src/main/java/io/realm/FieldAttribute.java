@@ -29,6 +29,14 @@ public enum FieldAttribute {
      */
     INDEXED,
 
+    /**
+     * Marks a field as having a full-text index. Only {@code String} fields can have a full-text index and it cannot
+     * be combined with {@link #INDEXED} or {@link #PRIMARY_KEY}.
+     *
+     * @see io.realm.annotations.FullText
+     */
+    FULL_TEXT_INDEXED,
+
     /**
      * Marks a field as a primary key. This also implicitly mark it as {@link #INDEXED}.
      *
@@ -18,6 +18,7 @@ package io.realm;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.UUID;
 
@@ -106,6 +107,36 @@ public enum FrozenPendingRow implements Row {
         throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
     }
 
+    @Override
+    public long getByteSize(long columnKey) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
+    @Override
+    public int readBytes(long columnKey, long position, byte[] dst, int offset, int length) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
+    @Override
+    public int readBytes(long columnKey, long position, ByteBuffer dst) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
+    @Override
+    public int getStringUtf8(long columnKey, ByteBuffer dst) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
+    @Override
+    public long getStringHash(long columnKey) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
+    @Override
+    public boolean stringEquals(long columnKey, byte[] utf8) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
     @Override
     public Decimal128 getDecimal128(long columnKey) {
         throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
@@ -16,6 +16,11 @@
 
 package io.realm;
 
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
 import io.realm.internal.ColumnInfo;
 import io.realm.internal.Table;
 
@@ -27,12 +32,26 @@ class ImmutableRealmObjectSchema extends RealmObjectSchema {
     private static final String SCHEMA_IMMUTABLE_EXCEPTION_MSG = "This 'RealmObjectSchema' is immutable." +
             " Please use 'DynamicRealm.getSchema() to get a mutable instance.";
 
+    private final List<List<String>> compoundIndexHints;
+
     ImmutableRealmObjectSchema(BaseRealm realm, RealmSchema schema, Table table, ColumnInfo columnInfo) {
+        this(realm, schema, table, columnInfo, Collections.<List<String>>emptyList());
+    }
+
+    ImmutableRealmObjectSchema(BaseRealm realm, RealmSchema schema, Table table, ColumnInfo columnInfo,
+            List<List<String>> compoundIndexHints) {
         super(realm, schema, table, columnInfo);
+        this.compoundIndexHints = compoundIndexHints;
     }
 
     ImmutableRealmObjectSchema(BaseRealm realm, RealmSchema schema, Table table) {
         super(realm, schema, table, new DynamicColumnIndices(table));
+        this.compoundIndexHints = Collections.emptyList();
+    }
+
+    @Override
+    public List<List<String>> getCompoundIndexHints() {
+        return compoundIndexHints;
     }
 
     @Override
@@ -95,6 +114,11 @@ class ImmutableRealmObjectSchema extends RealmObjectSchema {
         throw new UnsupportedOperationException(SCHEMA_IMMUTABLE_EXCEPTION_MSG);
     }
 
+    @Override
+    public RealmObjectSchema addFullTextIndex(String fieldName) {
+        throw new UnsupportedOperationException(SCHEMA_IMMUTABLE_EXCEPTION_MSG);
+    }
+
     @Override
     public RealmObjectSchema removeIndex(String fieldName) {
         throw new UnsupportedOperationException(SCHEMA_IMMUTABLE_EXCEPTION_MSG);
@@ -125,6 +149,26 @@ class ImmutableRealmObjectSchema extends RealmObjectSchema {
         throw new UnsupportedOperationException(SCHEMA_IMMUTABLE_EXCEPTION_MSG);
     }
 
+    @Override
+    public RealmObjectSchema copyField(String fromFieldName, String toFieldName) {
+        throw new UnsupportedOperationException(SCHEMA_IMMUTABLE_EXCEPTION_MSG);
+    }
+
+    @Override
+    public RealmObjectSchema setAll(String fieldName, @Nullable Object value) {
+        throw new UnsupportedOperationException(SCHEMA_IMMUTABLE_EXCEPTION_MSG);
+    }
+
+    @Override
+    public RealmObjectSchema convertField(String fieldName, RealmFieldType newType, FieldConverter converter) {
+        throw new UnsupportedOperationException(SCHEMA_IMMUTABLE_EXCEPTION_MSG);
+    }
+
+    @Override
+    public RealmObjectSchema transformColumns(String[] fieldNames, BatchFunction function) {
+        throw new UnsupportedOperationException(SCHEMA_IMMUTABLE_EXCEPTION_MSG);
+    }
+
     @Override
     String getPropertyClassName(String propertyName) {
         ColumnInfo.ColumnDetails columnDetails = columnInfo.getColumnDetails(propertyName);
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Counts how often Realm crosses the JNI boundary, per native method, and optionally how much time is spent on the
+ * native side of each crossing. This helps to find out whether the Realm overhead of a workload is caused by the
+ * number of native calls, e.g. per field getters or per element list operations, rather than the work done in them.
+ * <p>
+ * The native methods of the table, object, collection, query, {@link RealmAny} and object creation bindings are
+ * accounted for. Accounting is off by default and only costs a single flag check per call while off. It is process
+ * wide and must be enabled after {@link Realm#init(android.content.Context)} was called:
+ * <pre>
+ * JniCallAccounting.enable(false);
+ * runWorkload();
+ * for (Map.Entry&lt;String, JniCallAccounting.CallStats&gt; entry : JniCallAccounting.getSnapshot().entrySet()) {
+ *     Log.d("Realm", entry.getKey() + ": " + entry.getValue());
+ * }
+ * JniCallAccounting.disable();
+ * </pre>
+ * Measuring the time adds two clock reads to every accounted call, so it inflates the numbers of very short calls.
+ */
+public final class JniCallAccounting {
+
+    private static final int MODE_OFF = 0;
+    private static final int MODE_COUNT = 1;
+    private static final int MODE_COUNT_AND_TIME = 2;
+
+    private static final String JNI_PREFIX = "Java_";
+    // JNI escapes '_' in Java names as "_1".
+    private static final String JNI_ESCAPED_UNDERSCORE = "_1";
+
+    private static volatile int mode = MODE_OFF;
+
+    private JniCallAccounting() {
+    }
+
+    /**
+     * Starts accounting native calls. Counters collected before are kept, use {@link #reset()} to clear them.
+     *
+     * @param measureTime {@code true} to also measure the time spent in each native call, {@code false} to only
+     * count calls.
+     */
+    public static synchronized void enable(boolean measureTime) {
+        int newMode = measureTime ? MODE_COUNT_AND_TIME : MODE_COUNT;
+        nativeSetMode(newMode);
+        mode = newMode;
+    }
+
+    /**
+     * Stops accounting native calls. The collected counters are kept until {@link #reset()} is called.
+     */
+    public static synchronized void disable() {
+        nativeSetMode(MODE_OFF);
+        mode = MODE_OFF;
+    }
+
+    /**
+     * Returns whether native calls are currently accounted for.
+     */
+    public static boolean isEnabled() {
+        return mode != MODE_OFF;
+    }
+
+    /**
+     * Returns whether the time spent in native calls is currently measured.
+     */
+    public static boolean isMeasuringTime() {
+        return mode == MODE_COUNT_AND_TIME;
+    }
+
+    /**
+     * Clears all counters.
+     */
+    public static void reset() {
+        nativeReset();
+    }
+
+    /**
+     * Returns the counters of all native methods called while accounting was enabled, ordered by the number of calls
+     * with the most called method first. Keys are the fully qualified method names, e.g.
+     * {@code io.realm.internal.UncheckedRow.nativeGetLong}.
+     *
+     * @return an unmodifiable snapshot of the counters. Later calls are not reflected in it.
+     */
+    public static Map<String, CallStats> getSnapshot() {
+        Object[] snapshot = nativeGetSnapshot();
+        String[] functionNames = (String[]) snapshot[0];
+        long[] calls = (long[]) snapshot[1];
+        long[] nanos = (long[]) snapshot[2];
+
+        List<Map.Entry<String, CallStats>> entries = new ArrayList<>(functionNames.length);
+        for (int i = 0; i < functionNames.length; i++) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(
+                    toMethodName(functionNames[i]), new CallStats(calls[i], nanos[i])));
+        }
+        Collections.sort(entries, new Comparator<Map.Entry<String, CallStats>>() {
+            @Override
+            public int compare(Map.Entry<String, CallStats> e1, Map.Entry<String, CallStats> e2) {
+                int result = Long.compare(e2.getValue().getCalls(), e1.getValue().getCalls());
+                return (result != 0) ? result : e1.getKey().compareTo(e2.getKey());
+            }
+        });
+
+        Map<String, CallStats> result = new LinkedHashMap<>();
+        for (Map.Entry<String, CallStats> entry : entries) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    // Turns a JNI function name like "Java_io_realm_internal_OsList_nativeAddLong" into
+    // "io.realm.internal.OsList.nativeAddLong".
+    static String toMethodName(String functionName) {
+        if (!functionName.startsWith(JNI_PREFIX)) {
+            return functionName;
+        }
+        String name = functionName.substring(JNI_PREFIX.length()).replace(JNI_ESCAPED_UNDERSCORE, "\u0000");
+        return name.replace('_', '.').replace('\u0000', '_');
+    }
+
+    /**
+     * The counters of a single native method.
+     */
+    public static final class CallStats {
+        private final long calls;
+        private final long totalNanos;
+
+        CallStats(long calls, long totalNanos) {
+            this.calls = calls;
+            this.totalNanos = totalNanos;
+        }
+
+        /**
+         * Returns the number of calls.
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * Returns the total time spent in the native method in nanoseconds, or {@code 0} if the time was not
+         * measured.
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Returns the average time spent in a single call in nanoseconds, or {@code 0} if the time was not
+         * measured.
+         */
+        public long getAverageNanos() {
+            return (calls == 0) ? 0 : totalNanos / calls;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "calls: %d, totalNanos: %d, averageNanos: %d",
+                    calls, totalNanos, getAverageNanos());
+        }
+    }
+
+    private static native void nativeSetMode(int mode);
+
+    private static native void nativeReset();
+
+    private static native Object[] nativeGetSnapshot();
+}
@@ -17,9 +17,12 @@
 package io.realm;
 
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import io.realm.internal.CheckedRow;
 import io.realm.internal.OsObjectStore;
@@ -32,6 +35,14 @@ import io.realm.internal.Util;
  */
 class MutableRealmObjectSchema extends RealmObjectSchema {
 
+    // Number of objects read and written in a single native call by the bulk operations.
+    private static final int COLUMN_BATCH_SIZE = 4096;
+    private static final String CONVERTED_FIELD_PREFIX = "__converted_";
+    private static final Set<RealmFieldType> COPYABLE_FIELD_TYPES = EnumSet.of(RealmFieldType.INTEGER,
+            RealmFieldType.BOOLEAN, RealmFieldType.STRING, RealmFieldType.BINARY, RealmFieldType.DATE,
+            RealmFieldType.FLOAT, RealmFieldType.DOUBLE, RealmFieldType.DECIMAL128, RealmFieldType.OBJECT_ID,
+            RealmFieldType.UUID, RealmFieldType.MIXED);
+
     /**
      * Creates a mutable schema object for a given Realm class.
      *
@@ -250,19 +261,35 @@ class MutableRealmObjectSchema extends RealmObjectSchema {
         checkLegalName(fieldName);
         checkFieldExists(fieldName);
         long columnKey = getColumnKey(fieldName);
-        if (table.hasSearchIndex(columnKey)) {
+        if (table.hasSearchIndex(columnKey) || table.hasFullTextIndex(columnKey)) {
             throw new IllegalStateException(fieldName + " already has an index.");
         }
         table.addSearchIndex(columnKey);
         return this;
     }
 
+    @Override
+    public RealmObjectSchema addFullTextIndex(String fieldName) {
+        checkLegalName(fieldName);
+        checkFieldExists(fieldName);
+        long columnKey = getColumnKey(fieldName);
+        if (table.hasSearchIndex(columnKey) || table.hasFullTextIndex(columnKey)) {
+            throw new IllegalStateException(fieldName + " already has an index.");
+        }
+        table.addFullTextIndex(columnKey);
+        return this;
+    }
+
     @Override
     public RealmObjectSchema removeIndex(String fieldName) {
         realm.checkNotInSync(); // Destructive modifications are not permitted.
         checkLegalName(fieldName);
         checkFieldExists(fieldName);
         long columnKey = getColumnKey(fieldName);
+        if (table.hasFullTextIndex(columnKey)) {
+            table.removeFullTextIndex(columnKey);
+            return this;
+        }
         if (!table.hasSearchIndex(columnKey)) {
             throw new IllegalStateException("Field is not indexed: " + fieldName);
         }
@@ -372,6 +399,140 @@ class MutableRealmObjectSchema extends RealmObjectSchema {
         return this;
     }
 
+    @Override
+    public RealmObjectSchema copyField(String fromFieldName, String toFieldName) {
+        checkLegalName(fromFieldName);
+        checkFieldExists(fromFieldName);
+        checkLegalName(toFieldName);
+        checkFieldExists(toFieldName);
+        if (isPrimaryKey(toFieldName)) {
+            throw new IllegalArgumentException("Values cannot be copied into the primary key field: " + toFieldName);
+        }
+        long fromColumnKey = getColumnKey(fromFieldName);
+        long toColumnKey = getColumnKey(toFieldName);
+        RealmFieldType type = table.getColumnType(fromColumnKey);
+        if (type != table.getColumnType(toColumnKey)) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "Fields '%s' and '%s' are not of the same type: %s, %s",
+                    fromFieldName, toFieldName, type, table.getColumnType(toColumnKey)));
+        }
+        if (!COPYABLE_FIELD_TYPES.contains(type)) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "Fields of type %s cannot be copied: %s", type, fromFieldName));
+        }
+        table.copyColumn(fromColumnKey, toColumnKey);
+        return this;
+    }
+
+    @Override
+    public RealmObjectSchema setAll(final String fieldName, @Nullable final Object value) {
+        checkLegalName(fieldName);
+        checkFieldExists(fieldName);
+        if (isPrimaryKey(fieldName)) {
+            throw new IllegalArgumentException("Primary key fields cannot be set for all objects: " + fieldName);
+        }
+        if (value == null && isRequired(fieldName)) {
+            throw new IllegalArgumentException("Field is required and cannot be set to null: " + fieldName);
+        }
+        forEachColumnBatch(new String[] {fieldName}, new BatchFunction() {
+            @Override
+            public void apply(ColumnBatch batch) {
+                batch.getColumn(fieldName).setAll(value);
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public RealmObjectSchema convertField(final String fieldName, RealmFieldType newType, final FieldConverter converter) {
+        realm.checkNotInSync(); // destructive modification of a schema is not permitted
+        checkLegalName(fieldName);
+        checkFieldExists(fieldName);
+        //noinspection ConstantConditions
+        if (newType == null || !ColumnBatch.SUPPORTED_FIELD_TYPES.contains(newType)) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "Fields cannot be converted to type %s: %s", newType, fieldName));
+        }
+        //noinspection ConstantConditions
+        if (converter == null) {
+            throw new IllegalArgumentException("A non-null converter must be provided");
+        }
+        if (isPrimaryKey(fieldName)) {
+            throw new IllegalArgumentException("Primary key fields cannot be converted: " + fieldName);
+        }
+        boolean required = isRequired(fieldName);
+        boolean indexed = hasIndex(fieldName);
+        boolean fullTextIndexed = hasFullTextIndex(fieldName);
+
+        // Values are converted into a temporary column which then replaces the original one.
+        int suffix = 0;
+        while (table.getColumnKey(CONVERTED_FIELD_PREFIX + suffix) != Table.NO_MATCH) {
+            suffix++;
+        }
+        final String convertedFieldName = CONVERTED_FIELD_PREFIX + suffix;
+        long convertedColumnKey = table.addColumn(newType, convertedFieldName, Table.NULLABLE);
+        try {
+            forEachColumnBatch(new String[] {fieldName, convertedFieldName}, new BatchFunction() {
+                @Override
+                public void apply(ColumnBatch batch) {
+                    converter.convert(batch.getColumn(fieldName), batch.getColumn(convertedFieldName));
+                }
+            });
+        } catch (RuntimeException e) {
+            table.removeColumn(convertedColumnKey);
+            throw e;
+        }
+        removeField(fieldName);
+        renameField(convertedFieldName, fieldName);
+        if (required) {
+            setRequired(fieldName, true);
+        }
+        if (indexed) {
+            addIndex(fieldName);
+        }
+        if (fullTextIndexed) {
+            addFullTextIndex(fieldName);
+        }
+        return this;
+    }
+
+    @Override
+    public RealmObjectSchema transformColumns(String[] fieldNames, BatchFunction function) {
+        //noinspection ConstantConditions
+        if (fieldNames == null || fieldNames.length == 0) {
+            throw new IllegalArgumentException("At least one field must be provided");
+        }
+        //noinspection ConstantConditions
+        if (function != null) {
+            forEachColumnBatch(fieldNames, function);
+        }
+        return this;
+    }
+
+    // Reads the given fields in batches, applies the function and writes back the modified values. The function must
+    // not add or delete objects of this class.
+    private void forEachColumnBatch(String[] fieldNames, BatchFunction function) {
+        long[] columnKeys = new long[fieldNames.length];
+        RealmFieldType[] types = new RealmFieldType[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            checkLegalName(fieldNames[i]);
+            checkFieldExists(fieldNames[i]);
+            columnKeys[i] = getColumnKey(fieldNames[i]);
+            types[i] = table.getColumnType(columnKeys[i]);
+            if (!ColumnBatch.SUPPORTED_FIELD_TYPES.contains(types[i])) {
+                throw new IllegalArgumentException(String.format(Locale.US,
+                        "Fields of type %s cannot be transformed in batches: %s", types[i], fieldNames[i]));
+            }
+        }
+        long size = table.size();
+        for (long start = 0; start < size; start += COLUMN_BATCH_SIZE) {
+            int count = (int) Math.min(COLUMN_BATCH_SIZE, size - start);
+            ColumnBatch batch = ColumnBatch.read(table, fieldNames, columnKeys, types, start, count);
+            function.apply(batch);
+            batch.write(table);
+        }
+    }
+
     @Override
     String getPropertyClassName(String propertyName) {
         String linkedClassName = table.getLinkTarget(getColumnKey(propertyName)).getClassName();
@@ -393,6 +554,11 @@ class MutableRealmObjectSchema extends RealmObjectSchema {
                     indexAdded = true;
                 }
 
+                if (containsAttribute(attributes, FieldAttribute.FULL_TEXT_INDEXED)) {
+                    addFullTextIndex(fieldName);
+                    indexAdded = true;
+                }
+
                 if (containsAttribute(attributes, FieldAttribute.PRIMARY_KEY)) {
                     // Note : adding primary key implies application of FieldAttribute.INDEXED attribute.
                     addPrimaryKey(fieldName);
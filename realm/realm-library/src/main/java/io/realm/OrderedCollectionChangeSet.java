@@ -16,6 +16,8 @@
 
 package io.realm;
 
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Locale;
 
 import javax.annotation.Nullable;
@@ -27,7 +29,9 @@ import javax.annotation.Nullable;
  * by {@link RealmResults#addChangeListener(OrderedRealmCollectionChangeListener)}.
  * <p>
  * The change information is available in two formats: a simple array of row indices in the collection for each type of
- * change, or an array of {@link Range}s.
+ * change, or an array of {@link Range}s. For large change sets, the counts and the range iterators read the changes
+ * without copying them into an array first. Implementations outside of Realm inherit default versions of those
+ * methods built on the range arrays.
  */
 public interface OrderedCollectionChangeSet {
 
@@ -107,6 +111,79 @@ public interface OrderedCollectionChangeSet {
      */
     Range[] getChangeRanges();
 
+    /**
+     * The number of deleted indices. This is the same as {@code getDeletions().length}, but does not copy the
+     * indices.
+     *
+     * @return the number of deleted objects.
+     */
+    default int getDeletionCount() {
+        return Range.countIndices(getDeletionRanges());
+    }
+
+    /**
+     * The number of inserted indices. This is the same as {@code getInsertions().length}, but does not copy the
+     * indices.
+     *
+     * @return the number of inserted objects.
+     */
+    default int getInsertionCount() {
+        return Range.countIndices(getInsertionRanges());
+    }
+
+    /**
+     * The number of modified indices. This is the same as {@code getChanges().length}, but does not copy the
+     * indices.
+     *
+     * @return the number of modified objects.
+     */
+    default int getChangeCount() {
+        return Range.countIndices(getChangeRanges());
+    }
+
+    /**
+     * Iterates the deleted ranges of objects in the previous version of the collection. Change sets delivered
+     * by Realm only create Range objects for the ranges that are read, so a consumer only interested in the first few
+     * ranges does not pay for the rest.
+     *
+     * @return an iterator over the same ranges as {@link #getDeletionRanges()}.
+     */
+    default Iterator<Range> getDeletionRangeIterator() {
+        return Arrays.asList(getDeletionRanges()).iterator();
+    }
+
+    /**
+     * Iterates the inserted ranges of objects in the new version of the collection. Change sets delivered by
+     * Realm only create Range objects for the ranges that are read.
+     *
+     * @return an iterator over the same ranges as {@link #getInsertionRanges()}.
+     */
+    default Iterator<Range> getInsertionRangeIterator() {
+        return Arrays.asList(getInsertionRanges()).iterator();
+    }
+
+    /**
+     * Iterates the modified ranges of objects in the new version of the collection. Change sets delivered by
+     * Realm only create Range objects for the ranges that are read.
+     *
+     * @return an iterator over the same ranges as {@link #getChangeRanges()}.
+     */
+    default Iterator<Range> getChangeRangeIterator() {
+        return Arrays.asList(getChangeRanges()).iterator();
+    }
+
+    /**
+     * Returns {@code true} if the collection changed in more places than the limit set with
+     * {@link RealmResults#setChangeSetLimit(int)} or {@link RealmList#setChangeSetLimit(int)}. In that case, the
+     * change set contains no indices or ranges and the whole collection should be reloaded, e.g. by calling
+     * {@code notifyDataSetChanged()} on an adapter.
+     *
+     * @return {@code true} if the collection should be reloaded instead of applying individual changes.
+     */
+    default boolean isReloadRequired() {
+        return false;
+    }
+
     /**
      * Returns any error that happened. If an error has happened, the state of the collection and other
      * changeset information is undefined. It is possible for a collection to go into an error state
@@ -146,5 +223,14 @@ public interface OrderedCollectionChangeSet {
         public String toString() {
             return String.format(Locale.ENGLISH, "startIndex: %d, length: %d", startIndex, length);
         }
+
+        // Used by the default implementations of the count methods.
+        static int countIndices(Range[] ranges) {
+            int count = 0;
+            for (Range range : ranges) {
+                count += range.length;
+            }
+            return count;
+        }
     }
 }
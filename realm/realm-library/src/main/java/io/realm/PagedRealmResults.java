@@ -0,0 +1,164 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.AbstractList;
+
+import io.realm.internal.OsResults;
+import io.realm.internal.OsSharedRealm;
+import io.realm.internal.UncheckedRow;
+import io.realm.log.RealmLog;
+
+/**
+ * A {@code PagedRealmResults} is a window of {@code pageSize} objects into a {@link RealmResults}, typically used to
+ * bind a sorted feed to the UI one page at a time.
+ * <p>
+ * The rows of a page are fetched from the underlying results in a single native call when the page is created.
+ * {@link #prefetchNextPage()} pages in the objects of the following page on a background thread while the current
+ * one is being displayed.
+ * <p>
+ * The set of objects in a page is fixed when it is fetched, while the objects themselves are live. Objects deleted
+ * after the page was fetched are returned as invalid objects, see {@link RealmObject#isValid(RealmModel)}.
+ * A page is confined to the thread of the {@link RealmResults} it was created from.
+ *
+ * @param <E> the class of the objects in the page.
+ * @see RealmResults#page(int, int)
+ * @see RealmQuery#findPage(int, int)
+ */
+public class PagedRealmResults<E> extends AbstractList<E> {
+
+    private final RealmResults<E> results;
+    private final int offset;
+    private final int pageSize;
+    private final UncheckedRow[] rows;
+
+    PagedRealmResults(RealmResults<E> results, int offset, int pageSize) {
+        this.results = results;
+        this.offset = offset;
+        this.pageSize = pageSize;
+        this.rows = results.osResults.getUncheckedRows(offset, pageSize);
+    }
+
+    /**
+     * Returns the object at the given position in this page.
+     *
+     * @param location the position in the page.
+     * @return the object at the given position.
+     * @throws IndexOutOfBoundsException if {@code location} is outside the page.
+     */
+    @Override
+    public E get(int location) {
+        results.baseRealm.checkIfValid();
+        if (location < 0 || location >= rows.length) {
+            throw new IndexOutOfBoundsException("Index " + location + " is out of range [0, " + rows.length + ").");
+        }
+        return results.operator.convertRowToObject(rows[location]);
+    }
+
+    /**
+     * Returns the number of objects in this page. This is less than {@link #getPageSize()} for the last page.
+     *
+     * @return the number of objects in this page.
+     */
+    @Override
+    public int size() {
+        return rows.length;
+    }
+
+    /**
+     * Returns the position of the first object of this page in the underlying {@link RealmResults}.
+     *
+     * @return the offset of this page.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the maximum number of objects in a page.
+     *
+     * @return the page size.
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Checks if the underlying {@link RealmResults} contains objects after this page.
+     *
+     * @return {@code true} if there is a next page.
+     */
+    public boolean hasNextPage() {
+        results.baseRealm.checkIfValid();
+        return results.size() > offset + pageSize;
+    }
+
+    /**
+     * Starts reading the objects of the next page on a background thread, so the parts of the Realm file holding
+     * them are in memory when the page is fetched with {@link #nextPage()}. The background thread reads a frozen copy
+     * of the results at the current version, so this thread is not blocked.
+     * <p>
+     * This is only a hint. It does nothing if there is no next page or a write transaction is in progress.
+     */
+    public void prefetchNextPage() {
+        BaseRealm realm = results.baseRealm;
+        realm.checkIfValid();
+        if (realm.isInTransaction() || !hasNextPage()) {
+            return;
+        }
+        final OsSharedRealm frozenRealm = realm.sharedRealm.freeze();
+        final OsResults frozenResults;
+        try {
+            frozenResults = results.osResults.freeze(frozenRealm);
+        } catch (RuntimeException e) {
+            frozenRealm.close();
+            throw e;
+        }
+        final int nextOffset = offset + pageSize;
+        BaseRealm.asyncTaskExecutor.submit(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    frozenResults.pageIn(nextOffset, pageSize);
+                } catch (Throwable e) {
+                    RealmLog.warn(e, "Prefetching the page at offset %d failed.", nextOffset);
+                } finally {
+                    frozenRealm.close();
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the page following this one. The page is empty if this is the last page.
+     *
+     * @return the next page.
+     */
+    public PagedRealmResults<E> nextPage() {
+        results.baseRealm.checkIfValid();
+        return new PagedRealmResults<>(results, offset + pageSize, pageSize);
+    }
+
+    /**
+     * Returns the {@link RealmResults} this page is a window into.
+     *
+     * @return the underlying results.
+     */
+    public RealmResults<E> getResults() {
+        return results;
+    }
+}
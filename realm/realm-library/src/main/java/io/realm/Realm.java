@@ -17,6 +17,7 @@
 package io.realm;
 
 import android.app.IntentService;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
 import android.os.Build;
 import android.os.SystemClock;
@@ -56,15 +57,18 @@ import io.realm.exceptions.RealmFileException;
 import io.realm.exceptions.RealmMigrationNeededException;
 import io.realm.exceptions.RealmPrimaryKeyConstraintException;
 import io.realm.internal.ColumnIndices;
+import io.realm.internal.ColumnInfo;
+import io.realm.internal.NativeContext;
 import io.realm.internal.ObjectServerFacade;
 import io.realm.internal.OsObject;
 import io.realm.internal.OsObjectStore;
-import io.realm.internal.OsSchemaInfo;
+import io.realm.internal.OsRealmConfig;
 import io.realm.internal.OsSharedRealm;
 import io.realm.internal.RealmCore;
 import io.realm.internal.RealmNotifier;
 import io.realm.internal.RealmObjectProxy;
 import io.realm.internal.RealmProxyMediator;
+import io.realm.internal.RealmTrace;
 import io.realm.internal.Row;
 import io.realm.internal.Table;
 import io.realm.internal.Util;
@@ -149,6 +153,8 @@ public class Realm extends BaseRealm {
     private static final Object defaultConfigurationLock = new Object();
     // guarded by `defaultConfigurationLock`
     private static RealmConfiguration defaultConfiguration;
+    // guarded by the class lock, see init(Context, boolean)
+    private static boolean trimMemoryCallbacksRegistered = false;
     private final RealmSchema schema;
 
     /**
@@ -158,7 +164,7 @@ public class Realm extends BaseRealm {
      * @throws IllegalArgumentException if trying to open an encrypted Realm with the wrong key.
      */
     private Realm(RealmCache cache, OsSharedRealm.VersionID version) {
-        super(cache, createExpectedSchemaInfo(cache.getConfiguration().getSchemaMediator()), version);
+        super(cache, version, cache.getConfiguration().getSchemaMediator());
         schema = new ImmutableRealmSchema(this,
                 new ColumnIndices(configuration.getSchemaMediator(), sharedRealm.getSchemaInfo()));
         // FIXME: This is to work around the different behaviour between the read only Realms in the Object Store and
@@ -186,10 +192,6 @@ public class Realm extends BaseRealm {
                 new ColumnIndices(configuration.getSchemaMediator(), sharedRealm.getSchemaInfo()));
     }
 
-    private static OsSchemaInfo createExpectedSchemaInfo(RealmProxyMediator mediator) {
-        return new OsSchemaInfo(mediator.getExpectedObjectSchemaInfoMap().values());
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -310,6 +312,25 @@ public class Realm extends BaseRealm {
         initializeRealm(context, userAgent);
     }
 
+    /**
+     * Initializes the Realm library like {@link #init(Context)} and optionally registers {@link ComponentCallbacks2}
+     * on the application context, which call {@link #trimMemory(int)} on a background thread whenever the system
+     * asks the app to release memory.
+     *
+     * @param context the Application Context.
+     * @param trimMemoryOnPressure {@code true} to trim memory automatically, {@code false} otherwise.
+     * @throws IllegalArgumentException if a {@code null} context is provided.
+     * @throws IllegalStateException if {@link Context#getFilesDir()} could not be found.
+     * @see #trimMemory(int)
+     */
+    public static synchronized void init(Context context, boolean trimMemoryOnPressure) {
+        initializeRealm(context, "");
+        if (trimMemoryOnPressure && !trimMemoryCallbacksRegistered) {
+            BaseRealm.applicationContext.registerComponentCallbacks(TrimMemoryCallbacks.INSTANCE);
+            trimMemoryCallbacksRegistered = true;
+        }
+    }
+
     // Checks whether the app is an Instant App or not. It first it tries with the system
     // `PackageManager.isInstantApp` available from SDK 26. If not available it tries to invoke,
     // via reflection, `PackageManagerCompat.isInstantApp` as it has support back to SDK 21.
@@ -346,6 +367,9 @@ public class Realm extends BaseRealm {
             }
 
             RealmCore.loadLibrary(context);
+            if (RealmTrace.isEnabled()) {
+                RealmTrace.enable();
+            }
             setDefaultConfiguration(new RealmConfiguration.Builder(context).build());
 
             ObjectServerFacade.getSyncFacadeIfPossible().initialize(
@@ -1204,7 +1228,12 @@ public class Realm extends BaseRealm {
     public <E extends RealmModel> E copyToRealm(E object, ImportFlag... flags) {
         checkNotNullObject(object);
 
-        return copyOrUpdate(object, false, new HashMap<>(), Util.toSet(flags));
+        boolean traced = RealmTrace.beginSection("Realm.copyToRealm");
+        try {
+            return copyOrUpdate(object, false, new HashMap<>(), Util.toSet(flags));
+        } finally {
+            RealmTrace.endSection(traced);
+        }
     }
 
     /**
@@ -1225,7 +1254,12 @@ public class Realm extends BaseRealm {
     public <E extends RealmModel> E copyToRealmOrUpdate(E object, ImportFlag... flags) {
         checkNotNullObject(object);
         checkHasPrimaryKey(object.getClass());
-        return copyOrUpdate(object, true, new HashMap<>(), Util.toSet(flags));
+        boolean traced = RealmTrace.beginSection("Realm.copyToRealmOrUpdate");
+        try {
+            return copyOrUpdate(object, true, new HashMap<>(), Util.toSet(flags));
+        } finally {
+            RealmTrace.endSection(traced);
+        }
     }
 
     /**
@@ -1253,10 +1287,15 @@ public class Realm extends BaseRealm {
         } else {
             realmObjects = new ArrayList<>();
         }
-        Map<RealmModel, RealmObjectProxy> cache = new HashMap<>();
-        for (E object : objects) {
-            checkNotNullObject(object);
-            realmObjects.add(copyOrUpdate(object, false, cache, Util.toSet(flags)));
+        boolean traced = RealmTrace.beginSection("Realm.copyToRealm");
+        try {
+            Map<RealmModel, RealmObjectProxy> cache = new HashMap<>();
+            for (E object : objects) {
+                checkNotNullObject(object);
+                realmObjects.add(copyOrUpdate(object, false, cache, Util.toSet(flags)));
+            }
+        } finally {
+            RealmTrace.endSection(traced);
         }
 
         return realmObjects;
@@ -1293,7 +1332,12 @@ public class Realm extends BaseRealm {
         if (objects.isEmpty()) {
             return;
         }
-        configuration.getSchemaMediator().insert(this, objects);
+        boolean traced = RealmTrace.beginSection("Realm.insert");
+        try {
+            configuration.getSchemaMediator().insert(this, objects);
+        } finally {
+            RealmTrace.endSection(traced);
+        }
     }
 
     /**
@@ -1326,8 +1370,13 @@ public class Realm extends BaseRealm {
         if (object == null) {
             throw new IllegalArgumentException("Null object cannot be inserted into Realm.");
         }
-        Map<RealmModel, Long> cache = new HashMap<>();
-        configuration.getSchemaMediator().insert(this, object, cache);
+        boolean traced = RealmTrace.beginSection("Realm.insert");
+        try {
+            Map<RealmModel, Long> cache = new HashMap<>();
+            configuration.getSchemaMediator().insert(this, object, cache);
+        } finally {
+            RealmTrace.endSection(traced);
+        }
     }
 
     /**
@@ -1364,7 +1413,12 @@ public class Realm extends BaseRealm {
         if (objects.isEmpty()) {
             return;
         }
-        configuration.getSchemaMediator().insertOrUpdate(this, objects);
+        boolean traced = RealmTrace.beginSection("Realm.insertOrUpdate");
+        try {
+            configuration.getSchemaMediator().insertOrUpdate(this, objects);
+        } finally {
+            RealmTrace.endSection(traced);
+        }
     }
 
     /**
@@ -1396,8 +1450,13 @@ public class Realm extends BaseRealm {
         if (object == null) {
             throw new IllegalArgumentException("Null object cannot be inserted into Realm.");
         }
-        Map<RealmModel, Long> cache = new HashMap<>();
-        configuration.getSchemaMediator().insertOrUpdate(this, object, cache);
+        boolean traced = RealmTrace.beginSection("Realm.insertOrUpdate");
+        try {
+            Map<RealmModel, Long> cache = new HashMap<>();
+            configuration.getSchemaMediator().insertOrUpdate(this, object, cache);
+        } finally {
+            RealmTrace.endSection(traced);
+        }
     }
 
     /**
@@ -1426,11 +1485,16 @@ public class Realm extends BaseRealm {
         } else {
             realmObjects = new ArrayList<>();
         }
-        Map<RealmModel, RealmObjectProxy> cache = new HashMap<>();
-        Set<ImportFlag> importFlags = Util.toSet(flags);
-        for (E object : objects) {
-            checkNotNullObject(object);
-            realmObjects.add(copyOrUpdate(object, true, cache, importFlags));
+        boolean traced = RealmTrace.beginSection("Realm.copyToRealmOrUpdate");
+        try {
+            Map<RealmModel, RealmObjectProxy> cache = new HashMap<>();
+            Set<ImportFlag> importFlags = Util.toSet(flags);
+            for (E object : objects) {
+                checkNotNullObject(object);
+                realmObjects.add(copyOrUpdate(object, true, cache, importFlags));
+            }
+        } finally {
+            RealmTrace.endSection(traced);
         }
 
         return realmObjects;
@@ -1954,6 +2018,78 @@ public class Realm extends BaseRealm {
         return BaseRealm.compactRealm(configuration);
     }
 
+    /**
+     * Returns where the bytes of a Realm file go: the size of the file, its used part and free list, the number of
+     * active versions, and the number of objects and the size of the values and indexes of every class.
+     * <p>
+     * The statistics are read from a frozen copy of the latest version, so open instances are not affected. This reads
+     * all objects of all classes and should be called from a background thread.
+     *
+     * @param configuration a {@link RealmConfiguration} pointing to a Realm file.
+     * @return the storage statistics of the file.
+     */
+    public static RealmStorageStats getStorageStats(RealmConfiguration configuration) {
+        //noinspection ConstantConditions
+        if (configuration == null) {
+            throw new IllegalArgumentException(NULL_CONFIG_MSG);
+        }
+        OsSharedRealm frozenRealm;
+        OsSharedRealm sharedRealm = OsSharedRealm.getInstance(configuration, OsSharedRealm.VersionID.LIVE);
+        try {
+            frozenRealm = sharedRealm.freeze();
+        } finally {
+            sharedRealm.close();
+        }
+        try {
+            return RealmStorageStats.compute(frozenRealm);
+        } finally {
+            frozenRealm.close();
+        }
+    }
+
+    /**
+     * Releases memory held by Realm, depending on how much the system needs, see
+     * {@link ComponentCallbacks2#onTrimMemory(int)}:
+     * <ul>
+     *     <li>Native objects of already garbage collected Java objects are freed right away instead of waiting for
+     *     the finalizer thread.</li>
+     *     <li>At {@link ComponentCallbacks2#TRIM_MEMORY_RUNNING_LOW},
+     *     {@link ComponentCallbacks2#TRIM_MEMORY_RUNNING_CRITICAL} and from
+     *     {@link ComponentCallbacks2#TRIM_MEMORY_MODERATE}, frozen Realms which are no longer referenced,
+     *     e.g. the ones created for the emissions of RxJava and Flow, are released. This triggers a garbage
+     *     collection.</li>
+     *     <li>At {@link ComponentCallbacks2#TRIM_MEMORY_RUNNING_CRITICAL} and from
+     *     {@link ComponentCallbacks2#TRIM_MEMORY_MODERATE}, the kernel is advised to reclaim the memory mapped pages
+     *     of all open Realm files. They are read from the file again when accessed, which makes the next queries
+     *     slower.</li>
+     * </ul>
+     * Open Realm instances are never closed, as they are still owned by the code that opened them.
+     * <p>
+     * This can be called from any thread, but should not be called from the UI thread. Use
+     * {@link #init(Context, boolean)} to call it automatically.
+     *
+     * @param level the trim level as passed to {@link ComponentCallbacks2#onTrimMemory(int)}.
+     * @return a description of the released memory.
+     */
+    public static TrimMemoryResult trimMemory(int level) {
+        int releasedFrozenRealms = 0;
+        // The levels are not ordered by severity: TRIM_MEMORY_UI_HIDDEN and TRIM_MEMORY_BACKGROUND lie between the
+        // running levels and TRIM_MEMORY_MODERATE, but don't signal memory pressure on their own.
+        if (level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW
+                || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL
+                || level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE) {
+            releasedFrozenRealms = RealmCache.releaseUnreferencedFrozenRealms();
+        }
+        int freedNativeObjects = NativeContext.drainReferenceQueue();
+        long releasedMappedBytes = 0;
+        if (level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL || level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE) {
+            for (String path : RealmCache.getOpenRealmPaths()) {
+                releasedMappedBytes += OsSharedRealm.releaseMappedPages(path);
+            }
+        }
+        return new TrimMemoryResult(releasedFrozenRealms, freedNativeObjects, releasedMappedBytes);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1962,6 +2098,42 @@ public class Realm extends BaseRealm {
         return RealmCache.createRealmOrGetFromCache(configuration, Realm.class, sharedRealm.getVersionID());
     }
 
+    /**
+     * Reads the stored values of the given fields of all objects of a class once, so the pages of the Realm file
+     * backing them are loaded into memory before they are queried. Otherwise the first queries after a cold start pay
+     * for the page faults of the memory-mapped file.
+     * <p>
+     * This reads all objects of the class and should therefore be called from a background thread, e.g. right after
+     * the Realm has been opened. Use {@link RealmConfiguration.Builder#preload(Class, Class[])} to warm up whole
+     * classes automatically when the Realm is opened with {@link #getInstanceAsync(RealmConfiguration, Callback)}.
+     *
+     * @param clazz the class whose data should be warmed up.
+     * @param fieldNames the names of the fields to warm up. If none are given, all persisted fields are warmed up.
+     * @return the number of bytes of the Realm file that were loaded into memory by this call, as reported by the
+     * kernel. Pages that were already resident are not counted, and encrypted Realms always return {@code 0}.
+     * @throws IllegalArgumentException if one of the fields doesn't exist or is not persisted.
+     */
+    public long warmUp(Class<? extends RealmModel> clazz, String... fieldNames) {
+        checkIfValid();
+        Table table = getTable(clazz);
+        long[] columnKeys = new long[fieldNames.length];
+        if (fieldNames.length > 0) {
+            ColumnInfo columnInfo = schema.getColumnInfo(clazz);
+            for (int i = 0; i < fieldNames.length; i++) {
+                ColumnInfo.ColumnDetails details = columnInfo.getColumnDetails(fieldNames[i]);
+                if (details == null || details.columnType == RealmFieldType.LINKING_OBJECTS) {
+                    throw new IllegalArgumentException(String.format(Locale.US,
+                            "'%s' is not a persisted field of '%s'.", fieldNames[i], clazz.getSimpleName()));
+                }
+                columnKeys[i] = details.columnKey;
+            }
+        }
+        String path = configuration.getPath();
+        long residentBytes = OsSharedRealm.getResidentMappedBytes(path);
+        table.warmUp(columnKeys);
+        return Math.max(0, OsSharedRealm.getResidentMappedBytes(path) - residentBytes);
+    }
+
     Table getTable(Class<? extends RealmModel> clazz) {
         return schema.getTable(clazz);
     }
@@ -2013,6 +2185,17 @@ public class Realm extends BaseRealm {
         return globalCount.get();
     }
 
+    /**
+     * Returns a snapshot of the cache holding the decrypted pages of encrypted Realms. The cache is shared by all
+     * encrypted Realms in the process.
+     *
+     * @return the current {@link EncryptionMetrics}.
+     * @see RealmConfiguration.Builder#encryptedPageCacheSize(long)
+     */
+    public static EncryptionMetrics getEncryptionMetrics() {
+        return new EncryptionMetrics(OsRealmConfig.getEncryptionMetrics());
+    }
+
     /**
      * Returns the current number of open Realm instances on the thread calling this method. This include both
      * dynamic and normal Realms.
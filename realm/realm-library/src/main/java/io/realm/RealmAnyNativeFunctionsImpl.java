@@ -15,6 +15,8 @@
  */
 package io.realm;
 
+import org.bson.types.Decimal128;
+
 import java.util.Map;
 import javax.annotation.Nullable;
 
@@ -38,17 +40,73 @@ public class RealmAnyNativeFunctionsImpl implements RealmAnyNativeFunctions {
 
     @Override
     public void callRawPredicate(TableQuery query, @Nullable OsKeyPathMapping mapping, String predicate, RealmAny... arguments) {
-        long[] args = new long[arguments.length];
+        // Arguments are passed to native code by value, so building a query does not allocate a native RealmAny per
+        // argument. Only Realm objects still go through their native representation.
+        int size = arguments.length;
+        byte[] types = new byte[size];
+        long[] longs = new long[2 * size];
+        double[] doubles = new double[size];
+        Object[] objects = new Object[size];
 
-        try {
-            for (int i = 0; i < arguments.length; i++) {
-                args[i] = arguments[i].getNativePtr();
+        for (int i = 0; i < size; i++) {
+            RealmAny argument = arguments[i];
+            switch (argument.getType()) {
+                case NULL:
+                    types[i] = TableQuery.ARGUMENT_TYPE_NULL;
+                    break;
+                case INTEGER:
+                    types[i] = TableQuery.ARGUMENT_TYPE_INTEGER;
+                    longs[2 * i] = argument.asLong();
+                    break;
+                case BOOLEAN:
+                    types[i] = TableQuery.ARGUMENT_TYPE_BOOLEAN;
+                    longs[2 * i] = argument.asBoolean() ? 1 : 0;
+                    break;
+                case DATE:
+                    types[i] = TableQuery.ARGUMENT_TYPE_DATE;
+                    longs[2 * i] = argument.asDate().getTime();
+                    break;
+                case FLOAT:
+                    types[i] = TableQuery.ARGUMENT_TYPE_FLOAT;
+                    doubles[i] = argument.asFloat();
+                    break;
+                case DOUBLE:
+                    types[i] = TableQuery.ARGUMENT_TYPE_DOUBLE;
+                    doubles[i] = argument.asDouble();
+                    break;
+                case DECIMAL128:
+                    Decimal128 decimal128 = argument.asDecimal128();
+                    types[i] = TableQuery.ARGUMENT_TYPE_DECIMAL128;
+                    longs[2 * i] = decimal128.getLow();
+                    longs[2 * i + 1] = decimal128.getHigh();
+                    break;
+                case STRING:
+                    types[i] = TableQuery.ARGUMENT_TYPE_STRING;
+                    objects[i] = argument.asString();
+                    break;
+                case BINARY:
+                    types[i] = TableQuery.ARGUMENT_TYPE_BINARY;
+                    objects[i] = argument.asBinary();
+                    break;
+                case OBJECT_ID:
+                    types[i] = TableQuery.ARGUMENT_TYPE_OBJECT_ID;
+                    objects[i] = argument.asObjectId().toString();
+                    break;
+                case UUID:
+                    types[i] = TableQuery.ARGUMENT_TYPE_UUID;
+                    objects[i] = argument.asUUID().toString();
+                    break;
+                default:
+                    types[i] = TableQuery.ARGUMENT_TYPE_POINTER;
+                    try {
+                        longs[2 * i] = argument.getNativePtr();
+                    } catch (IllegalStateException cause) {
+                        // This might happen if a query is constructed with a RealmAny value containing an unmanaged Realm object.
+                        throw new IllegalArgumentException("Unmanaged Realm objects are not valid query arguments", cause);
+                    }
             }
-        } catch (IllegalStateException cause) {
-            // This might happen if a query is constructed with a RealmAny value containing an unmanaged Realm object.
-            throw new IllegalArgumentException("Unmanaged Realm objects are not valid query arguments", cause);
         }
 
-        query.rawPredicateWithPointers(mapping, predicate, args);
+        query.rawPredicateWithTypedArguments(mapping, predicate, types, longs, doubles, objects);
     }
 }
@@ -36,6 +36,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.annotation.Nullable;
+
 import io.realm.exceptions.RealmFileException;
 import io.realm.internal.Capabilities;
 import io.realm.internal.ObjectServerFacade;
@@ -43,11 +45,14 @@ import io.realm.internal.OsObjectStore;
 import io.realm.internal.OsRealmConfig;
 import io.realm.internal.OsSharedRealm;
 import io.realm.internal.RealmNotifier;
+import io.realm.internal.RealmTrace;
 import io.realm.internal.Util;
 import io.realm.internal.android.AndroidCapabilities;
 import io.realm.internal.android.AndroidRealmNotifier;
 import io.realm.internal.async.RealmAsyncTaskImpl;
 import io.realm.internal.util.Pair;
+import io.realm.log.LogCategory;
+import io.realm.log.LogLevel;
 import io.realm.log.RealmLog;
 
 
@@ -110,16 +115,22 @@ final class RealmCache {
     }
 
     // Reference counter for Realms that are accessible across all threads
-    private static class GlobalReferenceCounter extends ReferenceCounter {
+    private class GlobalReferenceCounter extends ReferenceCounter {
         private BaseRealm cachedRealm;
+        // Holds the Realm instead of cachedRealm while releaseUnreferencedFrozenRealms() checks if it is still used.
+        @Nullable
+        private WeakReference<BaseRealm> releaseCandidate;
+        @Nullable
+        private RealmVersionDiagnostics.VersionHolder releaseCandidateVersionHolder;
 
         @Override
         boolean hasInstanceAvailableForThread() {
-            return cachedRealm != null;
+            return getRealmInstance() != null;
         }
 
         @Override
         BaseRealm getRealmInstance() {
+            restoreReleaseCandidate();
             return cachedRealm;
         }
 
@@ -136,6 +147,7 @@ final class RealmCache {
 
         @Override
         public void clearThreadLocalCache() {
+            restoreReleaseCandidate();
             String canonicalPath = cachedRealm.getPath();
 
             // The last instance in this thread.
@@ -156,6 +168,40 @@ final class RealmCache {
             // of a thread local count doesn't make sense. Just return the global count instead.
             return globalCount.get();
         }
+
+        // Only keeps a weak reference to the cached Realm, so it can be garbage collected if nothing else uses it.
+        void markAsReleaseCandidate() {
+            if (cachedRealm != null) {
+                releaseCandidate = new WeakReference<>(cachedRealm);
+                releaseCandidateVersionHolder = cachedRealm.versionHolder;
+                cachedRealm = null;
+            }
+        }
+
+        // Caches the Realm again if it is still in use. Otherwise the counter is reset and the release is handled like
+        // closing the last instance of the Realm. Its native resources are freed by the NativeContext once the
+        // OsSharedRealm is collected. Returns true if the Realm was released.
+        boolean restoreReleaseCandidate() {
+            if (releaseCandidate == null) {
+                return false;
+            }
+            BaseRealm realm = releaseCandidate.get();
+            RealmVersionDiagnostics.VersionHolder versionHolder = releaseCandidateVersionHolder;
+            releaseCandidate = null;
+            releaseCandidateVersionHolder = null;
+            if (realm != null) {
+                cachedRealm = realm;
+                return false;
+            }
+
+            if (versionHolder != null) {
+                RealmVersionDiagnostics.unregister(versionHolder);
+            }
+            localCount.set(null);
+            globalCount.set(0);
+            onInstanceReleased();
+            return true;
+        }
     }
 
     // Reference counter for Realms that are thread confined
@@ -247,6 +293,7 @@ final class RealmCache {
             try {
                 // First call that will run all schema validation, migrations or initial transactions.
                 instance = createRealmOrGetFromCache(configuration, realmClass);
+                preload(instance);
                 boolean results = notifier.post(new Runnable() {
                     @Override
                     public void run() {
@@ -310,6 +357,23 @@ final class RealmCache {
                 }
             }
         }
+
+        // Warms up the classes set by RealmConfiguration.Builder.preload() while still on the background thread, so
+        // the first queries on the caller thread don't pay for the page faults.
+        private void preload(BaseRealm realm) {
+            Set<Class<? extends RealmModel>> preloadClasses = configuration.getPreloadClasses();
+            if (preloadClasses.isEmpty() || !(realm instanceof Realm)) {
+                return;
+            }
+            long start = System.nanoTime();
+            long bytes = 0;
+            for (Class<? extends RealmModel> clazz : preloadClasses) {
+                bytes += ((Realm) realm).warmUp(clazz);
+            }
+            RealmLog.log(LogCategory.STORAGE, LogLevel.DEBUG, null,
+                    "Preloaded %d bytes of '%s' in %d ms.", bytes, configuration.getPath(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
     }
 
     private static final String ASYNC_NOT_ALLOWED_MSG =
@@ -329,6 +393,9 @@ final class RealmCache {
     // doCreateRealmOrGetFromCache is called with globalCount == 0.
     private RealmConfiguration configuration;
 
+    // True while BackgroundCompactor compacts the file outside of the lock. Guarded by this cache.
+    private boolean compacting;
+
     // Realm path will be used to identify different RealmCaches. Different Realm configurations with same path
     // are not allowed and an exception will be thrown when trying to add it to the cache list.
     // A weak ref is used to hold the RealmCache instance. The weak ref entry will be cleared if and only if there
@@ -375,6 +442,81 @@ final class RealmCache {
         return cacheToReturn;
     }
 
+    // Returns all caches which haven't been garbage collected yet.
+    private static List<RealmCache> getAllCaches() {
+        List<RealmCache> caches = new ArrayList<>();
+        synchronized (cachesList) {
+            for (WeakReference<RealmCache> cacheRef : cachesList) {
+                RealmCache cache = cacheRef.get();
+                if (cache != null) {
+                    caches.add(cache);
+                }
+            }
+        }
+        return caches;
+    }
+
+    /**
+     * Closes the frozen Realms which are only kept alive by the cache, e.g. the ones created for the emissions of
+     * RxJava and Flow. This requires a garbage collection to find out which frozen Realms are still referenced by
+     * objects, results or user code.
+     *
+     * @return the number of released frozen Realms.
+     */
+    static int releaseUnreferencedFrozenRealms() {
+        List<RealmCache> caches = getAllCaches();
+        boolean hasCandidates = false;
+        for (RealmCache cache : caches) {
+            hasCandidates |= cache.markFrozenRealmsAsReleaseCandidates();
+        }
+        if (!hasCandidates) {
+            return 0;
+        }
+
+        Runtime.getRuntime().gc();
+        int releasedRealms = 0;
+        for (RealmCache cache : caches) {
+            releasedRealms += cache.restoreFrozenRealms();
+        }
+        return releasedRealms;
+    }
+
+    /**
+     * Returns the paths of all Realm files with open instances.
+     */
+    static List<String> getOpenRealmPaths() {
+        List<String> paths = new ArrayList<>();
+        for (RealmCache cache : getAllCaches()) {
+            synchronized (cache) {
+                if (cache.getTotalGlobalRefCount() > 0) {
+                    paths.add(cache.realmPath);
+                }
+            }
+        }
+        return paths;
+    }
+
+    private synchronized boolean markFrozenRealmsAsReleaseCandidates() {
+        boolean hasCandidates = false;
+        for (ReferenceCounter counter : refAndCountMap.values()) {
+            if (counter instanceof GlobalReferenceCounter) {
+                ((GlobalReferenceCounter) counter).markAsReleaseCandidate();
+                hasCandidates = true;
+            }
+        }
+        return hasCandidates;
+    }
+
+    private synchronized int restoreFrozenRealms() {
+        int releasedRealms = 0;
+        for (ReferenceCounter counter : refAndCountMap.values()) {
+            if (counter instanceof GlobalReferenceCounter && ((GlobalReferenceCounter) counter).restoreReleaseCandidate()) {
+                releasedRealms++;
+            }
+        }
+        return releasedRealms;
+    }
+
     static <T extends BaseRealm> RealmAsyncTask createRealmOrGetFromCacheAsync(
             RealmConfiguration configuration, BaseRealm.InstanceCallback<T> callback, Class<T> realmClass) {
         RealmCache cache = getCache(configuration.getPath(), true);
@@ -428,10 +570,12 @@ final class RealmCache {
     }
 
     private synchronized <E extends BaseRealm> E doCreateRealmOrGetFromCache(RealmConfiguration configuration, Class<E> realmClass, OsSharedRealm.VersionID version) {
+        awaitCompaction();
         ReferenceCounter referenceCounter = getRefCounter(realmClass, version);
         boolean firstRealmInstanceInProcess = (getTotalGlobalRefCount() == 0);
 
         if (firstRealmInstanceInProcess) {
+            BackgroundCompactor.cancelCheck(configuration.getPath());
             copyAssetFileIfNeeded(configuration);
             // If waitForInitialRemoteData() was enabled, we need to make sure that all data is downloaded
             // before proceeding. We need to open the Realm instance first to start any potential underlying
@@ -503,6 +647,11 @@ final class RealmCache {
         // Creates a new local Realm instance
         BaseRealm realm;
 
+        // Enabled before opening, so a migration or an initial compaction shows up in the trace as well.
+        if (configuration.isTraceSectionsEnabled()) {
+            RealmTrace.enable();
+        }
+
         if (realmClass == Realm.class) {
             // RealmMigrationNeededException might be thrown here.
             realm = Realm.createInstance(this, version);
@@ -516,7 +665,7 @@ final class RealmCache {
             throw new IllegalArgumentException(WRONG_REALM_CLASS_MESSAGE);
         }
 
-
+        RealmVersionDiagnostics.register(realm);
         referenceCounter.onRealmCreated(realm);
     }
 
@@ -545,32 +694,41 @@ final class RealmCache {
             // No more local reference to this Realm in current thread, close the instance.
             realm.doClose();
 
-            // No more instance of typed Realm and dynamic Realm.
-            if (getTotalLiveRealmGlobalRefCount() == 0) {
-                // We keep the cache in the caches list even when its global counter reaches 0. It will be reused when
-                // next time a Realm instance with the same path is opened. By not removing it, the lock on
-                // cachesList is not needed here.
-                configuration = null;
-
-                // Close all frozen Realms. This can introduce race conditions on other
-                // threads if the lifecyle of using Realm data is not correctly controlled.
-                for (ReferenceCounter counter : refAndCountMap.values()) {
-                    if (counter instanceof GlobalReferenceCounter) {
-                        BaseRealm cachedRealm = counter.getRealmInstance();
-                        // Since we don't remove ReferenceCounters, we need to check if the Realm is still open
-                        if (cachedRealm != null) {
-                            // Gracefully close frozen Realms in a similar way to what a user would normally do.
-                            while (!cachedRealm.isClosed()) {
-                                cachedRealm.close();
-                            }
+            onInstanceReleased();
+
+        } else {
+            referenceCounter.setThreadCount(refCount);
+        }
+    }
+
+    // Called with the lock held after an instance was closed, or after an unreferenced frozen Realm was released by
+    // releaseUnreferencedFrozenRealms().
+    private void onInstanceReleased() {
+        // No more instance of typed Realm and dynamic Realm. The configuration is only cleared here, so this runs once
+        // even if closing the frozen Realms below releases more instances.
+        if (getTotalLiveRealmGlobalRefCount() == 0 && configuration != null) {
+            // We keep the cache in the caches list even when its global counter reaches 0. It will be reused when
+            // next time a Realm instance with the same path is opened. By not removing it, the lock on
+            // cachesList is not needed here.
+            RealmConfiguration closedConfiguration = configuration;
+            configuration = null;
+
+            // Close all frozen Realms. This can introduce race conditions on other
+            // threads if the lifecyle of using Realm data is not correctly controlled.
+            for (ReferenceCounter counter : refAndCountMap.values()) {
+                if (counter instanceof GlobalReferenceCounter) {
+                    BaseRealm cachedRealm = counter.getRealmInstance();
+                    // Since we don't remove ReferenceCounters, we need to check if the Realm is still open
+                    if (cachedRealm != null) {
+                        // Gracefully close frozen Realms in a similar way to what a user would normally do.
+                        while (!cachedRealm.isClosed()) {
+                            cachedRealm.close();
                         }
                     }
                 }
-                ObjectServerFacade.getFacade(realm.getConfiguration().isSyncConfiguration()).realmClosed(realm.getConfiguration());
             }
-
-        } else {
-            referenceCounter.setThreadCount(refCount);
+            ObjectServerFacade.getFacade(closedConfiguration.isSyncConfiguration()).realmClosed(closedConfiguration);
+            BackgroundCompactor.scheduleCheck(closedConfiguration);
         }
     }
 
@@ -621,18 +779,76 @@ final class RealmCache {
         // well. Since we need to ensure there is no Realm instance can be opened when this method is called (for
         // deleteRealm).
         // Recursive lock cannot be avoided here.
-        synchronized (cachesList) {
-            RealmCache cache = getCache(configuration.getPath(), false);
-            if (cache == null) {
-                callback.onResult(0);
-                return;
+        while (true) {
+            RealmCache cache;
+            synchronized (cachesList) {
+                cache = getCache(configuration.getPath(), false);
+                if (cache == null) {
+                    callback.onResult(0);
+                    return;
+                }
+                if (cache.doInvokeWithGlobalRefCount(callback)) {
+                    return;
+                }
             }
-            cache.doInvokeWithGlobalRefCount(callback);
+            // The file is being compacted. Wait without holding cachesList, so other Realms can still be opened.
+            cache.awaitCompaction();
         }
     }
 
-    private synchronized void doInvokeWithGlobalRefCount(Callback callback) {
+    // Returns false without running the callback if the file is being compacted.
+    private synchronized boolean doInvokeWithGlobalRefCount(Callback callback) {
+        if (compacting) {
+            return false;
+        }
         callback.onResult(getTotalGlobalRefCount());
+        return true;
+    }
+
+    /**
+     * Reserves the Realm file for a background compaction if no instance of it is open in this process. Until
+     * {@link #endCompaction()} is called on the returned cache, opening the Realm waits and
+     * {@link #invokeWithGlobalRefCount(RealmConfiguration, Callback)} waits, but neither lock is held while the file
+     * is compacted.
+     *
+     * @param configuration the {@link RealmConfiguration} of the Realm to compact.
+     * @return the reserved cache, or {@code null} if the Realm was opened again.
+     */
+    @Nullable
+    static RealmCache beginCompaction(RealmConfiguration configuration) {
+        synchronized (cachesList) {
+            RealmCache cache = getCache(configuration.getPath(), true);
+            synchronized (cache) {
+                if (cache.compacting || cache.getTotalGlobalRefCount() > 0) {
+                    return null;
+                }
+                cache.compacting = true;
+                return cache;
+            }
+        }
+    }
+
+    /**
+     * Releases a file reserved by {@link #beginCompaction(RealmConfiguration)} and wakes up threads waiting to open it.
+     */
+    synchronized void endCompaction() {
+        compacting = false;
+        notifyAll();
+    }
+
+    // Waits until a running background compaction of the file is done.
+    private synchronized void awaitCompaction() {
+        boolean interrupted = false;
+        while (compacting) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     /**
@@ -24,6 +24,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Set;
 
@@ -105,6 +106,11 @@ public class RealmConfiguration {
     private final long maxNumberOfActiveVersions;
     private final boolean allowWritesOnUiThread;
     private final boolean allowQueriesOnUiThread;
+    private final BackgroundCompactionPolicy backgroundCompactionPolicy;
+    private final long encryptedPageCacheSize;
+    private final Set<Class<? extends RealmModel>> preloadClasses;
+    private final boolean traceSections;
+    private final boolean storeSchemaFingerprint;
 
     /**
      * Whether this RealmConfiguration is intended to open a
@@ -130,7 +136,12 @@ public class RealmConfiguration {
             boolean isRecoveryConfiguration,
             long maxNumberOfActiveVersions,
             boolean allowWritesOnUiThread,
-            boolean allowQueriesOnUiThread) {
+            boolean allowQueriesOnUiThread,
+            @Nullable BackgroundCompactionPolicy backgroundCompactionPolicy,
+            long encryptedPageCacheSize,
+            Set<Class<? extends RealmModel>> preloadClasses,
+            boolean traceSections,
+            boolean storeSchemaFingerprint) {
         this.realmDirectory = realmPath.getParentFile();
         this.realmFileName = realmPath.getName();
         this.canonicalPath = realmPath.getAbsolutePath();
@@ -150,6 +161,11 @@ public class RealmConfiguration {
         this.maxNumberOfActiveVersions = maxNumberOfActiveVersions;
         this.allowWritesOnUiThread = allowWritesOnUiThread;
         this.allowQueriesOnUiThread = allowQueriesOnUiThread;
+        this.backgroundCompactionPolicy = backgroundCompactionPolicy;
+        this.encryptedPageCacheSize = encryptedPageCacheSize;
+        this.preloadClasses = preloadClasses;
+        this.traceSections = traceSections;
+        this.storeSchemaFingerprint = storeSchemaFingerprint;
     }
 
     public File getRealmDirectory() {
@@ -230,6 +246,56 @@ public class RealmConfiguration {
         return compactOnLaunch;
     }
 
+    /**
+     * Returns the policy for compacting the Realm file in the background after its last instance was closed.
+     *
+     * @return the policy, or {@code null} if background compaction is not enabled.
+     */
+    @Nullable
+    public BackgroundCompactionPolicy getBackgroundCompactionPolicy() {
+        return backgroundCompactionPolicy;
+    }
+
+    /**
+     * Returns the target size of the cache holding decrypted pages of an encrypted Realm.
+     *
+     * @return the target size in bytes, or {@code 0} if the default cache size is used.
+     */
+    public long getEncryptedPageCacheSize() {
+        return encryptedPageCacheSize;
+    }
+
+    /**
+     * Returns the model classes whose data is preloaded when the Realm is opened with
+     * {@link Realm#getInstanceAsync(RealmConfiguration, Realm.Callback)}.
+     *
+     * @return the unmodifiable {@link Set} of classes to preload, empty if nothing is preloaded.
+     * @see Builder#preload(Class, Class[])
+     */
+    public Set<Class<? extends RealmModel>> getPreloadClasses() {
+        return preloadClasses;
+    }
+
+    /**
+     * Returns whether opening this Realm enables system trace sections.
+     *
+     * @return {@code true} if trace sections are enabled, {@code false} otherwise.
+     * @see Builder#traceSections(boolean)
+     */
+    public boolean isTraceSectionsEnabled() {
+        return traceSections;
+    }
+
+    /**
+     * Returns whether the schema fingerprint is stored in the Realm file to skip the schema validation on later opens.
+     *
+     * @return {@code true} if the schema fingerprint is stored, {@code false} otherwise.
+     * @see Builder#storeSchemaFingerprint(boolean)
+     */
+    public boolean isStoreSchemaFingerprintEnabled() {
+        return storeSchemaFingerprint;
+    }
+
     /**
      * Returns the unmodifiable {@link Set} of model classes that make up the schema for this Realm.
      *
@@ -376,6 +442,21 @@ public class RealmConfiguration {
         if (compactOnLaunch != null ? !compactOnLaunch.equals(that.compactOnLaunch) : that.compactOnLaunch != null) {
             return false;
         }
+        if (backgroundCompactionPolicy != null ? !backgroundCompactionPolicy.equals(that.backgroundCompactionPolicy) : that.backgroundCompactionPolicy != null) {
+            return false;
+        }
+        if (encryptedPageCacheSize != that.encryptedPageCacheSize) {
+            return false;
+        }
+        if (!preloadClasses.equals(that.preloadClasses)) {
+            return false;
+        }
+        if (traceSections != that.traceSections) {
+            return false;
+        }
+        if (storeSchemaFingerprint != that.storeSchemaFingerprint) {
+            return false;
+        }
         return maxNumberOfActiveVersions == that.maxNumberOfActiveVersions;
     }
 
@@ -399,6 +480,11 @@ public class RealmConfiguration {
         result = 31 * result + (initialDataTransaction != null ? initialDataTransaction.hashCode() : 0);
         result = 31 * result + (readOnly ? 1 : 0);
         result = 31 * result + (compactOnLaunch != null ? compactOnLaunch.hashCode() : 0);
+        result = 31 * result + (backgroundCompactionPolicy != null ? backgroundCompactionPolicy.hashCode() : 0);
+        result = 31 * result + (int) (encryptedPageCacheSize ^ (encryptedPageCacheSize >>> 32));
+        result = 31 * result + preloadClasses.hashCode();
+        result = 31 * result + (traceSections ? 1 : 0);
+        result = 31 * result + (storeSchemaFingerprint ? 1 : 0);
         result = 31 * result + (isRecoveryConfiguration ? 1 : 0);
         result = 31 * result + (int) (maxNumberOfActiveVersions ^ (maxNumberOfActiveVersions >>> 32));
         return result;
@@ -477,18 +563,40 @@ public class RealmConfiguration {
         stringBuilder.append("\n");
         stringBuilder.append("compactOnLaunch: ").append(compactOnLaunch);
         stringBuilder.append("\n");
+        stringBuilder.append("backgroundCompactionPolicy: ").append(backgroundCompactionPolicy);
+        stringBuilder.append("\n");
+        stringBuilder.append("encryptedPageCacheSize: ").append(encryptedPageCacheSize);
+        stringBuilder.append("\n");
+        stringBuilder.append("preloadClasses: ").append(preloadClasses);
+        stringBuilder.append("\n");
+        stringBuilder.append("traceSections: ").append(traceSections);
+        stringBuilder.append("\n");
+        stringBuilder.append("storeSchemaFingerprint: ").append(storeSchemaFingerprint);
+        stringBuilder.append("\n");
         stringBuilder.append("maxNumberOfActiveVersions: ").append(maxNumberOfActiveVersions);
 
         return stringBuilder.toString();
     }
 
+    // Checks that all classes to preload are part of the schema.
+    protected static void checkPreloadClasses(RealmProxyMediator schemaMediator,
+            Set<Class<? extends RealmModel>> preloadClasses) {
+        Set<Class<? extends RealmModel>> modelClasses = schemaMediator.getModelClasses();
+        for (Class<? extends RealmModel> clazz : preloadClasses) {
+            if (!modelClasses.contains(clazz)) {
+                throw new IllegalStateException("'preload()' contains a class that is not part of the schema: "
+                        + clazz.getSimpleName());
+            }
+        }
+    }
+
     // Checks if this configuration is a SyncConfiguration instance.
     protected boolean isSyncConfiguration() {
         return false;
     }
 
     protected static RealmConfiguration forRecovery(String canonicalPath, @Nullable byte[] encryptionKey, RealmProxyMediator schemaMediator) {
-        return new RealmConfiguration(new File(canonicalPath),null, encryptionKey, 0, null, false, OsRealmConfig.Durability.FULL, schemaMediator, null, null, null, true, null, true, Long.MAX_VALUE, false, true);
+        return new RealmConfiguration(new File(canonicalPath),null, encryptionKey, 0, null, false, OsRealmConfig.Durability.FULL, schemaMediator, null, null, null, true, null, true, Long.MAX_VALUE, false, true, null, 0, Collections.<Class<? extends RealmModel>>emptySet(), false, false);
     }
 
     /**
@@ -517,6 +625,11 @@ public class RealmConfiguration {
         private long maxNumberOfActiveVersions = Long.MAX_VALUE;
         private boolean allowWritesOnUiThread;
         private boolean allowQueriesOnUiThread;
+        private BackgroundCompactionPolicy backgroundCompactionPolicy;
+        private long encryptedPageCacheSize;
+        private LinkedHashSet<Class<? extends RealmModel>> preloadClasses = new LinkedHashSet<Class<? extends RealmModel>>();
+        private boolean traceSections;
+        private boolean storeSchemaFingerprint;
 
         /**
          * Creates an instance of the Builder for the RealmConfiguration.
@@ -549,6 +662,8 @@ public class RealmConfiguration {
             this.durability = OsRealmConfig.Durability.FULL;
             this.readOnly = false;
             this.compactOnLaunch = null;
+            this.backgroundCompactionPolicy = null;
+            this.encryptedPageCacheSize = 0;
             if (DEFAULT_MODULE != null) {
                 this.modules.add(DEFAULT_MODULE);
             }
@@ -835,6 +950,98 @@ public class RealmConfiguration {
             return this;
         }
 
+        /**
+         * Sets a policy for compacting the Realm file in the background. The policy is checked on a background thread
+         * each time the last instance of the Realm in this process has been closed for a while, so long-running
+         * processes can reclaim free space without being restarted. See {@link BackgroundCompactionPolicy} for
+         * details.
+         *
+         * @param policy the policy deciding when the file is compacted.
+         */
+        public Builder backgroundCompaction(BackgroundCompactionPolicy policy) {
+            //noinspection ConstantConditions
+            if (policy == null) {
+                throw new IllegalArgumentException("A non-null policy must be provided");
+            }
+            this.backgroundCompactionPolicy = policy;
+            return this;
+        }
+
+        /**
+         * Sets the target size of the cache holding decrypted pages of encrypted Realms. Pages of an encrypted Realm
+         * are decrypted into memory when read, and kept around until memory pressure makes Realm reclaim them. A larger
+         * cache avoids decrypting the same pages repeatedly, while a smaller one reduces the memory footprint.
+         * <p>
+         * The cache is shared by all encrypted Realms in the process, so the size set by the most recently opened
+         * encrypted Realm is the one being used, and opening one without a size restores the default. Requires {@link #encryptionKey(byte[])} to be set as well.
+         *
+         * @param bytes the target size of the cache in bytes, or {@code 0} to use the default size.
+         * @see Realm#getEncryptionMetrics()
+         */
+        public Builder encryptedPageCacheSize(long bytes) {
+            if (bytes < 0) {
+                throw new IllegalArgumentException("Only non-negative sizes are allowed: " + bytes);
+            }
+            this.encryptedPageCacheSize = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the model classes whose data should be preloaded when the Realm is opened with
+         * {@link Realm#getInstanceAsync(RealmConfiguration, Realm.Callback)}. After the Realm has been opened on the
+         * background thread, the stored values of all fields of these classes are read once, so the pages of the
+         * memory-mapped file backing them are resident before the first queries run on the caller thread. See
+         * {@link Realm#warmUp(Class, String...)} for warming up selected fields on demand.
+         *
+         * @param firstClass the first class to preload.
+         * @param additionalClasses additional classes to preload.
+         */
+        public Builder preload(Class<? extends RealmModel> firstClass, Class<? extends RealmModel>... additionalClasses) {
+            //noinspection ConstantConditions
+            if (firstClass == null) {
+                throw new IllegalArgumentException("A non-null class must be provided");
+            }
+            preloadClasses.add(firstClass);
+            //noinspection ConstantConditions
+            if (additionalClasses != null) {
+                Collections.addAll(preloadClasses, additionalClasses);
+            }
+            return this;
+        }
+
+        /**
+         * Emits sections to the Android system trace around Realm's hot paths, e.g. transactions, refreshes, query
+         * evaluation, change listener dispatch, {@code copyToRealm()}/{@code insert()}, migrations and compaction, so
+         * Realm work shows up in Perfetto and systrace captures. Sections are also emitted from the native layer.
+         * <p>
+         * Tracing is process wide and is enabled when the first Realm with this option is opened. It can also be
+         * enabled by setting the {@code io.realm.trace} system property to {@code true} before calling
+         * {@link Realm#init(Context)}. Disabled tracing costs a single flag check on each of these paths.
+         *
+         * @param enabled {@code true} to emit trace sections, {@code false} otherwise.
+         */
+        public Builder traceSections(boolean enabled) {
+            this.traceSections = enabled;
+            return this;
+        }
+
+        /**
+         * Stores a fingerprint of the schema in the Realm file after the schema has been validated, so later opens
+         * with an unchanged schema can skip building and comparing the expected schema. Storing the fingerprint adds
+         * an internal table to the file and a write transaction to the open that validates the schema.
+         * <p>
+         * The validation is only skipped if no model class in the schema renames classes or fields with
+         * {@link io.realm.annotations.RealmClass} or {@link io.realm.annotations.RealmField}, or declares
+         * {@link io.realm.annotations.LinkingObjects} fields, since those are not part of the schema stored in the
+         * file. Read-only, in-memory and synchronized Realms always validate the schema.
+         *
+         * @param enabled {@code true} to store the schema fingerprint, {@code false} otherwise.
+         */
+        public Builder storeSchemaFingerprint(boolean enabled) {
+            this.storeSchemaFingerprint = enabled;
+            return this;
+        }
+
         /**
          * Sets the maximum number of live versions in the Realm file before an {@link IllegalStateException} is thrown when
          * attempting to write more data.
@@ -933,6 +1140,13 @@ public class RealmConfiguration {
                 if (compactOnLaunch != null) {
                     throw new IllegalStateException("'compactOnLaunch()' and read-only Realms cannot be combined");
                 }
+                if (backgroundCompactionPolicy != null) {
+                    throw new IllegalStateException("'backgroundCompaction()' and read-only Realms cannot be combined");
+                }
+            }
+
+            if (encryptedPageCacheSize > 0 && key == null) {
+                throw new IllegalStateException("'encryptedPageCacheSize()' requires an 'encryptionKey()' to be set.");
             }
 
             if (rxFactory == null && Util.isRxJavaAvailable()) {
@@ -943,6 +1157,9 @@ public class RealmConfiguration {
                 flowFactory = new RealmFlowFactory(true);
             }
 
+            RealmProxyMediator schemaMediator = createSchemaMediator(modules, debugSchema, excludeDebugSchema);
+            checkPreloadClasses(schemaMediator, preloadClasses);
+
             return new RealmConfiguration(new File(directory, fileName),
                     assetFilePath,
                     key,
@@ -950,7 +1167,7 @@ public class RealmConfiguration {
                     migration,
                     deleteRealmIfMigrationNeeded,
                     durability,
-                    createSchemaMediator(modules, debugSchema, excludeDebugSchema),
+                    schemaMediator,
                     rxFactory,
                     flowFactory,
                     initialDataTransaction,
@@ -959,7 +1176,12 @@ public class RealmConfiguration {
                     false,
                     maxNumberOfActiveVersions,
                     allowWritesOnUiThread,
-                    allowQueriesOnUiThread
+                    allowQueriesOnUiThread,
+                    backgroundCompactionPolicy,
+                    encryptedPageCacheSize,
+                    Collections.unmodifiableSet(new LinkedHashSet<Class<? extends RealmModel>>(preloadClasses)),
+                    traceSections,
+                    storeSchemaFingerprint
             );
         }
 
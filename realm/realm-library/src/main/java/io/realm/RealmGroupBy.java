@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.Locale;
+
+import io.realm.internal.Table;
+import io.realm.internal.TableQuery;
+
+/**
+ * A {@code RealmGroupBy} groups the objects matched by a {@link RealmQuery} on the value of a field and computes an
+ * aggregate for each group. Grouping and aggregation are done in a single pass in native code, so no objects are
+ * materialized on the Java side.
+ * <p>
+ * Instances are obtained through {@link RealmQuery#groupBy(String)} or
+ * {@link RealmQuery#groupBy(String, long, java.util.concurrent.TimeUnit)}:
+ * <pre>
+ * {@code
+ * RealmGroupedResults totals = realm.where(Order.class)
+ *     .equalTo("status", "shipped")
+ *     .groupBy("customer.country")
+ *     .sum("amount");
+ * }
+ * </pre>
+ *
+ * @see RealmGroupedResults
+ */
+public final class RealmGroupBy {
+
+    private static final String TYPE_MISMATCH = "Field '%s': type mismatch - %s expected.";
+
+    private final BaseRealm realm;
+    private final TableQuery query;
+    private final RealmObjectSchema schema;
+    private final long[] keyPath;
+    private final RealmFieldType keyType;
+    private final long dateBucketMillis;
+
+    RealmGroupBy(BaseRealm realm, TableQuery query, RealmObjectSchema schema, long[] keyPath,
+            RealmFieldType keyType, long dateBucketMillis) {
+        this.realm = realm;
+        this.query = query;
+        this.schema = schema;
+        this.keyPath = keyPath;
+        this.keyType = keyType;
+        this.dateBucketMillis = dateBucketMillis;
+    }
+
+    /**
+     * Counts the number of objects in each group.
+     *
+     * @return the number of objects in each group. The value of each group is the same as its count.
+     * @throws io.realm.exceptions.RealmException if called from the UI thread after opting out via {@link RealmConfiguration.Builder#allowQueriesOnUiThread(boolean)}.
+     */
+    public RealmGroupedResults count() {
+        return aggregate(-1, TableQuery.GROUP_BY_COUNT);
+    }
+
+    /**
+     * Calculates the sum of a given field for each group.
+     * Does not support dotted field notation.
+     *
+     * @param fieldName the field to sum. Only int, float and double fields are supported.
+     * @return the sum of the field for each group. {@code null} values are ignored. The exact sums of integer fields
+     * are available from {@link RealmGroupedResults#getLongValue(int)}.
+     * @throws IllegalArgumentException if the field is not a supported number type.
+     * @throws io.realm.exceptions.RealmException if called from the UI thread after opting out via {@link RealmConfiguration.Builder#allowQueriesOnUiThread(boolean)}.
+     */
+    public RealmGroupedResults sum(String fieldName) {
+        return aggregate(getAndCheckValueColumnKey(fieldName), TableQuery.GROUP_BY_SUM);
+    }
+
+    /**
+     * Calculates the average of a given field for each group.
+     * Does not support dotted field notation.
+     *
+     * @param fieldName the field to calculate the average on. Only int, float and double fields are supported.
+     * @return the average of the field for each group. {@code null} values are ignored and a group where all values
+     * are {@code null} has the average {@code 0}.
+     * @throws IllegalArgumentException if the field is not a supported number type.
+     * @throws io.realm.exceptions.RealmException if called from the UI thread after opting out via {@link RealmConfiguration.Builder#allowQueriesOnUiThread(boolean)}.
+     */
+    public RealmGroupedResults average(String fieldName) {
+        return aggregate(getAndCheckValueColumnKey(fieldName), TableQuery.GROUP_BY_AVERAGE);
+    }
+
+    /**
+     * Finds the minimum value of a given field for each group.
+     * Does not support dotted field notation.
+     *
+     * @param fieldName the field to look for the minimum on. Only int, float and double fields are supported.
+     * @return the minimum of the field for each group. {@code null} values are ignored and a group where all values
+     * are {@code null} has the minimum {@link Double#NaN}.
+     * @throws IllegalArgumentException if the field is not a supported number type.
+     * @throws io.realm.exceptions.RealmException if called from the UI thread after opting out via {@link RealmConfiguration.Builder#allowQueriesOnUiThread(boolean)}.
+     */
+    public RealmGroupedResults min(String fieldName) {
+        return aggregate(getAndCheckValueColumnKey(fieldName), TableQuery.GROUP_BY_MINIMUM);
+    }
+
+    /**
+     * Finds the maximum value of a given field for each group.
+     * Does not support dotted field notation.
+     *
+     * @param fieldName the field to look for the maximum on. Only int, float and double fields are supported.
+     * @return the maximum of the field for each group. {@code null} values are ignored and a group where all values
+     * are {@code null} has the maximum {@link Double#NaN}.
+     * @throws IllegalArgumentException if the field is not a supported number type.
+     * @throws io.realm.exceptions.RealmException if called from the UI thread after opting out via {@link RealmConfiguration.Builder#allowQueriesOnUiThread(boolean)}.
+     */
+    public RealmGroupedResults max(String fieldName) {
+        return aggregate(getAndCheckValueColumnKey(fieldName), TableQuery.GROUP_BY_MAXIMUM);
+    }
+
+    private long getAndCheckValueColumnKey(String fieldName) {
+        realm.checkIfValid();
+        long columnKey = schema.getAndCheckFieldColumnKey(fieldName);
+        Table table = schema.getTable();
+        switch (table.getColumnType(columnKey)) {
+            case INTEGER:
+            case FLOAT:
+            case DOUBLE:
+                return columnKey;
+            default:
+                throw new IllegalArgumentException(String.format(Locale.US,
+                        TYPE_MISMATCH, fieldName, "int, float or double"));
+        }
+    }
+
+    private RealmGroupedResults aggregate(long valueColumnKey, int aggregate) {
+        realm.checkIfValid();
+        realm.checkAllowQueriesOnUiThread();
+
+        Object[] result = query.groupBy(keyPath, valueColumnKey, aggregate, dateBucketMillis);
+        return new RealmGroupedResults(keyType, result[0], (double[]) result[1], (long[]) result[2],
+                (Boolean) result[3], (long[]) result[4]);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import javax.annotation.Nullable;
+
+/**
+ * The result of a {@link RealmGroupBy} aggregation.
+ * <p>
+ * The groups are sorted by their key in ascending order with the {@code null} group, if any, first. Keys and values
+ * are kept in primitive arrays, so reading them does not allocate any objects except for {@link Date} and
+ * {@link String} keys.
+ * <p>
+ * A {@code RealmGroupedResults} is a snapshot computed when the aggregation was run. It is not live and can be
+ * passed freely between threads.
+ */
+public final class RealmGroupedResults {
+
+    private final RealmFieldType keyType;
+    @Nullable
+    private final long[] longKeys;
+    @Nullable
+    private final String[] stringKeys;
+    private final double[] values;
+    @Nullable
+    private final long[] longValues;
+    private final long[] counts;
+    private final boolean hasNullKey;
+
+    RealmGroupedResults(RealmFieldType keyType, Object keys, double[] values, long[] counts, boolean hasNullKey,
+            @Nullable long[] longValues) {
+        this.keyType = keyType;
+        this.longKeys = (keys instanceof long[]) ? (long[]) keys : null;
+        this.stringKeys = (keys instanceof String[]) ? (String[]) keys : null;
+        this.values = values;
+        this.longValues = longValues;
+        this.counts = counts;
+        this.hasNullKey = hasNullKey;
+    }
+
+    /**
+     * Returns the number of groups.
+     *
+     * @return the number of groups.
+     */
+    public int size() {
+        return counts.length;
+    }
+
+    /**
+     * Returns the type of the field the objects were grouped on.
+     *
+     * @return the type of the grouping field.
+     */
+    public RealmFieldType getKeyType() {
+        return keyType;
+    }
+
+    /**
+     * Checks if the key of a group is {@code null}. Objects with a {@code null} value, or a {@code null} link along
+     * the grouping key path, are placed in the {@code null} group.
+     *
+     * @param index the index of the group.
+     * @return {@code true} if the key of the group is {@code null}.
+     */
+    public boolean isNullKey(int index) {
+        checkIndex(index);
+        return hasNullKey && index == 0;
+    }
+
+    /**
+     * Returns the key of a group that was grouped on an integer field.
+     *
+     * @param index the index of the group.
+     * @return the key of the group.
+     * @throws IllegalStateException if the grouping field is not an integer field or the key is {@code null}.
+     */
+    public long getLongKey(int index) {
+        checkKey(index, RealmFieldType.INTEGER);
+        //noinspection ConstantConditions
+        return longKeys[index];
+    }
+
+    /**
+     * Returns the key of a group that was grouped on a boolean field.
+     *
+     * @param index the index of the group.
+     * @return the key of the group.
+     * @throws IllegalStateException if the grouping field is not a boolean field or the key is {@code null}.
+     */
+    public boolean getBooleanKey(int index) {
+        checkKey(index, RealmFieldType.BOOLEAN);
+        //noinspection ConstantConditions
+        return longKeys[index] != 0;
+    }
+
+    /**
+     * Returns the key of a group that was grouped on a {@link String} field.
+     *
+     * @param index the index of the group.
+     * @return the key of the group or {@code null} for the {@code null} group.
+     * @throws IllegalStateException if the grouping field is not a {@link String} field.
+     */
+    @Nullable
+    public String getStringKey(int index) {
+        checkIndex(index);
+        checkKeyType(RealmFieldType.STRING);
+        //noinspection ConstantConditions
+        return stringKeys[index];
+    }
+
+    /**
+     * Returns the key of a group that was grouped on a {@link Date} field. When the objects were grouped in buckets
+     * this is the start of the bucket.
+     *
+     * @param index the index of the group.
+     * @return the key of the group or {@code null} for the {@code null} group.
+     * @throws IllegalStateException if the grouping field is not a {@link Date} field.
+     */
+    @Nullable
+    public Date getDateKey(int index) {
+        checkIndex(index);
+        checkKeyType(RealmFieldType.DATE);
+        if (isNullKey(index)) {
+            return null;
+        }
+        //noinspection ConstantConditions
+        return new Date(longKeys[index]);
+    }
+
+    /**
+     * Returns the aggregated value of a group. Sums, minimums and maximums of integer fields beyond 2^53 lose
+     * precision as a {@code double}, use {@link #getLongValue(int)} for those.
+     *
+     * @param index the index of the group.
+     * @return the aggregated value of the group.
+     */
+    public double getValue(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Returns the exact aggregated value of a group for the sum, minimum or maximum of an integer field. The minimum
+     * and maximum of a group where all values are {@code null} is {@code 0}.
+     *
+     * @param index the index of the group.
+     * @return the aggregated value of the group.
+     * @throws IllegalStateException if the aggregate is not the sum, minimum or maximum of an integer field.
+     */
+    public long getLongValue(int index) {
+        checkIndex(index);
+        if (longValues == null) {
+            throw new IllegalStateException("Only the sum, minimum and maximum of integer fields have long values.");
+        }
+        return longValues[index];
+    }
+
+    /**
+     * Returns the number of objects in a group.
+     *
+     * @param index the index of the group.
+     * @return the number of objects in the group.
+     */
+    public long getCount(int index) {
+        checkIndex(index);
+        return counts[index];
+    }
+
+    /**
+     * Returns a copy of the aggregated values of all groups, in group order.
+     *
+     * @return the aggregated values.
+     */
+    public double[] getValues() {
+        return Arrays.copyOf(values, values.length);
+    }
+
+    /**
+     * Returns a copy of the number of objects in all groups, in group order.
+     *
+     * @return the number of objects in each group.
+     */
+    public long[] getCounts() {
+        return Arrays.copyOf(counts, counts.length);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= counts.length) {
+            throw new IndexOutOfBoundsException("Group index " + index + " is out of range [0, " + counts.length + ").");
+        }
+    }
+
+    private void checkKeyType(RealmFieldType expected) {
+        if (keyType != expected) {
+            throw new IllegalStateException("Groups are keyed on " + keyType + ", not " + expected + ".");
+        }
+    }
+
+    private void checkKey(int index, RealmFieldType expected) {
+        checkIndex(index);
+        checkKeyType(expected);
+        if (isNullKey(index)) {
+            throw new IllegalStateException("The key of group " + index + " is null.");
+        }
+    }
+}
@@ -1043,6 +1043,28 @@ public class RealmList<E> extends AbstractList<E> implements OrderedRealmCollect
         osListOperator.getOsList().addListener(this, listener);
     }
 
+    /**
+     * Limits how many changes a change set delivered to {@link OrderedRealmCollectionChangeListener}s may describe.
+     * If the deleted, inserted and modified indices of an update add up to more than {@code limit}, listeners
+     * receive a change set where {@link OrderedCollectionChangeSet#isReloadRequired()} returns {@code true} instead.
+     * This avoids describing bulk updates of large collections index by index when the consumer will reload the
+     * whole collection anyway.
+     *
+     * @param limit the maximum number of changed indices, or {@code 0} to always deliver all changes.
+     * @throws IllegalArgumentException if {@code limit} is negative.
+     * @throws UnsupportedOperationException if the list is unmanaged.
+     */
+    public void setChangeSetLimit(int limit) {
+        if (!isManaged()) {
+            throw new UnsupportedOperationException(ONLY_IN_MANAGED_MODE_MESSAGE);
+        }
+        checkValidRealm();
+        if (limit < 0) {
+            throw new IllegalArgumentException("Only non-negative limits are allowed: " + limit);
+        }
+        osListOperator.getOsList().setChangeSetLimit(limit);
+    }
+
     /**
      * Removes the specified change listener.
      *
@@ -18,17 +18,27 @@ package io.realm;
 
 import android.app.IntentService;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Collections;
+import java.util.Locale;
 
 import javax.annotation.Nullable;
 
 import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.realm.annotations.RealmClass;
+import io.realm.internal.ColumnValueInputStream;
+import io.realm.internal.ColumnValueOutputStream;
 import io.realm.internal.InvalidRow;
 import io.realm.internal.ManageableObject;
 import io.realm.internal.RealmObjectProxy;
 import io.realm.internal.Row;
+import io.realm.internal.Table;
+import io.realm.internal.UncheckedRow;
+import io.realm.log.LogCategory;
+import io.realm.log.LogLevel;
 import io.realm.log.RealmLog;
 import io.realm.rx.ObjectChange;
 
@@ -124,6 +134,165 @@ public abstract class RealmObject implements RealmModel, ManageableObject {
         proxy.realmGet$proxyState().setRow$realm(InvalidRow.INSTANCE);
     }
 
+    /**
+     * Opens a stream over the value of a binary field, or the UTF-8 encoding of a string field, that reads the value
+     * from the Realm file in chunks instead of copying all of it to the Java heap.
+     *
+     * @param fieldName the name of a binary or string field.
+     * @return a stream over the value. It is empty if the value is {@code null}.
+     * @throws IllegalArgumentException if the field does not exist or is not a binary or string field.
+     * @throws IllegalStateException if the object is not managed or not valid.
+     * @see #openInputStream(RealmModel, String)
+     */
+    public final InputStream openInputStream(String fieldName) {
+        return openInputStream(this, fieldName);
+    }
+
+    /**
+     * Opens a stream over the value of a binary field, or the UTF-8 encoding of a string field, that reads the value
+     * from the Realm file in chunks instead of copying all of it to the Java heap.
+     * <p>
+     * The stream reads the current value each time and must be used on the thread of the object's Realm. Using it
+     * from another thread, after the Realm is closed or after the object is deleted throws an
+     * {@link IllegalStateException}.
+     *
+     * @param object the object to read from.
+     * @param fieldName the name of a binary or string field.
+     * @return a stream over the value. It is empty if the value is {@code null}.
+     * @throws IllegalArgumentException if the field does not exist or is not a binary or string field.
+     * @throws IllegalStateException if the object is not managed or not valid.
+     */
+    public static <E extends RealmModel> InputStream openInputStream(E object, String fieldName) {
+        return (InputStream) openChannel(object, fieldName);
+    }
+
+    /**
+     * Opens a channel over the value of a binary field, or the UTF-8 encoding of a string field. Reading into a
+     * direct {@link java.nio.ByteBuffer} copies the bytes straight from the Realm file into the buffer.
+     *
+     * @param fieldName the name of a binary or string field.
+     * @return a channel over the value.
+     * @throws IllegalArgumentException if the field does not exist or is not a binary or string field.
+     * @throws IllegalStateException if the object is not managed or not valid.
+     * @see #openChannel(RealmModel, String)
+     */
+    public final ReadableByteChannel openChannel(String fieldName) {
+        return openChannel(this, fieldName);
+    }
+
+    /**
+     * Opens a channel over the value of a binary field, or the UTF-8 encoding of a string field. Reading into a
+     * direct {@link java.nio.ByteBuffer} copies the bytes straight from the Realm file into the buffer.
+     * <p>
+     * The channel reads the current value each time and must be used on the thread of the object's Realm. Using it
+     * from another thread, after the Realm is closed or after the object is deleted throws an
+     * {@link IllegalStateException}.
+     *
+     * @param object the object to read from.
+     * @param fieldName the name of a binary or string field.
+     * @return a channel over the value.
+     * @throws IllegalArgumentException if the field does not exist or is not a binary or string field.
+     * @throws IllegalStateException if the object is not managed or not valid.
+     */
+    public static <E extends RealmModel> ReadableByteChannel openChannel(E object, String fieldName) {
+        final Row row = getValidRow(object);
+        final BaseRealm realm = ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm();
+        long columnKey = getStreamColumnKey(object, fieldName, row);
+        return new ColumnValueInputStream(row, columnKey) {
+            @Override
+            protected void checkValid() {
+                checkStreamedRow(realm, row);
+            }
+        };
+    }
+
+    /**
+     * Opens a stream that replaces the value of a binary field with the bytes written to it. See
+     * {@link #openOutputStream(RealmModel, String)}.
+     *
+     * @param fieldName the name of a binary field.
+     * @return a stream that stores the written bytes in the field when it is closed.
+     * @throws IllegalArgumentException if the field does not exist or is not a binary field.
+     * @throws IllegalStateException if the object is not managed or not valid, or if called outside a write
+     * transaction.
+     */
+    public final OutputStream openOutputStream(String fieldName) {
+        return openOutputStream(this, fieldName);
+    }
+
+    /**
+     * Opens a stream that replaces the value of a binary field with the bytes written to it. The bytes are buffered
+     * outside of the Java heap and stored in the field when the stream is closed, so a large value can be written
+     * in chunks without ever holding all of it in a single {@code byte[]}.
+     * <p>
+     * The stream must be closed before the write transaction it was opened in is committed. Like the stream returned
+     * by {@link #openInputStream(RealmModel, String)} it throws an {@link IllegalStateException} when used from
+     * another thread, after the Realm is closed or after the object is deleted.
+     *
+     * @param object the object to write to.
+     * @param fieldName the name of a binary field.
+     * @return a stream that stores the written bytes in the field when it is closed.
+     * @throws IllegalArgumentException if the field does not exist or is not a binary field.
+     * @throws IllegalStateException if the object is not managed or not valid, or if called outside a write
+     * transaction.
+     */
+    public static <E extends RealmModel> OutputStream openOutputStream(E object, String fieldName) {
+        final Row row = getValidRow(object);
+        final BaseRealm realm = ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm();
+        realm.checkIfInTransaction();
+        long columnKey = getStreamColumnKey(object, fieldName, row);
+        return new ColumnValueOutputStream((UncheckedRow) row, columnKey) {
+            @Override
+            protected void checkValid() {
+                checkStreamedRow(realm, row);
+                realm.checkIfInTransaction();
+            }
+        };
+    }
+
+    // Streams outlive the call that opened them, so every read and write checks the Realm and the row again, like
+    // the accessors of managed objects do.
+    private static void checkStreamedRow(BaseRealm realm, Row row) {
+        realm.checkIfValid();
+        if (!row.isValid()) {
+            throw new IllegalStateException("The object is no longer valid.");
+        }
+    }
+
+    private static <E extends RealmModel> Row getValidRow(E object) {
+        if (!(object instanceof RealmObjectProxy)) {
+            throw new IllegalStateException("Only managed objects can be streamed.");
+        }
+        ProxyState<?> proxyState = ((RealmObjectProxy) object).realmGet$proxyState();
+        proxyState.getRealm$realm().checkIfValid();
+        Row row = proxyState.getRow$realm();
+        if (!(row instanceof UncheckedRow) || !row.isValid()) {
+            throw new IllegalStateException("The object is not valid or its query has not completed yet.");
+        }
+        return row;
+    }
+
+    private static <E extends RealmModel> long getStreamColumnKey(E object, String fieldName, Row row) {
+        long columnKey;
+        if (object instanceof DynamicRealmObject) {
+            columnKey = row.getColumnKey(fieldName);
+            if (columnKey == Table.NO_MATCH) {
+                throw new IllegalArgumentException("Field does not exist: " + fieldName);
+            }
+        } else {
+            BaseRealm realm = ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm();
+            //noinspection unchecked
+            columnKey = realm.getSchema().getSchemaForClass((Class<? extends RealmModel>) object.getClass())
+                    .getAndCheckFieldColumnKey(fieldName);
+        }
+        RealmFieldType type = row.getColumnType(columnKey);
+        if (type != RealmFieldType.BINARY && type != RealmFieldType.STRING) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "Field '%s' is a %s field, only binary and string fields can be streamed.", fieldName, type));
+        }
+        return columnKey;
+    }
+
 
     /**
      * Checks if the RealmObject is still valid to use i.e., the RealmObject hasn't been deleted nor has the
@@ -684,7 +853,8 @@ public abstract class RealmObject implements RealmModel, ManageableObject {
             RealmObjectProxy proxy = (RealmObjectProxy) object;
             BaseRealm realm = proxy.realmGet$proxyState().getRealm$realm();
             if (realm.isClosed()) {
-                RealmLog.warn("Calling removeChangeListener on a closed Realm %s, " +
+                RealmLog.log(LogCategory.NOTIFICATIONS, LogLevel.WARN, null,
+                        "Calling removeChangeListener on a closed Realm %s, " +
                         "make sure to close all listeners before closing the Realm.", realm.configuration.getPath());
             }
             //noinspection unchecked
@@ -725,7 +895,8 @@ public abstract class RealmObject implements RealmModel, ManageableObject {
             RealmObjectProxy proxy = (RealmObjectProxy) object;
             BaseRealm realm = proxy.realmGet$proxyState().getRealm$realm();
             if (realm.isClosed()) {
-                RealmLog.warn("Calling removeChangeListener on a closed Realm %s, " +
+                RealmLog.log(LogCategory.NOTIFICATIONS, LogLevel.WARN, null,
+                        "Calling removeChangeListener on a closed Realm %s, " +
                         "make sure to close all listeners before closing the Realm.", realm.configuration.getPath());
             }
             proxy.realmGet$proxyState().removeAllChangeListeners();
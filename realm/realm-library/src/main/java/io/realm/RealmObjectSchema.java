@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -394,7 +395,47 @@ public abstract class RealmObjectSchema {
     }
 
     /**
-     * Removes an index from a given field. This is the same as removing the {@code @Index} annotation on the field.
+     * Adds a full-text index to a given field. This is the equivalent of adding the
+     * {@link io.realm.annotations.FullText} annotation on the field.
+     *
+     * @param fieldName field to add the full-text index to.
+     * @return the updated schema.
+     * @throws IllegalArgumentException if field name doesn't exist or the field is not a {@code String} field.
+     * @throws IllegalArgumentException if the Realm Core version used does not support full-text indexes.
+     * @throws IllegalStateException if the field already has an index defined.
+     * @throws UnsupportedOperationException if this {@link RealmObjectSchema} is immutable.
+     */
+    public abstract RealmObjectSchema addFullTextIndex(String fieldName);
+
+    /**
+     * Checks if a given field has a full-text index defined.
+     *
+     * @param fieldName existing field name to check.
+     * @return {@code true} if field has a full-text index, {@code false} otherwise.
+     * @throws IllegalArgumentException if field name doesn't exist.
+     * @see io.realm.annotations.FullText
+     */
+    public boolean hasFullTextIndex(String fieldName) {
+        checkLegalName(fieldName);
+        checkFieldExists(fieldName);
+        return table.hasFullTextIndex(table.getColumnKey(fieldName));
+    }
+
+    /**
+     * Returns the compound index hints declared on the model class using {@link io.realm.annotations.CompoundIndexHint}.
+     * <p>
+     * The hints are metadata only. Realm does not create or maintain an index for them, and they are not stored in the
+     * Realm file, so the schemas returned by a {@link DynamicRealm} will always return an empty list.
+     *
+     * @return a list with the internal field names of each hint, in the order they were declared.
+     */
+    public List<List<String>> getCompoundIndexHints() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Removes an index from a given field. This is the same as removing the {@code @Index} or
+     * {@code @FullText} annotation on the field.
      *
      * @param fieldName field to remove index from.
      * @return the updated schema.
@@ -548,6 +589,68 @@ public abstract class RealmObjectSchema {
      */
     public abstract RealmObjectSchema transform(Function function);
 
+    /**
+     * Copies the value of one field into another field for all objects of this class. Both fields must be of the same
+     * type, and neither can be a link or a collection. The copy is done in a single native call, so this is much
+     * faster than doing the same with {@link #transform(Function)}.
+     *
+     * @param fromFieldName the name of the field to copy from.
+     * @param toFieldName the name of the field to copy to.
+     * @return this schema.
+     * @throws IllegalArgumentException if a field doesn't exist, the types don't match or are not supported, or
+     * {@code toFieldName} is the primary key.
+     * @throws UnsupportedOperationException if this {@link RealmObjectSchema} is immutable.
+     */
+    public abstract RealmObjectSchema copyField(String fromFieldName, String toFieldName);
+
+    /**
+     * Sets a field to the same value for all objects of this class. The values are written in batches as described in
+     * {@link #transformColumns(String[], BatchFunction)}.
+     *
+     * @param fieldName the name of the field to set.
+     * @param value the value to set, or {@code null}. See {@link ColumnBatch.Column#set(int, Object)} for the accepted
+     * types.
+     * @return this schema.
+     * @throws IllegalArgumentException if the field doesn't exist, is the primary key, is of a type not supported by
+     * {@link ColumnBatch} or the value cannot be stored in it.
+     * @throws UnsupportedOperationException if this {@link RealmObjectSchema} is immutable.
+     */
+    public abstract RealmObjectSchema setAll(String fieldName, @Nullable Object value);
+
+    /**
+     * Changes the type of a field, converting its values with the given converter. The converter is called with
+     * batches of the current values and must fill in the converted values. Any search index on the field is kept, and
+     * if the field was required it must not contain {@code null} values after the conversion.
+     * <p>
+     * Both the current and the new type must be supported by {@link ColumnBatch}.
+     *
+     * @param fieldName the name of the field to convert.
+     * @param newType the new type of the field.
+     * @param converter the converter called for each batch of objects.
+     * @return this schema.
+     * @throws IllegalArgumentException if the field doesn't exist, is the primary key or a type isn't supported.
+     * @throws IllegalStateException if the field is required and the converter left {@code null} values.
+     * @throws UnsupportedOperationException if this {@link RealmObjectSchema} is immutable.
+     */
+    public abstract RealmObjectSchema convertField(String fieldName, RealmFieldType newType, FieldConverter converter);
+
+    /**
+     * Runs a transformation function on the values of the given fields of all objects of this class. Instead of
+     * being called for each object, the function is called with a {@link ColumnBatch} holding the values of a range of
+     * objects, which are read and written back in a single native call each. This makes migrations of large classes
+     * scale with the number of fields instead of the number of objects times the number of fields.
+     * <p>
+     * Values can be computed from other fields by including both the source and target fields. Only values which
+     * have been set by the function are written back.
+     *
+     * @param fieldNames the names of the fields to include in each batch.
+     * @param function the function called for each batch of objects.
+     * @return this schema.
+     * @throws IllegalArgumentException if a field doesn't exist or is of a type not supported by {@link ColumnBatch}.
+     * @throws UnsupportedOperationException if this {@link RealmObjectSchema} is immutable.
+     */
+    public abstract RealmObjectSchema transformColumns(String[] fieldNames, BatchFunction function);
+
     /**
      * Returns the type used by the underlying storage engine to represent this field.
      *
@@ -667,6 +770,25 @@ public abstract class RealmObjectSchema {
         void apply(DynamicRealmObject obj);
     }
 
+    /**
+     * Function interface, used when traversing the objects of the current class in batches.
+     *
+     * @see #transformColumns(String[], BatchFunction)
+     */
+    public interface BatchFunction {
+        void apply(ColumnBatch batch);
+    }
+
+    /**
+     * Converter interface, used when changing the type of a field. The converter must set the value of each object in
+     * {@code target} from the value at the same index in {@code source}.
+     *
+     * @see #convertField(String, RealmFieldType, FieldConverter)
+     */
+    public interface FieldConverter {
+        void convert(ColumnBatch.Column source, ColumnBatch.Column target);
+    }
+
     /**
      * Returns the column index in the underlying table for the given field name.
      * <b>FOR TESTING USE ONLY!</b>
@@ -25,6 +25,7 @@ import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -36,6 +37,7 @@ import io.realm.internal.OsResults;
 import io.realm.internal.OsSet;
 import io.realm.internal.PendingRow;
 import io.realm.internal.RealmObjectProxy;
+import io.realm.internal.RealmTrace;
 import io.realm.internal.Row;
 import io.realm.internal.Table;
 import io.realm.internal.TableQuery;
@@ -76,6 +78,8 @@ public class RealmQuery<E> {
     private String className;
     private final boolean forValues;
     private final OsCollection osCollection;
+    private boolean restrictedToResults;
+    private int parallelism = 1;
 
     private static final String PRIMITIVE_LISTS_NOT_SUPPORTED_ERROR_MESSAGE = "Queries on primitive lists are not yet supported";
     private static final String TYPE_MISMATCH = "Field '%s': type mismatch - %s expected.";
@@ -167,6 +171,7 @@ public class RealmQuery<E> {
             this.table = queryResults.getTable();
             this.osCollection = null;
             this.query = queryResults.getOsResults().where();
+            this.restrictedToResults = true;
         }
     }
 
@@ -218,6 +223,7 @@ public class RealmQuery<E> {
         this.table = schema.getTable();
         this.query = queryResults.getOsResults().where();
         this.osCollection = null;
+        this.restrictedToResults = true;
     }
 
     private RealmQuery(BaseRealm realm, OsList osList, String className) {
@@ -1865,6 +1871,27 @@ public class RealmQuery<E> {
         return this;
     }
 
+    /**
+     * Condition that the value of a field with a full-text index matches the specified search terms. The field must
+     * be annotated with {@link io.realm.annotations.FullText} or have been given a full-text index using
+     * {@link RealmObjectSchema#addFullTextIndex(String)}.
+     * <p>
+     * The terms are split on whitespace and all of them must be present in the field for an object to match. Terms
+     * are matched case-insensitively against whole words. A term prefixed with {@code -} excludes objects
+     * containing that word, e.g. {@code "realm -java"}.
+     *
+     * @param fieldName the field to search.
+     * @param terms     the words to search for.
+     * @return the query object.
+     * @throws java.lang.IllegalArgumentException if the field does not have a full-text index.
+     */
+    public RealmQuery<E> textSearch(String fieldName, String terms) {
+        Util.checkNull(terms, "terms");
+        realm.checkIfValid();
+        this.query.textSearch(realm.getSchema().getKeyPathMapping(), fieldName, RealmAny.valueOf(terms));
+        return this;
+    }
+
     /**
      * Begin grouping of conditions ("left parenthesis"). A group must be closed with a call to {@code endGroup()}.
      *
@@ -2208,10 +2235,13 @@ public class RealmQuery<E> {
         long columnKey = schema.getAndCheckFieldColumnKey(fieldName);
         switch (table.getColumnType(columnKey)) {
             case INTEGER:
+                if (isParallel()) { return query.parallelAggregateInt(columnKey, TableQuery.AGGREGATE_SUM, parallelism)[0]; }
                 return query.sumInt(columnKey);
             case FLOAT:
+                if (isParallel()) { return query.parallelAggregateDouble(columnKey, TableQuery.AGGREGATE_SUM, parallelism)[0]; }
                 return query.sumFloat(columnKey);
             case DOUBLE:
+                if (isParallel()) { return query.parallelAggregateDouble(columnKey, TableQuery.AGGREGATE_SUM, parallelism)[0]; }
                 return query.sumDouble(columnKey);
             case DECIMAL128:
                 return query.sumDecimal128(columnKey);
@@ -2241,11 +2271,20 @@ public class RealmQuery<E> {
         long columnIndex = schema.getAndCheckFieldColumnKey(fieldName);
         switch (table.getColumnType(columnIndex)) {
             case INTEGER:
+                if (isParallel()) {
+                    long[] aggregates = query.parallelAggregateInt(columnIndex, TableQuery.AGGREGATE_AVERAGE, parallelism);
+                    return aggregates[1] == 0 ? 0 : (double) aggregates[0] / aggregates[1];
+                }
                 return query.averageInt(columnIndex);
             case DOUBLE:
-                return query.averageDouble(columnIndex);
             case FLOAT:
-                return query.averageFloat(columnIndex);
+                if (isParallel()) {
+                    double[] aggregates = query.parallelAggregateDouble(columnIndex, TableQuery.AGGREGATE_AVERAGE, parallelism);
+                    return aggregates[1] == 0 ? 0 : aggregates[0] / aggregates[1];
+                }
+                return table.getColumnType(columnIndex) == RealmFieldType.DOUBLE
+                        ? query.averageDouble(columnIndex)
+                        : query.averageFloat(columnIndex);
             default:
                 throw new IllegalArgumentException(String.format(Locale.US,
                         TYPE_MISMATCH, fieldName, "int, float or double. For Decimal128 use `averageDecimal128` method."));
@@ -2308,10 +2347,13 @@ public class RealmQuery<E> {
         long columnIndex = schema.getAndCheckFieldColumnKey(fieldName);
         switch (table.getColumnType(columnIndex)) {
             case INTEGER:
+                if (isParallel()) { return parallelExtremum(columnIndex, RealmFieldType.INTEGER, TableQuery.AGGREGATE_MINIMUM); }
                 return this.query.minimumInt(columnIndex);
             case FLOAT:
+                if (isParallel()) { return parallelExtremum(columnIndex, RealmFieldType.FLOAT, TableQuery.AGGREGATE_MINIMUM); }
                 return this.query.minimumFloat(columnIndex);
             case DOUBLE:
+                if (isParallel()) { return parallelExtremum(columnIndex, RealmFieldType.DOUBLE, TableQuery.AGGREGATE_MINIMUM); }
                 return this.query.minimumDouble(columnIndex);
             case DECIMAL128:
                 return this.query.minimumDecimal128(columnIndex);
@@ -2376,10 +2418,13 @@ public class RealmQuery<E> {
         long columnIndex = schema.getAndCheckFieldColumnKey(fieldName);
         switch (table.getColumnType(columnIndex)) {
             case INTEGER:
+                if (isParallel()) { return parallelExtremum(columnIndex, RealmFieldType.INTEGER, TableQuery.AGGREGATE_MAXIMUM); }
                 return this.query.maximumInt(columnIndex);
             case FLOAT:
+                if (isParallel()) { return parallelExtremum(columnIndex, RealmFieldType.FLOAT, TableQuery.AGGREGATE_MAXIMUM); }
                 return this.query.maximumFloat(columnIndex);
             case DOUBLE:
+                if (isParallel()) { return parallelExtremum(columnIndex, RealmFieldType.DOUBLE, TableQuery.AGGREGATE_MAXIMUM); }
                 return this.query.maximumDouble(columnIndex);
             case DECIMAL128:
                 return this.query.maximumDecimal128(columnIndex);
@@ -2424,6 +2469,89 @@ public class RealmQuery<E> {
         return new RealmAny(RealmAnyOperator.fromNativeRealmAny(realm, this.query.maximumRealmAny(columnIndex)));
     }
 
+    /**
+     * Groups the objects matching the query on the value of a field. Use the returned {@link RealmGroupBy} to
+     * compute an aggregate for each group, e.g. {@code groupBy("customer.country").sum("amount")}.
+     * <p>
+     * The grouping field can be reached through to-one links using dotted field notation. Objects where the field
+     * is {@code null}, or where a link along the path is {@code null}, are placed in a single {@code null} group.
+     *
+     * @param fieldName the field to group on. Only int, boolean, String and Date fields are supported.
+     * @return a {@link RealmGroupBy} used to compute the aggregates.
+     * @throws IllegalArgumentException if the field does not exist, is not a supported type or the path contains a
+     * field that is not a to-one link.
+     */
+    public RealmGroupBy groupBy(String fieldName) {
+        return groupBy(fieldName, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Groups the objects matching the query on a Date field, putting all dates in the same time bucket in the same
+     * group. The key of each group is the start of its bucket, counted from the epoch, e.g.
+     * {@code groupBy("createdAt", 1, TimeUnit.HOURS)} groups objects per hour.
+     *
+     * @param fieldName the field to group on. The field can be reached through to-one links using dotted field
+     * notation. If {@code bucketSize} is {@code 0} only int, boolean, String and Date fields are supported,
+     * otherwise it must be a Date field.
+     * @param bucketSize the size of the buckets, or {@code 0} to group on exact values.
+     * @param unit the unit of {@code bucketSize}.
+     * @return a {@link RealmGroupBy} used to compute the aggregates.
+     * @throws IllegalArgumentException if the field does not exist, is not a supported type, the path contains a
+     * field that is not a to-one link or the bucket size is negative.
+     */
+    public RealmGroupBy groupBy(String fieldName, long bucketSize, TimeUnit unit) {
+        realm.checkIfValid();
+        //noinspection ConstantConditions
+        if (unit == null) {
+            throw new IllegalArgumentException("Non-null 'unit' required.");
+        }
+        if (bucketSize < 0) {
+            throw new IllegalArgumentException("The bucket size must not be negative: " + bucketSize);
+        }
+        long bucketMillis = unit.toMillis(bucketSize);
+        if (bucketSize > 0 && bucketMillis == 0) {
+            throw new IllegalArgumentException("The bucket size must be at least one millisecond.");
+        }
+
+        String[] fieldNames = fieldName.split("\\.", -1);
+        long[] keyPath = new long[fieldNames.length];
+        RealmObjectSchema currentSchema = schema;
+        Table currentTable = table;
+        RealmFieldType keyType = null;
+        for (int i = 0; i < fieldNames.length; i++) {
+            long columnKey = currentSchema.getAndCheckFieldColumnKey(fieldNames[i]);
+            RealmFieldType columnType = currentTable.getColumnType(columnKey);
+            keyPath[i] = columnKey;
+            if (i < fieldNames.length - 1) {
+                if (columnType != RealmFieldType.OBJECT) {
+                    throw new IllegalArgumentException(String.format(Locale.US,
+                            TYPE_MISMATCH, fieldNames[i], "a to-one link"));
+                }
+                currentTable = currentTable.getLinkTarget(columnKey);
+                currentSchema = realm.getSchema().get(currentTable.getClassName());
+            } else {
+                keyType = columnType;
+            }
+        }
+
+        switch (keyType) {
+            case INTEGER:
+            case BOOLEAN:
+            case STRING:
+                if (bucketMillis > 0) {
+                    throw new IllegalArgumentException(String.format(Locale.US,
+                            TYPE_MISMATCH, fieldName, "Date when grouping in buckets"));
+                }
+                break;
+            case DATE:
+                break;
+            default:
+                throw new IllegalArgumentException(String.format(Locale.US,
+                        TYPE_MISMATCH, fieldName, "int, boolean, String or Date"));
+        }
+        return new RealmGroupBy(realm, query, schema, keyPath, keyType, bucketMillis);
+    }
+
     /**
      * Counts the number of objects that fulfill the query conditions.
      *
@@ -2440,9 +2568,32 @@ public class RealmQuery<E> {
         // some queries constructs, like doing distinct is not easily supported this way.
         // In order to get the best of both worlds we thus need to create a Java RealmResults object
         // and then directly access the `Results` class from Object Store.
+        // Parallel queries are opted into explicitly, so they accept skipping those side effects.
+        if (isParallel()) {
+            return query.parallelCount(parallelism);
+        }
         return lazyFindAll().size();
     }
 
+    private boolean isParallel() {
+        // Queries on collections are restricted to the objects in the collection, which cannot be partitioned by
+        // table position, so they are always evaluated on the calling thread.
+        return parallelism > 1 && osCollection == null && !restrictedToResults;
+    }
+
+    @Nullable
+    private Number parallelExtremum(long columnKey, RealmFieldType type, int aggregate) {
+        if (type == RealmFieldType.INTEGER) {
+            long[] aggregates = query.parallelAggregateInt(columnKey, aggregate, parallelism);
+            return aggregates[1] == 0 ? null : aggregates[0];
+        }
+        double[] aggregates = query.parallelAggregateDouble(columnKey, aggregate, parallelism);
+        if (aggregates[1] == 0) {
+            return null;
+        }
+        return (type == RealmFieldType.FLOAT) ? (Number) (float) aggregates[0] : (Number) aggregates[0];
+    }
+
     /**
      * Finds all objects that fulfill the query conditions.
      * <p>
@@ -2462,7 +2613,43 @@ public class RealmQuery<E> {
     public RealmResults<E> findAll() {
         realm.checkIfValid();
         realm.checkAllowQueriesOnUiThread();
-        return createRealmResults(query, true);
+        boolean traced = RealmTrace.beginSection("RealmQuery.findAll");
+        try {
+            return createRealmResults(query, true);
+        } finally {
+            RealmTrace.endSection(traced);
+        }
+    }
+
+    /**
+     * Finds a single page of the objects that fulfill the query conditions, e.g. to show a sorted feed one page
+     * at a time. A limit of {@code offset + size} is added to the query, so the query engine stops sorting and
+     * collecting objects once the requested page is filled, and the rows of the page are fetched in a single
+     * native call.
+     * <p>
+     * The limit only applies to the returned page, and this query is not changed. Because of the limit the returned page has no next page. To page through the results of one query use
+     * {@link RealmResults#page(int, int)} on {@link #findAll()} instead.
+     *
+     * @param offset the number of matching objects to skip.
+     * @param size the maximum number of objects in the page.
+     * @return the requested page. It is empty if fewer than {@code offset + 1} objects match the query.
+     * @throws IllegalArgumentException if {@code offset} is negative or {@code size} is less than 1.
+     * @throws RealmException if called from the UI thread after opting out via {@link RealmConfiguration.Builder#allowQueriesOnUiThread(boolean)}.
+     * @see RealmResults#page(int, int)
+     */
+    public PagedRealmResults<E> findPage(int offset, int size) {
+        realm.checkIfValid();
+        realm.checkAllowQueriesOnUiThread();
+        if (offset < 0) {
+            throw new IllegalArgumentException("Only non-negative offsets are allowed: " + offset);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Only page sizes above 0 are allowed: " + size);
+        }
+        // The limit only applies to the page, so it is added to a copy and this query can still be reused.
+        TableQuery pageQuery = query.copy();
+        pageQuery.limit((long) offset + size);
+        return createRealmResults(pageQuery, true).page(offset, size);
     }
 
     /**
@@ -2490,7 +2677,9 @@ public class RealmQuery<E> {
     public RealmResults<E> findAllAsync() {
         realm.checkIfValid();
         realm.sharedRealm.capabilities.checkCanDeliverNotification(ASYNC_QUERY_WRONG_THREAD_MESSAGE);
-        return createRealmResults(query, false);
+        RealmResults<E> results = createRealmResults(query, false);
+        results.getOsResults().beginAsyncQueryTraceSection();
+        return results;
     }
 
     /**
@@ -2594,6 +2783,42 @@ public class RealmQuery<E> {
         return this;
     }
 
+    /**
+     * Evaluates {@link #count()}, {@link #sum(String)}, {@link #average(String)}, {@link #min(String)} and
+     * {@link #max(String)} on all available processors. See {@link #parallel(int)}.
+     *
+     * @return the query object.
+     */
+    public RealmQuery<E> parallel() {
+        return parallel(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Evaluates {@link #count()}, {@link #sum(String)}, {@link #average(String)}, {@link #min(String)} and
+     * {@link #max(String)} by splitting the objects of the table in up to {@code threadCount} partitions that are
+     * evaluated concurrently and merging the partial results. All partitions see the same version of the Realm as
+     * the calling thread.
+     * <p>
+     * This mainly pays off for predicates that cannot use an index on tables with hundreds of thousands of objects.
+     * Small tables, queries inside a write transaction and queries on {@link RealmResults}, {@link RealmList} or
+     * {@link RealmSet} are always evaluated on the calling thread, as are the {@code find*} methods.
+     * <p>
+     * {@link #count()} on a parallel query counts the objects directly instead of creating a {@link RealmResults},
+     * so it does not create a subscription for the query on synchronized Realms.
+     *
+     * @param threadCount the maximum number of threads to use. {@code 1} disables parallel evaluation.
+     * @return the query object.
+     * @throws IllegalArgumentException if {@code threadCount} is less than 1.
+     */
+    public RealmQuery<E> parallel(int threadCount) {
+        realm.checkIfValid();
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Only positive numbers of threads are allowed: " + threadCount);
+        }
+        this.parallelism = threadCount;
+        return this;
+    }
+
     /**
      * Limits the number of objects returned in case the query matched more objects.
      * <p>
@@ -2665,6 +2890,9 @@ public class RealmQuery<E> {
      * // Sub queries
      * query.rawPredicate("SUBQUERY(children, $child, $child.age > 21 AND $child.gender = 'male').@count > 0");
      *
+     * // Full-text search on fields with a full-text index
+     * query.rawPredicate("description TEXT 'lazy dog -fox'");
+     *
      * // Sort, Distinct, Limit
      * query.rawPredicate("name = 'Jane' SORT(lastName ASC) DISTINCT(city) LIMIT(5)");
      *
@@ -38,6 +38,8 @@ import io.realm.internal.Table;
 import io.realm.internal.UncheckedRow;
 import io.realm.internal.Util;
 import io.realm.internal.android.JsonUtils;
+import io.realm.log.LogCategory;
+import io.realm.log.LogLevel;
 import io.realm.log.RealmLog;
 import io.realm.rx.CollectionChange;
 
@@ -613,6 +615,54 @@ public class RealmResults<E> extends OrderedRealmCollectionImpl<E> {
         }
     }
 
+    /**
+     * Returns a window of {@code size} objects starting at {@code offset}. The rows of the page are fetched in a
+     * single native call instead of one call per object.
+     *
+     * @param offset the position of the first object of the page.
+     * @param size the maximum number of objects in the page.
+     * @return the page. It is empty if {@code offset} is beyond the end of the results.
+     * @throws IllegalArgumentException if {@code offset} is negative or {@code size} is less than 1.
+     * @throws UnsupportedOperationException if the results contain primitive values instead of objects.
+     * @see PagedRealmResults
+     */
+    public PagedRealmResults<E> page(int offset, int size) {
+        baseRealm.checkIfValid();
+        if (offset < 0) {
+            throw new IllegalArgumentException("Only non-negative offsets are allowed: " + offset);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Only page sizes above 0 are allowed: " + size);
+        }
+        if (operator instanceof PrimitiveValueOperator) {
+            throw new UnsupportedOperationException("Paging is only supported for results containing objects.");
+        }
+        return new PagedRealmResults<>(this, offset, size);
+    }
+
+    /**
+     * Reads the values of a string field of all objects in the results as their stored UTF-8 encoding. The values are
+     * copied in a single native call and are not converted to UTF-16 {@link String}s.
+     *
+     * @param fieldName the name of the string field to read.
+     * @return the values in the order of the results.
+     * @throws IllegalArgumentException if the field does not exist or is not a string field.
+     * @throws UnsupportedOperationException if the results contain primitive values instead of objects.
+     * @see RealmUtf8Strings
+     */
+    public RealmUtf8Strings readStringsUtf8(String fieldName) {
+        checkNonEmptyFieldName(fieldName);
+        baseRealm.checkIfValid();
+        if (operator instanceof PrimitiveValueOperator) {
+            throw new UnsupportedOperationException("Reading fields is only supported for results containing objects.");
+        }
+        fieldName = mapFieldNameToInternalName(fieldName);
+        checkType(fieldName, RealmFieldType.STRING);
+        long columnKey = osResults.getTable().getColumnKey(fieldName);
+        Object[] values = osResults.getStringsUtf8(columnKey);
+        return new RealmUtf8Strings((byte[]) values[0], (int[]) values[1], (boolean[]) values[2]);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -734,6 +784,24 @@ public class RealmResults<E> extends OrderedRealmCollectionImpl<E> {
         osResults.addListener(this, listener);
     }
 
+    /**
+     * Limits how many changes a change set delivered to {@link OrderedRealmCollectionChangeListener}s may describe.
+     * If the deleted, inserted and modified indices of an update add up to more than {@code limit}, listeners
+     * receive a change set where {@link OrderedCollectionChangeSet#isReloadRequired()} returns {@code true} instead.
+     * This avoids describing bulk updates of large collections index by index when the consumer will reload the
+     * whole collection anyway.
+     *
+     * @param limit the maximum number of changed indices, or {@code 0} to always deliver all changes.
+     * @throws IllegalArgumentException if {@code limit} is negative.
+     */
+    public void setChangeSetLimit(int limit) {
+        baseRealm.checkIfValid();
+        if (limit < 0) {
+            throw new IllegalArgumentException("Only non-negative limits are allowed: " + limit);
+        }
+        osResults.setChangeSetLimit(limit);
+    }
+
     private void checkForAddListener(@Nullable Object listener) {
         if (listener == null) {
             throw new IllegalArgumentException("Listener should not be null");
@@ -748,7 +816,8 @@ public class RealmResults<E> extends OrderedRealmCollectionImpl<E> {
         }
 
         if (baseRealm.isClosed()) {
-            RealmLog.warn("Calling removeChangeListener on a closed Realm %s, " +
+            RealmLog.log(LogCategory.NOTIFICATIONS, LogLevel.WARN, null,
+                    "Calling removeChangeListener on a closed Realm %s, " +
                     "make sure to close all listeners before closing the Realm.", baseRealm.configuration.getPath());
         }
     }
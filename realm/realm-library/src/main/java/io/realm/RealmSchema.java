@@ -17,6 +17,7 @@
 package io.realm;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -197,7 +198,9 @@ public abstract class RealmSchema {
         }
         if (classSchema == null) {
             Table table = getTable(clazz);
-            classSchema = new ImmutableRealmObjectSchema(realm, this, table, getColumnInfo(originalClass));
+            List<List<String>> compoundIndexHints = realm.getConfiguration().getSchemaMediator()
+                    .getExpectedObjectSchemaInfo(originalClass).getCompoundIndexHints();
+            classSchema = new ImmutableRealmObjectSchema(realm, this, table, getColumnInfo(originalClass), compoundIndexHints);
             classToSchema.put(originalClass, classSchema);
         }
         if (isProxyClass(originalClass, clazz)) {
@@ -0,0 +1,374 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import io.realm.internal.OsSharedRealm;
+import io.realm.internal.Table;
+
+/**
+ * Describes where the bytes of a Realm file go, see {@link Realm#getStorageStats(RealmConfiguration)}.
+ * <p>
+ * The file level numbers are exact. The per class numbers are the sizes of the stored values and an estimate of the
+ * search indexes, they don't include the overhead of the B+trees storing them, so they don't add up to the used size
+ * of the file.
+ */
+public final class RealmStorageStats {
+
+    // Each search index entry refers to an object by its 64 bit key.
+    private static final long INDEX_ENTRY_BYTES = 8;
+
+    private final long totalBytes;
+    private final long usedBytes;
+    private final long lockedBytes;
+    private final long numberOfVersions;
+    private final Map<String, ClassStats> classes;
+
+    private RealmStorageStats(long[] fileStats, long numberOfVersions, Map<String, ClassStats> classes) {
+        this.totalBytes = fileStats[OsSharedRealm.STORAGE_STATS_TOTAL_BYTES];
+        this.usedBytes = fileStats[OsSharedRealm.STORAGE_STATS_USED_BYTES];
+        this.lockedBytes = fileStats[OsSharedRealm.STORAGE_STATS_LOCKED_BYTES];
+        this.numberOfVersions = numberOfVersions;
+        this.classes = Collections.unmodifiableMap(classes);
+    }
+
+    // Reads the statistics of the version the given Realm is at.
+    static RealmStorageStats compute(OsSharedRealm sharedRealm) {
+        String[] tableNames = sharedRealm.getTablesNames();
+        Arrays.sort(tableNames);
+        Map<String, ClassStats> classes = new LinkedHashMap<>();
+        for (String tableName : tableNames) {
+            String className = Table.getClassNameForTable(tableName);
+            //noinspection ConstantConditions
+            if (className.equals(tableName)) {
+                // Not a table backing a model class.
+                continue;
+            }
+            classes.put(className, ClassStats.compute(className, sharedRealm.getTable(tableName)));
+        }
+        return new RealmStorageStats(sharedRealm.getStorageStats(), sharedRealm.getNumberOfVersions(), classes);
+    }
+
+    /**
+     * Returns the size of the Realm file.
+     *
+     * @return the size in bytes.
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Returns the number of bytes of the file used by the latest version, including search indexes and, for
+     * synchronized Realms, the synchronization history.
+     *
+     * @return the used size in bytes.
+     */
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Returns the size of the free list, i.e. the number of bytes of the file that are not in use. They are reused by
+     * later writes and can be reclaimed with {@link Realm#compactRealm(RealmConfiguration)}.
+     *
+     * @return the free size in bytes.
+     */
+    public long getFreeBytes() {
+        return totalBytes - usedBytes;
+    }
+
+    /**
+     * Returns the part of the free list that cannot be reused yet because older versions are still being read, see
+     * {@link RealmVersionDiagnostics}.
+     *
+     * @return the locked size in bytes.
+     */
+    public long getLockedBytes() {
+        return lockedBytes;
+    }
+
+    /**
+     * Returns the number of versions of the file that are currently kept alive.
+     *
+     * @return the number of active versions.
+     */
+    public long getNumberOfVersions() {
+        return numberOfVersions;
+    }
+
+    /**
+     * Returns the statistics of all classes, ordered by class name.
+     *
+     * @return the statistics of all classes.
+     */
+    public Collection<ClassStats> getClasses() {
+        return classes.values();
+    }
+
+    /**
+     * Returns the statistics of a class.
+     *
+     * @param className the name of the class.
+     * @return the statistics of the class, or {@code null} if the file doesn't contain it.
+     */
+    @Nullable
+    public ClassStats getClassStats(String className) {
+        return classes.get(className);
+    }
+
+    @Override
+    public String toString() {
+        return "RealmStorageStats{totalBytes=" + totalBytes
+                + ", usedBytes=" + usedBytes
+                + ", freeBytes=" + getFreeBytes()
+                + ", lockedBytes=" + lockedBytes
+                + ", numberOfVersions=" + numberOfVersions
+                + ", classes=" + classes.values()
+                + "}";
+    }
+
+    /**
+     * The storage statistics of a class.
+     */
+    public static final class ClassStats {
+        private final String className;
+        private final long count;
+        private final Map<String, FieldStats> fields;
+
+        private ClassStats(String className, long count, Map<String, FieldStats> fields) {
+            this.className = className;
+            this.count = count;
+            this.fields = Collections.unmodifiableMap(fields);
+        }
+
+        private static ClassStats compute(String className, Table table) {
+            String[] columnNames = table.getColumnNames();
+            long[] columnKeys = new long[columnNames.length];
+            for (int i = 0; i < columnNames.length; i++) {
+                columnKeys[i] = table.getColumnKey(columnNames[i]);
+            }
+            long count = table.size();
+            long[] stats = table.getColumnStorageStats(columnKeys);
+
+            Map<String, FieldStats> fields = new LinkedHashMap<>();
+            for (int i = 0; i < columnNames.length; i++) {
+                int offset = i * Table.COLUMN_STATS_SIZE;
+                boolean indexed = table.hasSearchIndex(columnKeys[i]);
+                fields.put(columnNames[i], new FieldStats(
+                        columnNames[i],
+                        table.getColumnType(columnKeys[i]),
+                        stats[offset + Table.COLUMN_STATS_VALUE_BYTES],
+                        stats[offset + Table.COLUMN_STATS_UNIQUE_VALUE_BYTES],
+                        stats[offset + Table.COLUMN_STATS_ENUMERATED] != 0,
+                        indexed,
+                        indexed ? count * INDEX_ENTRY_BYTES : 0));
+            }
+            return new ClassStats(className, count, fields);
+        }
+
+        /**
+         * Returns the name of the class.
+         *
+         * @return the class name.
+         */
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * Returns the number of objects of the class.
+         *
+         * @return the number of objects.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the statistics of all persisted fields of the class.
+         *
+         * @return the statistics of all fields.
+         */
+        public List<FieldStats> getFields() {
+            return new ArrayList<>(fields.values());
+        }
+
+        /**
+         * Returns the statistics of a field.
+         *
+         * @param fieldName the internal name of the field.
+         * @return the statistics of the field, or {@code null} if the class doesn't have it.
+         */
+        @Nullable
+        public FieldStats getFieldStats(String fieldName) {
+            return fields.get(fieldName);
+        }
+
+        /**
+         * Returns the number of bytes taken by the stored values of all fields.
+         *
+         * @return the size in bytes.
+         */
+        public long getValueBytes() {
+            long bytes = 0;
+            for (FieldStats field : fields.values()) {
+                bytes += field.getValueBytes();
+            }
+            return bytes;
+        }
+
+        /**
+         * Returns the estimated number of bytes taken by the search indexes of all fields.
+         *
+         * @return the size in bytes.
+         */
+        public long getIndexBytes() {
+            long bytes = 0;
+            for (FieldStats field : fields.values()) {
+                bytes += field.getIndexBytes();
+            }
+            return bytes;
+        }
+
+        @Override
+        public String toString() {
+            return "ClassStats{className='" + className + "'"
+                    + ", count=" + count
+                    + ", fields=" + fields.values()
+                    + "}";
+        }
+    }
+
+    /**
+     * The storage statistics of a field.
+     */
+    public static final class FieldStats {
+        private final String name;
+        private final RealmFieldType type;
+        private final long valueBytes;
+        private final long uniqueValueBytes;
+        private final boolean enumerated;
+        private final boolean indexed;
+        private final long indexBytes;
+
+        private FieldStats(String name, RealmFieldType type, long valueBytes, long uniqueValueBytes,
+                           boolean enumerated, boolean indexed, long indexBytes) {
+            this.name = name;
+            this.type = type;
+            this.valueBytes = valueBytes;
+            this.uniqueValueBytes = uniqueValueBytes;
+            this.enumerated = enumerated;
+            this.indexed = indexed;
+            this.indexBytes = indexBytes;
+        }
+
+        /**
+         * Returns the internal name of the field.
+         *
+         * @return the field name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the type of the field.
+         *
+         * @return the field type.
+         */
+        public RealmFieldType getType() {
+            return type;
+        }
+
+        /**
+         * Returns the number of bytes taken by the stored values of the field. Links and lists of links count 8 bytes
+         * per referenced object.
+         *
+         * @return the size in bytes.
+         */
+        public long getValueBytes() {
+            return valueBytes;
+        }
+
+        /**
+         * Returns whether the field has a search index.
+         *
+         * @return {@code true} if the field is indexed, {@code false} otherwise.
+         */
+        public boolean isIndexed() {
+            return indexed;
+        }
+
+        /**
+         * Returns the estimated number of bytes taken by the search index of the field, based on one entry per object.
+         *
+         * @return the size in bytes, or {@code 0} if the field isn't indexed.
+         */
+        public long getIndexBytes() {
+            return indexBytes;
+        }
+
+        /**
+         * Returns whether the values of a string field are stored enumerated, i.e. each distinct value only once.
+         *
+         * @return {@code true} if the field is enumerated, {@code false} otherwise.
+         */
+        public boolean isEnumerated() {
+            return enumerated;
+        }
+
+        /**
+         * Returns the number of bytes taken by the distinct values of a string field.
+         *
+         * @return the size in bytes, or {@code -1} if the field isn't a string field.
+         */
+        public long getUniqueValueBytes() {
+            return uniqueValueBytes;
+        }
+
+        /**
+         * Returns the ratio between the size of all values and the size of the distinct values of a string field.
+         * Fields with a high ratio have few distinct values, which enumerated storage keeps only once.
+         *
+         * @return the compression ratio, or {@code 1} for fields which aren't string fields or have no values.
+         */
+        public double getCompressionRatio() {
+            return (uniqueValueBytes > 0) ? (double) valueBytes / uniqueValueBytes : 1;
+        }
+
+        @Override
+        public String toString() {
+            return "FieldStats{name='" + name + "'"
+                    + ", type=" + type
+                    + ", valueBytes=" + valueBytes
+                    + ", indexed=" + indexed
+                    + ", indexBytes=" + indexBytes
+                    + ", enumerated=" + enumerated
+                    + ", uniqueValueBytes=" + uniqueValueBytes
+                    + "}";
+        }
+    }
+}
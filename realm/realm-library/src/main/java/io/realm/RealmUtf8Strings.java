@@ -0,0 +1,269 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.realm;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import javax.annotation.Nullable;
+
+/**
+ * The values of a string field of all objects in a {@link RealmResults}, kept as their stored UTF-8 encoding.
+ * <p>
+ * The values are copied out of Realm in a single native call and are never converted to UTF-16, which makes this a
+ * cheap way of hashing, comparing or writing a large number of strings to a UTF-8 sink. {@link #getString(int)}
+ * decodes a value when a {@link String} is needed after all.
+ * <p>
+ * A {@code RealmUtf8Strings} is a snapshot taken when {@link RealmResults#readStringsUtf8(String)} was called. It is
+ * not live and can be passed freely between threads.
+ */
+public final class RealmUtf8Strings {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final byte[] data;
+    private final int[] offsets;
+    private final boolean[] nulls;
+
+    RealmUtf8Strings(byte[] data, int[] offsets, boolean[] nulls) {
+        this.data = data;
+        this.offsets = offsets;
+        this.nulls = nulls;
+    }
+
+    /**
+     * Returns the number of values.
+     *
+     * @return the number of values.
+     */
+    public int size() {
+        return nulls.length;
+    }
+
+    /**
+     * Checks if a value is {@code null}.
+     *
+     * @param index the index of the value.
+     * @return {@code true} if the value is {@code null}.
+     */
+    public boolean isNull(int index) {
+        checkIndex(index);
+        return nulls[index];
+    }
+
+    /**
+     * Returns the length in bytes of the UTF-8 encoding of a value.
+     *
+     * @param index the index of the value.
+     * @return the number of bytes, or {@code -1} if the value is {@code null}.
+     */
+    public int getByteLength(int index) {
+        checkIndex(index);
+        return nulls[index] ? -1 : offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * Returns a copy of the UTF-8 encoding of a value.
+     *
+     * @param index the index of the value.
+     * @return the UTF-8 bytes, or {@code null} if the value is {@code null}.
+     */
+    @Nullable
+    public byte[] getBytes(int index) {
+        checkIndex(index);
+        if (nulls[index]) {
+            return null;
+        }
+        byte[] bytes = new byte[offsets[index + 1] - offsets[index]];
+        System.arraycopy(data, offsets[index], bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    /**
+     * Copies the UTF-8 encoding of a value into {@code dst} and advances its position.
+     *
+     * @param index the index of the value.
+     * @param dst the buffer to copy the value into.
+     * @return the number of bytes copied, or {@code -1} if the value is {@code null}.
+     * @throws BufferOverflowException if the remaining space of {@code dst} is too small for the value.
+     */
+    public int copyTo(int index, ByteBuffer dst) {
+        int length = getByteLength(index);
+        if (length > dst.remaining()) {
+            throw new BufferOverflowException();
+        }
+        if (length > 0) {
+            dst.put(data, offsets[index], length);
+        }
+        return length;
+    }
+
+    /**
+     * Writes the UTF-8 encoding of a value to {@code out}. Nothing is written for a {@code null} value.
+     *
+     * @param index the index of the value.
+     * @param out the stream to write to.
+     * @throws IOException if writing to {@code out} fails.
+     */
+    public void writeTo(int index, OutputStream out) throws IOException {
+        int length = getByteLength(index);
+        if (length > 0) {
+            out.write(data, offsets[index], length);
+        }
+    }
+
+    /**
+     * Returns the 64-bit FNV-1a hash of the UTF-8 encoding of a value. This is the same hash as
+     * {@link #hash(byte[], int, int)} returns for the encoded value.
+     *
+     * @param index the index of the value.
+     * @return the hash, or {@code 0} if the value is {@code null}.
+     */
+    public long hash(int index) {
+        int length = getByteLength(index);
+        return (length < 0) ? 0 : hash(data, offsets[index], length);
+    }
+
+    /**
+     * Compares the UTF-8 encoding of a value with {@code utf8} without decoding either of them.
+     *
+     * @param index the index of the value.
+     * @param utf8 the UTF-8 encoded value to compare with, or {@code null}.
+     * @return {@code true} if both values are {@code null} or consist of the same bytes.
+     */
+    public boolean contentEquals(int index, @Nullable byte[] utf8) {
+        int length = getByteLength(index);
+        if (length < 0 || utf8 == null) {
+            return length < 0 && utf8 == null;
+        }
+        if (length != utf8.length) {
+            return false;
+        }
+        int offset = offsets[index];
+        for (int i = 0; i < length; i++) {
+            if (data[offset + i] != utf8[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a {@link CharSequence} for a value. Values consisting only of ASCII characters are returned as a view
+     * reading directly from the UTF-8 bytes, other values are decoded into a {@link String}.
+     *
+     * @param index the index of the value.
+     * @return the view, or {@code null} if the value is {@code null}.
+     */
+    @Nullable
+    public CharSequence getCharSequence(int index) {
+        int length = getByteLength(index);
+        if (length < 0) {
+            return null;
+        }
+        int offset = offsets[index];
+        for (int i = 0; i < length; i++) {
+            if (data[offset + i] < 0) {
+                return new String(data, offset, length, UTF_8);
+            }
+        }
+        return new AsciiSequence(data, offset, length);
+    }
+
+    /**
+     * Decodes a value.
+     *
+     * @param index the index of the value.
+     * @return the value, or {@code null} if the value is {@code null}.
+     */
+    @Nullable
+    public String getString(int index) {
+        int length = getByteLength(index);
+        return (length < 0) ? null : new String(data, offsets[index], length, UTF_8);
+    }
+
+    /**
+     * Returns the 64-bit FNV-1a hash of a range of UTF-8 bytes. The same hash is computed natively by Realm for stored
+     * values, so it can be used to match values read here against values hashed elsewhere.
+     *
+     * @param bytes the bytes to hash.
+     * @param offset the position of the first byte to hash.
+     * @param length the number of bytes to hash.
+     * @return the hash.
+     */
+    public static long hash(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length + ") is out of bounds for length " + bytes.length);
+        }
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = offset; i < offset + length; i++) {
+            hash ^= (bytes[i] & 0xff);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= nulls.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of range [0, " + nulls.length + ").");
+        }
+    }
+
+    private static final class AsciiSequence implements CharSequence {
+        private final byte[] data;
+        private final int offset;
+        private final int length;
+
+        AsciiSequence(byte[] data, int offset, int length) {
+            this.data = data;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index " + index + " is out of range [0, " + length + ").");
+            }
+            return (char) data[offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") is out of bounds for length " + length);
+            }
+            return new AsciiSequence(data, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(data, offset, length, UTF_8);
+        }
+    }
+}
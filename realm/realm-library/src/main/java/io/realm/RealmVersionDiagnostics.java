@@ -0,0 +1,429 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import io.realm.internal.OsSharedRealm;
+import io.realm.log.RealmLog;
+
+/**
+ * Diagnostics for finding the Realm instances that keep old versions of a Realm file alive.
+ * <p>
+ * Every open Realm instance reads a specific version of the Realm file. Space freed by later versions cannot be
+ * reused while an instance still reads an older version, so the file keeps growing. This typically happens when a
+ * background thread opens a Realm and never closes or refreshes it, or when frozen Realms are kept around. It is also
+ * what makes {@link RealmConfiguration.Builder#maxNumberOfActiveVersions(long)} trip.
+ * <p>
+ * {@link #getActiveVersions(RealmConfiguration)} lists the versions read by the {@link Realm} and {@link DynamicRealm}
+ * instances of a file together with the instances holding them, and {@link #startWatchdog(long, TimeUnit)} logs a
+ * warning through {@link RealmLog} when an instance has held an outdated version for too long.
+ * <p>
+ * Tracking is disabled by default and must be turned on with {@link #setEnabled(boolean)}. Only instances opened while
+ * it is enabled are tracked.
+ */
+public final class RealmVersionDiagnostics {
+
+    private static final Set<VersionHolder> holders =
+            Collections.newSetFromMap(new ConcurrentHashMap<VersionHolder, Boolean>());
+
+    private static volatile boolean enabled = false;
+    private static volatile boolean recordStackTraces = false;
+
+    // Guarded by the class lock.
+    @Nullable
+    private static ScheduledExecutorService watchdog;
+
+    private RealmVersionDiagnostics() {
+    }
+
+    /**
+     * Enables or disables tracking the versions read by Realm instances. While enabled, every instance opened
+     * afterwards updates its tracked version whenever it moves to another version, which adds a small cost to
+     * transactions and refreshes. Instances that are already tracked stay tracked until they are closed.
+     *
+     * @param enabled {@code true} to track instances opened from now on, {@code false} otherwise.
+     */
+    public static void setEnabled(boolean enabled) {
+        RealmVersionDiagnostics.enabled = enabled;
+    }
+
+    /**
+     * Returns whether newly opened Realm instances are tracked.
+     *
+     * @return {@code true} if tracking is enabled, {@code false} otherwise.
+     * @see #setEnabled(boolean)
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables recording where Realm instances are opened. When enabled, the stack trace of every
+     * instance opened afterwards is available from {@link VersionHolder#getCreationStackTrace()} and included in the
+     * warnings of the watchdog. Recording stack traces makes opening Realms slower and should only be used while
+     * debugging.
+     *
+     * @param enabled {@code true} to record creation stack traces, {@code false} otherwise.
+     */
+    public static void setRecordStackTraces(boolean enabled) {
+        recordStackTraces = enabled;
+    }
+
+    /**
+     * Returns whether creation stack traces are recorded.
+     *
+     * @return {@code true} if creation stack traces are recorded, {@code false} otherwise.
+     * @see #setRecordStackTraces(boolean)
+     */
+    public static boolean isRecordingStackTraces() {
+        return recordStackTraces;
+    }
+
+    /**
+     * Returns the versions of the Realm file currently read by open Realm instances, oldest version first. Only
+     * instances obtained through {@code Realm.getInstance()}, {@code DynamicRealm.getInstance()} and
+     * {@code freeze()} while tracking was {@link #setEnabled(boolean) enabled} are included.
+     *
+     * @param configuration the configuration of the Realm file.
+     * @return the active versions of the file.
+     */
+    public static List<ActiveVersion> getActiveVersions(RealmConfiguration configuration) {
+        //noinspection ConstantConditions
+        if (configuration == null) {
+            throw new IllegalArgumentException("Non-null 'configuration' required.");
+        }
+        Map<Long, List<VersionHolder>> holdersByVersion = new TreeMap<>();
+        for (VersionHolder holder : holders) {
+            if (!holder.configuration.getPath().equals(configuration.getPath())) {
+                continue;
+            }
+            List<VersionHolder> versionHolders = holdersByVersion.get(holder.version);
+            if (versionHolders == null) {
+                versionHolders = new ArrayList<>();
+                holdersByVersion.put(holder.version, versionHolders);
+            }
+            versionHolders.add(holder);
+        }
+
+        List<ActiveVersion> versions = new ArrayList<>(holdersByVersion.size());
+        for (Map.Entry<Long, List<VersionHolder>> entry : holdersByVersion.entrySet()) {
+            versions.add(new ActiveVersion(entry.getKey(), entry.getValue()));
+        }
+        return versions;
+    }
+
+    /**
+     * Starts a watchdog thread that logs a warning when a Realm instance has held an outdated version for longer
+     * than the given threshold. The warning contains the instance's thread, its creation stack trace if
+     * {@link #setRecordStackTraces(boolean) recorded}, and the number of bytes in the file that cannot be reused while
+     * old versions are held. Each outdated version is reported once per instance.
+     * <p>
+     * Starting the watchdog again replaces the previous threshold.
+     *
+     * @param threshold how long a version may be held after a newer one exists before a warning is logged.
+     * @param unit the unit of {@code threshold}.
+     * @throws IllegalArgumentException if {@code threshold} is not positive.
+     */
+    public static synchronized void startWatchdog(long threshold, TimeUnit unit) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("'threshold' must be positive: " + threshold);
+        }
+        //noinspection ConstantConditions
+        if (unit == null) {
+            throw new IllegalArgumentException("Non-null 'unit' required.");
+        }
+        stopWatchdog();
+
+        final long thresholdMillis = unit.toMillis(threshold);
+        long checkIntervalMillis = Math.max(thresholdMillis / 2, 1);
+        watchdog = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "RealmVersionWatchdog");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            }
+        });
+        watchdog.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    checkActiveVersions(thresholdMillis);
+                } catch (Throwable e) {
+                    RealmLog.warn(e, "Checking the active Realm versions failed.");
+                }
+            }
+        }, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the watchdog started by {@link #startWatchdog(long, TimeUnit)}. Does nothing if it is not running.
+     */
+    public static synchronized void stopWatchdog() {
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+            watchdog = null;
+        }
+    }
+
+    // Registers a Realm instance opened through the RealmCache if tracking is enabled. Must be called on the thread
+    // that opened it.
+    static void register(final BaseRealm realm) {
+        if (!enabled) {
+            return;
+        }
+        final VersionHolder holder = new VersionHolder(realm, recordStackTraces ? new Throwable("Realm opened here") : null);
+        realm.versionHolder = holder;
+        if (!realm.isFrozen()) {
+            // Live instances move to newer versions when they are refreshed, either by auto-refresh or explicitly.
+            realm.sharedRealm.realmNotifier.addChangeListener(holder, new RealmChangeListener<VersionHolder>() {
+                @Override
+                public void onChange(VersionHolder versionHolder) {
+                    versionHolder.update(realm.sharedRealm.getVersionID().version);
+                }
+            });
+        }
+        holders.add(holder);
+    }
+
+    static void unregister(VersionHolder holder) {
+        holders.remove(holder);
+    }
+
+    // Logs a warning for every instance holding an outdated version for longer than the threshold and returns how
+    // many were logged.
+    static int checkActiveVersions(long thresholdMillis) {
+        Map<String, List<VersionHolder>> candidatesByPath = new HashMap<>();
+        for (VersionHolder holder : holders) {
+            if (holder.getPinnedMillis() < thresholdMillis || holder.reportedVersion == holder.version) {
+                continue;
+            }
+            List<VersionHolder> candidates = candidatesByPath.get(holder.configuration.getPath());
+            if (candidates == null) {
+                candidates = new ArrayList<>();
+                candidatesByPath.put(holder.configuration.getPath(), candidates);
+            }
+            candidates.add(holder);
+        }
+
+        int warnings = 0;
+        for (List<VersionHolder> candidates : candidatesByPath.values()) {
+            RealmConfiguration configuration = candidates.get(0).configuration;
+            long latestVersion;
+            long lockedBytes;
+            OsSharedRealm sharedRealm = OsSharedRealm.getInstance(configuration, OsSharedRealm.VersionID.LIVE);
+            try {
+                latestVersion = sharedRealm.getVersionID().version;
+                lockedBytes = sharedRealm.getStorageStats()[OsSharedRealm.STORAGE_STATS_LOCKED_BYTES];
+            } finally {
+                sharedRealm.close();
+            }
+
+            for (VersionHolder holder : candidates) {
+                long version = holder.version;
+                if (version >= latestVersion) {
+                    continue;
+                }
+                holder.reportedVersion = version;
+                warnings++;
+                RealmLog.warn(holder.creationStackTrace,
+                        "%s on thread '%s' has held version %d of '%s' for %d ms. The latest version is %d, and "
+                                + "%d bytes of the file cannot be reused until older versions are released.",
+                        (holder.isDynamic() ? "DynamicRealm" : "Realm") + (holder.isFrozen() ? " (frozen)" : ""),
+                        holder.getThreadName(), version, configuration.getPath(), holder.getPinnedMillis(),
+                        latestVersion, lockedBytes);
+            }
+        }
+        return warnings;
+    }
+
+    /**
+     * A version of a Realm file and the Realm instances reading it.
+     */
+    public static final class ActiveVersion {
+        private final long version;
+        private final List<VersionHolder> holders;
+
+        ActiveVersion(long version, List<VersionHolder> holders) {
+            this.version = version;
+            this.holders = Collections.unmodifiableList(holders);
+        }
+
+        /**
+         * Returns the version number.
+         *
+         * @return the version number.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * Returns the Realm instances reading this version.
+         *
+         * @return the instances holding this version.
+         */
+        public List<VersionHolder> getHolders() {
+            return holders;
+        }
+
+        /**
+         * Returns how long this version has been held, i.e. the longest time any of its holders has read it.
+         *
+         * @return the time in milliseconds.
+         */
+        public long getPinnedMillis() {
+            long pinnedMillis = 0;
+            for (VersionHolder holder : holders) {
+                pinnedMillis = Math.max(pinnedMillis, holder.getPinnedMillis());
+            }
+            return pinnedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "ActiveVersion{version=" + version + ", holders=" + holders + "}";
+        }
+    }
+
+    /**
+     * A Realm instance and the version it reads.
+     */
+    public static final class VersionHolder {
+        private final RealmConfiguration configuration;
+        private final boolean dynamic;
+        private final String threadName;
+        private final boolean frozen;
+        private final long createdAtNanos;
+        @Nullable
+        private final Throwable creationStackTrace;
+        // Written by the thread owning the instance, read by any thread.
+        private volatile long version;
+        private volatile long versionSinceNanos;
+        // Last version reported by the watchdog, only accessed by the watchdog thread.
+        private long reportedVersion = -1;
+
+        VersionHolder(BaseRealm realm, @Nullable Throwable creationStackTrace) {
+            this.configuration = realm.getConfiguration();
+            this.dynamic = realm instanceof DynamicRealm;
+            this.threadName = Thread.currentThread().getName();
+            this.frozen = realm.isFrozen();
+            this.createdAtNanos = System.nanoTime();
+            this.creationStackTrace = creationStackTrace;
+            this.version = realm.sharedRealm.getVersionID().version;
+            this.versionSinceNanos = createdAtNanos;
+        }
+
+        // Called on the thread owning the instance whenever it may have moved to another version.
+        void update(long newVersion) {
+            if (newVersion != version) {
+                versionSinceNanos = System.nanoTime();
+                version = newVersion;
+            }
+        }
+
+        /**
+         * Returns whether the instance is a {@link DynamicRealm} or a {@link Realm}.
+         *
+         * @return {@code true} for a {@link DynamicRealm}, {@code false} for a {@link Realm}.
+         */
+        public boolean isDynamic() {
+            return dynamic;
+        }
+
+        /**
+         * Returns the name of the thread the instance was opened on.
+         *
+         * @return the thread name.
+         */
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * Returns whether the instance is frozen. Frozen instances hold their version until they are closed.
+         *
+         * @return {@code true} if the instance is frozen, {@code false} if it is live.
+         */
+        public boolean isFrozen() {
+            return frozen;
+        }
+
+        /**
+         * Returns the version read by the instance.
+         *
+         * @return the version number.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * Returns how long ago the instance was opened.
+         *
+         * @return the age in milliseconds.
+         */
+        public long getAgeMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - createdAtNanos);
+        }
+
+        /**
+         * Returns how long the instance has been reading its current version.
+         *
+         * @return the time in milliseconds.
+         */
+        public long getPinnedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - versionSinceNanos);
+        }
+
+        /**
+         * Returns where the instance was opened.
+         *
+         * @return the creation stack trace, or {@code null} if it was opened while
+         * {@link #setRecordStackTraces(boolean) recording stack traces} was disabled.
+         */
+        @Nullable
+        public StackTraceElement[] getCreationStackTrace() {
+            return (creationStackTrace != null) ? creationStackTrace.getStackTrace() : null;
+        }
+
+        @Override
+        public String toString() {
+            return "VersionHolder{dynamic=" + dynamic
+                    + ", thread='" + threadName + "'"
+                    + ", frozen=" + frozen
+                    + ", version=" + version
+                    + ", ageMillis=" + getAgeMillis()
+                    + ", pinnedMillis=" + getPinnedMillis()
+                    + "}";
+        }
+    }
+}
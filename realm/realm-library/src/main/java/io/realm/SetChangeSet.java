@@ -39,7 +39,7 @@ public class SetChangeSet {
      * @return the number of insertions.
      */
     public int getNumberOfInsertions() {
-        return osCollectionChangeSet.getInsertions().length;
+        return osCollectionChangeSet.getInsertionCount();
     }
 
     /**
@@ -48,7 +48,7 @@ public class SetChangeSet {
      * @return the number of deletions
      */
     public int getNumberOfDeletions() {
-        return osCollectionChangeSet.getDeletions().length;
+        return osCollectionChangeSet.getDeletionCount();
     }
 
     /**
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+
+import io.realm.log.LogCategory;
+import io.realm.log.LogLevel;
+import io.realm.log.RealmLog;
+
+/**
+ * Calls {@link Realm#trimMemory(int)} when the system asks the app to release memory. Registered by
+ * {@link Realm#init(android.content.Context, boolean)}.
+ * <p>
+ * The callbacks are invoked on the main thread, so trimming is done on a background thread.
+ */
+final class TrimMemoryCallbacks implements ComponentCallbacks2 {
+
+    static final TrimMemoryCallbacks INSTANCE = new TrimMemoryCallbacks();
+
+    private TrimMemoryCallbacks() {
+    }
+
+    @Override
+    public void onTrimMemory(final int level) {
+        BaseRealm.asyncTaskExecutor.submit(new Runnable() {
+            @Override
+            public void run() {
+                TrimMemoryResult result = Realm.trimMemory(level);
+                RealmLog.log(LogCategory.STORAGE, LogLevel.DEBUG, null,
+                        "Trimmed memory for level %d: %s", level, result);
+            }
+        });
+    }
+
+    @Override
+    public void onLowMemory() {
+        onTrimMemory(TRIM_MEMORY_COMPLETE);
+    }
+
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm;
+
+/**
+ * Describes the memory released by {@link Realm#trimMemory(int)}.
+ */
+public final class TrimMemoryResult {
+    private final int releasedFrozenRealms;
+    private final int freedNativeObjects;
+    private final long releasedMappedBytes;
+
+    TrimMemoryResult(int releasedFrozenRealms, int freedNativeObjects, long releasedMappedBytes) {
+        this.releasedFrozenRealms = releasedFrozenRealms;
+        this.freedNativeObjects = freedNativeObjects;
+        this.releasedMappedBytes = releasedMappedBytes;
+    }
+
+    /**
+     * Returns the number of frozen Realms that were released because nothing referenced them anymore.
+     *
+     * @return the number of released frozen Realms.
+     */
+    public int getReleasedFrozenRealms() {
+        return releasedFrozenRealms;
+    }
+
+    /**
+     * Returns the number of native objects whose Java objects were already garbage collected and that were freed
+     * right away instead of by the finalizer thread.
+     *
+     * @return the number of freed native objects.
+     */
+    public int getFreedNativeObjects() {
+        return freedNativeObjects;
+    }
+
+    /**
+     * Returns the number of bytes of memory mapped Realm files that are no longer resident in memory.
+     *
+     * @return the number of released bytes.
+     */
+    public long getReleasedMappedBytes() {
+        return releasedMappedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "TrimMemoryResult{releasedFrozenRealms=" + releasedFrozenRealms
+                + ", freedNativeObjects=" + freedNativeObjects
+                + ", releasedMappedBytes=" + releasedMappedBytes
+                + "}";
+    }
+}
@@ -68,17 +68,13 @@ public abstract class ColumnInfo {
         public final RealmFieldType columnType;
         public final String linkedClassName;
 
-        private ColumnDetails(long columnKey, RealmFieldType columnType, @Nullable String linkedClassName) {
+        ColumnDetails(long columnKey, RealmFieldType columnType, @Nullable String linkedClassName) {
             // invariant: (columnType == OBJECT || columnType == LIST || columnType == LINKING_OBJECTS) == (linkedClassName != null)
             this.columnKey = columnKey;
             this.columnType = columnType;
             this.linkedClassName = linkedClassName;
         }
 
-        ColumnDetails(Property property) {
-            this(property.getColumnKey(), property.getType(), property.getLinkedObjectName());
-        }
-
         @Override
         public String toString() {
             StringBuilder buf = new StringBuilder("ColumnDetails[");
@@ -248,12 +244,11 @@ public abstract class ColumnInfo {
      * @return the index of the column in the table.
      */
     protected final long addColumnDetails(String javaFieldName, String internalColumnName, OsObjectSchemaInfo objectSchemaInfo) {
-        Property property = objectSchemaInfo.getProperty(internalColumnName);
-        ColumnDetails cd = new ColumnDetails(property);
+        ColumnDetails cd = objectSchemaInfo.getColumnDetails(internalColumnName);
         columnkeysFromJavaFieldNames.put(javaFieldName, cd);
         columnKeysFromColumnNames.put(internalColumnName, cd);
         javaFieldNameToInternalNames.put(javaFieldName, internalColumnName);
-        return property.getColumnKey();
+        return cd.columnKey;
     }
 
     /**
@@ -267,7 +262,7 @@ public abstract class ColumnInfo {
      * @param sourceJavaFieldName The name of the backlink source field.
      */
     protected final void addBacklinkDetails(OsSchemaInfo schemaInfo, String javaFieldName, String sourceTableName, String sourceJavaFieldName) {
-        long columnKey = schemaInfo.getObjectSchemaInfo(sourceTableName).getProperty(sourceJavaFieldName).getColumnKey();
+        long columnKey = schemaInfo.getObjectSchemaInfo(sourceTableName).getColumnDetails(sourceJavaFieldName).columnKey;
         columnkeysFromJavaFieldNames.put(javaFieldName, new ColumnDetails(columnKey, RealmFieldType.LINKING_OBJECTS, sourceTableName));
     }
 
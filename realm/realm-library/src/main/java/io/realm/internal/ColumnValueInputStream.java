@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.realm.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Streams a binary value, or the UTF-8 encoding of a string value, straight out of the Realm file in chunks instead
+ * of copying the whole value to the Java heap first.
+ * <p>
+ * The stream reads the current value of the field each time, so it must be used on the thread of the Realm the row
+ * belongs to, and changing the field while streaming results in a mix of the old and the new value. Subclasses
+ * verify this in {@link #checkValid()}, which is called before every access to the row.
+ */
+public abstract class ColumnValueInputStream extends InputStream implements ReadableByteChannel {
+
+    private final Row row;
+    private final long columnKey;
+    private final byte[] singleByte = new byte[1];
+    private long position;
+    private long markedPosition;
+    private boolean closed;
+
+    public ColumnValueInputStream(Row row, long columnKey) {
+        this.row = row;
+        this.columnKey = columnKey;
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkOpen();
+        int read = row.readBytes(columnKey, position, singleByte, 0, 1);
+        if (read <= 0) {
+            return -1;
+        }
+        position++;
+        return singleByte[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        checkOpen();
+        if (len == 0) {
+            return 0;
+        }
+        int read = row.readBytes(columnKey, position, b, off, len);
+        if (read > 0) {
+            position += read;
+        }
+        return read;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        if (closed) {
+            throw new ClosedChannelException();
+        }
+        checkValid();
+        int read = row.readBytes(columnKey, position, dst);
+        if (read > 0) {
+            position += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        checkOpen();
+        long skipped = Math.max(0, Math.min(n, row.getByteSize(columnKey) - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkOpen();
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, row.getByteSize(columnKey) - position));
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        markedPosition = position;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        checkOpen();
+        position = markedPosition;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        checkValid();
+        closed = true;
+    }
+
+    /**
+     * Checks that the Realm of the row is open and accessed from the right thread, and that the row is still valid.
+     *
+     * @throws IllegalStateException if the row cannot be accessed.
+     */
+    protected abstract void checkValid();
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new IOException("The stream is closed.");
+        }
+        checkValid();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.realm.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import io.realm.RealmFieldType;
+
+/**
+ * Writes a binary value in chunks. The chunks are collected in a native buffer, so a large value never has to exist
+ * as a single array on the Java heap, and the value is stored in the field in one operation when the stream is
+ * closed.
+ * <p>
+ * The stream must be closed inside the write transaction it was opened in. Abandoning the stream without closing it
+ * leaves the field unchanged. Subclasses verify that the row can still be accessed in {@link #checkValid()}, which
+ * is called on every write and on close.
+ */
+public abstract class ColumnValueOutputStream extends OutputStream implements NativeObject {
+
+    private static final long nativeFinalizerPtr = nativeGetFinalizerPtr();
+
+    private final UncheckedRow row;
+    private final long columnKey;
+    private final long nativePtr;
+    private final byte[] singleByte = new byte[1];
+    private boolean closed;
+
+    public ColumnValueOutputStream(UncheckedRow row, long columnKey) {
+        if (row.getColumnType(columnKey) != RealmFieldType.BINARY) {
+            throw new IllegalArgumentException("Only binary fields can be written as a stream: " + row.getTable().getColumnName(columnKey));
+        }
+        this.row = row;
+        this.columnKey = columnKey;
+        this.nativePtr = nativeCreate();
+        NativeContext.dummyContext.addReference(this);
+    }
+
+    @Override
+    public long getNativePtr() {
+        return nativePtr;
+    }
+
+    @Override
+    public long getNativeFinalizerPtr() {
+        return nativeFinalizerPtr;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        singleByte[0] = (byte) b;
+        write(singleByte, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("The stream is closed.");
+        }
+        checkValid();
+        if (off < 0 || len < 0 || off + len > b.length) {
+            throw new IndexOutOfBoundsException("Range [" + off + ", " + off + " + " + len + ") is out of bounds for length " + b.length);
+        }
+        if (len > 0) {
+            nativeWrite(nativePtr, b, off, len);
+        }
+    }
+
+    /**
+     * Stores the written bytes in the field.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        checkValid();
+        closed = true;
+        nativeCommit(nativePtr, row.getNativePtr(), columnKey);
+    }
+
+    /**
+     * Checks that the Realm of the row is open, accessed from the right thread and in a write transaction, and that
+     * the row is still valid.
+     *
+     * @throws IllegalStateException if the row cannot be written.
+     */
+    protected abstract void checkValid();
+
+    private static native long nativeGetFinalizerPtr();
+
+    private static native long nativeCreate();
+
+    private static native void nativeWrite(long nativePtr, byte[] data, int offset, int length);
+
+    private static native void nativeCommit(long nativePtr, long nativeRowPtr, long columnKey);
+}
@@ -19,6 +19,7 @@ package io.realm.internal;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.UUID;
 
@@ -100,6 +101,36 @@ public enum InvalidRow implements Row {
         throw getStubException();
     }
 
+    @Override
+    public long getByteSize(long columnKey) {
+        throw getStubException();
+    }
+
+    @Override
+    public int readBytes(long columnKey, long position, byte[] dst, int offset, int length) {
+        throw getStubException();
+    }
+
+    @Override
+    public int readBytes(long columnKey, long position, ByteBuffer dst) {
+        throw getStubException();
+    }
+
+    @Override
+    public int getStringUtf8(long columnKey, ByteBuffer dst) {
+        throw getStubException();
+    }
+
+    @Override
+    public long getStringHash(long columnKey) {
+        throw getStubException();
+    }
+
+    @Override
+    public boolean stringEquals(long columnKey, byte[] utf8) {
+        throw getStubException();
+    }
+
     @Override
     public Decimal128 getDecimal128(long columnKey) {
         throw getStubException();
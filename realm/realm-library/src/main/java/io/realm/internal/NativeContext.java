@@ -42,6 +42,22 @@ public class NativeContext {
         new NativeObjectReference(this, referent, referenceQueue);
     }
 
+    /**
+     * Frees the native objects of already garbage collected Java objects on the caller thread instead of waiting for
+     * the finalizing daemon thread to get to them.
+     *
+     * @return the number of freed native objects.
+     */
+    public static int drainReferenceQueue() {
+        int freedObjects = 0;
+        NativeObjectReference reference;
+        while ((reference = (NativeObjectReference) referenceQueue.poll()) != null) {
+            reference.cleanup();
+            freedObjects++;
+        }
+        return freedObjects;
+    }
+
     /**
      * Executes a given NativeContextRunnable with a NativeContext which lifecycle is bound
      * to a function scope.
@@ -17,6 +17,10 @@
 package io.realm.internal;
 
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
 
 import io.realm.OrderedCollectionChangeSet;
 
@@ -103,11 +107,81 @@ public class OsCollectionChangeSet implements OrderedCollectionChangeSet, Native
         return longArrayToRangeArray(nativeGetRanges(nativePtr, TYPE_MODIFICATION));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDeletionCount() {
+        return getIndexCount(TYPE_DELETION);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getInsertionCount() {
+        return getIndexCount(TYPE_INSERTION);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getChangeCount() {
+        return getIndexCount(TYPE_MODIFICATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Range> getDeletionRangeIterator() {
+        return new RangeIterator(TYPE_DELETION);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Range> getInsertionRangeIterator() {
+        return new RangeIterator(TYPE_INSERTION);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Range> getChangeRangeIterator() {
+        return new RangeIterator(TYPE_MODIFICATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isReloadRequired() {
+        return false;
+    }
+
     @Override
     public Throwable getError() {
         return null;
     }
 
+    /**
+     * Returns this change set, or a {@link ReloadChangeSet} if it contains more than {@code changeSetLimit} deleted,
+     * inserted and modified indices in total.
+     *
+     * @param changeSetLimit the maximum number of changed indices, or {@code 0} for no limit.
+     */
+    public OsCollectionChangeSet applyLimit(int changeSetLimit) {
+        if (changeSetLimit <= 0 || isEmpty()) {
+            return this;
+        }
+        long count = (long) getDeletionCount() + getInsertionCount() + getChangeCount();
+        return (count > changeSetLimit) ? new ReloadChangeSet(isFirstAsyncCallback()) : this;
+    }
+
     /**
      * Returns {@code true} if this is the first time an asynchronous query returns a result, i.e.
      * the query completed. 
@@ -125,6 +199,48 @@ public class OsCollectionChangeSet implements OrderedCollectionChangeSet, Native
         return nativePtr == 0;
     }
 
+    private int getIndexCount(int type) {
+        return (nativePtr == 0) ? 0 : nativeGetIndexCount(nativePtr, type);
+    }
+
+    // Copies the ranges of one type from native in a single call the first time the iterator is used, and only
+    // creates Range objects for the ranges that are read.
+    private class RangeIterator implements Iterator<Range> {
+        private final int type;
+        @Nullable
+        private int[] ranges;
+        private int position = 0;
+
+        RangeIterator(int type) {
+            this.type = type;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (ranges == null) {
+                int[] nativeRanges = (nativePtr == 0) ? null : nativeGetRanges(nativePtr, type);
+                ranges = (nativeRanges == null) ? new int[0] : nativeRanges;
+            }
+            return position < ranges.length;
+        }
+
+        @Override
+        public Range next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            //noinspection ConstantConditions
+            Range range = new Range(ranges[position], ranges[position + 1]);
+            position += 2;
+            return range;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Change sets cannot be modified.");
+        }
+    }
+
     // Convert long array returned by the nativeGetXxxRanges() to Range array.
     private Range[] longArrayToRangeArray(int[] longArray) {
         //noinspection ConstantConditions
@@ -178,4 +294,7 @@ public class OsCollectionChangeSet implements OrderedCollectionChangeSet, Native
 
     // Returns the indices array.
     private static native int[] nativeGetIndices(long nativePtr, int type);
+
+    // Returns the number of indices without copying them.
+    private static native int nativeGetIndexCount(long nativePtr, int type);
 }
@@ -22,6 +22,7 @@ public class OsList implements NativeObject, ObservableCollection, OsCollection
     private static final long nativeFinalizerPtr = nativeGetFinalizerPtr();
     private final ObserverPairList<CollectionObserverPair> observerPairs =
             new ObserverPairList<>();
+    private int changeSetLimit = 0;
 
     public OsList(UncheckedRow row, long columnKey) {
         OsSharedRealm sharedRealm = row.getTable().getSharedRealm();
@@ -349,9 +350,24 @@ public class OsList implements NativeObject, ObservableCollection, OsCollection
             // First time "query" returns. Do nothing.
             return;
         }
+        changeset = changeset.applyLimit(changeSetLimit);
         observerPairs.foreach(new Callback(changeset));
     }
 
+    /**
+     * Sets the maximum number of changed indices delivered to listeners. Larger change sets are replaced by a
+     * {@link ReloadChangeSet}.
+     *
+     * @param changeSetLimit the limit, or {@code 0} for no limit.
+     */
+    public void setChangeSetLimit(int changeSetLimit) {
+        this.changeSetLimit = changeSetLimit;
+    }
+
+    public int getChangeSetLimit() {
+        return changeSetLimit;
+    }
+
     public OsList freeze(OsSharedRealm frozenRealm) {
         return new OsList(frozenRealm,
                 nativeFreeze(nativePtr, frozenRealm.getNativePtr()),
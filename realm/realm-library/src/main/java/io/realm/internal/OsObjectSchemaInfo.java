@@ -16,6 +16,15 @@
 package io.realm.internal;
 
 
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
 import javax.annotation.Nullable;
 
 import io.realm.RealmFieldType;
@@ -30,11 +39,14 @@ public class OsObjectSchemaInfo implements NativeObject {
     public static class Builder {
         private final String internalClassName;
         private final String publicClassName; // If "", it is equal to the internal class name
-        private final long[] persistedPropertyPtrArray;
         private final boolean embedded;
-        private int persistedPropertyPtrCurPos = 0;
-        private final long[] computedPropertyPtrArray;
-        private int computedPropertyPtrCurPos = 0;
+        // Properties are encoded into a compact blob and handed to Object Store in a single native call by build().
+        private final SchemaBlobWriter persistedProperties;
+        private int persistedPropertyCount = 0;
+        private final SchemaBlobWriter computedProperties;
+        private int computedPropertyCount = 0;
+        private boolean built = false;
+        private final List<List<String>> compoundIndexHints = new ArrayList<>();
 
         /**
          * Creates an empty builder for {@code OsObjectSchemaInfo}. This constructor is intended to be used by
@@ -43,19 +55,15 @@ public class OsObjectSchemaInfo implements NativeObject {
          * @param internalClassName name of the class
          */
         public Builder(String internalClassName, boolean embedded, int persistedPropertyCapacity, int computedPropertyCapacity) {
-            this.publicClassName = "";
-            this.internalClassName = internalClassName;
-            this.embedded = embedded;
-            this.persistedPropertyPtrArray = new long[persistedPropertyCapacity];
-            this.computedPropertyPtrArray = new long[computedPropertyCapacity];
+            this("", internalClassName, embedded, persistedPropertyCapacity, computedPropertyCapacity);
         }
 
         public Builder(String publicClassName, String internalClassName, boolean embedded, int persistedPropertyCapacity, int computedPropertyCapacity) {
             this.publicClassName = publicClassName;
             this.internalClassName = internalClassName;
             this.embedded = embedded;
-            this.persistedPropertyPtrArray = new long[persistedPropertyCapacity];
-            this.computedPropertyPtrArray = new long[computedPropertyCapacity];
+            this.persistedProperties = new SchemaBlobWriter(persistedPropertyCapacity * ESTIMATED_PROPERTY_SIZE);
+            this.computedProperties = new SchemaBlobWriter(computedPropertyCapacity * ESTIMATED_PROPERTY_SIZE);
         }
 
 
@@ -72,10 +80,28 @@ public class OsObjectSchemaInfo implements NativeObject {
          */
         public Builder addPersistedProperty(String publicName, String internalName, RealmFieldType type, boolean isPrimaryKey, boolean isIndexed,
                 boolean isRequired) {
-            long propertyPtr = Property.nativeCreatePersistedProperty(internalName, publicName,
-                    Property.convertFromRealmFieldType(type, isRequired), isPrimaryKey, isIndexed);
-            persistedPropertyPtrArray[persistedPropertyPtrCurPos] = propertyPtr;
-            persistedPropertyPtrCurPos++;
+            return addPersistedProperty(publicName, internalName, type, isPrimaryKey, isIndexed, !Property.FULL_TEXT_INDEXED, isRequired);
+        }
+
+        /**
+         * Adds a persisted non-link, non value list property to this builder.
+         *
+         * @param publicName the name of the property as defined in the Java/Kotlin model class.
+         * @param internalName the internal name of the property if different from the public name, otherwise "".
+         * @param type the type of the property.
+         * @param isPrimaryKey set to true if this property is the primary key.
+         * @param isIndexed set to true if this property needs an index.
+         * @param isFullTextIndexed set to true if this property needs a full-text index.
+         * @param isRequired set to true if this property is not nullable.
+         * @return this {@code OsObjectSchemaInfo}.
+         */
+        public Builder addPersistedProperty(String publicName, String internalName, RealmFieldType type, boolean isPrimaryKey, boolean isIndexed,
+                boolean isFullTextIndexed, boolean isRequired) {
+            int flags = (isPrimaryKey ? PROPERTY_FLAG_PRIMARY_KEY : 0)
+                    | (isIndexed ? PROPERTY_FLAG_INDEXED : 0)
+                    | (isFullTextIndexed ? PROPERTY_FLAG_FULL_TEXT_INDEXED : 0);
+            writePersistedProperty(PROPERTY_KIND_VALUE, publicName, internalName,
+                    Property.convertFromRealmFieldType(type, isRequired), flags, null);
             return this;
         }
 
@@ -89,13 +115,8 @@ public class OsObjectSchemaInfo implements NativeObject {
          * @return this {@code OsObjectSchemaInfo}.
          */
         public Builder addPersistedValueListProperty(String publicName, String internalName, RealmFieldType type, boolean isRequired) {
-            long propertyPtr = Property.nativeCreatePersistedProperty(internalName,
-                    publicName,
-                    Property.convertFromRealmFieldType(type, isRequired),
-                    !Property.PRIMARY_KEY,
-                    !Property.INDEXED);
-            persistedPropertyPtrArray[persistedPropertyPtrCurPos] = propertyPtr;
-            persistedPropertyPtrCurPos++;
+            writePersistedProperty(PROPERTY_KIND_VALUE, publicName, internalName,
+                    Property.convertFromRealmFieldType(type, isRequired), 0, null);
             return this;
         }
 
@@ -109,13 +130,8 @@ public class OsObjectSchemaInfo implements NativeObject {
          * @return this {@code OsObjectSchemaInfo}.
          */
         public Builder addPersistedMapProperty(String publicName, String internalName, RealmFieldType type, boolean isRequired) {
-            long propertyPtr = Property.nativeCreatePersistedProperty(internalName,
-                    publicName,
-                    Property.convertFromRealmFieldType(type, isRequired),
-                    !Property.PRIMARY_KEY,
-                    !Property.INDEXED);
-            persistedPropertyPtrArray[persistedPropertyPtrCurPos] = propertyPtr;
-            persistedPropertyPtrCurPos++;
+            writePersistedProperty(PROPERTY_KIND_VALUE, publicName, internalName,
+                    Property.convertFromRealmFieldType(type, isRequired), 0, null);
             return this;
         }
 
@@ -131,13 +147,8 @@ public class OsObjectSchemaInfo implements NativeObject {
          * @return this {@code OsObjectSchemaInfo}.
          */
         public Builder addPersistedSetProperty(String publicName, String internalName, RealmFieldType type, boolean isRequired) {
-            long propertyPtr = Property.nativeCreatePersistedProperty(internalName,
-                    publicName,
-                    Property.convertFromRealmFieldType(type, isRequired),
-                    !Property.PRIMARY_KEY,
-                    !Property.INDEXED);
-            persistedPropertyPtrArray[persistedPropertyPtrCurPos] = propertyPtr;
-            persistedPropertyPtrCurPos++;
+            writePersistedProperty(PROPERTY_KIND_VALUE, publicName, internalName,
+                    Property.convertFromRealmFieldType(type, isRequired), 0, null);
             return this;
         }
 
@@ -152,10 +163,8 @@ public class OsObjectSchemaInfo implements NativeObject {
          * @return this {@code OsObjectSchemaInfo.Builder}.
          */
         public Builder addPersistedLinkProperty(String publicName, String internalName, RealmFieldType type, String linkedClassName) {
-            long propertyPtr = Property.nativeCreatePersistedLinkProperty(internalName, publicName,
-                    Property.convertFromRealmFieldType(type, false), linkedClassName);
-            persistedPropertyPtrArray[persistedPropertyPtrCurPos] = propertyPtr;
-            persistedPropertyPtrCurPos++;
+            writePersistedProperty(PROPERTY_KIND_LINK, publicName, internalName,
+                    Property.convertFromRealmFieldType(type, false), 0, linkedClassName);
             return this;
         }
 
@@ -170,43 +179,155 @@ public class OsObjectSchemaInfo implements NativeObject {
          * @return this {@code OsObjectSchemaInfo.Builder}.
          */
         public Builder addComputedLinkProperty(String name, String sourceClass, String sourceClassName) {
-            long propertyPtr = Property.nativeCreateComputedLinkProperty(name, sourceClass, sourceClassName);
-            computedPropertyPtrArray[computedPropertyPtrCurPos] = propertyPtr;
-            computedPropertyPtrCurPos++;
+            checkNotBuilt();
+            computedProperties.writeString(name);
+            computedProperties.writeString(sourceClass);
+            computedProperties.writeString(sourceClassName);
+            computedPropertyCount++;
+            return this;
+        }
+
+        /**
+         * Adds a compound index hint to this {@code OsObjectSchemaInfo}. Hints are metadata only: they are neither
+         * stored in the Realm file's schema nor maintained as an index.
+         *
+         * @param fieldNames the internal names of the fields covered by the hint.
+         * @return this {@code OsObjectSchemaInfo.Builder}.
+         */
+        public Builder addCompoundIndexHint(String... fieldNames) {
+            compoundIndexHints.add(Collections.unmodifiableList(Arrays.asList(fieldNames)));
             return this;
         }
 
         /**
          * Creates {@link OsObjectSchemaInfo} object from this builder. After calling, this {@code Builder} becomes
-         * invalid. All the property pointers will be freed.
+         * invalid.
+         * <p>
+         * All properties are validated and created by Object Store in this call, so an invalid property definition
+         * will throw here rather than when it was added.
          *
          * @return a newly created {@link OsObjectSchemaInfo}.
          */
         public OsObjectSchemaInfo build() {
-            if (persistedPropertyPtrCurPos == -1 || computedPropertyPtrCurPos == -1) {
-                throw new IllegalStateException("'OsObjectSchemaInfo.build()' has been called before on this object.");
+            checkNotBuilt();
+            built = true;
+            SchemaBlobWriter blob = new SchemaBlobWriter(
+                    persistedProperties.size() + computedProperties.size() + ESTIMATED_PROPERTY_SIZE);
+            blob.writeByte(SCHEMA_BLOB_VERSION);
+            blob.writeString(publicClassName);
+            blob.writeString(internalClassName);
+            blob.writeByte(embedded ? 1 : 0);
+            blob.writeInt(persistedPropertyCount);
+            blob.writeBlob(persistedProperties);
+            blob.writeInt(computedPropertyCount);
+            blob.writeBlob(computedProperties);
+
+            OsObjectSchemaInfo info = new OsObjectSchemaInfo(nativeCreateFromBlob(blob.toByteArray()));
+            if (!compoundIndexHints.isEmpty()) {
+                info.compoundIndexHints = Collections.unmodifiableList(new ArrayList<>(compoundIndexHints));
             }
-            OsObjectSchemaInfo info = new OsObjectSchemaInfo(publicClassName, internalClassName, embedded);
-            nativeAddProperties(info.nativePtr, persistedPropertyPtrArray, computedPropertyPtrArray);
-            persistedPropertyPtrCurPos = -1;
-            computedPropertyPtrCurPos = -1;
             return info;
         }
-    }
 
-    private long nativePtr;
-    private static final long nativeFinalizerPtr = nativeGetFinalizerPtr();
+        private void writePersistedProperty(int kind, String publicName, String internalName, int type, int flags,
+                @Nullable String linkedClassName) {
+            checkNotBuilt();
+            persistedProperties.writeByte(kind);
+            persistedProperties.writeString(internalName);
+            persistedProperties.writeString(publicName);
+            persistedProperties.writeInt(type);
+            persistedProperties.writeByte(flags);
+            if (kind == PROPERTY_KIND_LINK) {
+                persistedProperties.writeString(linkedClassName);
+            }
+            persistedPropertyCount++;
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("'OsObjectSchemaInfo.build()' has been called before on this object.");
+            }
+        }
+    }
 
     /**
-     * Creates an empty schema object using object store. This constructor is intended to be used by
-     * the validation of schema, object schemas and properties through the object store.
-     *
-     * @param className name of the class
+     * Growable buffer used to encode the schema blob. Integers are written in big-endian order and strings as their
+     * UTF-8 byte length followed by the bytes.
      */
-    private OsObjectSchemaInfo(String publicClassName, String className, boolean embedded) {
-        this(nativeCreateRealmObjectSchema(publicClassName, className, embedded));
+    private static final class SchemaBlobWriter {
+        private byte[] buffer;
+        private int size = 0;
+
+        SchemaBlobWriter(int initialCapacity) {
+            buffer = new byte[Math.max(initialCapacity, 16)];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeInt(int value) {
+            ensureCapacity(4);
+            buffer[size++] = (byte) (value >>> 24);
+            buffer[size++] = (byte) (value >>> 16);
+            buffer[size++] = (byte) (value >>> 8);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(UTF_8);
+            writeInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeBlob(SchemaBlobWriter other) {
+            ensureCapacity(other.size);
+            System.arraycopy(other.buffer, 0, buffer, size, other.size);
+            size += other.size;
+        }
+
+        int size() {
+            return size;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
     }
 
+    // Layout of the blob passed to nativeCreateFromBlob. Must be kept in sync with io_realm_internal_OsObjectSchemaInfo.cpp.
+    static final byte SCHEMA_BLOB_VERSION = 1;
+    static final byte PROPERTY_KIND_VALUE = 0;
+    static final byte PROPERTY_KIND_LINK = 1;
+    static final byte PROPERTY_FLAG_PRIMARY_KEY = 1;
+    static final byte PROPERTY_FLAG_INDEXED = 2;
+    static final byte PROPERTY_FLAG_FULL_TEXT_INDEXED = 4;
+
+    // Indices into the array returned by nativeGetPersistedPropertyDetails.
+    private static final int DETAILS_NAMES = 0;
+    private static final int DETAILS_COLUMN_KEYS = 1;
+    private static final int DETAILS_TYPES = 2;
+    private static final int DETAILS_LINKED_CLASS_NAMES = 3;
+
+    private static final int ESTIMATED_PROPERTY_SIZE = 32;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private long nativePtr;
+    private static final long nativeFinalizerPtr = nativeGetFinalizerPtr();
+    private List<List<String>> compoundIndexHints = Collections.emptyList();
+    // Column details of all persisted properties, loaded in a single native call the first time they are needed.
+    @Nullable
+    private Map<String, ColumnInfo.ColumnDetails> columnDetails;
+
     /**
      * Creates a java wrapper class for given {@code ObjectSchema} pointer. This java wrapper will take the ownership of
      * the object's memory and release it through phantom reference.
@@ -246,11 +367,50 @@ public class OsObjectSchemaInfo implements NativeObject {
         return propertyPtr == 0 ? null : new Property(nativeGetPrimaryKeyProperty(nativePtr));
     }
 
+    /**
+     * Returns the column details of a persisted property. The details of all persisted properties are read from
+     * Object Store the first time this is called, so resolving every column of a class costs a single native call
+     * instead of several for each property.
+     *
+     * @param propertyName the internal name of the property.
+     * @return the {@link ColumnInfo.ColumnDetails} of the property.
+     * @throws IllegalStateException if the property cannot be found.
+     */
+    ColumnInfo.ColumnDetails getColumnDetails(String propertyName) {
+        if (columnDetails == null) {
+            Object[] details = nativeGetPersistedPropertyDetails(nativePtr);
+            String[] names = (String[]) details[DETAILS_NAMES];
+            long[] columnKeys = (long[]) details[DETAILS_COLUMN_KEYS];
+            int[] types = (int[]) details[DETAILS_TYPES];
+            String[] linkedClassNames = (String[]) details[DETAILS_LINKED_CLASS_NAMES];
+            Map<String, ColumnInfo.ColumnDetails> map = new HashMap<>(names.length * 2);
+            for (int i = 0; i < names.length; i++) {
+                map.put(names[i], new ColumnInfo.ColumnDetails(columnKeys[i],
+                        Property.convertToRealmFieldType(types[i]), linkedClassNames[i]));
+            }
+            columnDetails = map;
+        }
+        ColumnInfo.ColumnDetails details = columnDetails.get(propertyName);
+        if (details == null) {
+            throw new IllegalStateException(String.format(Locale.US, "Property '%s' cannot be found.", propertyName));
+        }
+        return details;
+    }
 
     public boolean isEmbedded() {
         return nativeIsEmbedded(nativePtr);
     }
 
+    /**
+     * Returns the compound indexes declared for this class. These are only known for schemas created from model
+     * classes, schemas read from the Realm file will always return an empty list.
+     *
+     * @return the field names of each compound index.
+     */
+    public List<List<String>> getCompoundIndexHints() {
+        return compoundIndexHints;
+    }
+
     @Override
     public long getNativePtr() {
         return nativePtr;
@@ -261,13 +421,11 @@ public class OsObjectSchemaInfo implements NativeObject {
         return nativeFinalizerPtr;
     }
 
-    private static native long nativeCreateRealmObjectSchema(String publicClassName, String internalClassName, boolean embedded);
+    // Create the ObjectSchema and all its properties from a blob written by Builder.
+    private static native long nativeCreateFromBlob(byte[] blob);
 
     private static native long nativeGetFinalizerPtr();
 
-    // Add properties to the ObjectSchema and delete property pointers.
-    private static native void nativeAddProperties(long nativePtr, long[] persistedPropPtrs, long[] computedPropPtrs);
-
     private static native String nativeGetClassName(long nativePtr);
 
     // Throw ISE if the property doesn't exist.
@@ -277,4 +435,7 @@ public class OsObjectSchemaInfo implements NativeObject {
     private static native long nativeGetPrimaryKeyProperty(long nativePtr);
 
     private static native boolean nativeIsEmbedded(long nativePtr);
+
+    // Return {String[] names, long[] columnKeys, int[] types, String[] linkedClassNames} of all persisted properties.
+    private static native Object[] nativeGetPersistedPropertyDetails(long nativePtr);
 }
@@ -184,6 +184,12 @@ public class OsRealmConfig implements NativeObject {
     public static final byte CLIENT_RESYNC_MODE_RECOVER = 2;
     public static final byte CLIENT_RESYNC_MODE_RECOVER_OR_DISCARD = 3;
 
+    // Indices into the array returned by getEncryptionMetrics()
+    public static final int ENCRYPTION_METRICS_DECRYPTED_PAGES = 0;
+    public static final int ENCRYPTION_METRICS_CACHE_TARGET = 1;
+    public static final int ENCRYPTION_METRICS_CACHE_LOAD = 2;
+    public static final int ENCRYPTION_METRICS_RECLAIM_ROUNDS = 3;
+
     private static final long nativeFinalizerPtr = nativeGetFinalizerPtr();
 
     private final RealmConfiguration realmConfiguration;
@@ -254,6 +260,8 @@ public class OsRealmConfig implements NativeObject {
         byte[] key = config.getEncryptionKey();
         if (key != null) {
             nativeSetEncryptionKey(nativePtr, key);
+            // 0 resets the cache to the default size, so it doesn't keep the size of a previously opened Realm.
+            nativeSetEncryptedPageCacheSize(config.getEncryptedPageCacheSize());
         }
 
         // Set durability
@@ -382,6 +390,14 @@ public class OsRealmConfig implements NativeObject {
         return resolvedRealmURI;
     }
 
+    /**
+     * Returns the process wide metrics of the decrypted page cache of encrypted Realms, indexed by the
+     * {@code ENCRYPTION_METRICS_*} constants.
+     */
+    public static long[] getEncryptionMetrics() {
+        return nativeGetEncryptionMetrics();
+    }
+
     NativeContext getContext() {
         return context;
     }
@@ -392,6 +408,10 @@ public class OsRealmConfig implements NativeObject {
 
     private static native void nativeSetInMemory(long nativePtr, boolean inMem);
 
+    private static native void nativeSetEncryptedPageCacheSize(long bytes);
+
+    private static native long[] nativeGetEncryptionMetrics();
+
     private native void nativeSetSchemaConfig(long nativePtr, byte schemaMode, long schemaVersion,
                                               long schemaInfoPtr,
                                               @Nullable OsSharedRealm.MigrationCallback migrationCallback);
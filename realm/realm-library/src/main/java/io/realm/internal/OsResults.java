@@ -216,6 +216,11 @@ public class OsResults implements NativeObject, ObservableCollection {
     private final Table table;
     protected boolean loaded;
     private boolean isSnapshot = false;
+    private int changeSetLimit = 0;
+    // Whether an async trace section was opened by beginAsyncQueryTraceSection() and is waiting for the first result.
+    private boolean asyncQueryTraced = false;
+
+    private static final String ASYNC_QUERY_TRACE_SECTION = "RealmQuery.findAllAsync";
 
     protected final ObserverPairList<CollectionObserverPair> observerPairs =
             new ObserverPairList<CollectionObserverPair>();
@@ -357,6 +362,36 @@ public class OsResults implements NativeObject, ObservableCollection {
         return table.getUncheckedRowByPointer(nativeGetRow(nativePtr, index));
     }
 
+    /**
+     * Fetches up to {@code count} rows starting at {@code start} in a single native call.
+     */
+    public UncheckedRow[] getUncheckedRows(int start, int count) {
+        long[] rowPtrs = nativeGetRows(nativePtr, start, count);
+        UncheckedRow[] rows = new UncheckedRow[rowPtrs.length];
+        for (int i = 0; i < rowPtrs.length; i++) {
+            rows[i] = table.getUncheckedRowByPointer(rowPtrs[i]);
+        }
+        return rows;
+    }
+
+    /**
+     * Reads the non-link properties of up to {@code count} rows starting at {@code start}, so the parts of the Realm
+     * file holding them are paged in. No row accessors are created.
+     */
+    public void pageIn(int start, int count) {
+        nativePageIn(nativePtr, start, count);
+    }
+
+    /**
+     * Copies the UTF-8 encoding of a string column of all rows in a single native call.
+     *
+     * @return an array holding the concatenated bytes as {@code byte[]}, the {@code size() + 1} start offsets of the
+     * values as {@code int[]} and the null flags of the values as {@code boolean[]}.
+     */
+    public Object[] getStringsUtf8(long columnKey) {
+        return nativeGetStringsUtf8(nativePtr, columnKey);
+    }
+
     public UncheckedRow firstUncheckedRow() {
         long rowPtr = nativeFirstRow(nativePtr);
         if (rowPtr != 0) {
@@ -707,7 +742,7 @@ public class OsResults implements NativeObject, ObservableCollection {
         // So it is possible it deliver a non-empty change set for the first async query returns.
         OsCollectionChangeSet changeset = (nativeChangeSetPtr == 0)
                 ? new EmptyLoadChangeSet()
-                : new OsCollectionChangeSet(nativeChangeSetPtr, !isLoaded());
+                : new OsCollectionChangeSet(nativeChangeSetPtr, !isLoaded()).applyLimit(changeSetLimit);
 
         // Happens e.g. if a synchronous query is created, a change listener is added and then
         // a transaction is started on the same thread. This will trigger all notifications
@@ -715,8 +750,41 @@ public class OsResults implements NativeObject, ObservableCollection {
         if (changeset.isEmpty() && isLoaded()) {
             return;
         }
+        if (asyncQueryTraced && !loaded) {
+            asyncQueryTraced = false;
+            RealmTrace.endAsyncSection(ASYNC_QUERY_TRACE_SECTION, System.identityHashCode(this));
+        }
         loaded = true;
-        observerPairs.foreach(new Callback(changeset));
+        boolean traced = RealmTrace.beginSection("OsResults.notifyChangeListeners");
+        try {
+            observerPairs.foreach(new Callback(changeset));
+        } finally {
+            RealmTrace.endSection(traced);
+        }
+    }
+
+    /**
+     * Opens an async trace section that spans from now until the first result of the query is delivered, no matter
+     * whether it arrives through a notification or because the results are accessed before that.
+     */
+    public void beginAsyncQueryTraceSection() {
+        if (!loaded) {
+            asyncQueryTraced = RealmTrace.beginAsyncSection(ASYNC_QUERY_TRACE_SECTION, System.identityHashCode(this));
+        }
+    }
+
+    /**
+     * Sets the maximum number of changed indices delivered to listeners. Larger change sets are replaced by a
+     * {@link ReloadChangeSet}.
+     *
+     * @param changeSetLimit the limit, or {@code 0} for no limit.
+     */
+    public void setChangeSetLimit(int changeSetLimit) {
+        this.changeSetLimit = changeSetLimit;
+    }
+
+    public int getChangeSetLimit() {
+        return changeSetLimit;
     }
 
     public Mode getMode() {
@@ -742,8 +810,13 @@ public class OsResults implements NativeObject, ObservableCollection {
         if (loaded) {
             return;
         }
-        nativeEvaluateQueryIfNeeded(nativePtr, false);
-        notifyChangeListeners(0);
+        boolean traced = RealmTrace.beginSection("OsResults.load");
+        try {
+            nativeEvaluateQueryIfNeeded(nativePtr, false);
+            notifyChangeListeners(0);
+        } finally {
+            RealmTrace.endSection(traced);
+        }
     }
 
     private static native long nativeGetFinalizerPtr();
@@ -756,6 +829,12 @@ public class OsResults implements NativeObject, ObservableCollection {
 
     private static native long nativeGetRow(long nativePtr, int index);
 
+    private static native long[] nativeGetRows(long nativePtr, int start, int count);
+
+    private static native void nativePageIn(long nativePtr, int start, int count);
+
+    private static native Object[] nativeGetStringsUtf8(long nativePtr, long columnKey);
+
     private static native long nativeFirstRow(long nativePtr);
 
     private static native long nativeLastRow(long nativePtr);
@@ -141,6 +141,11 @@ public final class OsSharedRealm implements Closeable, NativeObject {
     public static final byte FILE_EXCEPTION_KIND_FORMAT_UPGRADE_REQUIRED = 6;
     public static final byte FILE_EXCEPTION_INCOMPATIBLE_SYNC_FILE = 7;
 
+    // Indices into the array returned by getStorageStats().
+    public static final int STORAGE_STATS_TOTAL_BYTES = 0;
+    public static final int STORAGE_STATS_USED_BYTES = 1;
+    public static final int STORAGE_STATS_LOCKED_BYTES = 2;
+
     private static final long nativeFinalizerPtr = nativeGetFinalizerPtr();
     private final long nativePtr;
     private final OsRealmConfig osRealmConfig;
@@ -417,6 +422,55 @@ public final class OsSharedRealm implements Closeable, NativeObject {
         return nativeCompact(nativePtr);
     }
 
+    /**
+     * Returns the storage statistics of the Realm file, indexed by the {@code STORAGE_STATS_*} constants. The total
+     * size includes free space, the used size only the space taken by data. The locked size is the part of the free
+     * space that cannot be reused yet because older versions are still being read.
+     */
+    public long[] getStorageStats() {
+        return nativeGetStorageStats(nativePtr);
+    }
+
+    /**
+     * Returns the number of bytes of the given Realm file that are mapped by this process and resident in memory.
+     * Encrypted Realm files are not mapped directly and always return {@code 0}.
+     *
+     * @param path the canonical path of the Realm file.
+     * @return the number of resident bytes.
+     */
+    public static long getResidentMappedBytes(String path) {
+        return nativeGetResidentMappedBytes(path);
+    }
+
+    /**
+     * Advises the kernel to reclaim the pages of this process mapping the given Realm file. Only pages that can be
+     * read back from the file are reclaimed, so this never loses data, but the next access to them is slower.
+     * Kernels older than Linux 5.4 don't support this and nothing is released.
+     *
+     * @param path the canonical path of the Realm file.
+     * @return the number of bytes that are no longer resident in memory.
+     */
+    public static long releaseMappedPages(String path) {
+        return nativeReleaseMappedPages(path);
+    }
+
+    /**
+     * Returns the schema fingerprint stored in the Realm file, see {@link RealmProxyMediator#getSchemaFingerprint()}.
+     *
+     * @return the fingerprint, or {@code 0} if none was stored or the schema was changed after it was stored.
+     */
+    public long getSchemaFingerprint() {
+        return nativeGetSchemaFingerprint(nativePtr);
+    }
+
+    /**
+     * Stores the schema fingerprint in the Realm file together with a hash of the current schema. This must be called
+     * in a transaction.
+     */
+    public void setSchemaFingerprint(long fingerprint) {
+        nativeSetSchemaFingerprint(nativePtr, fingerprint);
+    }
+
     public void setAutoRefresh(boolean enabled) {
         capabilities.checkCanDeliverNotification(null);
         nativeSetAutoRefresh(nativePtr, enabled);
@@ -637,6 +691,16 @@ public final class OsSharedRealm implements Closeable, NativeObject {
 
     private static native boolean nativeCompact(long nativeSharedRealmPtr);
 
+    private static native long[] nativeGetStorageStats(long nativeSharedRealmPtr);
+
+    private static native long nativeGetResidentMappedBytes(String path);
+
+    private static native long nativeReleaseMappedPages(String path);
+
+    private static native long nativeGetSchemaFingerprint(long nativeSharedRealmPtr);
+
+    private static native void nativeSetSchemaFingerprint(long nativeSharedRealmPtr, long fingerprint);
+
     private static native void nativeSetAutoRefresh(long nativePtr, boolean enabled);
 
     private static native boolean nativeIsAutoRefresh(long nativePtr);
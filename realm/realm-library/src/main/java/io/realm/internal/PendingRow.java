@@ -4,6 +4,7 @@ import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
 import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.UUID;
 
@@ -127,6 +128,36 @@ public class PendingRow implements Row {
         throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
     }
 
+    @Override
+    public long getByteSize(long columnKey) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
+    @Override
+    public int readBytes(long columnKey, long position, byte[] dst, int offset, int length) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
+    @Override
+    public int readBytes(long columnKey, long position, ByteBuffer dst) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
+    @Override
+    public int getStringUtf8(long columnKey, ByteBuffer dst) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
+    @Override
+    public long getStringHash(long columnKey) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
+    @Override
+    public boolean stringEquals(long columnKey, byte[] utf8) {
+        throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
+    }
+
     @Override
     public Decimal128 getDecimal128(long columnKey) {
         throw new IllegalStateException(QUERY_NOT_RETURNED_MESSAGE);
@@ -66,6 +66,7 @@ public class Property implements NativeObject {
     public static final boolean PRIMARY_KEY = true;
     public static final boolean REQUIRED = true;
     public static final boolean INDEXED = true;
+    public static final boolean FULL_TEXT_INDEXED = true;
 
     @SuppressWarnings("WeakerAccess")
     public static final int TYPE_INT = 0;
@@ -272,7 +273,7 @@ public class Property implements NativeObject {
         return type | requiredFlag;
     }
 
-    private static RealmFieldType convertToRealmFieldType(int propertyType) {
+    static RealmFieldType convertToRealmFieldType(int propertyType) {
         // Clear the nullable flag
         switch (propertyType & ~TYPE_NULLABLE) {
             case  TYPE_OBJECT:
@@ -393,6 +394,10 @@ public class Property implements NativeObject {
         return nativeGetColumnKey(nativePtr);
     }
 
+    public boolean isFullTextIndexed() {
+        return nativeIsFullTextIndexed(nativePtr);
+    }
+
     @Override
     public long getNativePtr() {
         return nativePtr;
@@ -405,22 +410,12 @@ public class Property implements NativeObject {
 
     private static native long nativeGetFinalizerPtr();
 
-    // nativeCreateXxxProperty will be called by OsObjectSchemaInfo directly to avoid creating temporary Property
-    // objects.
-    static native long nativeCreatePersistedProperty(String internalName,
-                                                     String publicName,
-                                                     int type,
-                                                     boolean isPrimary,
-                                                     boolean isIndexed);
-
-    static native long nativeCreatePersistedLinkProperty(String internalName, String publicName, int type, String linkedToName);
-
-    static native long nativeCreateComputedLinkProperty(String name, String sourceClassName, String sourceFieldName);
-
     private static native int nativeGetType(long nativePtr);
 
     private static native long nativeGetColumnKey(long nativePtr);
 
+    private static native boolean nativeIsFullTextIndexed(long nativePtr);
+
     // Return null if the property is not OBJECT, LIST or LINKING_OBJECT type.
     private static native String nativeGetLinkedObjectName(long nativePtr);
 }
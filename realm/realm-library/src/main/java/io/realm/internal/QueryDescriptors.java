@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.internal;
+
+import javax.annotation.Nullable;
+
+import io.realm.Sort;
+
+/**
+ * Builds the SORT and DISTINCT descriptors appended to queries in the query language. Kept free of native code, so it
+ * can be benchmarked and tested on a plain JVM.
+ */
+public final class QueryDescriptors {
+
+    private QueryDescriptors() {
+    }
+
+    /**
+     * Escapes the spaces of a field name, so it can be used in a query string.
+     *
+     * @param fieldName the field name, may be {@code null}.
+     * @return the escaped field name, or {@code null} if {@code fieldName} is {@code null}.
+     */
+    @Nullable
+    public static String escapeFieldName(@Nullable String fieldName) {
+        if (fieldName == null) { return null; }
+        return fieldName.replace(" ", "\\ ");
+    }
+
+    public static String buildSortDescriptor(String[] fieldNames, Sort[] sortOrders) {
+        StringBuilder descriptorBuilder = new StringBuilder("SORT(");
+
+        String sortSeparator = "";
+        for (int i = 0; i < fieldNames.length; i++) {
+            String fieldName = fieldNames[i];
+
+            descriptorBuilder.append(sortSeparator)
+                    .append(escapeFieldName(fieldName))
+                    .append(" ")
+                    .append((sortOrders[i] == Sort.ASCENDING) ? "ASC" : "DESC");
+
+            sortSeparator = ", ";
+        }
+
+        descriptorBuilder.append(")");
+
+        return descriptorBuilder.toString();
+    }
+
+    public static String buildDistinctDescriptor(String[] fieldNames) {
+        StringBuilder descriptorBuilder = new StringBuilder("DISTINCT(");
+
+        String distinctSeparator = "";
+        for (String fieldName : fieldNames) {
+            descriptorBuilder.append(distinctSeparator)
+                    .append(escapeFieldName(fieldName));
+
+            distinctSeparator = ", ";
+        }
+
+        descriptorBuilder.append(")");
+
+        return descriptorBuilder.toString();
+    }
+}
@@ -106,16 +106,21 @@ public abstract class RealmNotifier implements Closeable {
     @SuppressWarnings("unused")
     // called from java_binding_context.cpp
     void didChange() {
-        realmObserverPairs.foreach(onChangeCallBack);
-
-        if (!transactionCallbacks.isEmpty()) {
-            // The callback list needs to be cleared before calling to avoid synchronized transactions in the callback
-            // triggers it recursively.
-            List<Runnable> callbacks = transactionCallbacks;
-            transactionCallbacks = new ArrayList<Runnable>();
-            for (Runnable runnable : callbacks) {
-                runnable.run();
+        boolean traced = RealmTrace.beginSection("RealmNotifier.didChange");
+        try {
+            realmObserverPairs.foreach(onChangeCallBack);
+
+            if (!transactionCallbacks.isEmpty()) {
+                // The callback list needs to be cleared before calling to avoid synchronized transactions in the callback
+                // triggers it recursively.
+                List<Runnable> callbacks = transactionCallbacks;
+                transactionCallbacks = new ArrayList<Runnable>();
+                for (Runnable runnable : callbacks) {
+                    runnable.run();
+                }
             }
+        } finally {
+            RealmTrace.endSection(traced);
         }
     }
 
@@ -52,6 +52,47 @@ public abstract class RealmProxyMediator {
      */
     public abstract Map<Class<? extends RealmModel>, OsObjectSchemaInfo> getExpectedObjectSchemaInfoMap();
 
+    /**
+     * Returns the schema information of a single model class defined in this mediator. Unlike
+     * {@link #getExpectedObjectSchemaInfoMap()} this doesn't collect the schema information of every other class.
+     *
+     * @param clazz the {@link RealmModel} class reference.
+     * @return the schema information of the class.
+     */
+    public OsObjectSchemaInfo getExpectedObjectSchemaInfo(Class<? extends RealmModel> clazz) {
+        OsObjectSchemaInfo info = getExpectedObjectSchemaInfoMap().get(clazz);
+        if (info == null) {
+            throw getMissingProxyClassException(clazz);
+        }
+        return info;
+    }
+
+    /**
+     * Returns a fingerprint of the schema defined by this mediator. The fingerprint is generated by the annotation
+     * processor and changes whenever the schema returned by {@link #getExpectedObjectSchemaInfoMap()} changes. It is
+     * stored in the Realm file, so opening a file that was last opened with the same schema can skip building and
+     * comparing the expected schema. Schemas with public names or computed properties, which are not stored in the
+     * file, have no fingerprint.
+     *
+     * @return the schema fingerprint, or {@code 0} if the mediator doesn't provide one.
+     */
+    public long getSchemaFingerprint() {
+        return 0;
+    }
+
+    /**
+     * Mixes a value into a schema fingerprint. Used to derive the fingerprint of mediators combining or filtering
+     * other mediators.
+     */
+    protected static long mixSchemaFingerprint(long fingerprint, long value) {
+        // FNV-1a over the 8 bytes of the value, the same hash the annotation processor uses.
+        long hash = fingerprint;
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
     /**
      * Creates {@link ColumnInfo} for the given RealmObject class.
      *
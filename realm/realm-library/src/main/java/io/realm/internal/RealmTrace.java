@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.internal;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Trace;
+
+/**
+ * Emits sections to the Android system trace around Realm's hot paths, so they show up in systrace and Perfetto
+ * captures next to the app's own sections.
+ * <p>
+ * Tracing is process wide and off by default. It is switched on either by setting the {@value #SYSTEM_PROPERTY}
+ * system property to {@code true} before Realm is initialized, or by opening a Realm whose configuration has
+ * {@link io.realm.RealmConfiguration#isTraceSectionsEnabled()} set. Once on, the native layer emits its own sections
+ * as well. While off, each instrumented path only pays for a volatile read.
+ * <p>
+ * Call sites pair the calls like this, so a section is never left open if tracing is toggled in between:
+ * <pre>
+ * boolean traced = RealmTrace.beginSection("Realm.refresh");
+ * try {
+ *     ...
+ * } finally {
+ *     RealmTrace.endSection(traced);
+ * }
+ * </pre>
+ */
+public final class RealmTrace {
+
+    /**
+     * System property enabling trace sections for the whole process when set to {@code true}.
+     */
+    public static final String SYSTEM_PROPERTY = "io.realm.trace";
+
+    // Section names are truncated by the platform beyond this length.
+    private static final int MAX_SECTION_NAME_LENGTH = 127;
+
+    private static volatile boolean enabled = Boolean.getBoolean(SYSTEM_PROPERTY);
+    private static volatile boolean nativeEnabled;
+
+    private RealmTrace() {
+    }
+
+    /**
+     * Returns whether trace sections are currently emitted.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns on trace sections for the Java and the native layer. This requires the native library to be loaded.
+     * Calling this more than once has no effect.
+     */
+    public static synchronized void enable() {
+        if (nativeEnabled || Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN_MR2) {
+            return;
+        }
+        nativeSetEnabled(true);
+        nativeEnabled = true;
+        enabled = true;
+    }
+
+    /**
+     * Opens a synchronous trace section on the calling thread.
+     *
+     * @param name name of the section.
+     * @return {@code true} if a section was opened. Must be passed to the matching {@link #endSection(boolean)}.
+     */
+    public static boolean beginSection(String name) {
+        if (!enabled || Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN_MR2) {
+            return false;
+        }
+        beginSectionApi18(name);
+        return true;
+    }
+
+    /**
+     * Closes the section opened by the matching {@link #beginSection(String)}.
+     *
+     * @param traced the value returned by {@link #beginSection(String)}.
+     */
+    public static void endSection(boolean traced) {
+        if (traced) {
+            endSectionApi18();
+        }
+    }
+
+    /**
+     * Opens an asynchronous trace section, i.e. one that can be closed on a different thread. Only available from
+     * Android 10, on older versions nothing is emitted.
+     *
+     * @param name name of the section.
+     * @param cookie identifies the section together with the name. Must be passed to the matching
+     * {@link #endAsyncSection(String, int)}.
+     * @return {@code true} if a section was opened.
+     */
+    public static boolean beginAsyncSection(String name, int cookie) {
+        if (!enabled || Build.VERSION.SDK_INT < Build.VERSION_CODES.Q) {
+            return false;
+        }
+        beginAsyncSectionApi29(name, cookie);
+        return true;
+    }
+
+    /**
+     * Closes the section opened by the matching {@link #beginAsyncSection(String, int)}.
+     *
+     * @param name name of the section.
+     * @param cookie cookie of the section.
+     */
+    public static void endAsyncSection(String name, int cookie) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            endAsyncSectionApi29(name, cookie);
+        }
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+    private static void beginSectionApi18(String name) {
+        Trace.beginSection(truncate(name));
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+    private static void endSectionApi18() {
+        Trace.endSection();
+    }
+
+    @TargetApi(Build.VERSION_CODES.Q)
+    private static void beginAsyncSectionApi29(String name, int cookie) {
+        Trace.beginAsyncSection(truncate(name), cookie);
+    }
+
+    @TargetApi(Build.VERSION_CODES.Q)
+    private static void endAsyncSectionApi29(String name, int cookie) {
+        Trace.endAsyncSection(truncate(name), cookie);
+    }
+
+    private static String truncate(String name) {
+        return (name.length() <= MAX_SECTION_NAME_LENGTH) ? name : name.substring(0, MAX_SECTION_NAME_LENGTH);
+    }
+
+    private static native void nativeSetEnabled(boolean enabled);
+}
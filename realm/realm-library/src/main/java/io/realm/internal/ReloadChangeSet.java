@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.realm.internal;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Change set delivered instead of the real one when a collection changed in more places than its change set limit.
+ * It carries no indices or ranges, only the instruction to reload the whole collection.
+ *
+ * @see OsCollectionChangeSet#applyLimit(int)
+ */
+public class ReloadChangeSet extends OsCollectionChangeSet {
+
+    private static final int[] NO_INDEX_CHANGES = new int[0];
+    private static final Range[] NO_RANGE_CHANGES = new Range[0];
+
+    public ReloadChangeSet(boolean firstCallback) {
+        super(0, firstCallback);
+    }
+
+    @Override
+    public State getState() {
+        return isFirstAsyncCallback() ? State.INITIAL : State.UPDATE;
+    }
+
+    @Override
+    public int[] getDeletions() {
+        return NO_INDEX_CHANGES;
+    }
+
+    @Override
+    public int[] getInsertions() {
+        return NO_INDEX_CHANGES;
+    }
+
+    @Override
+    public int[] getChanges() {
+        return NO_INDEX_CHANGES;
+    }
+
+    @Override
+    public Range[] getDeletionRanges() {
+        return NO_RANGE_CHANGES;
+    }
+
+    @Override
+    public Range[] getInsertionRanges() {
+        return NO_RANGE_CHANGES;
+    }
+
+    @Override
+    public Range[] getChangeRanges() {
+        return NO_RANGE_CHANGES;
+    }
+
+    @Override
+    public Iterator<Range> getDeletionRangeIterator() {
+        return Collections.<Range>emptyList().iterator();
+    }
+
+    @Override
+    public Iterator<Range> getInsertionRangeIterator() {
+        return Collections.<Range>emptyList().iterator();
+    }
+
+    @Override
+    public Iterator<Range> getChangeRangeIterator() {
+        return Collections.<Range>emptyList().iterator();
+    }
+
+    @Override
+    public boolean isReloadRequired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        // The collection did change, it is just not described in detail.
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "Too many changes, reload the collection.";
+    }
+}
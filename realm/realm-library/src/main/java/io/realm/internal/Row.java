@@ -19,6 +19,7 @@ package io.realm.internal;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.nio.ByteBuffer;
 import java.util.Date;
 import java.util.UUID;
 
@@ -84,6 +85,64 @@ public interface Row {
 
     byte[] getBinaryByteArray(long columnKey);
 
+    /**
+     * Returns the size in bytes of a binary value or of the UTF-8 encoding of a string value.
+     *
+     * @param columnKey column key of a binary or string column.
+     * @return the size in bytes, or {@code -1} if the value is {@code null}.
+     */
+    long getByteSize(long columnKey);
+
+    /**
+     * Copies part of a binary value, or of the UTF-8 encoding of a string value, into {@code dst} without
+     * copying the whole value to the Java heap.
+     *
+     * @param columnKey column key of a binary or string column.
+     * @param position the position in the value to start copying from.
+     * @return the number of bytes copied, or {@code -1} if {@code position} is at the end of the value or the value is
+     * {@code null}.
+     */
+    int readBytes(long columnKey, long position, byte[] dst, int offset, int length);
+
+    /**
+     * Copies part of a binary value, or of the UTF-8 encoding of a string value, into the remaining space of
+     * {@code dst} and advances its position. Direct buffers are filled without any intermediate copy.
+     *
+     * @param columnKey column key of a binary or string column.
+     * @param position the position in the value to start copying from.
+     * @return the number of bytes copied, or {@code -1} if {@code position} is at the end of the value or the value is
+     * {@code null}.
+     */
+    int readBytes(long columnKey, long position, ByteBuffer dst);
+
+    /**
+     * Copies the stored UTF-8 encoding of a string value into {@code dst} without decoding it to UTF-16.
+     *
+     * @param columnKey column key of a string column.
+     * @return the number of bytes copied, or {@code -1} if the value is {@code null}.
+     * @throws java.nio.BufferOverflowException if the remaining space of {@code dst} is too small for the value. The
+     * buffer is left untouched in that case.
+     */
+    int getStringUtf8(long columnKey, ByteBuffer dst);
+
+    /**
+     * Returns a 64-bit FNV-1a hash of the stored UTF-8 encoding of a string value. The hash is the same as
+     * {@link io.realm.RealmUtf8Strings#hash(byte[], int, int)} returns for the encoded value.
+     *
+     * @param columnKey column key of a string column.
+     * @return the hash, or {@code 0} if the value is {@code null}.
+     */
+    long getStringHash(long columnKey);
+
+    /**
+     * Compares the stored UTF-8 encoding of a string value with {@code utf8} without decoding it to UTF-16.
+     *
+     * @param columnKey column key of a string column.
+     * @param utf8 the UTF-8 encoded value to compare with, or {@code null}.
+     * @return {@code true} if both values are {@code null} or consist of the same bytes.
+     */
+    boolean stringEquals(long columnKey, @Nullable byte[] utf8);
+
     Decimal128 getDecimal128(long columnKey);
 
     ObjectId getObjectId(long columnKey);
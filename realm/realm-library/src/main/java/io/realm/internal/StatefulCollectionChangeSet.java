@@ -1,5 +1,7 @@
 package io.realm.internal;
 
+import java.util.Iterator;
+
 import javax.annotation.Nullable;
 
 import io.realm.OrderedCollectionChangeSet;
@@ -69,6 +71,41 @@ public class StatefulCollectionChangeSet implements OrderedCollectionChangeSet {
         return changeset.getChangeRanges();
     }
 
+    @Override
+    public int getDeletionCount() {
+        return changeset.getDeletionCount();
+    }
+
+    @Override
+    public int getInsertionCount() {
+        return changeset.getInsertionCount();
+    }
+
+    @Override
+    public int getChangeCount() {
+        return changeset.getChangeCount();
+    }
+
+    @Override
+    public Iterator<Range> getDeletionRangeIterator() {
+        return changeset.getDeletionRangeIterator();
+    }
+
+    @Override
+    public Iterator<Range> getInsertionRangeIterator() {
+        return changeset.getInsertionRangeIterator();
+    }
+
+    @Override
+    public Iterator<Range> getChangeRangeIterator() {
+        return changeset.getChangeRangeIterator();
+    }
+
+    @Override
+    public boolean isReloadRequired() {
+        return changeset.isReloadRequired();
+    }
+
     @Nullable
     @Override
     public Throwable getError() {
@@ -46,6 +46,12 @@ public class Table implements NativeObject {
     public static final int MAX_BINARY_SIZE = 0xFFFFF8 - 8/*array header size*/;
     public static final int MAX_STRING_SIZE = 0xFFFFF8 - 8/*array header size*/ - 1;
 
+    // Layout of the statistics returned by getColumnStorageStats() for each column.
+    public static final int COLUMN_STATS_VALUE_BYTES = 0;
+    public static final int COLUMN_STATS_UNIQUE_VALUE_BYTES = 1;
+    public static final int COLUMN_STATS_ENUMERATED = 2;
+    public static final int COLUMN_STATS_SIZE = 3;
+
     private static final long nativeFinalizerPtr = nativeGetFinalizerPtr();
 
     private final long nativeTableRefPtr;
@@ -300,6 +306,70 @@ public class Table implements NativeObject {
         return nativeSize(nativeTableRefPtr);
     }
 
+    /**
+     * Reads the stored values of the given columns of all objects in this table once, so the pages of the
+     * memory-mapped file backing them are loaded into memory.
+     *
+     * @param columnKeys the keys of the columns to read, or an empty array to read all columns.
+     */
+    public void warmUp(long[] columnKeys) {
+        nativeWarmUp(nativeTableRefPtr, columnKeys);
+    }
+
+    /**
+     * Returns the storage statistics of the given columns, {@link #COLUMN_STATS_SIZE} values per column indexed by the
+     * {@code COLUMN_STATS_*} constants: the bytes taken by the stored values, the bytes taken by the distinct values
+     * of a string column ({@code -1} for other columns) and {@code 1} if the string column is stored enumerated.
+     *
+     * @param columnKeys the keys of the columns.
+     * @return the statistics of all columns.
+     */
+    public long[] getColumnStorageStats(long[] columnKeys) {
+        return nativeGetColumnStorageStats(nativeTableRefPtr, columnKeys);
+    }
+
+    /**
+     * Copies the value of one column into another column for all objects in this table. Both columns must be of the
+     * same type.
+     *
+     * @param fromColumnKey the key of the column to copy from.
+     * @param toColumnKey the key of the column to copy to.
+     */
+    public void copyColumn(long fromColumnKey, long toColumnKey) {
+        checkImmutable();
+        nativeCopyColumn(nativeTableRefPtr, fromColumnKey, toColumnKey);
+    }
+
+    /**
+     * Reads the values of the given columns for a range of objects in a single native call. Integer, boolean and date
+     * columns are returned as {@code long[]} (dates as milliseconds since the epoch), float and double columns as
+     * {@code double[]} and string columns as {@code String[]}.
+     *
+     * @param columnKeys the keys of the columns to read.
+     * @param start the index of the first object to read.
+     * @param count the number of objects to read.
+     * @return {@code {long[] objectKeys, values of column 0, boolean[] nulls of column 0, values of column 1, ...}}.
+     */
+    public Object[] readColumnBatch(long[] columnKeys, long start, int count) {
+        return nativeReadColumnBatch(nativeTableRefPtr, columnKeys, start, count);
+    }
+
+    /**
+     * Writes the values of the given columns for a set of objects in a single native call. The values use the same
+     * representation as {@link #readColumnBatch(long[], long, int)}. Objects which no longer exist are skipped.
+     *
+     * @param columnKeys the keys of the columns to write.
+     * @param objectKeys the keys of the objects to write.
+     * @param values the values of each column.
+     * @param nulls the null markers of each column.
+     * @param modifiedRows the markers of the objects to write in each column. Other objects are left untouched.
+     */
+    public void writeColumnBatch(long[] columnKeys, long[] objectKeys, Object[] values, boolean[][] nulls,
+            boolean[][] modifiedRows) {
+        checkImmutable();
+        nativeWriteColumnBatch(nativeTableRefPtr, columnKeys, objectKeys, values, nulls, modifiedRows);
+    }
+
     /**
      * Checks whether this table is empty or not.
      *
@@ -591,6 +661,27 @@ public class Table implements NativeObject {
         return nativeHasSearchIndex(nativeTableRefPtr, columnKey);
     }
 
+    public void addFullTextIndex(long columnKey) {
+        checkImmutable();
+        nativeAddFullTextIndex(nativeTableRefPtr, columnKey);
+    }
+
+    /**
+     * Returns whether the Realm Core version the library was built with supports full-text indexes.
+     */
+    public static boolean isFullTextIndexSupported() {
+        return nativeIsFullTextIndexSupported();
+    }
+
+    public void removeFullTextIndex(long columnKey) {
+        checkImmutable();
+        nativeRemoveFullTextIndex(nativeTableRefPtr, columnKey);
+    }
+
+    public boolean hasFullTextIndex(long columnKey) {
+        return nativeHasFullTextIndex(nativeTableRefPtr, columnKey);
+    }
+
     public boolean isNullLink(long columnKey, long rowKey) {
         return nativeIsNullLink(nativeTableRefPtr, columnKey, rowKey);
     }
@@ -841,6 +932,17 @@ public class Table implements NativeObject {
 
     private native void nativeClear(long nativeTableRefPtr);
 
+    private native void nativeWarmUp(long nativeTableRefPtr, long[] columnKeys);
+
+    private native long[] nativeGetColumnStorageStats(long nativeTableRefPtr, long[] columnKeys);
+
+    private native void nativeCopyColumn(long nativeTableRefPtr, long fromColumnKey, long toColumnKey);
+
+    private native Object[] nativeReadColumnBatch(long nativeTableRefPtr, long[] columnKeys, long start, int count);
+
+    private native void nativeWriteColumnBatch(long nativeTableRefPtr, long[] columnKeys, long[] objectKeys,
+            Object[] values, boolean[][] nulls, boolean[][] modifiedRows);
+
     private native long nativeGetColumnCount(long nativeTableRefPtr);
 
     private native String nativeGetColumnName(long nativeTableRefPtr, long columnKey);
@@ -913,6 +1015,14 @@ public class Table implements NativeObject {
 
     private native boolean nativeHasSearchIndex(long nativePtr, long columnKey);
 
+    private native void nativeAddFullTextIndex(long nativePtr, long columnKey);
+
+    private static native boolean nativeIsFullTextIndexSupported();
+
+    private native void nativeRemoveFullTextIndex(long nativePtr, long columnKey);
+
+    private native boolean nativeHasFullTextIndex(long nativePtr, long columnKey);
+
     private native boolean nativeIsNullLink(long nativePtr, long columnKey, long rowKey);
 
     public static native void nativeNullifyLink(long nativePtr, long columnKey, long rowKey);
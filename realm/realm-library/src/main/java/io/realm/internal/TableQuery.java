@@ -27,12 +27,36 @@ import io.realm.RealmAnyNativeFunctionsImpl;
 import io.realm.Sort;
 import io.realm.internal.core.NativeRealmAny;
 import io.realm.internal.objectstore.OsKeyPathMapping;
+import io.realm.log.LogCategory;
+import io.realm.log.LogLevel;
 import io.realm.log.RealmLog;
 
 
 public class TableQuery implements NativeObject {
     private static final boolean DEBUG = false;
 
+    // Aggregates supported by groupBy(). Must be kept in sync with nativeGroupBy().
+    public static final int GROUP_BY_COUNT = 0;
+    public static final int GROUP_BY_SUM = 1;
+    public static final int GROUP_BY_AVERAGE = 2;
+    public static final int GROUP_BY_MINIMUM = 3;
+    public static final int GROUP_BY_MAXIMUM = 4;
+
+    // Argument types of rawPredicateWithTypedArguments(). Must be kept in sync with
+    // nativeRawPredicateWithTypedArguments().
+    public static final byte ARGUMENT_TYPE_NULL = 0;
+    public static final byte ARGUMENT_TYPE_INTEGER = 1;
+    public static final byte ARGUMENT_TYPE_BOOLEAN = 2;
+    public static final byte ARGUMENT_TYPE_STRING = 3;
+    public static final byte ARGUMENT_TYPE_BINARY = 4;
+    public static final byte ARGUMENT_TYPE_DATE = 5;
+    public static final byte ARGUMENT_TYPE_FLOAT = 6;
+    public static final byte ARGUMENT_TYPE_DOUBLE = 7;
+    public static final byte ARGUMENT_TYPE_DECIMAL128 = 8;
+    public static final byte ARGUMENT_TYPE_OBJECT_ID = 9;
+    public static final byte ARGUMENT_TYPE_UUID = 10;
+    public static final byte ARGUMENT_TYPE_POINTER = 11;
+
     private static final long nativeFinalizerPtr = nativeGetFinalizerPtr();
 
     private final Table table;
@@ -43,15 +67,14 @@ public class TableQuery implements NativeObject {
     private boolean queryValidated = true;
 
     private static String escapeFieldName(@Nullable String fieldName) {
-        if (fieldName == null) { return null; }
-        return fieldName.replace(" ", "\\ ");
+        return QueryDescriptors.escapeFieldName(fieldName);
     }
 
     public TableQuery(NativeContext context,
             Table table,
             long nativeQueryPtr) {
         if (DEBUG) {
-            RealmLog.debug("New TableQuery: ptr=%x", nativeQueryPtr);
+            RealmLog.log(LogCategory.QUERY, LogLevel.DEBUG, null, "New TableQuery: ptr=%x", nativeQueryPtr);
         }
         this.table = table;
         this.nativePtr = nativeQueryPtr;
@@ -112,23 +135,7 @@ public class TableQuery implements NativeObject {
     }
 
     public static String buildSortDescriptor(String[] fieldNames, Sort[] sortOrders) {
-        StringBuilder descriptorBuilder = new StringBuilder("SORT(");
-
-        String sortSeparator = "";
-        for (int i = 0; i < fieldNames.length; i++) {
-            String fieldName = fieldNames[i];
-
-            descriptorBuilder.append(sortSeparator)
-                    .append(escapeFieldName(fieldName))
-                    .append(" ")
-                    .append((sortOrders[i] == Sort.ASCENDING) ? "ASC" : "DESC");
-
-            sortSeparator = ", ";
-        }
-
-        descriptorBuilder.append(")");
-
-        return descriptorBuilder.toString();
+        return QueryDescriptors.buildSortDescriptor(fieldNames, sortOrders);
     }
 
     public TableQuery sort(@Nullable OsKeyPathMapping mapping, String[] fieldNames, Sort[] sortOrders) {
@@ -138,19 +145,7 @@ public class TableQuery implements NativeObject {
     }
 
     public static String buildDistinctDescriptor(String[] fieldNames) {
-        StringBuilder descriptorBuilder = new StringBuilder("DISTINCT(");
-
-        String distinctSeparator = "";
-        for (String fieldName : fieldNames) {
-            descriptorBuilder.append(distinctSeparator)
-                    .append(escapeFieldName(fieldName));
-
-            distinctSeparator = ", ";
-        }
-
-        descriptorBuilder.append(")");
-
-        return descriptorBuilder.toString();
+        return QueryDescriptors.buildDistinctDescriptor(fieldNames);
     }
 
     public TableQuery distinct(@Nullable OsKeyPathMapping mapping, String[] fieldNames) {
@@ -159,6 +154,14 @@ public class TableQuery implements NativeObject {
         return this;
     }
 
+    /**
+     * Returns a copy of this query. Conditions and descriptors added to the copy do not change this query.
+     */
+    public TableQuery copy() {
+        validateQuery();
+        return new TableQuery(table.getSharedRealm().context, table, nativeCopy(nativePtr));
+    }
+
     public TableQuery limit(long limit) {
         rawDescriptor(null, "LIMIT(" + limit + ")");
         return this;
@@ -188,6 +191,24 @@ public class TableQuery implements NativeObject {
                 (mapping != null) ? mapping.getNativePtr() : 0);
     }
 
+    /**
+     * Adds a predicate whose arguments are passed by value instead of as pointers to native values.
+     * Argument {@code i} has the type {@code types[i]} and is stored in {@code longs[2 * i]} (integers, booleans,
+     * dates, pointers and the low bits of Decimal128s), {@code longs[2 * i + 1]} (the high bits of Decimal128s),
+     * {@code doubles[i]} (floats and doubles) or {@code objects[i]} (strings, binaries and the string form of
+     * ObjectIds and UUIDs).
+     */
+    public void rawPredicateWithTypedArguments(@Nullable OsKeyPathMapping mapping, String predicate, byte[] types,
+            long[] longs, double[] doubles, Object[] objects) {
+        nativeRawPredicateWithTypedArguments(nativePtr,
+                predicate,
+                types,
+                longs,
+                doubles,
+                objects,
+                (mapping != null) ? mapping.getNativePtr() : 0);
+    }
+
     private void rawDescriptor(@Nullable OsKeyPathMapping mapping, String descriptor) {
         nativeRawDescriptor(nativePtr,
                 descriptor,
@@ -296,6 +317,12 @@ public class TableQuery implements NativeObject {
         return this;
     }
 
+    public TableQuery textSearch(@Nullable OsKeyPathMapping mapping, String fieldName, RealmAny value) {
+        realmAnyNativeFunctions.callRawPredicate(this, mapping, escapeFieldName(fieldName) + " TEXT $0", value);
+        queryValidated = false;
+        return this;
+    }
+
     // Dictionary queries
 
     public TableQuery containsKey(@Nullable OsKeyPathMapping mapping, String fieldName, RealmAny key) {
@@ -342,45 +369,34 @@ public class TableQuery implements NativeObject {
     }
 
     public TableQuery in(@Nullable OsKeyPathMapping mapping, String fieldName, RealmAny[] values) {
-        fieldName = escapeFieldName(fieldName);
-
-        beginGroup();
-
-        boolean first = true;
-        for (RealmAny value : values) {
-            if (!first) { or(); }
-            if (value == null) {
-                isNull(mapping, fieldName);
-            } else {
-                equalTo(mapping, fieldName, value);
-            }
-            first = false;
-        }
-        endGroup();
-
-        queryValidated = false;
+        inWithOperator(mapping, fieldName, " = $", values);
         return this;
     }
 
     public TableQuery inInsensitive(@Nullable OsKeyPathMapping mapping, String fieldName, RealmAny[] values) {
-        fieldName = escapeFieldName(fieldName);
-
-        beginGroup();
-
-        boolean first = true;
-        for (RealmAny value : values) {
-            if (!first) { or(); }
-            if (value == null) {
-                isNull(mapping, fieldName);
-            } else {
-                equalToInsensitive(mapping, fieldName, value);
-            }
-            first = false;
+        inWithOperator(mapping, fieldName, " =[c] $", values);
+        return this;
+    }
+
+    // Builds a single "(field = $0 OR field = $1 ...)" predicate, so all values are sent to native code and parsed
+    // in one call.
+    private void inWithOperator(@Nullable OsKeyPathMapping mapping, String fieldName, String operator, RealmAny[] values) {
+        if (values.length == 0) {
+            alwaysFalse();
+            return;
+        }
+        String escapedFieldName = escapeFieldName(fieldName);
+        StringBuilder predicate = new StringBuilder("(");
+        RealmAny[] arguments = new RealmAny[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) { predicate.append(" OR "); }
+            predicate.append(escapedFieldName).append(operator).append(i);
+            arguments[i] = (values[i] == null) ? RealmAny.nullValue() : values[i];
         }
-        endGroup();
+        predicate.append(")");
 
+        realmAnyNativeFunctions.callRawPredicate(this, mapping, predicate.toString(), arguments);
         queryValidated = false;
-        return this;
     }
 
     // Searching methods.
@@ -557,6 +573,62 @@ public class TableQuery implements NativeObject {
         return nativeCount(nativePtr);
     }
 
+    /**
+     * Groups the matching objects by the value found at the end of {@code keyPath} and aggregates
+     * {@code valueColumnKey} for each group in a single pass in native code.
+     *
+     * @param keyPath column keys of the to-one links to follow, ending with the column key of the grouping field.
+     * @param valueColumnKey column key of the aggregated field or {@code -1} when only counting.
+     * @param aggregate one of the {@code GROUP_BY_*} constants.
+     * @param dateBucketMillis size of the buckets used for date keys, or {@code 0} to group on exact values.
+     * @return an array with the keys ({@code long[]} or {@code String[]}), the aggregated values ({@code double[]}),
+     * the number of objects in each group ({@code long[]}), whether the first group is the {@code null} group and
+     * the exact aggregated values ({@code long[]}) for sums, minimums and maximums of integer fields, otherwise
+     * {@code null}.
+     */
+    public Object[] groupBy(long[] keyPath, long valueColumnKey, int aggregate, long dateBucketMillis) {
+        validateQuery();
+        return nativeGroupBy(nativePtr, keyPath, valueColumnKey, aggregate, dateBucketMillis);
+    }
+
+    // Parallel evaluation
+
+    public static final int AGGREGATE_SUM = 0;
+    public static final int AGGREGATE_AVERAGE = 1;
+    public static final int AGGREGATE_MINIMUM = 2;
+    public static final int AGGREGATE_MAXIMUM = 3;
+
+    /**
+     * Counts the matching objects by evaluating the query on up to {@code threadCount} partitions of the table
+     * concurrently. All partitions are evaluated on the read version of the calling thread.
+     */
+    public long parallelCount(int threadCount) {
+        validateQuery();
+        return nativeParallelCount(nativePtr, table.getSharedRealm().getNativePtr(), threadCount);
+    }
+
+    /**
+     * Aggregates an integer column on up to {@code threadCount} partitions of the table concurrently.
+     *
+     * @param aggregate one of the {@code AGGREGATE_*} constants.
+     * @return {@code [value, number of values]}. The value is the sum for {@link #AGGREGATE_SUM} and
+     * {@link #AGGREGATE_AVERAGE}. A count of {@code 0} means no minimum or maximum was found.
+     */
+    public long[] parallelAggregateInt(long columnKey, int aggregate, int threadCount) {
+        validateQuery();
+        return nativeParallelAggregateInt(nativePtr, table.getSharedRealm().getNativePtr(), columnKey, aggregate, threadCount);
+    }
+
+    /**
+     * Aggregates a float or double column on up to {@code threadCount} partitions of the table concurrently.
+     *
+     * @see #parallelAggregateInt(long, int, int)
+     */
+    public double[] parallelAggregateDouble(long columnKey, int aggregate, int threadCount) {
+        validateQuery();
+        return nativeParallelAggregateDouble(nativePtr, table.getSharedRealm().getNativePtr(), columnKey, aggregate, threadCount);
+    }
+
     public long remove() {
         validateQuery();
         if (table.isImmutable()) { throwImmutable(); }
@@ -567,8 +639,18 @@ public class TableQuery implements NativeObject {
         throw new IllegalStateException("Mutable method call during read transaction.");
     }
 
+    private native long nativeCopy(long nativeQueryPtr);
+
     private native long nativeFind(long nativeQueryPtr);
 
+    private native long nativeParallelCount(long nativeQueryPtr, long sharedRealmPtr, int threadCount);
+
+    private native long[] nativeParallelAggregateInt(long nativeQueryPtr, long sharedRealmPtr, long columnKey, int aggregate, int threadCount);
+
+    private native double[] nativeParallelAggregateDouble(long nativeQueryPtr, long sharedRealmPtr, long columnKey, int aggregate, int threadCount);
+
+    private native Object[] nativeGroupBy(long nativeQueryPtr, long[] keyPath, long valueColumnKey, int aggregate, long dateBucketMillis);
+
     private native long nativeSumInt(long nativeQueryPtr, long columnKey);
 
     private native Long nativeMaximumInt(long nativeQueryPtr, long columnKey);
@@ -617,6 +699,8 @@ public class TableQuery implements NativeObject {
 
     private native long nativeRemove(long nativeQueryPtr);
 
+    private native void nativeRawPredicateWithTypedArguments(long nativeQueryPtr, String filter, byte[] types, long[] longs, double[] doubles, Object[] objects, long mappingPtr);
+
     private native void nativeRawPredicate(long nativeQueryPtr, String filter, long[] argsPtr, long mappingPtr);
 
     private native void nativeRawDescriptor(long nativeQueryPtr, String descriptor, long mappingPtr);
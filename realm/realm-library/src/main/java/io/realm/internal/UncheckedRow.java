@@ -19,6 +19,9 @@ package io.realm.internal;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.Date;
 import java.util.UUID;
 
@@ -166,6 +169,67 @@ public class UncheckedRow implements NativeObject, Row {
         return nativeGetByteArray(nativePtr, columnKey);
     }
 
+    @Override
+    public long getByteSize(long columnKey) {
+        return nativeGetByteSize(nativePtr, columnKey);
+    }
+
+    @Override
+    public int readBytes(long columnKey, long position, byte[] dst, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > dst.length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length + ") is out of bounds for length " + dst.length);
+        }
+        if (length == 0) {
+            return 0;
+        }
+        return nativeReadBytes(nativePtr, columnKey, position, dst, offset, length);
+    }
+
+    @Override
+    public int readBytes(long columnKey, long position, ByteBuffer dst) {
+        if (dst.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+        int read;
+        if (dst.isDirect()) {
+            read = nativeReadBytesToBuffer(nativePtr, columnKey, position, dst, dst.position(), dst.remaining());
+        } else {
+            read = nativeReadBytes(nativePtr, columnKey, position, dst.array(), dst.arrayOffset() + dst.position(), dst.remaining());
+        }
+        if (read > 0) {
+            dst.position(dst.position() + read);
+        }
+        return read;
+    }
+
+    @Override
+    public int getStringUtf8(long columnKey, ByteBuffer dst) {
+        if (getColumnType(columnKey) != RealmFieldType.STRING) {
+            throw new IllegalArgumentException("Only string fields can be read as UTF-8.");
+        }
+        long size = nativeGetByteSize(nativePtr, columnKey);
+        if (size <= 0) {
+            return (int) size;
+        }
+        if (size > dst.remaining()) {
+            throw new BufferOverflowException();
+        }
+        return readBytes(columnKey, 0, dst);
+    }
+
+    @Override
+    public long getStringHash(long columnKey) {
+        return nativeGetStringHash(nativePtr, columnKey);
+    }
+
+    @Override
+    public boolean stringEquals(long columnKey, @Nullable byte[] utf8) {
+        return nativeStringEquals(nativePtr, columnKey, utf8);
+    }
+
     @Override
     public Decimal128 getDecimal128(long columnKey) {
         long[] data = nativeGetDecimal128(nativePtr, columnKey);
@@ -442,6 +506,16 @@ public class UncheckedRow implements NativeObject, Row {
 
     protected native byte[] nativeGetByteArray(long nativePtr, long columnKey);
 
+    protected native long nativeGetByteSize(long nativePtr, long columnKey);
+
+    protected native int nativeReadBytes(long nativePtr, long columnKey, long position, byte[] dst, int offset, int length);
+
+    protected native int nativeReadBytesToBuffer(long nativePtr, long columnKey, long position, ByteBuffer dst, int bufferPosition, int length);
+
+    protected native long nativeGetStringHash(long nativePtr, long columnKey);
+
+    protected native boolean nativeStringEquals(long nativePtr, long columnKey, @Nullable byte[] utf8);
+
     // Returns String representation for Decimal128()
     protected native long[] nativeGetDecimal128(long nativePtr, long columnKey);
 
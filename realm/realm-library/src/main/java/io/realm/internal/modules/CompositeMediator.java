@@ -22,9 +22,11 @@ import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -88,6 +90,33 @@ public class CompositeMediator extends RealmProxyMediator {
         return infoMap;
     }
 
+    @Override
+    public OsObjectSchemaInfo getExpectedObjectSchemaInfo(Class<? extends RealmModel> clazz) {
+        RealmProxyMediator mediator = getMediator(clazz);
+        return mediator.getExpectedObjectSchemaInfo(clazz);
+    }
+
+    @Override
+    public long getSchemaFingerprint() {
+        Set<RealmProxyMediator> distinctMediators = new HashSet<>(mediators.values());
+        long[] fingerprints = new long[distinctMediators.size()];
+        int i = 0;
+        for (RealmProxyMediator mediator : distinctMediators) {
+            long fingerprint = mediator.getSchemaFingerprint();
+            if (fingerprint == 0) {
+                return 0;
+            }
+            fingerprints[i++] = fingerprint;
+        }
+        // The order of the modules doesn't matter for the resulting schema.
+        Arrays.sort(fingerprints);
+        long hash = 0xcbf29ce484222325L;
+        for (long fingerprint : fingerprints) {
+            hash = mixSchemaFingerprint(hash, fingerprint);
+        }
+        return (hash == 0) ? 1 : hash;
+    }
+
     @Override
     public ColumnInfo createColumnInfo(Class<? extends RealmModel> clazz, OsSchemaInfo osSchemaInfo) {
         RealmProxyMediator mediator = getMediator(clazz);
@@ -22,6 +22,7 @@ import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -105,6 +106,30 @@ public class FilterableMediator extends RealmProxyMediator {
         return infoMap;
     }
 
+    @Override
+    public OsObjectSchemaInfo getExpectedObjectSchemaInfo(Class<? extends RealmModel> clazz) {
+        checkSchemaHasClass(clazz);
+        return originalMediator.getExpectedObjectSchemaInfo(clazz);
+    }
+
+    @Override
+    public long getSchemaFingerprint() {
+        long fingerprint = originalMediator.getSchemaFingerprint();
+        if (fingerprint == 0) {
+            return 0;
+        }
+        List<String> classNames = new ArrayList<>(classes.size());
+        for (Class<? extends RealmModel> clazz : classes) {
+            classNames.add(originalMediator.getSimpleClassName(clazz));
+        }
+        Collections.sort(classNames);
+        long hash = fingerprint;
+        for (String className : classNames) {
+            hash = mixSchemaFingerprint(hash, className.hashCode());
+        }
+        return (hash == 0) ? 1 : hash;
+    }
+
     @Override
     public ColumnInfo createColumnInfo(Class<? extends RealmModel> clazz, OsSchemaInfo osSchemaInfo) {
         checkSchemaHasClass(clazz);
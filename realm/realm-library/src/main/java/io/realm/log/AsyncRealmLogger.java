@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.log;
+
+import java.io.Closeable;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+
+/**
+ * A {@link RealmLogger} that hands log events to another logger on a background thread, so slow loggers, e.g.
+ * loggers writing to a file, do not block the threads logging.
+ * <p>
+ * Events are kept in a bounded ring buffer. If the buffer is full, new events are dropped instead of blocking the
+ * caller. The number of dropped events is available from {@link #getDroppedCount()} and is also reported to the
+ * wrapped logger as a {@link LogLevel#WARN} event once the background thread has caught up.
+ * <pre>
+ * {@code
+ * RealmLog.add(new AsyncRealmLogger(new FileLogger(logFile)));
+ * }
+ * </pre>
+ */
+public class AsyncRealmLogger implements RealmLogger, Closeable {
+
+    /**
+     * The number of events buffered if no capacity is given.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final String TAG = "REALM_JAVA";
+    // Queued by close() behind the pending events to stop the writer thread.
+    private static final Event CLOSE_EVENT = new Event(LogLevel.OFF, TAG, null, null);
+
+    private final RealmLogger delegate;
+    private final int capacity;
+    private final ArrayBlockingQueue<Event> buffer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean closed = false;
+    // Only accessed by the writer thread.
+    private long reportedDroppedCount = 0;
+
+    /**
+     * Creates a logger buffering up to {@link #DEFAULT_CAPACITY} events.
+     *
+     * @param delegate the logger receiving the events on the background thread.
+     */
+    public AsyncRealmLogger(RealmLogger delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a logger buffering up to {@code capacity} events.
+     *
+     * @param delegate the logger receiving the events on the background thread.
+     * @param capacity the maximum number of events waiting to be written.
+     * @throws IllegalArgumentException if {@code delegate} is {@code null} or {@code capacity} is not positive.
+     */
+    public AsyncRealmLogger(RealmLogger delegate, int capacity) {
+        //noinspection ConstantConditions
+        if (delegate == null) {
+            throw new IllegalArgumentException("A non-null logger has to be provided");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.writerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                writeEvents();
+            }
+        }, "RealmLogger");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void log(int level, String tag, @Nullable Throwable throwable, @Nullable String message) {
+        if (closed) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        Event event = new Event(level, tag, throwable, message);
+        if (!buffer.offer(event)) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        // If the logger was closed concurrently, the event may be behind the close event and would never be
+        // written. Taking it back counts it as dropped, unless the writer thread got it first.
+        if (closed && buffer.remove(event)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full or the logger was closed.
+     *
+     * @return the number of dropped events.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Stops accepting events and waits until the events already buffered have been written.
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            if (!closed) {
+                closed = true;
+                buffer.put(CLOSE_EVENT);
+            }
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeEvents() {
+        try {
+            Event event;
+            while ((event = buffer.take()) != CLOSE_EVENT) {
+                write(event);
+                if (buffer.isEmpty()) {
+                    reportDroppedEvents();
+                }
+            }
+        } catch (InterruptedException ignored) {
+        }
+        reportDroppedEvents();
+    }
+
+    private void write(Event event) {
+        try {
+            delegate.log(event.level, event.tag, event.throwable, event.message);
+        } catch (RuntimeException ignored) {
+            // A failing event must not stop the writer thread.
+        }
+    }
+
+    private void reportDroppedEvents() {
+        long dropped = droppedCount.get();
+        if (dropped > reportedDroppedCount) {
+            String message = String.format(Locale.US, "Dropped %d log events (buffer capacity: %d).",
+                    dropped - reportedDroppedCount, capacity);
+            reportedDroppedCount = dropped;
+            try {
+                delegate.log(LogLevel.WARN, TAG, null, message);
+            } catch (RuntimeException ignored) {
+            }
+        }
+    }
+
+    private static class Event {
+        final int level;
+        final String tag;
+        @Nullable final Throwable throwable;
+        @Nullable final String message;
+
+        Event(int level, String tag, @Nullable Throwable throwable, @Nullable String message) {
+            this.level = level;
+            this.tag = tag;
+            this.throwable = throwable;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.log;
+
+/**
+ * Categories of the log events emitted by the Java part of Realm. Each category can be given its own
+ * {@link LogLevel} using {@link RealmLog#setLevel(LogCategory, int)}, e.g. to get debug output for sync
+ * without enabling it for queries.
+ * <p>
+ * Log events from the native part of Realm are not categorized and are only filtered by the level set with
+ * {@link RealmLog#setLevel(int)}.
+ */
+public enum LogCategory {
+    /**
+     * Opening, compacting and deleting Realm files.
+     */
+    STORAGE,
+
+    /**
+     * Building and running queries.
+     */
+    QUERY,
+
+    /**
+     * Sync sessions and their lifecycle.
+     */
+    SYNC,
+
+    /**
+     * HTTP requests and network connectivity.
+     */
+    NETWORK,
+
+    /**
+     * Change listeners and notifications.
+     */
+    NOTIFICATIONS
+}
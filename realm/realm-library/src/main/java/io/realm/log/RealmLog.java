@@ -19,6 +19,7 @@ package io.realm.log;
 import android.util.Log;
 
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import javax.annotation.Nullable;
 
@@ -32,6 +33,24 @@ public final class RealmLog {
     @SuppressWarnings("FieldCanBeLocal")
     private static String REALM_JAVA_TAG = "REALM_JAVA";
 
+    // LogLevel.ALL is 1, so 0 can mark a level that has not been set.
+    private static final int LEVEL_NOT_SET = 0;
+
+    // The native level is only changed through setLevel(), so it is cached to avoid a JNI call for every log event.
+    private static volatile int cachedLevel = LEVEL_NOT_SET;
+    private static final AtomicIntegerArray categoryLevels = new AtomicIntegerArray(LogCategory.values().length);
+
+    @Nullable
+    private static volatile AsyncRealmLogger asyncDispatcher;
+
+    // Passes events written by the async dispatcher on to the native loggers.
+    private static final RealmLogger NATIVE_DISPATCHER = new RealmLogger() {
+        @Override
+        public void log(int level, String tag, @Nullable Throwable throwable, @Nullable String message) {
+            nativeLog(level, tag, throwable, message);
+        }
+    };
+
     /**
      * Adds a logger implementation that will be notified on log events.
      *
@@ -51,10 +70,9 @@ public final class RealmLog {
      * @param level see {@link LogLevel}.
      */
     public static void setLevel(int level) {
-        if (level < LogLevel.ALL || level > LogLevel.OFF) {
-            throw new IllegalArgumentException("Invalid log level: " + level);
-        }
+        checkLevel(level);
         nativeSetLogLevel(level);
+        cachedLevel = level;
     }
 
     /**
@@ -63,7 +81,121 @@ public final class RealmLog {
      * @return the current {@link LogLevel}.
      */
     public static int getLevel() {
-        return nativeGetLogLevel();
+        int level = cachedLevel;
+        if (level == LEVEL_NOT_SET) {
+            level = nativeGetLogLevel();
+            cachedLevel = level;
+        }
+        return level;
+    }
+
+    /**
+     * Sets the {@link LogLevel} for events of the given category, overriding the level set by
+     * {@link #setLevel(int)} for them. The level can be more verbose than the global one, e.g. to get debug output
+     * for sync only.
+     *
+     * @param category the category to set the level for.
+     * @param level see {@link LogLevel}.
+     */
+    public static void setLevel(LogCategory category, int level) {
+        checkCategory(category);
+        checkLevel(level);
+        categoryLevels.set(category.ordinal(), level);
+    }
+
+    /**
+     * Returns the {@link LogLevel} used for events of the given category. This is the level set by
+     * {@link #setLevel(LogCategory, int)}, or the global level if none has been set for the category.
+     *
+     * @param category the category to get the level for.
+     * @return the {@link LogLevel} of the category.
+     */
+    public static int getLevel(LogCategory category) {
+        checkCategory(category);
+        int level = categoryLevels.get(category.ordinal());
+        return (level != LEVEL_NOT_SET) ? level : getLevel();
+    }
+
+    /**
+     * Removes the level set for the given category, so its events are filtered by the global level again.
+     *
+     * @param category the category to reset.
+     */
+    public static void resetLevel(LogCategory category) {
+        checkCategory(category);
+        categoryLevels.set(category.ordinal(), LEVEL_NOT_SET);
+    }
+
+    /**
+     * Checks if events of the given level are logged. This can be used to avoid building expensive log messages.
+     *
+     * @param level see {@link LogLevel}.
+     * @return {@code true} if events of the given level are logged, {@code false} otherwise.
+     */
+    public static boolean isLoggable(int level) {
+        return level >= getLevel();
+    }
+
+    /**
+     * Checks if events of the given level and category are logged. This can be used to avoid building expensive
+     * log messages.
+     *
+     * @param category the category of the event.
+     * @param level see {@link LogLevel}.
+     * @return {@code true} if events of the given level are logged for the category, {@code false} otherwise.
+     */
+    public static boolean isLoggable(LogCategory category, int level) {
+        return level >= getLevel(category);
+    }
+
+    /**
+     * Makes events logged through this class be passed to the loggers on a background thread instead of on the
+     * thread logging them. Up to {@code capacity} events are buffered, further events are dropped until the
+     * background thread catches up, see {@link #getDroppedEventCount()}.
+     * <p>
+     * Messages are still formatted on the thread logging them, so arguments confined to that thread, e.g. Realm
+     * objects, can be logged. Events from the native part of Realm are not affected, wrap a logger in an
+     * {@link AsyncRealmLogger} for that.
+     *
+     * @param capacity the maximum number of events waiting to be written.
+     */
+    public static synchronized void enableAsyncLogging(int capacity) {
+        AsyncRealmLogger previous = asyncDispatcher;
+        asyncDispatcher = new AsyncRealmLogger(NATIVE_DISPATCHER, capacity);
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Makes events be passed to the loggers on the thread logging them again. Events already buffered are written
+     * before this method returns.
+     */
+    public static synchronized void disableAsyncLogging() {
+        AsyncRealmLogger previous = asyncDispatcher;
+        asyncDispatcher = null;
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Checks if asynchronous logging is enabled.
+     *
+     * @return {@code true} if {@link #enableAsyncLogging(int)} has been called, {@code false} otherwise.
+     */
+    public static boolean isAsyncLoggingEnabled() {
+        return asyncDispatcher != null;
+    }
+
+    /**
+     * Returns the number of events dropped since asynchronous logging was enabled.
+     *
+     * @return the number of dropped events, or {@code 0} if asynchronous logging is disabled.
+     */
+    public static long getDroppedEventCount() {
+        AsyncRealmLogger dispatcher = asyncDispatcher;
+        return (dispatcher != null) ? dispatcher.getDroppedCount() : 0;
     }
 
     /**
@@ -276,12 +408,44 @@ public final class RealmLog {
         log(LogLevel.FATAL, throwable, message, args);
     }
 
-    // Formats the message, parses the stacktrace of given throwable and passes them to nativeLog.
+    /**
+     * Logs an event of the given category.
+     *
+     * @param category the category of the event.
+     * @param level the {@link LogLevel} of the event, between {@link LogLevel#TRACE} and {@link LogLevel#FATAL}.
+     * @param throwable optional exception to log.
+     * @param message optional message.
+     * @param args optional args used to format the message using {@link String#format(String, Object...)}.
+     */
+    public static void log(LogCategory category, int level, @Nullable Throwable throwable, @Nullable String message,
+            Object... args) {
+        checkCategory(category);
+        if (level >= getLevel(category)) {
+            dispatch(level, throwable, message, args);
+        }
+    }
+
     private static void log(int level, @Nullable Throwable throwable, @Nullable String message, @Nullable Object... args) {
-        if (level < getLevel()) {
-            return;
+        if (level >= getLevel()) {
+            dispatch(level, throwable, message, args);
+        }
+    }
+
+    // Level checks are done by the callers, the native side passes the event on to all loggers.
+    private static void dispatch(int level, @Nullable Throwable throwable, @Nullable String message,
+            @Nullable Object... args) {
+        // Arguments may be thread confined, so they are formatted before the event is handed to the dispatcher.
+        String formattedMessage = formatMessage(throwable, message, args);
+        AsyncRealmLogger dispatcher = asyncDispatcher;
+        if (dispatcher != null) {
+            dispatcher.log(level, REALM_JAVA_TAG, throwable, formattedMessage);
+        } else {
+            nativeLog(level, REALM_JAVA_TAG, throwable, formattedMessage);
         }
+    }
 
+    // Formats the message and prepends the stacktrace of given throwable.
+    private static String formatMessage(@Nullable Throwable throwable, @Nullable String message, @Nullable Object... args) {
         StringBuilder stringBuilder = new StringBuilder();
         if (message != null && args != null && args.length > 0) {
             message = String.format(Locale.US, message, args);
@@ -295,7 +459,20 @@ public final class RealmLog {
             }
             stringBuilder.append(message);
         }
-        nativeLog(level, REALM_JAVA_TAG, throwable, stringBuilder.toString());
+        return stringBuilder.toString();
+    }
+
+    private static void checkLevel(int level) {
+        if (level < LogLevel.ALL || level > LogLevel.OFF) {
+            throw new IllegalArgumentException("Invalid log level: " + level);
+        }
+    }
+
+    private static void checkCategory(LogCategory category) {
+        //noinspection ConstantConditions
+        if (category == null) {
+            throw new IllegalArgumentException("A non-null category has to be provided");
+        }
     }
 
     private static native void nativeAddLogger(RealmLogger logger);
@@ -16,7 +16,12 @@
 
 package io.realm.internal.jni;
 
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonReader;
+import org.bson.BsonType;
 import org.bson.BsonValue;
+import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
 import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
@@ -24,6 +29,7 @@ import org.bson.codecs.Encoder;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecConfigurationException;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
 import org.bson.json.JsonMode;
 import org.bson.json.JsonReader;
 import org.bson.json.JsonWriter;
@@ -31,6 +37,9 @@ import org.bson.json.JsonWriterSettings;
 
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 import io.realm.mongodb.ErrorCode;
 import io.realm.mongodb.AppException;
@@ -40,11 +49,21 @@ import io.realm.mongodb.AppException;
  * <p>
  * For now this just encapsulated the BSON value in a document with key {@value VALUE}. This
  * overcomes the shortcoming of {@code org.bson.JsonWrite} not being able to serialize single values.
+ * <p>
+ * The wrapping document is either serialized as binary BSON into a direct {@link ByteBuffer} or as
+ * extended JSON into a {@link String}. Native code replies in the format of the arguments of a call,
+ * so results should be decoded with {@link #decodeResult(Object, Decoder)}, which accepts both.
+ * Binary transport can be disabled by setting the system property {@value TRANSPORT_PROPERTY} to
+ * {@code json}.
  */
 public class JniBsonProtocol {
 
     private static final String VALUE = "value";
 
+    public static final String TRANSPORT_PROPERTY = "io.realm.bson.transport";
+
+    private static volatile boolean binaryTransport = !"json".equalsIgnoreCase(System.getProperty(TRANSPORT_PROPERTY));
+
     private static JsonWriterSettings writerSettings = JsonWriterSettings.builder()
             .outputMode(JsonMode.EXTENDED)
             .build();
@@ -97,6 +116,106 @@ public class JniBsonProtocol {
         }
     }
 
+    /**
+     * Enables or disables passing arguments to native code as binary BSON. If disabled, arguments
+     * and results are passed as extended JSON strings.
+     */
+    public static void setBinaryTransportEnabled(boolean enabled) {
+        binaryTransport = enabled;
+    }
+
+    public static boolean isBinaryTransportEnabled() {
+        return binaryTransport;
+    }
+
+    /**
+     * Encodes an argument for native code in the currently enabled transport format.
+     *
+     * @return a direct {@link ByteBuffer} or a {@link String}.
+     */
+    public static <T> Object encodeArgument(T value, CodecRegistry registry) {
+        // catch possible missing codecs before the actual encoding
+        return encodeArgument(value, (Encoder<T>) getCodec(value.getClass(), registry));
+    }
+
+    public static <T> Object encodeArgument(T value, Encoder<T> encoder) {
+        return binaryTransport ? encodeBinary(value, encoder) : encode(value, encoder);
+    }
+
+    public static <T> ByteBuffer encodeBinary(T value, Encoder<T> encoder) {
+        try {
+            BasicOutputBuffer outputBuffer = new BasicOutputBuffer();
+            BsonWriter writer = new BsonBinaryWriter(outputBuffer);
+            writer.writeStartDocument();
+            writer.writeName(VALUE);
+            encoder.encode(writer, value, EncoderContext.builder().build());
+            writer.writeEndDocument();
+            // Native code reads the full capacity of the buffer
+            ByteBuffer buffer = ByteBuffer.allocateDirect(outputBuffer.getSize());
+            buffer.put(outputBuffer.getInternalBuffer(), 0, outputBuffer.getSize());
+            buffer.flip();
+            return buffer;
+        } catch (CodecConfigurationException e) {
+            throw new AppException(ErrorCode.BSON_CODEC_NOT_FOUND, "Could not resolve encoder for end type", e);
+        } catch (Exception e) {
+            throw new AppException(ErrorCode.BSON_ENCODING, "Error encoding value", e);
+        }
+    }
+
+    /**
+     * Decodes a result returned from native code either as a direct {@link ByteBuffer} or as a
+     * {@link String}.
+     */
+    public static <T> T decodeResult(Object result, Class<T> clz, CodecRegistry registry) {
+        // catch possible missing codecs before the actual decoding
+        return decodeResult(result, getCodec(clz, registry));
+    }
+
+    public static <T> T decodeResult(Object result, Decoder<T> decoder) {
+        if (result instanceof String) {
+            return decode((String) result, decoder);
+        }
+        try {
+            BsonReader reader = new BsonBinaryReader((ByteBuffer) result);
+            reader.readStartDocument();
+            reader.readName(VALUE);
+            T value = decoder.decode(reader, DecoderContext.builder().build());
+            reader.readEndDocument();
+            return value;
+        } catch (CodecConfigurationException e) {
+            throw new AppException(ErrorCode.BSON_CODEC_NOT_FOUND, "Could not resolve decoder for end type", e);
+        } catch (Exception e) {
+            throw new AppException(ErrorCode.BSON_DECODING, "Error decoding value", e);
+        }
+    }
+
+    /**
+     * Decodes a BSON array result returned from native code directly into a list of elements,
+     * without materializing the intermediate {@link org.bson.BsonArray}.
+     */
+    public static <T> List<T> decodeResultList(Object result, Decoder<T> decoder) {
+        try {
+            BsonReader reader = (result instanceof String)
+                    ? new JsonReader(new StringReader((String) result))
+                    : new BsonBinaryReader((ByteBuffer) result);
+            DecoderContext context = DecoderContext.builder().build();
+            List<T> list = new ArrayList<>();
+            reader.readStartDocument();
+            reader.readName(VALUE);
+            reader.readStartArray();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                list.add(decoder.decode(reader, context));
+            }
+            reader.readEndArray();
+            reader.readEndDocument();
+            return list;
+        } catch (CodecConfigurationException e) {
+            throw new AppException(ErrorCode.BSON_CODEC_NOT_FOUND, "Could not resolve decoder for end type", e);
+        } catch (Exception e) {
+            throw new AppException(ErrorCode.BSON_DECODING, "Error decoding value", e);
+        }
+    }
+
     public static <T> Codec<T> getCodec(Class<T> clz, CodecRegistry registry) {
         try {
             return registry.get(clz);
@@ -21,6 +21,7 @@ import java.nio.charset.Charset;
 
 import javax.annotation.Nullable;
 
+import io.realm.log.LogCategory;
 import io.realm.log.LogLevel;
 import io.realm.log.RealmLog;
 import io.realm.mongodb.log.obfuscator.HttpLogObfuscator;
@@ -48,7 +49,7 @@ public class LoggingInterceptor implements Interceptor {
     @Override
     public Response intercept(Chain chain) throws IOException {
         Request request = chain.request();
-        if (RealmLog.getLevel() <= LogLevel.DEBUG) {
+        if (RealmLog.isLoggable(LogCategory.NETWORK, LogLevel.DEBUG)) {
             StringBuilder sb = new StringBuilder(request.method());
             sb.append(' ');
             sb.append(request.url());
@@ -67,7 +68,7 @@ public class LoggingInterceptor implements Interceptor {
                 }
                 sb.append(input);
             }
-            RealmLog.debug("HTTP Request = \n%s", sb);
+            RealmLog.log(LogCategory.NETWORK, LogLevel.DEBUG, null, "HTTP Request = \n%s", sb);
         }
         return chain.proceed(request);
     }
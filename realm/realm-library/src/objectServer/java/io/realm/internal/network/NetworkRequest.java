@@ -8,6 +8,8 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import io.realm.internal.Keep;
 import io.realm.internal.objectstore.OsJavaNetworkTransport;
+import io.realm.log.LogCategory;
+import io.realm.log.LogLevel;
 import io.realm.log.RealmLog;
 import io.realm.mongodb.AppException;
 import io.realm.mongodb.ErrorCode;
@@ -90,7 +92,7 @@ public abstract class NetworkRequest<T> extends OsJavaNetworkTransport.NetworkTr
             // so will eventually bubble up as an exception.
             latch.await();
         } catch (InterruptedException e) {
-            RealmLog.debug("Network request interrupted.");
+            RealmLog.log(LogCategory.NETWORK, LogLevel.DEBUG, null, "Network request interrupted.");
         }
 
         // Result of request should be available. Throw if an error happened, otherwise return
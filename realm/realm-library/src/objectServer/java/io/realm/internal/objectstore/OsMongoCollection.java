@@ -79,7 +79,7 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
     private final long nativePtr;
     private final Class<DocumentT> documentClass;
     private final CodecRegistry codecRegistry;
-    private final String encodedEmptyDocument;
+    private final Object encodedEmptyDocument;
     private final ThreadPoolExecutor threadPoolExecutor = App.NETWORK_POOL_EXECUTOR;
     private final String serviceName;
     private final MongoNamespace namespace;
@@ -96,7 +96,7 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
         this.serviceName = serviceName;
         this.documentClass = documentClass;
         this.codecRegistry = codecRegistry;
-        this.encodedEmptyDocument = JniBsonProtocol.encode(new Document(), codecRegistry);
+        this.encodedEmptyDocument = JniBsonProtocol.encodeArgument(new Document(), codecRegistry);
         this.streamNetworkTransport = streamNetworkTransport;
     }
 
@@ -147,9 +147,9 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
             }
             @Override
             protected void execute(NetworkRequest<Long> callback) {
-                final String filterString = JniBsonProtocol.encode(filter, codecRegistry);
+                final Object encodedFilter = JniBsonProtocol.encodeArgument(filter, codecRegistry);
                 final int limit = (options == null) ? 0 : options.getLimit();
-                nativeCount(nativePtr, filterString, limit, callback);
+                nativeCount(nativePtr, encodedFilter, limit, callback);
             }
         }.resultOrThrow();
     }
@@ -250,22 +250,22 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
 
             @Override
             protected void execute(NetworkRequest<ResultT> callback) {
-                final String encodedFilter = JniBsonProtocol.encode(filter, codecRegistry);
+                final Object encodedFilter = JniBsonProtocol.encodeArgument(filter, codecRegistry);
 
                 // default to empty docs or update if needed
-                String projectionString = encodedEmptyDocument;
-                String sortString = encodedEmptyDocument;
+                Object encodedProjection = encodedEmptyDocument;
+                Object encodedSort = encodedEmptyDocument;
 
                 switch (type) {
                     case FIND_ONE:
-                        nativeFindOne(FIND_ONE, nativePtr, encodedFilter, projectionString, sortString, 0, callback);
+                        nativeFindOne(FIND_ONE, nativePtr, encodedFilter, encodedProjection, encodedSort, 0, callback);
                         break;
                     case FIND_ONE_WITH_OPTIONS:
                         Util.checkNull(options, "options");
-                        projectionString = JniBsonProtocol.encode(options.getProjection(), codecRegistry);
-                        sortString = JniBsonProtocol.encode(options.getSort(), codecRegistry);
+                        encodedProjection = JniBsonProtocol.encodeArgument(options.getProjection(), codecRegistry);
+                        encodedSort = JniBsonProtocol.encodeArgument(options.getSort(), codecRegistry);
 
-                        nativeFindOne(FIND_ONE_WITH_OPTIONS, nativePtr, encodedFilter, projectionString, sortString, options.getLimit(), callback);
+                        nativeFindOne(FIND_ONE_WITH_OPTIONS, nativePtr, encodedFilter, encodedProjection, encodedSort, options.getLimit(), callback);
                         break;
                     default:
                         throw new IllegalArgumentException("Invalid fineOne type: " + type);
@@ -278,12 +278,12 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
         return new NetworkRequest<InsertOneResult>() {
             @Override
             protected InsertOneResult mapSuccess(Object result) {
-                BsonValue id = JniBsonProtocol.decode((String) result, BsonValue.class, codecRegistry);
+                BsonValue id = JniBsonProtocol.decodeResult(result, BsonValue.class, codecRegistry);
                 return new InsertOneResult(id);
             }
             @Override
             protected void execute(NetworkRequest<InsertOneResult> callback) {
-                final String encodedDocument = JniBsonProtocol.encode(document, codecRegistry);
+                final Object encodedDocument = JniBsonProtocol.encodeArgument(document, codecRegistry);
                 nativeInsertOne(nativePtr, encodedDocument, callback);
             }
         }.resultOrThrow();
@@ -293,17 +293,16 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
         return new NetworkRequest<InsertManyResult>() {
             @Override
             protected InsertManyResult mapSuccess(Object result) {
-                Object[] objects = (Object[]) result;
+                List<BsonValue> ids = JniBsonProtocol.decodeResultList(result, JniBsonProtocol.getCodec(BsonValue.class, codecRegistry));
                 Map<Long, BsonValue> insertedIdsMap = new HashMap<>();
-                for (int i = 0; i < objects.length; i++) {
-                    BsonValue id = JniBsonProtocol.decode((String) objects[i], BsonValue.class, codecRegistry);
-                    insertedIdsMap.put((long) i, id);
+                for (int i = 0; i < ids.size(); i++) {
+                    insertedIdsMap.put((long) i, ids.get(i));
                 }
                 return new InsertManyResult(insertedIdsMap);
             }
             @Override
             protected void execute(NetworkRequest<InsertManyResult> callback) {
-                final String encodedDocumentArray = JniBsonProtocol.encode(documents, codecRegistry);
+                final Object encodedDocumentArray = JniBsonProtocol.encodeArgument(documents, codecRegistry);
                 nativeInsertMany(nativePtr, encodedDocumentArray, callback);
             }
         }.resultOrThrow();
@@ -326,13 +325,13 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
             }
             @Override
             protected void execute(NetworkRequest<DeleteResult> callback) {
-                final String jsonDocument = JniBsonProtocol.encode(filter, codecRegistry);
+                final Object encodedDocument = JniBsonProtocol.encodeArgument(filter, codecRegistry);
                 switch (type) {
                     case DELETE_ONE:
-                        nativeDelete(DELETE_ONE, nativePtr, jsonDocument, callback);
+                        nativeDelete(DELETE_ONE, nativePtr, encodedDocument, callback);
                         break;
                     case DELETE_MANY:
-                        nativeDelete(DELETE_MANY, nativePtr, jsonDocument, callback);
+                        nativeDelete(DELETE_MANY, nativePtr, encodedDocument, callback);
                         break;
                     default:
                         throw new IllegalArgumentException("Invalid delete type: " + type);
@@ -368,7 +367,7 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
         return new NetworkRequest<UpdateResult>() {
             @Override
             protected UpdateResult mapSuccess(Object result) {
-                BsonArray array = JniBsonProtocol.decode((String) result, BsonArray.class, codecRegistry);
+                BsonArray array = JniBsonProtocol.decodeResult(result, BsonArray.class, codecRegistry);
                 long matchedCount = array.get(0).asInt32().getValue();
                 long modifiedCount = array.get(1).asInt32().getValue();
                 BsonValue upsertedId = array.get(2);
@@ -380,18 +379,18 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
             }
             @Override
             protected void execute(NetworkRequest<UpdateResult> callback) {
-                final String jsonFilter = JniBsonProtocol.encode(filter, codecRegistry);
-                final String jsonUpdate = JniBsonProtocol.encode(update, codecRegistry);
+                final Object encodedFilter = JniBsonProtocol.encodeArgument(filter, codecRegistry);
+                final Object encodedUpdate = JniBsonProtocol.encodeArgument(update, codecRegistry);
 
                 switch (type) {
                     case UPDATE_ONE:
                     case UPDATE_MANY:
-                        nativeUpdate(type, nativePtr, jsonFilter, jsonUpdate, false, callback);
+                        nativeUpdate(type, nativePtr, encodedFilter, encodedUpdate, false, callback);
                         break;
                     case UPDATE_ONE_WITH_OPTIONS:
                     case UPDATE_MANY_WITH_OPTIONS:
                         Util.checkNull(options, "options");
-                        nativeUpdate(type, nativePtr, jsonFilter, jsonUpdate, options.isUpsert(), callback);
+                        nativeUpdate(type, nativePtr, encodedFilter, encodedUpdate, options.isUpsert(), callback);
                         break;
                     default:
                         throw new IllegalArgumentException("Invalid update type: " + type);
@@ -482,18 +481,18 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
             }
             @Override
             protected void execute(NetworkRequest<ResultT> callback) {
-                final String encodedFilter = JniBsonProtocol.encode(filter, codecRegistry);
-                final String encodedUpdate = JniBsonProtocol.encode(update, codecRegistry);
+                final Object encodedFilter = JniBsonProtocol.encodeArgument(filter, codecRegistry);
+                final Object encodedUpdate = JniBsonProtocol.encodeArgument(update, codecRegistry);
 
                 // default to empty docs or update if needed
-                String encodedProjection = encodedEmptyDocument;
-                String encodedSort = encodedEmptyDocument;
+                Object encodedProjection = encodedEmptyDocument;
+                Object encodedSort = encodedEmptyDocument;
                 if (options != null) {
                     if (options.getProjection() != null) {
-                        encodedProjection = JniBsonProtocol.encode(options.getProjection(), codecRegistry);
+                        encodedProjection = JniBsonProtocol.encodeArgument(options.getProjection(), codecRegistry);
                     }
                     if (options.getSort() != null) {
-                        encodedSort = JniBsonProtocol.encode(options.getSort(), codecRegistry);
+                        encodedSort = JniBsonProtocol.encodeArgument(options.getSort(), codecRegistry);
                     }
                 }
 
@@ -530,7 +529,7 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
         if (result == null) {
             return null;
         } else {
-            return JniBsonProtocol.decode((String) result, resultClass, codecRegistry);
+            return JniBsonProtocol.decodeResult(result, resultClass, codecRegistry);
         }
     }
 
@@ -582,63 +581,63 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
     private static native long nativeGetFinalizerMethodPtr();
 
     private static native void nativeCount(long remoteMongoCollectionPtr,
-                                           String filter,
+                                           Object filter,
                                            long limit,
                                            OsJavaNetworkTransport.NetworkTransportJNIResultCallback callback);
 
     private static native void nativeFindOne(int findOneType,
                                              long nativePtr,
-                                             String filter,
-                                             String projection,
-                                             String sort,
+                                             Object filter,
+                                             Object projection,
+                                             Object sort,
                                              long limit,
                                              OsJavaNetworkTransport.NetworkTransportJNIResultCallback callback);
 
     private static native void nativeInsertOne(long remoteMongoCollectionPtr,
-                                               String document,
+                                               Object document,
                                                OsJavaNetworkTransport.NetworkTransportJNIResultCallback callback);
 
     private static native void nativeInsertMany(long remoteMongoCollectionPtr,
-                                                String documents,
+                                                Object documents,
                                                 OsJavaNetworkTransport.NetworkTransportJNIResultCallback callback);
 
     private static native void nativeDelete(int deleteType,
                                             long remoteMongoCollectionPtr,
-                                            String document,
+                                            Object document,
                                             OsJavaNetworkTransport.NetworkTransportJNIResultCallback callback);
 
     private static native void nativeUpdate(int updateType,
                                             long remoteMongoCollectionPtr,
-                                            String filter,
-                                            String update,
+                                            Object filter,
+                                            Object update,
                                             boolean upsert,
                                             OsJavaNetworkTransport.NetworkTransportJNIResultCallback callback);
 
     private static native void nativeFindOneAndUpdate(int findOneAndUpdateType,
                                                       long remoteMongoCollectionPtr,
-                                                      String filter,
-                                                      String update,
-                                                      String projection,
-                                                      String sort,
+                                                      Object filter,
+                                                      Object update,
+                                                      Object projection,
+                                                      Object sort,
                                                       boolean upsert,
                                                       boolean returnNewDocument,
                                                       OsJavaNetworkTransport.NetworkTransportJNIResultCallback callback);
 
     private static native void nativeFindOneAndReplace(int findOneAndReplaceType,
                                                        long remoteMongoCollectionPtr,
-                                                       String filter,
-                                                       String update,
-                                                       String projection,
-                                                       String sort,
+                                                       Object filter,
+                                                       Object update,
+                                                       Object projection,
+                                                       Object sort,
                                                        boolean upsert,
                                                        boolean returnNewDocument,
                                                        OsJavaNetworkTransport.NetworkTransportJNIResultCallback callback);
 
     private static native void nativeFindOneAndDelete(int findOneAndDeleteType,
                                                       long remoteMongoCollectionPtr,
-                                                      String filter,
-                                                      String projection,
-                                                      String sort,
+                                                      Object filter,
+                                                      Object projection,
+                                                      Object sort,
                                                       boolean upsert,
                                                       boolean returnNewDocument,
                                                       OsJavaNetworkTransport.NetworkTransportJNIResultCallback callback);
@@ -31,8 +31,8 @@ public class OsWatchStream implements NativeObject {
     }
 
     public BsonDocument getNextEvent() {
-        String bsonEvent = nativeGetNextEvent(nativePtr);
-        return JniBsonProtocol.decode(bsonEvent, codecRegistry.get(BsonDocument.class));
+        Object bsonEvent = nativeGetNextEvent(nativePtr, JniBsonProtocol.isBinaryTransportEnabled());
+        return JniBsonProtocol.decodeResult(bsonEvent, codecRegistry.get(BsonDocument.class));
     }
 
     public String getState() {
@@ -51,6 +51,6 @@ public class OsWatchStream implements NativeObject {
     private static native long nativeCreateWatchStream();
     private static native void nativeFeedLine(long nativePtr, String line);
     private static native String nativeGetState(long nativePtr);
-    private static native String nativeGetNextEvent(long nativePtr);
+    private static native Object nativeGetNextEvent(long nativePtr, boolean binary);
     private static native AppException nativeGetError(long nativePtr);
 }
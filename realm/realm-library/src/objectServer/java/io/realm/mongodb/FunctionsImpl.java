@@ -46,14 +46,14 @@ class FunctionsImpl extends Functions {
     @Override
     public <T> T invoke(String name, List<?> args, CodecRegistry codecRegistry, Decoder<T> resultDecoder) {
         Util.checkEmpty(name, "name");
-        String encodedResponse = new NetworkRequest<String>() {
+        Object encodedResponse = new NetworkRequest<Object>() {
             @Override
-            protected String mapSuccess(Object result) {
-                return (String) result;
+            protected Object mapSuccess(Object result) {
+                return result;
             }
             @Override
-            protected void execute(NetworkRequest<String> callback) {
-                String encodedArgs = JniBsonProtocol.encode(args, codecRegistry);
+            protected void execute(NetworkRequest<Object> callback) {
+                Object encodedArgs = JniBsonProtocol.encodeArgument(args, codecRegistry);
                 nativeCallFunction(
                         user.getApp().osApp.getNativePtr(),
                         user.osUser.getNativePtr(),
@@ -63,9 +63,9 @@ class FunctionsImpl extends Functions {
                 );
             }
         }.resultOrThrow();
-        return JniBsonProtocol.decode(encodedResponse, resultDecoder);
+        return JniBsonProtocol.decodeResult(encodedResponse, resultDecoder);
     }
 
-    private static native void nativeCallFunction(long nativeAppPtr, long nativeUserPtr, String name, String args_json, OsJavaNetworkTransport.NetworkTransportJNIResultCallback callback);
+    private static native void nativeCallFunction(long nativeAppPtr, long nativeUserPtr, String name, Object args, OsJavaNetworkTransport.NetworkTransportJNIResultCallback callback);
 
 }
@@ -47,11 +47,11 @@ public class AggregateIterable<ResultT> extends MongoIterable<ResultT> {
 
     @Override
     void callNative(final NetworkRequest<?> callback) {
-        String pipelineString = JniBsonProtocol.encode(pipeline, codecRegistry);
-        nativeAggregate(osMongoCollection.getNativePtr(), pipelineString, callback);
+        Object encodedPipeline = JniBsonProtocol.encodeArgument(pipeline, codecRegistry);
+        nativeAggregate(osMongoCollection.getNativePtr(), encodedPipeline, callback);
     }
 
     private static native void nativeAggregate(long remoteMongoCollectionPtr,
-                                               String pipeline,
+                                               Object pipeline,
                                                OsJavaNetworkTransport.NetworkTransportJNIResultCallback callback);
 }
@@ -41,7 +41,7 @@ public class FindIterable<ResultT> extends MongoIterable<ResultT> {
     private static final int FIND_WITH_OPTIONS = 2;
 
     private final FindOptions options;
-    private final String encodedEmptyDocument;
+    private final Object encodedEmptyDocument;
 
     private Bson filter;
 
@@ -52,22 +52,22 @@ public class FindIterable<ResultT> extends MongoIterable<ResultT> {
         super(threadPoolExecutor, osMongoCollection, codecRegistry, resultClass);
         this.options = new FindOptions();
         this.filter = new Document();
-        this.encodedEmptyDocument = JniBsonProtocol.encode(new Document(), codecRegistry);
+        this.encodedEmptyDocument = JniBsonProtocol.encodeArgument(new Document(), codecRegistry);
     }
 
     @Override
     void callNative(final NetworkRequest<?> callback) {
-        String filterString = JniBsonProtocol.encode(filter, codecRegistry);
-        String projectionString = encodedEmptyDocument;
-        String sortString = encodedEmptyDocument;
+        Object encodedFilter = JniBsonProtocol.encodeArgument(filter, codecRegistry);
+        Object encodedProjection = encodedEmptyDocument;
+        Object encodedSort = encodedEmptyDocument;
 
         if (options == null) {
-            nativeFind(FIND, osMongoCollection.getNativePtr(), filterString, projectionString, sortString, 0, callback);
+            nativeFind(FIND, osMongoCollection.getNativePtr(), encodedFilter, encodedProjection, encodedSort, 0, callback);
         } else {
-            projectionString = JniBsonProtocol.encode(options.getProjection(), codecRegistry);
-            sortString = JniBsonProtocol.encode(options.getSort(), codecRegistry);
+            encodedProjection = JniBsonProtocol.encodeArgument(options.getProjection(), codecRegistry);
+            encodedSort = JniBsonProtocol.encodeArgument(options.getSort(), codecRegistry);
 
-            nativeFind(FIND_WITH_OPTIONS, osMongoCollection.getNativePtr(), filterString, projectionString, sortString, options.getLimit(), callback);
+            nativeFind(FIND_WITH_OPTIONS, osMongoCollection.getNativePtr(), encodedFilter, encodedProjection, encodedSort, options.getLimit(), callback);
         }
     }
 
@@ -117,9 +117,9 @@ public class FindIterable<ResultT> extends MongoIterable<ResultT> {
 
     private static native void nativeFind(int findType,
                                           long remoteMongoCollectionPtr,
-                                          String filter,
-                                          String projection,
-                                          String sort,
+                                          Object filter,
+                                          Object projection,
+                                          Object sort,
                                           long limit,
                                           OsJavaNetworkTransport.NetworkTransportJNIResultCallback callback);
 }
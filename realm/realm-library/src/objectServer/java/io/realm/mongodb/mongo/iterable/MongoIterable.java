@@ -18,7 +18,6 @@ package io.realm.mongodb.mongo.iterable;
 
 import org.bson.codecs.configuration.CodecRegistry;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -123,12 +122,7 @@ public abstract class MongoIterable<ResultT> {
     }
 
     private Collection<ResultT> mapCollection(Object result) {
-        Collection<?> collection = JniBsonProtocol.decode((String) result, Collection.class, codecRegistry);
-        Collection<ResultT> decodedCollection = new ArrayList<>();
-        for (Object collectionElement : collection) {
-            String encodedElement = JniBsonProtocol.encode(collectionElement, codecRegistry);
-            decodedCollection.add(JniBsonProtocol.decode(encodedElement, resultClass, codecRegistry));
-        }
-        return decodedCollection;
+        // Elements are decoded straight into the result class in a single pass
+        return JniBsonProtocol.decodeResultList(result, JniBsonProtocol.getCodec(resultClass, codecRegistry));
     }
 }
@@ -32,6 +32,8 @@ import io.realm.mongodb.AppConfiguration;
 import io.realm.mongodb.ErrorCode;
 import io.realm.internal.Keep;
 import io.realm.internal.network.NetworkStateReceiver;
+import io.realm.log.LogCategory;
+import io.realm.log.LogLevel;
 import io.realm.log.RealmLog;
 import io.realm.mongodb.App;
 
@@ -95,11 +97,13 @@ public abstract class Sync {
         @Override
         public void onChange(boolean connectionAvailable) {
             if (connectionAvailable) {
-                RealmLog.debug("[App(%s)] NetworkListener: Connection available", app.getConfiguration().getAppId());
+                RealmLog.log(LogCategory.NETWORK, LogLevel.DEBUG, null,
+                        "[App(%s)] NetworkListener: Connection available", app.getConfiguration().getAppId());
                 // notify all sessions
                 notifyNetworkIsBack();
             } else {
-                RealmLog.debug("[App(%s)] NetworkListener: Connection lost", app.getConfiguration().getAppId());
+                RealmLog.log(LogCategory.NETWORK, LogLevel.DEBUG, null,
+                        "[App(%s)] NetworkListener: Connection lost", app.getConfiguration().getAppId());
             }
         }
     };
@@ -161,11 +165,12 @@ public abstract class Sync {
 
         SyncSession session = sessions.get(syncConfiguration.getPath());
         if (session == null) {
-            RealmLog.debug("Creating session for: %s", syncConfiguration.getPath());
+            RealmLog.log(LogCategory.SYNC, LogLevel.DEBUG, null,
+                    "Creating session for: %s", syncConfiguration.getPath());
             session = new SyncSession(syncConfiguration, appNativePointer);
             sessions.put(syncConfiguration.getPath(), session);
             if (sessions.size() == 1) {
-                RealmLog.debug("First session created. Adding network listener.");
+                RealmLog.log(LogCategory.SYNC, LogLevel.DEBUG, null, "First session created. Adding network listener.");
                 NetworkStateReceiver.addListener(networkListener);
             }
         }
@@ -217,13 +222,13 @@ public abstract class Sync {
         if (syncConfiguration == null) {
             throw new IllegalArgumentException("A non-empty 'syncConfiguration' is required.");
         }
-        RealmLog.debug("Removing session for: %s", syncConfiguration.getPath());
+        RealmLog.log(LogCategory.SYNC, LogLevel.DEBUG, null, "Removing session for: %s", syncConfiguration.getPath());
         SyncSession syncSession = sessions.remove(syncConfiguration.getPath());
         if (syncSession != null) {
             syncSession.close();
         }
         if (sessions.isEmpty()) {
-            RealmLog.debug("Last session dropped. Remove network listener.");
+            RealmLog.log(LogCategory.SYNC, LogLevel.DEBUG, null, "Last session dropped. Remove network listener.");
             NetworkStateReceiver.removeListener(networkListener);
         }
     }
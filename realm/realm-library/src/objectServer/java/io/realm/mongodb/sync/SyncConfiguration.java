@@ -37,7 +37,9 @@ import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -45,6 +47,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.realm.BackgroundCompactionPolicy;
 import io.realm.CompactOnLaunchCallback;
 import io.realm.DefaultCompactOnLaunchCallback;
 import io.realm.Realm;
@@ -136,6 +139,10 @@ public class SyncConfiguration extends RealmConfiguration {
                               long initialDataTimeoutMillis,
                               OsRealmConfig.SyncSessionStopPolicy sessionStopPolicy,
                               CompactOnLaunchCallback compactOnLaunch,
+                              @Nullable BackgroundCompactionPolicy backgroundCompactionPolicy,
+                              long encryptedPageCacheSize,
+                              Set<Class<? extends RealmModel>> preloadClasses,
+                              boolean traceSections,
                               @Nullable String syncUrlPrefix,
                               BsonValue partitionValue,
                               InitialFlexibleSyncSubscriptions initialSubscriptionsHandler) {
@@ -155,7 +162,12 @@ public class SyncConfiguration extends RealmConfiguration {
                 false,
                 maxNumberOfActiveVersions,
                 allowWritesOnUiThread,
-                allowQueriesOnUiThread
+                allowQueriesOnUiThread,
+                backgroundCompactionPolicy,
+                encryptedPageCacheSize,
+                preloadClasses,
+                traceSections,
+                false
         );
 
         this.user = user;
@@ -572,6 +584,11 @@ public class SyncConfiguration extends RealmConfiguration {
         private SyncClientResetStrategy syncClientResetStrategy;
         private OsRealmConfig.SyncSessionStopPolicy sessionStopPolicy = OsRealmConfig.SyncSessionStopPolicy.AFTER_CHANGES_UPLOADED;
         private CompactOnLaunchCallback compactOnLaunch;
+        @Nullable
+        private BackgroundCompactionPolicy backgroundCompactionPolicy;
+        private long encryptedPageCacheSize = 0;
+        private LinkedHashSet<Class<? extends RealmModel>> preloadClasses = new LinkedHashSet<Class<? extends RealmModel>>();
+        private boolean traceSections = false;
         private String syncUrlPrefix = null;
         private long maxNumberOfActiveVersions = Long.MAX_VALUE;
         private boolean allowWritesOnUiThread;
@@ -1118,6 +1135,76 @@ public class SyncConfiguration extends RealmConfiguration {
             return this;
         }
 
+        /**
+         * Sets a policy for compacting the Realm file in the background. The policy is checked on a background thread
+         * each time the last instance of the Realm in this process has been closed for a while. See
+         * {@link BackgroundCompactionPolicy} for details.
+         *
+         * @param policy the policy deciding when the file is compacted.
+         */
+        public SyncConfiguration.Builder backgroundCompaction(BackgroundCompactionPolicy policy) {
+            //noinspection ConstantConditions
+            if (policy == null) {
+                throw new IllegalArgumentException("A non-null policy must be provided");
+            }
+            this.backgroundCompactionPolicy = policy;
+            return this;
+        }
+
+        /**
+         * Sets the target size of the cache holding decrypted pages of encrypted Realms. The cache is shared by all
+         * encrypted Realms in the process, so the size set by the most recently opened Realm is the one being used.
+         * Requires {@link #encryptionKey(byte[])} to be set as well.
+         *
+         * @param bytes the target size of the cache in bytes, or {@code 0} to use the default size.
+         * @see Realm#getEncryptionMetrics()
+         */
+        public SyncConfiguration.Builder encryptedPageCacheSize(long bytes) {
+            if (bytes < 0) {
+                throw new IllegalArgumentException("Only non-negative sizes are allowed: " + bytes);
+            }
+            this.encryptedPageCacheSize = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the model classes whose data should be preloaded when the Realm is opened with
+         * {@link Realm#getInstanceAsync(RealmConfiguration, Realm.Callback)}. After the Realm has been opened on the
+         * background thread, the stored values of all fields of these classes are read once, so the pages of the
+         * memory-mapped file backing them are resident before the first queries run on the caller thread.
+         *
+         * @param firstClass the first class to preload.
+         * @param additionalClasses additional classes to preload.
+         */
+        public SyncConfiguration.Builder preload(Class<? extends RealmModel> firstClass, Class<? extends RealmModel>... additionalClasses) {
+            //noinspection ConstantConditions
+            if (firstClass == null) {
+                throw new IllegalArgumentException("A non-null class must be provided");
+            }
+            preloadClasses.add(firstClass);
+            //noinspection ConstantConditions
+            if (additionalClasses != null) {
+                Collections.addAll(preloadClasses, additionalClasses);
+            }
+            return this;
+        }
+
+        /**
+         * Emits sections to the Android system trace around Realm's hot paths, e.g. transactions, refreshes, query
+         * evaluation, change listener dispatch, {@code copyToRealm()}/{@code insert()}, migrations and compaction, so
+         * Realm work shows up in Perfetto and systrace captures. Sections are also emitted from the native layer.
+         * <p>
+         * Tracing is process wide and is enabled when the first Realm with this option is opened. It can also be
+         * enabled by setting the {@code io.realm.trace} system property to {@code true} before calling
+         * {@link Realm#init(android.content.Context)}. Disabled tracing costs a single flag check on each of these paths.
+         *
+         * @param enabled {@code true} to emit trace sections, {@code false} otherwise.
+         */
+        public SyncConfiguration.Builder traceSections(boolean enabled) {
+            this.traceSections = enabled;
+            return this;
+        }
+
         /**
          * When opening the Realm for the first time, instead of creating an empty file,
          * the Realm file will be copied from the provided asset file and used instead.
@@ -1265,6 +1352,10 @@ public class SyncConfiguration extends RealmConfiguration {
                 }
             }
 
+            if (encryptedPageCacheSize > 0 && key == null) {
+                throw new IllegalStateException("'encryptedPageCacheSize()' requires an 'encryptionKey()' to be set.");
+            }
+
             if (syncClientResetStrategy == null) {
                 this.syncClientResetStrategy = user.getApp().getConfiguration().getDefaultSyncClientResetStrategy();
             }
@@ -1283,6 +1374,9 @@ public class SyncConfiguration extends RealmConfiguration {
             String absolutePathForRealm = user.getApp().getSync().getAbsolutePathForRealm(user.getId(), partitionValue, filename);
             File realmFile = new File(absolutePathForRealm);
 
+            RealmProxyMediator schemaMediator = createSchemaMediator(modules, debugSchema, false);
+            checkPreloadClasses(schemaMediator, preloadClasses);
+
             return new SyncConfiguration(
                     realmFile,
                     assetFilePath,
@@ -1291,7 +1385,7 @@ public class SyncConfiguration extends RealmConfiguration {
                     null, // Custom migrations not supported
                     false, // MigrationNeededException is never thrown
                     durability,
-                    createSchemaMediator(modules, debugSchema, false),
+                    schemaMediator,
                     rxFactory,
                     flowFactory,
                     initialDataTransaction,
@@ -1310,6 +1404,10 @@ public class SyncConfiguration extends RealmConfiguration {
                     initialDataTimeoutMillis,
                     sessionStopPolicy,
                     compactOnLaunch,
+                    backgroundCompactionPolicy,
+                    encryptedPageCacheSize,
+                    Collections.unmodifiableSet(new LinkedHashSet<Class<? extends RealmModel>>(preloadClasses)),
+                    traceSections,
                     syncUrlPrefix,
                     partitionValue,
                     initialSubscriptionsHandler
@@ -35,6 +35,7 @@ import io.realm.mongodb.AppException;
 import io.realm.Realm;
 import io.realm.RealmConfiguration;
 import io.realm.internal.Keep;
+import io.realm.internal.RealmTrace;
 import io.realm.internal.Util;
 import io.realm.internal.util.Pair;
 import io.realm.log.RealmLog;
@@ -670,11 +671,16 @@ public class SyncSession {
 
                 throw new AppException(ErrorCode.UNKNOWN, errorMsg + " Has the SyncClient been started?");
             }
+            boolean traced = RealmTrace.beginSection((direction == DIRECTION_DOWNLOAD)
+                    ? "SyncSession.downloadAllServerChanges"
+                    : "SyncSession.uploadAllLocalChanges");
             try {
                 result = wrapper.waitForServerChanges(timeout, unit);
             } catch(InterruptedException e) {
                 waitingForServerChanges.set(null); // Ignore any results being sent if the wait was interrupted.
                 throw e;
+            } finally {
+                RealmTrace.endSection(traced);
             }
 
             // This might return after the session was closed. In that case, just ignore any result